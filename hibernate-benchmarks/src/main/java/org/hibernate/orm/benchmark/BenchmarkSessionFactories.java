@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Address;
+import org.hibernate.orm.benchmark.domain.Person;
+
+/**
+ * Builds the SessionFactory used by the benchmarks, against an in-memory
+ * H2 database whose schema is created for the benchmark domain model
+ */
+public final class BenchmarkSessionFactories {
+	public static final String URL = "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+	public static final String USER = "sa";
+	public static final String PASSWORD = "";
+
+	private BenchmarkSessionFactories() {
+	}
+
+	public static SessionFactoryImplementor build() {
+		return build( Collections.emptyMap() );
+	}
+
+	public static SessionFactoryImplementor build(Map<String,Object> settings) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, URL )
+				.applySetting( AvailableSettings.USER, USER )
+				.applySetting( AvailableSettings.PASS, PASSWORD )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySettings( settings )
+				.build();
+
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( ssr )
+					.addAnnotatedClass( Person.class )
+					.addAnnotatedClass( Address.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( ssr );
+			throw e;
+		}
+	}
+
+	/**
+	 * Insert {@code count} Person rows, with ids starting at 1
+	 */
+	public static void populatePeople(SessionFactoryImplementor sessionFactory, int count) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 1; i <= count; i++ ) {
+				session.save( new Person( i, "person-" + i, 20 + i % 50, 1000L * i, i % 2 == 0 ) );
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flushing a Session holding {@link #entityCount} managed entities of which
+ * {@link #dirtyCount} have been modified, i.e. the dirty checking done by
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}.  The
+ * Session is reused for all the flushes of an iteration, after which its
+ * transaction is rolled back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyCheckingFlushBenchmark {
+	@Param({ "1000", "10000" })
+	public int entityCount;
+
+	@Param({ "0", "10" })
+	public int dirtyCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Person> dirtied;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build();
+		BenchmarkSessionFactories.populatePeople( sessionFactory, entityCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void loadEntities() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+
+		final List<Person> people = session.createQuery( "select p from Person p", Person.class ).list();
+		dirtied = people.subList( 0, dirtyCount );
+	}
+
+	@TearDown(Level.Iteration)
+	public void discardSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		// the flush leaves all entities clean again, so dirty the same ones for every invocation
+		for ( Person person : dirtied ) {
+			person.setSalary( person.getSalary() + 1 );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.sqm.produce.spi.SemanticQueryProducer;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of HQL into SQM, i.e. the Antlr parse plus the semantic analysis
+ * done by {@link org.hibernate.query.sqm.produce.internal.hql.SemanticQueryBuilder}.
+ * The query plan cache is bypassed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HqlParsingBenchmark {
+	@Param({
+			"select p from Person p",
+			"select p.name from Person p where p.age > :age and p.active = true order by p.name",
+			"select p from Person p, Address a where p.id = a.id and a.city = 'Paris' and p.salary between 1000 and 2000"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SemanticQueryProducer semanticQueryProducer;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build();
+		semanticQueryProducer = sessionFactory.getQueryEngine().getSemanticQueryProducer();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement interpret() {
+		return semanticQueryProducer.interpret( hql );
+	}
+}
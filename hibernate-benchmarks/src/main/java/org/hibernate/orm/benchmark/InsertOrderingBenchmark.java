@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.domain.Address;
+import org.hibernate.orm.benchmark.domain.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting of the queued insertions by the {@link org.hibernate.engine.spi.ActionQueue}
+ * ({@value AvailableSettings#ORDER_INSERTS}) for a Session in which two entity
+ * types were persisted in alternation, alone and as part of the complete flush.
+ * Each invocation persists the entities itself, {@link #persist()} measuring
+ * that part alone.  The transaction is rolled back after each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertOrderingBenchmark {
+	@Param({ "100", "1000" })
+	public int entityCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private int lastId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String,Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		sessionFactory = BenchmarkSessionFactories.build( settings );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.getTransaction().begin();
+	}
+
+	@TearDown(Level.Iteration)
+	public void discardSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * The baseline for the other benchmarks: only queueing the insertions
+	 */
+	@Benchmark
+	public void persist() {
+		persistEntities();
+		session.clear();
+	}
+
+	@Benchmark
+	public void persistAndSortInsertions() {
+		persistEntities();
+		session.getActionQueue().sortActions();
+		session.clear();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		persistEntities();
+		session.flush();
+		session.clear();
+	}
+
+	private void persistEntities() {
+		// the flushed rows are only rolled back at the end of the iteration, so keep the ids unique
+		for ( int i = 0; i < entityCount; i++ ) {
+			final int id = ++lastId;
+			session.save( new Person( id, "person-" + id, 30, 1000L, true ) );
+			session.save( new Address( id, "street-" + id, "city-" + id % 10 ) );
+		}
+	}
+}
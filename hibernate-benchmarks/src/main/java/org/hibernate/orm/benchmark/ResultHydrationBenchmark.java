@@ -0,0 +1,315 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.domain.Person;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.RowTransformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hydration of JDBC rows through the {@link org.hibernate.sql.results.spi.RowReader}
+ * alone.  The query is interpreted and executed once during setup; each
+ * invocation then replays the rows of its (in-memory) ResultSet through the
+ * JdbcSelect captured from that execution, so that neither the interpretation
+ * of the query nor the database is measured.  The rows are handed to the
+ * standard JdbcSelectExecutor through the Connections of the benchmark's
+ * ConnectionProvider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultHydrationBenchmark {
+	@Param({ "100", "1000" })
+	public int rowCount;
+
+	private ReplayingConnectionProvider connectionProvider;
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+
+	private PreparedSelect entities;
+	private PreparedSelect scalars;
+
+	@Setup
+	public void setUp() throws SQLException {
+		final CapturingSelectExecutor capturingExecutor = new CapturingSelectExecutor();
+		connectionProvider = new ReplayingConnectionProvider();
+
+		final Map<String,Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.JDBC_SELECT_EXECUTOR, capturingExecutor );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+		sessionFactory = BenchmarkSessionFactories.build( settings );
+		BenchmarkSessionFactories.populatePeople( sessionFactory, rowCount );
+
+		// kept open for the whole trial, as the captured ExecutionContexts refer to it
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.createQuery( "select p from Person p", Person.class ).list();
+		entities = capturingExecutor.prepare( session, connectionProvider );
+		session.createQuery( "select p.salary from Person p", Long.class ).list();
+		scalars = capturingExecutor.prepare( session, connectionProvider );
+		session.clear();
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<?> entities() throws SQLException {
+		final List<?> results = entities.read();
+		// otherwise the next invocation would find the entities in the persistence context
+		session.clear();
+		return results;
+	}
+
+	@Benchmark
+	public List<?> scalars() throws SQLException {
+		return scalars.read();
+	}
+
+	/**
+	 * A captured JdbcSelect along with the rows it selects
+	 */
+	private static class PreparedSelect {
+		private final JdbcSelect jdbcSelect;
+		private final ExecutionContext executionContext;
+		private final RowTransformer<?> rowTransformer;
+		private final CachedRowSet rows;
+		private final PreparedStatement statement;
+		private final ReplayingConnectionProvider connectionProvider;
+
+		private PreparedSelect(
+				JdbcSelect jdbcSelect,
+				ExecutionContext executionContext,
+				RowTransformer<?> rowTransformer,
+				CachedRowSet rows,
+				ReplayingConnectionProvider connectionProvider) {
+			this.jdbcSelect = jdbcSelect;
+			this.executionContext = executionContext;
+			this.rowTransformer = rowTransformer;
+			this.rows = rows;
+			this.statement = preparedStatement( resultSet( rows ) );
+			this.connectionProvider = connectionProvider;
+		}
+
+		private List<?> read() throws SQLException {
+			rows.beforeFirst();
+			connectionProvider.replayed = statement;
+			try {
+				return JdbcSelectExecutorStandardImpl.INSTANCE.list( jdbcSelect, executionContext, rowTransformer );
+			}
+			finally {
+				connectionProvider.replayed = null;
+			}
+		}
+	}
+
+	/**
+	 * Executes the queries as usual, remembering the last JdbcSelect (and
+	 * what is needed to process its results)
+	 */
+	private static class CapturingSelectExecutor implements JdbcSelectExecutor {
+		private JdbcSelect jdbcSelect;
+		private ExecutionContext executionContext;
+		private RowTransformer<?> rowTransformer;
+
+		@Override
+		public <R> List<R> list(
+				JdbcSelect jdbcSelect,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			this.jdbcSelect = jdbcSelect;
+			this.executionContext = executionContext;
+			this.rowTransformer = rowTransformer;
+			return JdbcSelectExecutorStandardImpl.INSTANCE.list( jdbcSelect, executionContext, rowTransformer );
+		}
+
+		@Override
+		public <R> ScrollableResultsImplementor<R> scroll(
+				JdbcSelect jdbcSelect,
+				ScrollMode scrollMode,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			return JdbcSelectExecutorStandardImpl.INSTANCE.scroll( jdbcSelect, scrollMode, executionContext, rowTransformer );
+		}
+
+		@Override
+		public <R> Stream<R> stream(
+				JdbcSelect jdbcSelect,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			return JdbcSelectExecutorStandardImpl.INSTANCE.stream( jdbcSelect, executionContext, rowTransformer );
+		}
+
+		private PreparedSelect prepare(
+				SessionImplementor session,
+				ReplayingConnectionProvider connectionProvider) throws SQLException {
+			final CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+			session.doWork(
+					connection -> {
+						try ( PreparedStatement statement = connection.prepareStatement( jdbcSelect.getSql() );
+								ResultSet resultSet = statement.executeQuery() ) {
+							rows.populate( resultSet );
+						}
+					}
+			);
+			return new PreparedSelect( jdbcSelect, executionContext, rowTransformer, rows, connectionProvider );
+		}
+	}
+
+	/**
+	 * Opens Connections to the benchmark database which, while a statement is
+	 * being replayed, hand that statement out instead of preparing the SQL
+	 */
+	private static class ReplayingConnectionProvider implements ConnectionProvider {
+		private PreparedStatement replayed;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = DriverManager.getConnection(
+					BenchmarkSessionFactories.URL,
+					BenchmarkSessionFactories.USER,
+					BenchmarkSessionFactories.PASSWORD
+			);
+			return proxy(
+					Connection.class,
+					(proxy, method, args) -> {
+						if ( replayed != null && "prepareStatement".equals( method.getName() ) ) {
+							return replayed;
+						}
+						return invoke( connection, method, args );
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			connection.close();
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return false;
+		}
+
+		@Override
+		public boolean isUnwrappableAs(Class unwrapType) {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> unwrapType) {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	/**
+	 * The replayed ResultSet, which must survive being closed by Hibernate
+	 */
+	private static ResultSet resultSet(CachedRowSet rows) {
+		return proxy(
+				ResultSet.class,
+				(proxy, method, args) -> "close".equals( method.getName() ) ? null : invoke( rows, method, args )
+		);
+	}
+
+	/**
+	 * A PreparedStatement whose execution returns the replayed ResultSet; all
+	 * other calls (parameter binding, closing, ...) are ignored
+	 */
+	private static PreparedStatement preparedStatement(ResultSet resultSet) {
+		return proxy(
+				PreparedStatement.class,
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "executeQuery": {
+							return resultSet;
+						}
+						case "equals": {
+							return proxy == args[0];
+						}
+						case "hashCode": {
+							return System.identityHashCode( proxy );
+						}
+						default: {
+							return defaultValue( method.getReturnType() );
+						}
+					}
+				}
+		);
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast( Proxy.newProxyInstance( type.getClassLoader(), new Class[] { type }, handler ) );
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke( target, args );
+		}
+		catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if ( type == boolean.class ) {
+			return false;
+		}
+		if ( type == int.class ) {
+			return 0;
+		}
+		if ( type == long.class ) {
+			return 0L;
+		}
+		return null;
+	}
+}
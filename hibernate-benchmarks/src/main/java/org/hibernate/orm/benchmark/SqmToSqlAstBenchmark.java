@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.sqm.tree.SqmSelectStatement;
+import org.hibernate.sql.ast.consume.spi.SqlAstSelectToJdbcSelectConverter;
+import org.hibernate.sql.ast.produce.spi.SqlAstProducerContext;
+import org.hibernate.sql.ast.produce.spi.SqlAstSelectDescriptor;
+import org.hibernate.sql.ast.produce.sqm.spi.Callback;
+import org.hibernate.sql.ast.produce.sqm.spi.SqmSelectToSqlAstConverter;
+import org.hibernate.sql.exec.spi.BasicExecutionContext;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of an (already interpreted) SQM select statement into the SQL
+ * AST, and of that SQL AST into the JdbcSelect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqmToSqlAstBenchmark {
+	@Param({
+			"select p from Person p",
+			"select p.name from Person p where p.age > 30 and p.active = true order by p.name",
+			"select p from Person p, Address a where p.id = a.id and a.city = 'Paris' and p.salary between 1000 and 2000"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private ExecutionContext executionContext;
+	private SqlAstProducerContext producerContext;
+	private SqmSelectStatement sqm;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build();
+		session = (SessionImplementor) sessionFactory.openSession();
+		executionContext = new BasicExecutionContext( session );
+		producerContext = new SqlAstProducerContext() {
+			@Override
+			public SessionFactoryImplementor getSessionFactory() {
+				return sessionFactory;
+			}
+
+			@Override
+			public LoadQueryInfluencers getLoadQueryInfluencers() {
+				return session.getLoadQueryInfluencers();
+			}
+
+			@Override
+			public Callback getCallback() {
+				return executionContext.getCallback();
+			}
+		};
+
+		sqm = (SqmSelectStatement) sessionFactory.getQueryEngine().getSemanticQueryProducer().interpret( hql );
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqlAstSelectDescriptor sqmToSqlAst() {
+		return new SqmSelectToSqlAstConverter( executionContext.getQueryOptions(), producerContext ).interpret( sqm );
+	}
+
+	@Benchmark
+	public JdbcSelect sqmToJdbcSelect() {
+		final SqlAstSelectDescriptor interpretation = new SqmSelectToSqlAstConverter(
+				executionContext.getQueryOptions(),
+				producerContext
+		).interpret( sqm );
+
+		return SqlAstSelectToJdbcSelectConverter.interpret( interpretation, sessionFactory );
+	}
+}
@@ -9,6 +9,8 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 /**
  * A command-oriented API for performing bulk operations against a database.
@@ -51,6 +53,63 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities.  Consecutive entities of the same
+	 * type are inserted together, in groups of the configured JDBC batch size.  Entities
+	 * with identity identifiers are only inserted together if the Dialect returns the
+	 * identity values generated for a multi-row insert.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @since 6.0
+	 */
+	default long insertAll(Iterable<?> entities) {
+		return insertAll( entities, null );
+	}
+
+	/**
+	 * Insert a row for each of the given entities, as {@link #insertAll(Iterable)}.
+	 * After each group of inserted entities, the callback is passed the number of
+	 * entities inserted so far.
+	 *
+	 * @param entities new transient instances
+	 * @param progressCallback The callback to report progress to, or {@code null}
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @since 6.0
+	 */
+	long insertAll(Iterable<?> entities, LongConsumer progressCallback);
+
+	/**
+	 * Insert a row for each of the given entities, as {@link #insertAll(Iterable)}.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @since 6.0
+	 */
+	default long insertAll(Stream<?> entities) {
+		return insertAll( entities, null );
+	}
+
+	/**
+	 * Insert a row for each of the given entities, as {@link #insertAll(Iterable, LongConsumer)}.
+	 *
+	 * @param entities new transient instances
+	 * @param progressCallback The callback to report progress to, or {@code null}
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @since 6.0
+	 */
+	default long insertAll(Stream<?> entities, LongConsumer progressCallback) {
+		return insertAll( (Iterable<?>) entities::iterator, progressCallback );
+	}
+
 	/**
 	 * Update a row.
 	 *
@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -71,19 +74,64 @@ public final class EntityInsertAction extends AbstractEntityInsertAction {
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
 
-		final EntityTypeDescriptor entityDescriptor = getEntityDescriptor();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-		final Object id = getId();
-
 		final boolean veto = preInsert();
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		if ( !veto ) {
-			
-			entityDescriptor.insert( id, getState(), instance, session );
+			getEntityDescriptor().insert( getId(), getState(), getInstance(), getSession() );
+		}
+
+		afterInsert( veto );
+	}
+
+	/**
+	 * Execute the given actions, all inserting entities of the same type, inserting
+	 * their rows with as few statements as possible.
+	 *
+	 * @param actions The actions to execute
+	 *
+	 * @see EntityTypeDescriptor#insertAll
+	 */
+	public static void executeAll(List<EntityInsertAction> actions) throws HibernateException {
+		final boolean[] vetoes = new boolean[ actions.size() ];
+		final List<EntityInsertAction> inserting = new ArrayList<>( actions.size() );
+		for ( int i = 0; i < actions.size(); i++ ) {
+			final EntityInsertAction action = actions.get( i );
+			action.nullifyTransientReferencesIfNotAlready();
+			vetoes[i] = action.preInsert();
+			if ( !vetoes[i] ) {
+				inserting.add( action );
+			}
+		}
+
+		if ( !inserting.isEmpty() ) {
+			final Object[] ids = new Object[ inserting.size() ];
+			final Object[][] states = new Object[ inserting.size() ][];
+			final Object[] instances = new Object[ inserting.size() ];
+			for ( int i = 0; i < inserting.size(); i++ ) {
+				final EntityInsertAction action = inserting.get( i );
+				ids[i] = action.getId();
+				states[i] = action.getState();
+				instances[i] = action.getInstance();
+			}
+			final EntityInsertAction first = inserting.get( 0 );
+			first.getEntityDescriptor().insertAll( ids, states, instances, first.getSession() );
+		}
+
+		for ( int i = 0; i < actions.size(); i++ ) {
+			actions.get( i ).afterInsert( vetoes[i] );
+		}
+	}
+
+	private void afterInsert(boolean veto) {
+		final EntityTypeDescriptor entityDescriptor = getEntityDescriptor();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+		final Object id = getId();
+
+		if ( !veto ) {
 			PersistenceContext persistenceContext = session.getPersistenceContext();
 			final EntityEntry entry = persistenceContext.getEntry( instance );
 			if ( entry == null ) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.internal;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,6 +15,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionAcquisitionMode;
@@ -61,6 +66,8 @@ import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.stat.Statistics;
 
 import static org.hibernate.cfg.AvailableSettings.ACQUIRE_CONNECTIONS;
@@ -70,6 +77,7 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
@@ -85,35 +93,46 @@ import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISABLE_DELAYED_IDENTIFIER_POST_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_AUTO_QUERY_SPACES_ONLY;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_DIRTY_CANDIDATES_ONLY;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.ID_TABLE_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.JDBC_SELECT_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.KEYED_BATCHES;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MAX_MANAGED_ENTITIES;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_ASYNC_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PARAMETERIZE_LITERALS;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAM_DETACH_ENTITIES;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SPARSE_LOADED_STATE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -146,6 +165,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private static final StatementInspector DEFAULT_STATEMENT_INSPECTOR = (StatementInspector) sql -> sql;
 
+	/**
+	 * Value for {@link AvailableSettings#QUERY_ASYNC_EXECUTOR} requesting a virtual thread per query
+	 */
+	public static final String VIRTUAL_THREAD_EXECUTOR = "virtual";
+
 	private final String uuid = LocalObjectUuidHelper.generateLocalObjectUuid();
 	private final StandardServiceRegistry serviceRegistry;
 
@@ -189,6 +213,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private IdTableStrategy idTableStrategy;
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
+	private int adaptiveBatchFetchMaximumSize;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
@@ -218,6 +243,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -250,6 +276,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int queryStatisticsMaxSize;
 
 	private QueryLiteralRendering queryLiteralRendering;
+	private JdbcSelectExecutor jdbcSelectExecutor;
+	private Executor queryAsyncExecutor;
+	private boolean queryAsyncExecutorOwned;
+	private boolean streamDetachEntitiesEnabled;
+	private boolean queryLiteralParameterizationEnabled;
+	private boolean dirtyCandidateFlushEnabled;
+	private int parallelDirtyCheckThreshold;
+	private boolean querySpaceAutoFlushEnabled;
+	private int maximumManagedEntities;
+	private boolean sparseLoadedStateEnabled;
+	private boolean keyedBatchingEnabled;
 
 	private final SqmFunctionRegistry sqmFunctionRegistry = new SqmFunctionRegistry();
 
@@ -337,6 +374,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.idTableStrategy = resolveIdTableStrategy( configurationSettings, jdbcServices, strategySelector );
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
+		this.adaptiveBatchFetchMaximumSize = ConfigurationHelper.getInt( BATCH_FETCH_ADAPTIVE_MAX_SIZE, configurationSettings, 0 );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
@@ -380,6 +418,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = cfgService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -394,6 +433,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -539,6 +579,63 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 						(map, s) -> configurationSettings.get( AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE )
 				)
 		);
+
+		this.jdbcSelectExecutor = strategySelector.resolveDefaultableStrategy(
+				JdbcSelectExecutor.class,
+				configurationSettings.get( JDBC_SELECT_EXECUTOR ),
+				JdbcSelectExecutorStandardImpl.INSTANCE
+		);
+		final Object queryAsyncExecutorSetting = configurationSettings.get( QUERY_ASYNC_EXECUTOR );
+		if ( queryAsyncExecutorSetting == null ) {
+			this.queryAsyncExecutorOwned = true;
+			this.queryAsyncExecutor = createQueryAsyncExecutor();
+		}
+		else if ( queryAsyncExecutorSetting instanceof String
+				&& VIRTUAL_THREAD_EXECUTOR.equalsIgnoreCase( ( (String) queryAsyncExecutorSetting ).trim() ) ) {
+			this.queryAsyncExecutorOwned = true;
+			this.queryAsyncExecutor = createVirtualThreadPerTaskExecutor();
+		}
+		else {
+			this.queryAsyncExecutorOwned = false;
+			this.queryAsyncExecutor = strategySelector.resolveStrategy( Executor.class, queryAsyncExecutorSetting );
+		}
+		this.streamDetachEntitiesEnabled = cfgService.getSetting( QUERY_STREAM_DETACH_ENTITIES, BOOLEAN, false );
+		this.queryLiteralParameterizationEnabled = cfgService.getSetting( QUERY_PARAMETERIZE_LITERALS, BOOLEAN, false );
+		this.dirtyCandidateFlushEnabled = cfgService.getSetting( FLUSH_DIRTY_CANDIDATES_ONLY, BOOLEAN, false );
+		this.parallelDirtyCheckThreshold = ConfigurationHelper.getInt( FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, configurationSettings, 0 );
+		this.querySpaceAutoFlushEnabled = cfgService.getSetting( FLUSH_AUTO_QUERY_SPACES_ONLY, BOOLEAN, false );
+		this.maximumManagedEntities = ConfigurationHelper.getInt( MAX_MANAGED_ENTITIES, configurationSettings, 0 );
+		this.sparseLoadedStateEnabled = cfgService.getSetting( SPARSE_LOADED_STATE, BOOLEAN, false );
+		this.keyedBatchingEnabled = cfgService.getSetting( KEYED_BATCHES, BOOLEAN, false );
+	}
+
+	private static Executor createQueryAsyncExecutor() {
+		// queries perform blocking JDBC calls, so keep them off the common pool;
+		// a cached pool starts no thread until a query is executed asynchronously
+		final AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newCachedThreadPool(
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-async-query-" + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+	}
+
+	private static Executor createVirtualThreadPerTaskExecutor() {
+		// we still need to compile against Java 8, so access virtual threads reflectively
+		try {
+			final Method factoryMethod = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return (Executor) factoryMethod.invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException(
+					"Setting [" + QUERY_ASYNC_EXECUTOR + "=" + VIRTUAL_THREAD_EXECUTOR + "] requires Java 21 or later"
+			);
+		}
+		catch (IllegalAccessException | InvocationTargetException e) {
+			throw new HibernateException( "Unable to create virtual-thread-per-task Executor", e );
+		}
 	}
 
 	private IdTableStrategy resolveIdTableStrategy(
@@ -823,6 +920,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return batchFetchStyle;
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaximumSize() {
+		return adaptiveBatchFetchMaximumSize;
+	}
+
 	@Override
 	public boolean isDelayBatchFetchLoaderCreationsEnabled() {
 		return delayBatchFetchLoaderCreations;
@@ -923,6 +1025,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1038,6 +1145,61 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.queryLiteralRendering;
 	}
 
+	@Override
+	public JdbcSelectExecutor getJdbcSelectExecutor() {
+		return jdbcSelectExecutor;
+	}
+
+	@Override
+	public Executor getQueryAsyncExecutor() {
+		return queryAsyncExecutor;
+	}
+
+	@Override
+	public boolean isQueryAsyncExecutorOwned() {
+		return queryAsyncExecutorOwned;
+	}
+
+	@Override
+	public boolean isStreamDetachEntitiesEnabled() {
+		return streamDetachEntitiesEnabled;
+	}
+
+	@Override
+	public boolean isQueryLiteralParameterizationEnabled() {
+		return queryLiteralParameterizationEnabled;
+	}
+
+	@Override
+	public boolean isDirtyCandidateFlushEnabled() {
+		return dirtyCandidateFlushEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public boolean isQuerySpaceAutoFlushEnabled() {
+		return querySpaceAutoFlushEnabled;
+	}
+
+	@Override
+	public int getMaximumManagedEntities() {
+		return maximumManagedEntities;
+	}
+
+	@Override
+	public boolean isSparseLoadedStateEnabled() {
+		return sparseLoadedStateEnabled;
+	}
+
+	@Override
+	public boolean isKeyedBatchingEnabled() {
+		return keyedBatchingEnabled;
+	}
+
 	@Override
 	public boolean isQueryParametersValidationEnabled() {
 		return this.queryParametersValidationEnabled;
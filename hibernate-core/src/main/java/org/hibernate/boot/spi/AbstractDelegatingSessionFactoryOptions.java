@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -33,6 +34,7 @@ import org.hibernate.query.sqm.consume.multitable.spi.IdTableStrategy;
 import org.hibernate.query.sqm.produce.function.SqmFunctionRegistry;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 
 /**
  * Convenience base class for custom implementors of SessionFactoryOptions, using delegation
@@ -271,6 +273,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -444,4 +451,64 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
+
+	@Override
+	public JdbcSelectExecutor getJdbcSelectExecutor() {
+		return delegate.getJdbcSelectExecutor();
+	}
+
+	@Override
+	public Executor getQueryAsyncExecutor() {
+		return delegate.getQueryAsyncExecutor();
+	}
+
+	@Override
+	public boolean isQueryAsyncExecutorOwned() {
+		return delegate.isQueryAsyncExecutorOwned();
+	}
+
+	@Override
+	public boolean isStreamDetachEntitiesEnabled() {
+		return delegate.isStreamDetachEntitiesEnabled();
+	}
+
+	@Override
+	public boolean isQueryLiteralParameterizationEnabled() {
+		return delegate.isQueryLiteralParameterizationEnabled();
+	}
+
+	@Override
+	public boolean isDirtyCandidateFlushEnabled() {
+		return delegate.isDirtyCandidateFlushEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaximumSize() {
+		return delegate.getAdaptiveBatchFetchMaximumSize();
+	}
+
+	@Override
+	public boolean isQuerySpaceAutoFlushEnabled() {
+		return delegate.isQuerySpaceAutoFlushEnabled();
+	}
+
+	@Override
+	public int getMaximumManagedEntities() {
+		return delegate.getMaximumManagedEntities();
+	}
+
+	@Override
+	public boolean isSparseLoadedStateEnabled() {
+		return delegate.isSparseLoadedStateEnabled();
+	}
+
+	@Override
+	public boolean isKeyedBatchingEnabled() {
+		return delegate.isKeyedBatchingEnabled();
+	}
 }
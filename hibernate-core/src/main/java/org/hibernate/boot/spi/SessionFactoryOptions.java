@@ -8,6 +8,8 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -37,6 +39,8 @@ import org.hibernate.query.sqm.consume.multitable.spi.IdTableStrategy;
 import org.hibernate.query.sqm.produce.function.SqmFunctionRegistry;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -361,4 +365,126 @@ public interface SessionFactoryOptions {
 	default boolean isPostInsertIdentifierDelayableEnabled() {
 		return true;
 	}
+
+	/**
+	 * The executor used to perform select queries.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_SELECT_EXECUTOR
+	 */
+	default JdbcSelectExecutor getJdbcSelectExecutor() {
+		return JdbcSelectExecutorStandardImpl.INSTANCE;
+	}
+
+	/**
+	 * The Executor performing the work of asynchronous query executions.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_ASYNC_EXECUTOR
+	 */
+	default Executor getQueryAsyncExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Was the {@link #getQueryAsyncExecutor() async query Executor} created
+	 * by Hibernate, and hence needs to be shut down when the SessionFactory
+	 * is closed?
+	 */
+	default boolean isQueryAsyncExecutorOwned() {
+		return false;
+	}
+
+	/**
+	 * Should entities emitted by streamed query results be detached once consumed?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_DETACH_ENTITIES
+	 */
+	default boolean isStreamDetachEntitiesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should literals in HQL predicates be replaced by parameters?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PARAMETERIZE_LITERALS
+	 */
+	default boolean isQueryLiteralParameterizationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should flushes only visit entities registered as dirty candidates?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_DIRTY_CANDIDATES_ONLY
+	 */
+	default boolean isDirtyCandidateFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of entities to flush above which dirty checking is done in
+	 * parallel, or {@code 0} if it never should be.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The size up to which entity batch loads may grow when adapting to the
+	 * use of the batch loaded entities, or {@code 0} if the mapped batch sizes
+	 * should be used as-is.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaximumSize() {
+		return 0;
+	}
+
+	/**
+	 * Should auto-flushes only dirty check the entities affecting the query spaces?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_AUTO_QUERY_SPACES_ONLY
+	 */
+	default boolean isQuerySpaceAutoFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of entities a Session keeps managed, or {@code 0}
+	 * if not limited.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MAX_MANAGED_ENTITIES
+	 */
+	default int getMaximumManagedEntities() {
+		return 0;
+	}
+
+	/**
+	 * Should entities tracking their own dirtiness keep only the loaded values
+	 * of their changed attributes?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SPARSE_LOADED_STATE
+	 */
+	default boolean isSparseLoadedStateEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should a Session keep a JDBC batch open for each batch key?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#KEYED_BATCHES
+	 */
+	default boolean isKeyedBatchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should entities be cached using the compact cache entry format?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
 }
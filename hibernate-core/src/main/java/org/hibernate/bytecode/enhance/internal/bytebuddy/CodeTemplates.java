@@ -24,6 +24,7 @@ import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
+import org.hibernate.engine.spi.EntityEntry;
 
 import net.bytebuddy.asm.Advice;
 
@@ -56,12 +57,17 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
-				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(EnhancerConstants.ENTITY_ENTRY_FIELD_NAME) EntityEntry $$_hibernate_entityEntryHolder) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
 			$$_hibernate_tracker.add( name );
+			if ( $$_hibernate_entityEntryHolder != null ) {
+				$$_hibernate_entityEntryHolder.attributeChanged( self, name );
+			}
 		}
 	}
 
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+
+/**
+ * The storage of the regions built by {@link LocalRegionFactory}, which keeps
+ * track of the number and size of its entries.
+ */
+interface BoundedStorageAccess extends DomainDataStorageAccess {
+	/**
+	 * The number of entries currently held, including expired entries not yet removed
+	 */
+	long getElementCount();
+
+	/**
+	 * The (estimated) size of the entries currently held, in bytes
+	 */
+	long getEstimatedSize();
+}
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+/**
+ * A count-min sketch estimating how often keys were accessed recently, used by
+ * {@link LocalStorageAccess} to decide which entries to admit.  Each key is counted
+ * by four 4-bit counters, sixteen of which are packed into each {@code long}.  Once
+ * the number of recorded accesses reaches ten times the table length all counters
+ * are halved, so that the sketch forgets accesses that are no longer recent.
+ * <p/>
+ * The table starts small and is grown, through {@link #ensureCapacity}, as the number
+ * of cached entries grows, so that regions which hold few entries keep a small sketch.
+ * <p/>
+ * Not thread-safe; callers guard access.
+ */
+class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MINIMUM_LENGTH = 16;
+	private static final int MAXIMUM_LENGTH = 1 << 22;
+
+	private final int maximumLength;
+
+	private long[] table = new long[ MINIMUM_LENGTH ];
+	private int sampleSize = 10 * MINIMUM_LENGTH;
+	private int size;
+
+	/**
+	 * @param maximumEntries The maximum number of entries the sketch will be sized for
+	 */
+	FrequencySketch(long maximumEntries) {
+		this.maximumLength = tableLength( maximumEntries );
+	}
+
+	/**
+	 * Grow the table, if needed, to count the accesses of the given number of entries
+	 * accurately.  Growing discards the accesses recorded so far.
+	 */
+	void ensureCapacity(long expectedEntries) {
+		if ( expectedEntries <= table.length || table.length >= maximumLength ) {
+			return;
+		}
+		final int length = Math.min( maximumLength, tableLength( expectedEntries ) );
+		table = new long[ length ];
+		sampleSize = 10 * length;
+		size = 0;
+	}
+
+	private static int tableLength(long entries) {
+		final int length = (int) Math.min( MAXIMUM_LENGTH, Math.max( MINIMUM_LENGTH, entries ) );
+		return Integer.highestOneBit( length - 1 ) << 1;
+	}
+
+	/**
+	 * The estimated number of recent accesses of the key with the given hash, at most 15
+	 */
+	int frequency(int hash) {
+		final int start = ( hash & 3 ) << 2;
+		int frequency = 15;
+		for ( int i = 0; i < 4; i++ ) {
+			final int offset = ( start + i ) << 2;
+			final long counters = table[ index( hash, i ) ];
+			frequency = Math.min( frequency, (int) ( ( counters >>> offset ) & 0xfL ) );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access of the key with the given hash
+	 */
+	void increment(int hash) {
+		final int start = ( hash & 3 ) << 2;
+		boolean incremented = false;
+		for ( int i = 0; i < 4; i++ ) {
+			incremented |= incrementAt( index( hash, i ), ( start + i ) << 2 );
+		}
+
+		if ( incremented && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private int index(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return ( (int) h ) & ( table.length - 1 );
+	}
+
+	private boolean incrementAt(int index, int offset) {
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & 0x1111111111111111L );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size - ( odd >>> 2 ) ) >>> 1;
+	}
+}
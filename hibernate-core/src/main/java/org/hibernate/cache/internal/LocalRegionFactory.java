@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * RegionFactory keeping the cached data in process, using {@link LocalStorageAccess}.
+ * The size and time-to-live of the regions are configured through
+ * {@link AvailableSettings#LOCAL_CACHE_MAX_SIZE} and {@link AvailableSettings#LOCAL_CACHE_TIME_TO_LIVE}.
+ * Domain data regions may keep their data outside of the heap instead, using
+ * {@link OffHeapStorageAccess}, as configured through {@link AvailableSettings#LOCAL_CACHE_OFF_HEAP}.
+ * The timestamps region is never bounded, as evicting timestamps would let stale
+ * query results be considered valid.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum estimated size of a region: 64 megabytes
+	 */
+	public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+	private Map configValues;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.configValues = configValues;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final String regionName = regionConfig.getRegionName();
+		final Object offHeap = getRegionSetting( AvailableSettings.LOCAL_CACHE_OFF_HEAP, regionName );
+		if ( offHeap != null && Boolean.parseBoolean( offHeap.toString().trim() ) ) {
+			final long maxSize = getRegionSetting( AvailableSettings.LOCAL_CACHE_MAX_SIZE, regionName, DEFAULT_MAX_SIZE );
+			if ( maxSize <= 0 ) {
+				throw new CacheException(
+						"The size of off-heap region [" + regionName + "] must be limited, but "
+								+ AvailableSettings.LOCAL_CACHE_MAX_SIZE + " is " + maxSize
+				);
+			}
+			return new OffHeapStorageAccess(
+					maxSize,
+					getRegionSetting( AvailableSettings.LOCAL_CACHE_TIME_TO_LIVE, regionName, 0 ) * 1000
+			);
+		}
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new LocalStorageAccess( 0, 0 );
+	}
+
+	private LocalStorageAccess createStorageAccess(String regionName) {
+		final long maxSize = getRegionSetting( AvailableSettings.LOCAL_CACHE_MAX_SIZE, regionName, DEFAULT_MAX_SIZE );
+		final long timeToLive = getRegionSetting( AvailableSettings.LOCAL_CACHE_TIME_TO_LIVE, regionName, 0 );
+		return new LocalStorageAccess( maxSize, timeToLive * 1000 );
+	}
+
+	private long getRegionSetting(String settingName, String regionName, long defaultValue) {
+		final Object value = getRegionSetting( settingName, regionName );
+		if ( value == null ) {
+			return defaultValue;
+		}
+		return value instanceof Number ? ( (Number) value ).longValue() : Long.parseLong( value.toString().trim() );
+	}
+
+	private Object getRegionSetting(String settingName, String regionName) {
+		final Object value = configValues.get( settingName + '.' + regionName );
+		return value == null ? configValues.get( settingName ) : value;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	/**
+	 * DomainDataRegion exposing the size of its {@link BoundedStorageAccess}
+	 */
+	private static class LocalDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				DomainDataStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		}
+
+		@Override
+		public BoundedStorageAccess getCacheStorageAccess() {
+			return (BoundedStorageAccess) super.getCacheStorageAccess();
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return getCacheStorageAccess().getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return getCacheStorageAccess().getEstimatedSize();
+		}
+
+		@Override
+		public void destroy() throws CacheException {
+			super.destroy();
+			getCacheStorageAccess().release();
+		}
+	}
+}
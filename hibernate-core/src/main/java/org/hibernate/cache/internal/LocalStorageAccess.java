@@ -0,0 +1,429 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * In-process storage used by {@link LocalRegionFactory}, keeping the cached values by
+ * reference.  The storage may be bounded by the estimated size of its entries in bytes,
+ * and may expire entries some time after they were put.
+ * <p/>
+ * A bounded storage evicts entries following the W-TinyLFU policy: new entries enter
+ * a small LRU window, and entries leaving the window are only admitted to the main
+ * (segmented LRU) space if they were accessed more frequently than the entry which
+ * would be evicted instead.  Access frequencies are estimated by a {@link FrequencySketch},
+ * which grows with the number of entries.
+ * <p/>
+ * Reads are not blocked by writes.  A read updates the eviction policy only if the
+ * policy is not being updated concurrently; otherwise the access is not recorded.
+ */
+public class LocalStorageAccess implements BoundedStorageAccess {
+	private static final int ENTRY_OVERHEAD = 96;
+	private static final int REFERENCE_SIZE = 8;
+	private static final int OBJECT_SIZE = 16;
+	private static final int MAXIMUM_ESTIMATION_DEPTH = 4;
+
+	private final long maximumSize;
+	private final long windowMaximumSize;
+	private final long protectedMaximumSize;
+	private final long timeToLive;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<Object,Node> data = new ConcurrentHashMap<>();
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrder window = new AccessOrder();
+	private final AccessOrder probation = new AccessOrder();
+	private final AccessOrder protectedSpace = new AccessOrder();
+
+	/**
+	 * Constructs a LocalStorageAccess.
+	 *
+	 * @param maximumSize The maximum estimated size of all entries in bytes, zero or less for no limit
+	 * @param timeToLive The milliseconds after which an entry expires, zero or less for no expiry
+	 */
+	public LocalStorageAccess(long maximumSize, long timeToLive) {
+		this( maximumSize, timeToLive, System::currentTimeMillis );
+	}
+
+	/**
+	 * Constructs a LocalStorageAccess.
+	 *
+	 * @param maximumSize The maximum estimated size of all entries in bytes, zero or less for no limit
+	 * @param timeToLive The milliseconds after which an entry expires, zero or less for no expiry
+	 * @param clock Supplies the current time in milliseconds
+	 */
+	public LocalStorageAccess(long maximumSize, long timeToLive, LongSupplier clock) {
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		if ( maximumSize > 0 ) {
+			this.windowMaximumSize = Math.max( 1, maximumSize / 100 );
+			this.protectedMaximumSize = ( maximumSize - windowMaximumSize ) * 4 / 5;
+			// at most this many entries fit; the sketch grows with the actual entry count
+			this.sketch = new FrequencySketch( maximumSize / ENTRY_OVERHEAD );
+		}
+		else {
+			this.windowMaximumSize = Long.MAX_VALUE;
+			this.protectedMaximumSize = Long.MAX_VALUE;
+			this.sketch = null;
+		}
+	}
+
+	@Override
+	public long getElementCount() {
+		return data.size();
+	}
+
+	@Override
+	public long getEstimatedSize() {
+		policyLock.lock();
+		try {
+			return window.size + probation.size + protectedSpace.size;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Node node = data.get( key );
+		if ( node == null ) {
+			recordAccess( key, null );
+			return null;
+		}
+
+		if ( node.isExpired( clock.getAsLong() ) ) {
+			remove( node );
+			return null;
+		}
+
+		recordAccess( key, node );
+		return node.value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final long size = ENTRY_OVERHEAD + estimateSize( key, 0 ) + estimateSize( value, 0 );
+		if ( maximumSize > 0 && size > maximumSize ) {
+			evictData( key );
+			return;
+		}
+
+		final long expiration = timeToLive > 0 ? clock.getAsLong() + timeToLive : Long.MAX_VALUE;
+		final Node node = new Node( key, value, size, expiration );
+
+		policyLock.lock();
+		try {
+			final Node previous = data.put( key, node );
+			if ( previous != null ) {
+				unlink( previous );
+			}
+			if ( sketch != null ) {
+				sketch.ensureCapacity( data.size() );
+				sketch.increment( node.hash );
+			}
+			node.order = window;
+			window.addFirst( node );
+			evict();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Node node = data.get( key );
+		return node != null && !node.isExpired( clock.getAsLong() );
+	}
+
+	@Override
+	public void evictData() {
+		policyLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSpace.clear();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		policyLock.lock();
+		try {
+			final Node node = data.remove( key );
+			if ( node != null ) {
+				unlink( node );
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	private void remove(Node node) {
+		policyLock.lock();
+		try {
+			if ( data.remove( node.key, node ) ) {
+				unlink( node );
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void recordAccess(Object key, Node node) {
+		if ( sketch == null || !policyLock.tryLock() ) {
+			return;
+		}
+		try {
+			sketch.increment( node == null ? spread( key.hashCode() ) : node.hash );
+			// the node may have been removed since it was read
+			if ( node != null && data.get( node.key ) == node ) {
+				onHit( node );
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void onHit(Node node) {
+		if ( node.order == probation ) {
+			// promote to the protected space, demoting its least recently used entries
+			probation.remove( node );
+			node.order = protectedSpace;
+			protectedSpace.addFirst( node );
+			while ( protectedSpace.size > protectedMaximumSize ) {
+				final Node demoted = protectedSpace.last();
+				protectedSpace.remove( demoted );
+				demoted.order = probation;
+				probation.addFirst( demoted );
+			}
+		}
+		else {
+			node.order.remove( node );
+			node.order.addFirst( node );
+		}
+	}
+
+	private void unlink(Node node) {
+		if ( node.order != null ) {
+			node.order.remove( node );
+			node.order = null;
+		}
+	}
+
+	private void evict() {
+		if ( maximumSize <= 0 ) {
+			return;
+		}
+
+		// entries leaving the window become candidates for admission to the main space
+		while ( window.size > windowMaximumSize ) {
+			final Node candidate = window.last();
+			window.remove( candidate );
+			candidate.order = probation;
+			probation.addFirst( candidate );
+		}
+
+		while ( window.size + probation.size + protectedSpace.size > maximumSize ) {
+			final Node candidate = probation.first();
+			Node victim = probation.last();
+			if ( victim == candidate ) {
+				victim = protectedSpace.last() != null ? protectedSpace.last() : window.last();
+			}
+
+			final Node evicted;
+			if ( candidate == null || victim == null ) {
+				evicted = candidate == null ? victim : candidate;
+			}
+			else {
+				evicted = sketch.frequency( candidate.hash ) > sketch.frequency( victim.hash ) ? victim : candidate;
+			}
+			data.remove( evicted.key, evicted );
+			unlink( evicted );
+		}
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+
+	/**
+	 * Roughly estimate the number of bytes retained by the given cached value
+	 */
+	private static long estimateSize(Object value, int depth) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof String ) {
+			return OBJECT_SIZE + 24 + ( (String) value ).length();
+		}
+		else if ( value instanceof Number || value instanceof Boolean || value instanceof Character ) {
+			return OBJECT_SIZE + REFERENCE_SIZE;
+		}
+		else if ( value instanceof Date ) {
+			return OBJECT_SIZE + 2 * REFERENCE_SIZE;
+		}
+		else if ( value instanceof byte[] ) {
+			return OBJECT_SIZE + ( (byte[]) value ).length;
+		}
+		else if ( value instanceof char[] ) {
+			return OBJECT_SIZE + 2L * ( (char[]) value ).length;
+		}
+		else if ( depth >= MAXIMUM_ESTIMATION_DEPTH ) {
+			return OBJECT_SIZE + REFERENCE_SIZE;
+		}
+		else if ( value instanceof Object[] ) {
+			long size = OBJECT_SIZE;
+			for ( Object element : (Object[]) value ) {
+				size += REFERENCE_SIZE + estimateSize( element, depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Lockable ) {
+			return OBJECT_SIZE + 3 * REFERENCE_SIZE
+					+ estimateSize( ( (AbstractReadWriteAccess.Lockable) value ).getValue(), depth + 1 );
+		}
+		else if ( value instanceof CacheEntry ) {
+			final CacheEntry entry = (CacheEntry) value;
+			return OBJECT_SIZE + 3 * REFERENCE_SIZE
+					+ estimateSize( entry.getDisassembledState(), depth + 1 )
+					+ estimateSize( entry.getVersion(), depth + 1 );
+		}
+		else if ( value instanceof CollectionCacheEntry ) {
+			return OBJECT_SIZE + REFERENCE_SIZE
+					+ estimateSize( ( (CollectionCacheEntry) value ).getState(), depth + 1 );
+		}
+		else if ( value instanceof QueryResultsCacheImpl.CacheItem ) {
+			return OBJECT_SIZE + 2 * REFERENCE_SIZE
+					+ estimateSize( ( (QueryResultsCacheImpl.CacheItem) value ).getResults(), depth + 1 );
+		}
+		else if ( value instanceof Collection ) {
+			long size = OBJECT_SIZE * 3;
+			for ( Object element : (Collection<?>) value ) {
+				size += REFERENCE_SIZE * 2 + estimateSize( element, depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof Map ) {
+			long size = OBJECT_SIZE * 3;
+			for ( Map.Entry<?,?> entry : ( (Map<?,?>) value ).entrySet() ) {
+				size += OBJECT_SIZE + REFERENCE_SIZE * 4
+						+ estimateSize( entry.getKey(), depth + 1 )
+						+ estimateSize( entry.getValue(), depth + 1 );
+			}
+			return size;
+		}
+		else {
+			return OBJECT_SIZE * 2;
+		}
+	}
+
+	private static class Node {
+		private final Object key;
+		private final int hash;
+		private final Object value;
+		private final long size;
+		private final long expiration;
+
+		// guarded by the policy lock
+		private AccessOrder order;
+		private Node previous;
+		private Node next;
+
+		private Node(Object key, Object value, long size, long expiration) {
+			this.key = key;
+			this.hash = spread( key.hashCode() );
+			this.value = value;
+			this.size = size;
+			this.expiration = expiration;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiration;
+		}
+	}
+
+	/**
+	 * Nodes ordered from most to least recently used, with their total size
+	 */
+	private static class AccessOrder {
+		private Node head;
+		private Node tail;
+		private long size;
+
+		private Node first() {
+			return head;
+		}
+
+		private Node last() {
+			return tail;
+		}
+
+		private void addFirst(Node node) {
+			node.previous = null;
+			node.next = head;
+			if ( head == null ) {
+				tail = node;
+			}
+			else {
+				head.previous = node;
+			}
+			head = node;
+			size += node.size;
+		}
+
+		private void remove(Node node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size -= node.size;
+		}
+
+		private void clear() {
+			head = null;
+			tail = null;
+			size = 0;
+		}
+	}
+}
@@ -0,0 +1,510 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * Storage used by {@link LocalRegionFactory} keeping the cached values outside of the
+ * Java heap, in direct {@link ByteBuffer}s, so that large regions do not lengthen
+ * garbage collection pauses.  Keys and values are stored in their serialized form and
+ * deserialized on read; {@code byte[]} values, such as
+ * {@link org.hibernate.cache.spi.entry.CompactCacheEntry compact cache entries}, are
+ * stored as they are.  Keys are matched by comparing their serialized forms, which are
+ * computed before the segment is locked; equal keys must therefore serialize to the same
+ * bytes, as the cache keys built by Hibernate do.
+ * <p/>
+ * The storage is split into segments by the hash of the keys, each guarded by its own
+ * lock.  A segment holds at most a gigabyte, so that large storages are split into
+ * more segments.  A segment appends its entries to a circular arena of a fixed capacity, and
+ * locates them through an open-addressing hash index held in a {@code long[]}, which
+ * costs the garbage collector nothing to trace.  Once the arena is full, the oldest
+ * entries are evicted to make room for new ones.  The arenas are allocated when the
+ * first entry is put into their segment, and their memory is reclaimed once the
+ * storage has been released and garbage collected.  If the direct memory for an arena
+ * cannot be allocated, the entries of its segment are not cached.
+ */
+public class OffHeapStorageAccess implements BoundedStorageAccess {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( OffHeapStorageAccess.class );
+
+	private static final int MINIMUM_SEGMENT_CAPACITY = 64 * 1024;
+	private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+	private static final int MAXIMUM_SEGMENTS = 256;
+
+	/**
+	 * The largest maximum size of an OffHeapStorageAccess: 256 segments of 1 gigabyte
+	 */
+	public static final long MAXIMUM_SIZE = (long) MAXIMUM_SEGMENTS * MAXIMUM_SEGMENT_CAPACITY;
+
+	// length, hash, expiration, key length and value kind
+	private static final int RECORD_HEADER_SIZE = 4 + 4 + 8 + 4 + 1;
+	private static final int HASH_OFFSET = 4;
+	private static final int EXPIRATION_OFFSET = 8;
+	private static final int KEY_LENGTH_OFFSET = 16;
+	private static final int VALUE_KIND_OFFSET = 20;
+
+	private static final byte SERIALIZED_VALUE = 0;
+	private static final byte BYTE_ARRAY_VALUE = 1;
+
+	private final long timeToLive;
+	private final LongSupplier clock;
+	private final Segment[] segments;
+
+	/**
+	 * Constructs an OffHeapStorageAccess.
+	 *
+	 * @param maximumSize The maximum size of all stored keys and values in bytes
+	 * @param timeToLive The milliseconds after which an entry expires, zero or less for no expiry
+	 */
+	public OffHeapStorageAccess(long maximumSize, long timeToLive) {
+		this( maximumSize, timeToLive, System::currentTimeMillis );
+	}
+
+	/**
+	 * Constructs an OffHeapStorageAccess.
+	 *
+	 * @param maximumSize The maximum size of all stored keys and values in bytes
+	 * @param timeToLive The milliseconds after which an entry expires, zero or less for no expiry
+	 * @param clock Supplies the current time in milliseconds
+	 *
+	 * @throws CacheException If the maximum size exceeds {@link #MAXIMUM_SIZE}
+	 */
+	public OffHeapStorageAccess(long maximumSize, long timeToLive, LongSupplier clock) {
+		if ( maximumSize > MAXIMUM_SIZE ) {
+			throw new CacheException(
+					"The maximum size of an off-heap storage is " + MAXIMUM_SIZE + " bytes, but "
+							+ maximumSize + " bytes were requested"
+			);
+		}
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+
+		int segmentCount = Integer.highestOneBit( Math.min( MAXIMUM_SEGMENTS, Runtime.getRuntime().availableProcessors() * 2 ) );
+		while ( segmentCount > 1 && maximumSize / segmentCount < MINIMUM_SEGMENT_CAPACITY ) {
+			segmentCount >>>= 1;
+		}
+		// a segment holds at most MAXIMUM_SEGMENT_CAPACITY bytes, larger storages need more segments
+		final long requiredSegmentCount = ( maximumSize + MAXIMUM_SEGMENT_CAPACITY - 1 ) / MAXIMUM_SEGMENT_CAPACITY;
+		while ( segmentCount < requiredSegmentCount ) {
+			segmentCount <<= 1;
+		}
+		final int segmentCapacity = (int) Math.min(
+				MAXIMUM_SEGMENT_CAPACITY,
+				Math.max( MINIMUM_SEGMENT_CAPACITY, maximumSize / segmentCount )
+		);
+
+		this.segments = new Segment[ segmentCount ];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( segmentCapacity );
+		}
+	}
+
+	/**
+	 * The number of bytes the storage can hold once all its segments are allocated, at
+	 * least its maximum size when that is not smaller than the minimum size of a segment
+	 */
+	public long getCapacity() {
+		long capacity = 0;
+		for ( Segment segment : segments ) {
+			capacity += segment.capacity;
+		}
+		return capacity;
+	}
+
+	@Override
+	public long getElementCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.count;
+		}
+		return count;
+	}
+
+	@Override
+	public long getEstimatedSize() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.size;
+		}
+		return size;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final int hash = hash( key );
+		final Segment segment = segmentFor( hash );
+		final byte[] keyBytes = serialize( key );
+
+		final byte[] value;
+		final byte valueKind;
+		segment.lock.lock();
+		try {
+			final int slot = segment.find( keyBytes, hash );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final int offset = segment.offsetAt( slot );
+			if ( segment.isExpired( offset, clock.getAsLong() ) ) {
+				segment.remove( slot );
+				return null;
+			}
+			valueKind = segment.arena.get( offset + VALUE_KIND_OFFSET );
+			value = segment.readValue( offset );
+		}
+		finally {
+			segment.lock.unlock();
+		}
+
+		// decode outside of the lock
+		return valueKind == BYTE_ARRAY_VALUE ? value : SerializationHelper.deserialize( value );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final int hash = hash( key );
+		final Segment segment = segmentFor( hash );
+
+		final byte[] keyBytes = serialize( key );
+		final byte[] valueBytes;
+		final byte valueKind;
+		if ( value instanceof byte[] ) {
+			valueBytes = (byte[]) value;
+			valueKind = BYTE_ARRAY_VALUE;
+		}
+		else {
+			valueBytes = serialize( value );
+			valueKind = SERIALIZED_VALUE;
+		}
+		final long expiration = timeToLive > 0 ? clock.getAsLong() + timeToLive : Long.MAX_VALUE;
+
+		segment.lock.lock();
+		try {
+			final int slot = segment.find( keyBytes, hash );
+			if ( slot >= 0 ) {
+				segment.remove( slot );
+			}
+			segment.append( hash, expiration, keyBytes, valueKind, valueBytes );
+		}
+		finally {
+			segment.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final int hash = hash( key );
+		final Segment segment = segmentFor( hash );
+		final byte[] keyBytes = serialize( key );
+		segment.lock.lock();
+		try {
+			final int slot = segment.find( keyBytes, hash );
+			return slot >= 0 && !segment.isExpired( segment.offsetAt( slot ), clock.getAsLong() );
+		}
+		finally {
+			segment.lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		for ( Segment segment : segments ) {
+			segment.lock.lock();
+			try {
+				segment.clear();
+			}
+			finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final int hash = hash( key );
+		final Segment segment = segmentFor( hash );
+		final byte[] keyBytes = serialize( key );
+		segment.lock.lock();
+		try {
+			final int slot = segment.find( keyBytes, hash );
+			if ( slot >= 0 ) {
+				segment.remove( slot );
+			}
+		}
+		finally {
+			segment.lock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.lock.lock();
+			try {
+				segment.clear();
+				// let the direct buffer be garbage collected
+				segment.arena = null;
+			}
+			finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+
+	private Segment segmentFor(int hash) {
+		// the index uses the low bits of the hash
+		return segments[ ( hash >>> 24 ) & ( segments.length - 1 ) ];
+	}
+
+	private static byte[] serialize(Object object) {
+		return SerializationHelper.serialize( (Serializable) object );
+	}
+
+	private static int hash(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) * 0x9E3779B9;
+	}
+
+	/**
+	 * A part of the storage, appending its records to a circular arena.  The records
+	 * are held in {@code [head, tail)}, or in {@code [head, limit)} followed by
+	 * {@code [0, tail)} once the arena has wrapped around.  Records replaced or removed
+	 * stay in the arena until the head passes them; only the records referenced by the
+	 * index are live.
+	 * <p/>
+	 * A record consists of its length, the hash and serialized form of its key, its
+	 * expiration, and its value.  Keys are compared by their serialized forms.  Each slot of the index holds the hash of a key in its
+	 * high bits, and the offset of the record plus one in its low bits.
+	 */
+	private static class Segment {
+		private static final int INITIAL_INDEX_CAPACITY = 64;
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final int capacity;
+
+		private ByteBuffer arena;
+		private int head;
+		private int tail;
+		private int limit;
+		private boolean wrapped;
+
+		private long[] index = new long[ INITIAL_INDEX_CAPACITY ];
+
+		// read without the lock for statistics
+		private volatile int count;
+		private volatile long size;
+
+		private Segment(int capacity) {
+			this.capacity = capacity;
+		}
+
+		private int offsetAt(int slot) {
+			return (int) index[slot] - 1;
+		}
+
+		private boolean isExpired(int offset, long now) {
+			return now >= arena.getLong( offset + EXPIRATION_OFFSET );
+		}
+
+		private int find(byte[] key, int hash) {
+			if ( count == 0 ) {
+				return -1;
+			}
+			final int mask = index.length - 1;
+			for ( int slot = hash & mask; index[slot] != 0; slot = ( slot + 1 ) & mask ) {
+				if ( (int) ( index[slot] >>> 32 ) == hash && keyEquals( offsetAt( slot ), key ) ) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		private int findRecord(int offset, int hash) {
+			final int mask = index.length - 1;
+			for ( int slot = hash & mask; index[slot] != 0; slot = ( slot + 1 ) & mask ) {
+				if ( offsetAt( slot ) == offset ) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		private boolean keyEquals(int offset, byte[] key) {
+			if ( arena.getInt( offset + KEY_LENGTH_OFFSET ) != key.length ) {
+				return false;
+			}
+			final int start = offset + RECORD_HEADER_SIZE;
+			for ( int i = 0; i < key.length; i++ ) {
+				if ( arena.get( start + i ) != key[i] ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private byte[] readValue(int offset) {
+			final int keyLength = arena.getInt( offset + KEY_LENGTH_OFFSET );
+			final byte[] value = new byte[ arena.getInt( offset ) - RECORD_HEADER_SIZE - keyLength ];
+			arena.position( offset + RECORD_HEADER_SIZE + keyLength );
+			arena.get( value );
+			return value;
+		}
+
+		private void append(int hash, long expiration, byte[] key, byte valueKind, byte[] value) {
+			final long length = (long) RECORD_HEADER_SIZE + key.length + value.length;
+			if ( length > capacity ) {
+				// too large to be cached
+				return;
+			}
+			if ( arena == null ) {
+				try {
+					arena = ByteBuffer.allocateDirect( capacity );
+				}
+				catch (OutOfMemoryError e) {
+					// the direct memory is exhausted, caching is not worth failing for
+					LOG.warnf(
+							"Unable to allocate %s bytes of direct memory for an off-heap cache segment; the entry is not cached : %s",
+							capacity,
+							e.getMessage()
+					);
+					return;
+				}
+			}
+
+			final int offset = reserve( (int) length );
+			arena.putInt( offset, (int) length );
+			arena.putInt( offset + HASH_OFFSET, hash );
+			arena.putLong( offset + EXPIRATION_OFFSET, expiration );
+			arena.putInt( offset + KEY_LENGTH_OFFSET, key.length );
+			arena.put( offset + VALUE_KIND_OFFSET, valueKind );
+			arena.position( offset + RECORD_HEADER_SIZE );
+			arena.put( key );
+			arena.put( value );
+
+			insert( hash, offset );
+			count++;
+			size += length;
+		}
+
+		/**
+		 * Make room for a record of the given length, evicting the oldest records as needed
+		 *
+		 * @return The offset at which to write the record
+		 */
+		private int reserve(int length) {
+			while ( true ) {
+				if ( !wrapped ) {
+					if ( head == tail ) {
+						// empty
+						head = 0;
+						tail = 0;
+					}
+					if ( capacity - tail >= length ) {
+						break;
+					}
+					limit = tail;
+					tail = 0;
+					wrapped = true;
+				}
+				else if ( head - tail >= length ) {
+					break;
+				}
+				else {
+					evictHead();
+				}
+			}
+
+			final int offset = tail;
+			tail += length;
+			return offset;
+		}
+
+		private void evictHead() {
+			final int length = arena.getInt( head );
+			final int slot = findRecord( head, arena.getInt( head + HASH_OFFSET ) );
+			if ( slot >= 0 ) {
+				remove( slot );
+			}
+
+			head += length;
+			if ( head == limit ) {
+				head = 0;
+				wrapped = false;
+			}
+		}
+
+		private void insert(int hash, int offset) {
+			if ( ( count + 1 ) * 4 > index.length * 3 ) {
+				resizeIndex();
+			}
+			final int mask = index.length - 1;
+			int slot = hash & mask;
+			while ( index[slot] != 0 ) {
+				slot = ( slot + 1 ) & mask;
+			}
+			index[slot] = ( (long) hash << 32 ) | ( offset + 1 );
+		}
+
+		private void resizeIndex() {
+			final long[] previous = index;
+			index = new long[ previous.length * 2 ];
+			final int mask = index.length - 1;
+			for ( long entry : previous ) {
+				if ( entry != 0 ) {
+					int slot = (int) ( entry >>> 32 ) & mask;
+					while ( index[slot] != 0 ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					index[slot] = entry;
+				}
+			}
+		}
+
+		private void remove(int slot) {
+			count--;
+			size -= arena.getInt( offsetAt( slot ) );
+
+			// shift back the following entries which would not be found anymore
+			final int mask = index.length - 1;
+			int free = slot;
+			int next = slot;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( index[next] == 0 ) {
+					break;
+				}
+				final int home = (int) ( index[next] >>> 32 ) & mask;
+				final boolean reachable = free <= next
+						? free < home && home <= next
+						: free < home || home <= next;
+				if ( !reachable ) {
+					index[free] = index[next];
+					free = next;
+				}
+			}
+			index[free] = 0;
+		}
+
+		private void clear() {
+			index = new long[ INITIAL_INDEX_CAPACITY ];
+			head = 0;
+			tail = 0;
+			limit = 0;
+			wrapped = false;
+			count = 0;
+			size = 0;
+		}
+	}
+}
@@ -12,17 +12,18 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
-import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
  * The standard implementation of the Hibernate QueryCache interface.  Works
- * hind-in-hand with {@link TimestampsCache} to help in recognizing
+ * hind-in-hand with a {@link QueryCacheInvalidationStrategy} (the
+ * {@link org.hibernate.cache.spi.TimestampsCache}) to help in recognizing
  * stale query results.
  *
  * @author Gavin King
@@ -34,14 +35,16 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	private static final boolean DEBUGGING = LOG.isDebugEnabled();
 	private static final boolean TRACING = LOG.isTraceEnabled();
 
+	private static final String[] NO_SPACES = new String[0];
+
 	private final QueryResultsRegion cacheRegion;
-	private final TimestampsCache timestampsCache;
+	private final QueryCacheInvalidationStrategy invalidationStrategy;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			QueryCacheInvalidationStrategy invalidationStrategy) {
 		this.cacheRegion = cacheRegion;
-		this.timestampsCache = timestampsCache;
+		this.invalidationStrategy = invalidationStrategy;
 	}
 
 	@Override
@@ -49,18 +52,28 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return cacheRegion;
 	}
 
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List results,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		// the query spaces are unknown here; a marker for no spaces is the best we can do
+		return put( key, results, invalidationStrategy.getValidityMarker( NO_SPACES, session ), session );
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	public boolean put(
 			final QueryKey key,
 			final List results,
+			final Serializable validityMarker,
 			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( DEBUGGING ) {
-			LOG.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), session.getTransactionStartTimestamp() );
+			LOG.debugf( "Caching query results in region: %s; validity marker=%s", cacheRegion.getName(), validityMarker );
 		}
 
 		final CacheItem cacheItem = new CacheItem(
-				session.getTransactionStartTimestamp(),
+				validityMarker,
 				deepCopy( results )
 		);
 
@@ -80,35 +93,11 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	public List get(
 			final QueryKey key,
 			final Set<String> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		if ( DEBUGGING ) {
-			LOG.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
-		}
-
-		final CacheItem cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( DEBUGGING ) {
-				LOG.debug( "Query results were not found in cache" );
-			}
-			return null;
-		}
-
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
-			if ( DEBUGGING ) {
-				LOG.debug( "Cached query results were not up-to-date" );
-			}
-			return null;
-		}
-
-		if ( DEBUGGING ) {
-			LOG.debug( "Returning cached query results" );
-		}
-
-		return deepCopy( cacheItem.results );
+		return get( key, spaces.toArray( new String[ spaces.size() ] ), session );
 	}
 
 	@Override
@@ -129,7 +118,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !invalidationStrategy.isValid( spaces, cacheItem.validityMarker, session ) ) {
 			if ( DEBUGGING ) {
 				LOG.debug( "Cached query results were not up-to-date" );
 			}
@@ -161,12 +150,16 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	public static class CacheItem implements Serializable {
-		private final long timestamp;
+		private final Serializable validityMarker;
 		private final List results;
 
-		CacheItem(long timestamp, List results) {
-			this.timestamp = timestamp;
+		CacheItem(Serializable validityMarker, List results) {
+			this.validityMarker = validityMarker;
 			this.results = results;
 		}
+
+		List getResults() {
+			return results;
+		}
 	}
 }
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * TimestampsCache implementation keeping a version per query space rather than
+ * its last update timestamp.
+ * <p/>
+ * Each (pre-)invalidation assigns a new, unique version to the space; the
+ * validity marker of cached query results is the map of versions of its spaces
+ * as captured before executing the query, and the results are valid as long as
+ * none of these versions changed.  A pre-invalidated space is "locked" until
+ * its invalidation: results captured while it is locked are never valid.
+ * <p/>
+ * The versions of all the spaces of a query are read using a single
+ * {@link TimestampsRegion#getAllFromCache multi-get}, which on remote or
+ * clustered caches turns one round-trip per space into one per query.
+ */
+public class VersionCounterTimestampsCacheImpl implements TimestampsCache {
+	private static final Logger log = Logger.getLogger( VersionCounterTimestampsCacheImpl.class );
+	private static final boolean DEBUG_ENABLED = log.isDebugEnabled();
+
+	private final TimestampsRegion timestampsRegion;
+
+	public VersionCounterTimestampsCacheImpl(TimestampsRegion timestampsRegion) {
+		this.timestampsRegion = timestampsRegion;
+	}
+
+	@Override
+	public TimestampsRegion getRegion() {
+		return timestampsRegion;
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		// negative versions mark the space as being changed by an in-flight transaction
+		putVersion( spaces, -nextVersion( session ), session );
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		putVersion( spaces, nextVersion( session ), session );
+	}
+
+	private static long nextVersion(SharedSessionContractImplementor session) {
+		// unique across concurrent invalidations, unlike an incremented counter
+		// which would require an atomic read-increment-write against the region
+		return session.getFactory().getCache().getRegionFactory().nextTimestamp();
+	}
+
+	private void putVersion(String[] spaces, Long version, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+
+		for ( String space : spaces ) {
+			if ( DEBUG_ENABLED ) {
+				log.debugf( "Setting version of space [%s] : %s", space, version );
+			}
+
+			try {
+				session.getEventListenerManager().cachePutStart();
+				timestampsRegion.putIntoCache( space, version, session );
+			}
+			finally {
+				session.getEventListenerManager().cachePutEnd();
+			}
+
+			if ( stats ) {
+				factory.getStatistics().updateTimestampsCachePut();
+			}
+		}
+	}
+
+	@Override
+	public Serializable getValidityMarker(String[] spaces, SharedSessionContractImplementor session) {
+		return new HashMap<>( getVersions( spaces, session ) );
+	}
+
+	@Override
+	public boolean isValid(String[] spaces, Serializable validityMarker, SharedSessionContractImplementor session) {
+		if ( !( validityMarker instanceof Map ) ) {
+			return false;
+		}
+
+		final Map<?,?> cachedVersions = (Map<?,?>) validityMarker;
+		final Map<Object,Object> currentVersions = getVersions( spaces, session );
+
+		for ( String space : spaces ) {
+			final Object cachedVersion = cachedVersions.get( space );
+			if ( cachedVersion != null && (Long) cachedVersion < 0 ) {
+				// the results were produced while the space was being changed
+				return false;
+			}
+
+			final Object currentVersion = currentVersions.get( space );
+			if ( !Objects.equals( cachedVersion, currentVersion ) ) {
+				if ( DEBUG_ENABLED ) {
+					log.debugf(
+							"Version of space [%s] changed since the results were cached : %s -> %s",
+							space,
+							cachedVersion,
+							currentVersion
+					);
+				}
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private Map<Object,Object> getVersions(String[] spaces, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+
+		Map<Object,Object> versions = null;
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			versions = timestampsRegion.getAllFromCache( Arrays.asList( spaces ), session );
+		}
+		finally {
+			session.getEventListenerManager().cacheGetEnd( versions != null && !versions.isEmpty() );
+		}
+
+		if ( stats ) {
+			for ( String space : spaces ) {
+				if ( versions.containsKey( space ) ) {
+					factory.getStatistics().updateTimestampsCacheHit();
+				}
+				else {
+					// never changed since startup, or evicted from the region
+					factory.getStatistics().updateTimestampsCacheMiss();
+				}
+			}
+		}
+
+		return versions;
+	}
+
+	@Override
+	public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+		// there are no timestamps to compare with; results cached using a
+		// timestamp rather than a version marker are considered stale
+		return false;
+	}
+}
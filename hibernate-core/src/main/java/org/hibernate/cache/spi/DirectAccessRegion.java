@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,26 @@ public interface DirectAccessRegion extends Region {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values for all of the given keys at once.  Keys without a cached
+	 * value are not contained in the returned Map.
+	 * <p/>
+	 * By default this performs a {@link #getFromCache} per key; regions over
+	 * remote/clustered caches should override this to use a single round-trip.
+	 *
+	 * @since 6.0
+	 */
+	default Map<Object,Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object,Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put a value by key
 	 */
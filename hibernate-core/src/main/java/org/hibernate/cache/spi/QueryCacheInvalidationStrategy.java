@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Strategy for recognizing stale query results in regards to changes made
+ * to the query spaces (tables) those results depend upon.
+ * <p/>
+ * A validity marker is captured for the query spaces <b>before</b> the query
+ * is executed and stored along with the results when they are cached.  Upon
+ * subsequent reads {@link #isValid} decides, based on that marker, whether
+ * the cached results can still be used.
+ *
+ * @see TimestampsCache
+ */
+@Incubating
+public interface QueryCacheInvalidationStrategy {
+	/**
+	 * Signal that the passed spaces (table names) are about to be changed
+	 */
+	void preInvalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Signal that the passed spaces (table names) have been changed
+	 */
+	void invalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Capture the state of the given spaces, to be stored along with query
+	 * results depending on them.  Must be called before the query is executed.
+	 *
+	 * @param spaces The query spaces the results depend upon
+	 * @param session The session executing the query
+	 *
+	 * @return The validity marker
+	 */
+	Serializable getValidityMarker(
+			String[] spaces,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Are query results cached with the given validity marker still valid
+	 * in regards to the given spaces?
+	 *
+	 * @param spaces The query spaces the results depend upon
+	 * @param validityMarker The marker stored along with the cached results
+	 * @param session The session whether this check originated
+	 *
+	 * @return {@code true} if the cached results can be used
+	 */
+	boolean isValid(
+			String[] spaces,
+			Serializable validityMarker,
+			SharedSessionContractImplementor session);
+}
@@ -53,6 +53,27 @@ public interface QueryResultsCache {
 			List result,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Put a result into the query cache.
+	 *
+	 * @param key The cache key
+	 * @param result The results to cache
+	 * @param validityMarker The validity marker of the query spaces, as captured by the
+	 * {@link QueryCacheInvalidationStrategy} before executing the query
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 */
+	default boolean put(
+			QueryKey key,
+			List result,
+			Serializable validityMarker,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, session );
+	}
+
 	/**
 	 * Get results from the cache.
 	 *
@@ -14,11 +14,15 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
- * Wrapper for a {@link TimestampsRegion} adding handling of stale results
+ * Wrapper for a {@link TimestampsRegion} adding handling of stale results.
+ * <p/>
+ * The standard implementation compares the last update timestamp of each
+ * query space with the start timestamp of the transaction which cached the
+ * results; that timestamp being the {@link #getValidityMarker validity marker}.
  *
  * @author Steve Ebersole
  */
-public interface TimestampsCache extends UpdateTimestampsCache {
+public interface TimestampsCache extends UpdateTimestampsCache, QueryCacheInvalidationStrategy {
 	/**
 	 * The region used to store all timestamps data
 	 */
@@ -28,6 +32,7 @@ public interface TimestampsCache extends UpdateTimestampsCache {
 	 * Perform pre-invalidation of the passed spaces (table names)
 	 * against the timestamps region data
 	 */
+	@Override
 	void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session);
@@ -36,6 +41,7 @@ public interface TimestampsCache extends UpdateTimestampsCache {
 	 * Perform invalidation of the passed spaces (table names)
 	 * against the timestamps region data
 	 */
+	@Override
 	void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session);
@@ -55,6 +61,21 @@ public interface TimestampsCache extends UpdateTimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	@Override
+	default Serializable getValidityMarker(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		return session.getTransactionStartTimestamp();
+	}
+
+	@Override
+	default boolean isValid(
+			String[] spaces,
+			Serializable validityMarker,
+			SharedSessionContractImplementor session) {
+		return validityMarker instanceof Long && isUpToDate( spaces, (Long) validityMarker, session );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Deprecations
@@ -7,6 +7,9 @@
 package org.hibernate.cache.spi.access;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import javax.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -58,6 +61,31 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects cached under the given keys, as {@link #get}
+	 * does for a single key.  Keys for which no object could be retrieved are not
+	 * contained in the returned Map.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data by key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 6.0
+	 */
+	default Map<Object,Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object,Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = get( session, key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -0,0 +1,768 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.StateArrayContributor;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Compact CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * as a single {@code byte[]}, which costs a fraction of the heap of the disassembled state and
+ * needs no further serialization by providers storing entries by value.
+ * <p/>
+ * The values are encoded following a schema derived from the Java types of the entity's
+ * attributes, so that a value of the attribute's type is written without any type information.
+ * Only null values and values of another type (identifiers of associations, embeddable
+ * state, ...) are preceded by a tag naming their encoding; types without a compact encoding
+ * are written using Java serialization.  Integral numbers are written as variable-length
+ * integers, and repeated strings are written once per entry.
+ * <p/>
+ * The disassembled state is only decoded when requested from the {@link CacheEntry}
+ * returned by {@link #destructure}.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final int NULL_TAG = 0;
+	private static final int UNFETCHED_TAG = 1;
+	private static final int UNKNOWN_TAG = 2;
+	private static final int SERIALIZED_TAG = 3;
+	private static final int ENUM_TAG = 4;
+	private static final int FIRST_STANDARD_TAG = 8;
+
+	private static final StandardCodec[] STANDARD_CODECS_BY_TAG = StandardCodec.values();
+	private static final Map<Class,StandardCodec> STANDARD_CODECS = new HashMap<>();
+
+	static {
+		for ( StandardCodec codec : STANDARD_CODECS_BY_TAG ) {
+			STANDARD_CODECS.put( codec.javaType, codec );
+		}
+		STANDARD_CODECS.put( boolean.class, StandardCodec.BOOLEAN );
+		STANDARD_CODECS.put( byte.class, StandardCodec.BYTE );
+		STANDARD_CODECS.put( short.class, StandardCodec.SHORT );
+		STANDARD_CODECS.put( int.class, StandardCodec.INTEGER );
+		STANDARD_CODECS.put( long.class, StandardCodec.LONG );
+		STANDARD_CODECS.put( float.class, StandardCodec.FLOAT );
+		STANDARD_CODECS.put( double.class, StandardCodec.DOUBLE );
+		STANDARD_CODECS.put( char.class, StandardCodec.CHARACTER );
+	}
+
+	private final EntityTypeDescriptor descriptor;
+
+	// built on first use, as the state array contributors are not known while the descriptor is created
+	private volatile ValueCodec[] schema;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param descriptor The descriptor whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityTypeDescriptor descriptor) {
+		this.descriptor = descriptor;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		if ( entry == null || entry.isReferenceEntry() ) {
+			return entry;
+		}
+
+		final ValueCodec[] subclassSchema = resolveSchema( entry.getSubclass(), descriptor.getFactory() );
+		final Serializable[] state = entry.getDisassembledState();
+
+		final Writer writer = new Writer( 16 + state.length * 8 );
+		writer.writeString( entry.getSubclass() );
+		writer.writeTagged( entry.getVersion() );
+
+		// a bit for each value which is not written following the schema
+		writer.writeVarLong( state.length );
+		final int bitmapPosition = writer.reserve( ( state.length + 7 ) >>> 3 );
+		for ( int i = 0; i < state.length; i++ ) {
+			final ValueCodec codec = i < subclassSchema.length ? subclassSchema[i] : null;
+			if ( codec != null && state[i] != null && codec.handles( state[i] ) ) {
+				codec.write( state[i], writer );
+			}
+			else {
+				writer.buffer[ bitmapPosition + ( i >>> 3 ) ] |= (byte) ( 1 << ( i & 7 ) );
+				writer.writeTagged( state[i] );
+			}
+		}
+
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( structured == null || structured instanceof CacheEntry ) {
+			// reference entries are not encoded
+			return structured;
+		}
+
+		final Reader reader = new Reader( (byte[]) structured );
+		final String subclass = reader.readString();
+		final Object version = reader.readTagged();
+		return new CompactStandardCacheEntry(
+				subclass,
+				version,
+				reader,
+				resolveSchema( subclass, factory )
+		);
+	}
+
+	private ValueCodec[] resolveSchema(String subclass, SessionFactoryImplementor factory) {
+		if ( descriptor.getEntityName().equals( subclass ) ) {
+			return getSchema();
+		}
+
+		final EntityTypeDescriptor subclassDescriptor = factory.getMetamodel().getEntityDescriptor( subclass );
+		final CacheEntryStructure subclassStructure = subclassDescriptor.getCacheEntryStructure();
+		if ( subclassStructure instanceof CompactCacheEntry ) {
+			return ( (CompactCacheEntry) subclassStructure ).getSchema();
+		}
+		return new CompactCacheEntry( subclassDescriptor ).getSchema();
+	}
+
+	private ValueCodec[] getSchema() {
+		ValueCodec[] schema = this.schema;
+		if ( schema == null ) {
+			final List<StateArrayContributor<?>> contributors = descriptor.getStateArrayContributors();
+			schema = new ValueCodec[ contributors.size() ];
+			for ( StateArrayContributor<?> contributor : contributors ) {
+				schema[ contributor.getStateArrayPosition() ] = resolveCodec( contributor.getJavaType() );
+			}
+			this.schema = schema;
+		}
+		return schema;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ValueCodec resolveCodec(Class javaType) {
+		if ( javaType == null ) {
+			return null;
+		}
+		if ( javaType.isEnum() ) {
+			return new EnumCodec( javaType );
+		}
+		return STANDARD_CODECS.get( javaType );
+	}
+
+	/**
+	 * The CacheEntry returned for a compact entry, decoding the disassembled state once
+	 * it is first requested
+	 */
+	private static class CompactStandardCacheEntry extends StandardCacheEntryImpl {
+		private Reader reader;
+		private ValueCodec[] schema;
+		private Serializable[] disassembledState;
+
+		private CompactStandardCacheEntry(String subclass, Object version, Reader reader, ValueCodec[] schema) {
+			super( null, subclass, version );
+			this.reader = reader;
+			this.schema = schema;
+		}
+
+		@Override
+		public Serializable[] getDisassembledState() {
+			if ( disassembledState == null ) {
+				disassembledState = decodeState();
+				reader = null;
+				schema = null;
+			}
+			return disassembledState;
+		}
+
+		private Serializable[] decodeState() {
+			final Serializable[] state = new Serializable[ (int) reader.readVarLong() ];
+			final int bitmapPosition = reader.skip( ( state.length + 7 ) >>> 3 );
+			for ( int i = 0; i < state.length; i++ ) {
+				final boolean tagged = ( reader.buffer[ bitmapPosition + ( i >>> 3 ) ] & ( 1 << ( i & 7 ) ) ) != 0;
+				if ( tagged ) {
+					state[i] = (Serializable) reader.readTagged();
+				}
+				else if ( i < schema.length && schema[i] != null ) {
+					state[i] = (Serializable) schema[i].read( reader );
+				}
+				else {
+					throw new CacheException( "Compact cache entry does not match the schema of " + getSubclass() );
+				}
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * Encodes values of a certain type
+	 */
+	private interface ValueCodec {
+		boolean handles(Object value);
+
+		void write(Object value, Writer writer);
+
+		Object read(Reader reader);
+	}
+
+	/**
+	 * Encodes the constants of the schema's enum types by their ordinal
+	 */
+	private static class EnumCodec implements ValueCodec {
+		private final Class<? extends Enum> enumClass;
+		private final Enum[] constants;
+
+		private EnumCodec(Class<? extends Enum> enumClass) {
+			this.enumClass = enumClass;
+			this.constants = enumClass.getEnumConstants();
+		}
+
+		@Override
+		public boolean handles(Object value) {
+			return value instanceof Enum && ( (Enum) value ).getDeclaringClass() == enumClass;
+		}
+
+		@Override
+		public void write(Object value, Writer writer) {
+			writer.writeVarLong( ( (Enum) value ).ordinal() );
+		}
+
+		@Override
+		public Object read(Reader reader) {
+			return constants[ (int) reader.readVarLong() ];
+		}
+	}
+
+	/**
+	 * The types having a compact encoding.  The position of a codec is part of the
+	 * encoded entries, so codecs must only be added at the end.
+	 */
+	private enum StandardCodec implements ValueCodec {
+		BOOLEAN( Boolean.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeByte( (Boolean) value ? 1 : 0 );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return reader.readByte() != 0;
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeByte( (Byte) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return (byte) reader.readByte();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( (Short) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return (short) reader.readSignedVarLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( (Integer) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return (int) reader.readSignedVarLong();
+			}
+		},
+		LONG( Long.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( (Long) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return reader.readSignedVarLong();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeFixed( Float.floatToIntBits( (Float) value ), 4 );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return Float.intBitsToFloat( (int) reader.readFixed( 4 ) );
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeFixed( Double.doubleToLongBits( (Double) value ), 8 );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return Double.longBitsToDouble( reader.readFixed( 8 ) );
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeVarLong( (Character) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return (char) reader.readVarLong();
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeString( (String) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return reader.readString();
+			}
+		},
+		BIG_INTEGER( BigInteger.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return new BigInteger( reader.readBytes() );
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (BigDecimal) value ).scale() );
+				writer.writeBytes( ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final int scale = (int) reader.readSignedVarLong();
+				return new BigDecimal( new BigInteger( reader.readBytes() ), scale );
+			}
+		},
+		DATE( Date.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (Date) value ).getTime() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return new Date( reader.readSignedVarLong() );
+			}
+		},
+		SQL_DATE( java.sql.Date.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (java.sql.Date) value ).getTime() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return new java.sql.Date( reader.readSignedVarLong() );
+			}
+		},
+		SQL_TIME( java.sql.Time.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (java.sql.Time) value ).getTime() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return new java.sql.Time( reader.readSignedVarLong() );
+			}
+		},
+		SQL_TIMESTAMP( java.sql.Timestamp.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (java.sql.Timestamp) value ).getTime() );
+				writer.writeVarLong( ( (java.sql.Timestamp) value ).getNanos() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( reader.readSignedVarLong() );
+				timestamp.setNanos( (int) reader.readVarLong() );
+				return timestamp;
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (Instant) value ).getEpochSecond() );
+				writer.writeVarLong( ( (Instant) value ).getNano() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final long seconds = reader.readSignedVarLong();
+				return Instant.ofEpochSecond( seconds, reader.readVarLong() );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return LocalDate.ofEpochDay( reader.readSignedVarLong() );
+			}
+		},
+		LOCAL_TIME( LocalTime.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return LocalTime.ofNanoOfDay( reader.readVarLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeSignedVarLong( ( (LocalDateTime) value ).toLocalDate().toEpochDay() );
+				writer.writeVarLong( ( (LocalDateTime) value ).toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final LocalDate date = LocalDate.ofEpochDay( reader.readSignedVarLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( reader.readVarLong() ) );
+			}
+		},
+		UUID_VALUE( UUID.class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeFixed( ( (UUID) value ).getMostSignificantBits(), 8 );
+				writer.writeFixed( ( (UUID) value ).getLeastSignificantBits(), 8 );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final long mostSignificantBits = reader.readFixed( 8 );
+				return new UUID( mostSignificantBits, reader.readFixed( 8 ) );
+			}
+		},
+		BYTE_ARRAY( byte[].class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeBytes( (byte[]) value );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return reader.readBytes();
+			}
+		},
+		CHAR_ARRAY( char[].class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				writer.writeString( new String( (char[]) value ) );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				return reader.readString().toCharArray();
+			}
+		},
+		// the disassembled state of embeddables
+		SERIALIZABLE_ARRAY( Serializable[].class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				final Object[] values = (Object[]) value;
+				writer.writeVarLong( values.length );
+				for ( Object element : values ) {
+					writer.writeTagged( element );
+				}
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final Serializable[] values = new Serializable[ (int) reader.readVarLong() ];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = (Serializable) reader.readTagged();
+				}
+				return values;
+			}
+		},
+		OBJECT_ARRAY( Object[].class ) {
+			@Override
+			public void write(Object value, Writer writer) {
+				SERIALIZABLE_ARRAY.write( value, writer );
+			}
+
+			@Override
+			public Object read(Reader reader) {
+				final Object[] values = new Object[ (int) reader.readVarLong() ];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = reader.readTagged();
+				}
+				return values;
+			}
+		};
+
+		private final Class javaType;
+
+		StandardCodec(Class javaType) {
+			this.javaType = javaType;
+		}
+
+		@Override
+		public boolean handles(Object value) {
+			return value.getClass() == javaType;
+		}
+	}
+
+	private static class Writer {
+		private byte[] buffer;
+		private int position;
+		private Map<String,Integer> strings;
+
+		private Writer(int initialCapacity) {
+			this.buffer = new byte[ initialCapacity ];
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+
+		private int reserve(int length) {
+			ensureCapacity( length );
+			final int reserved = position;
+			position += length;
+			return reserved;
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[ position++ ] = (byte) value;
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[ position++ ] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[ position++ ] = (byte) value;
+		}
+
+		private void writeSignedVarLong(long value) {
+			// zig-zag encoding, so that small negative numbers are small too
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixed(long value, int length) {
+			ensureCapacity( length );
+			for ( int i = length - 1; i >= 0; i-- ) {
+				buffer[ position++ ] = (byte) ( value >>> ( i << 3 ) );
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarLong( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private void writeString(String value) {
+			if ( strings == null ) {
+				strings = new HashMap<>();
+			}
+			final Integer index = strings.get( value );
+			if ( index != null ) {
+				// an odd number refers to a string written before
+				writeVarLong( ( (long) index << 1 ) | 1 );
+			}
+			else {
+				strings.put( value, strings.size() );
+				final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+				writeVarLong( (long) bytes.length << 1 );
+				ensureCapacity( bytes.length );
+				System.arraycopy( bytes, 0, buffer, position, bytes.length );
+				position += bytes.length;
+			}
+		}
+
+		private void writeTagged(Object value) {
+			if ( value == null ) {
+				writeByte( NULL_TAG );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				writeByte( UNFETCHED_TAG );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				writeByte( UNKNOWN_TAG );
+			}
+			else if ( value instanceof Enum ) {
+				writeByte( ENUM_TAG );
+				writeString( ( (Enum) value ).getDeclaringClass().getName() );
+				writeVarLong( ( (Enum) value ).ordinal() );
+			}
+			else {
+				final StandardCodec codec = STANDARD_CODECS.get( value.getClass() );
+				if ( codec != null ) {
+					writeByte( FIRST_STANDARD_TAG + codec.ordinal() );
+					codec.write( value, this );
+				}
+				else {
+					writeByte( SERIALIZED_TAG );
+					writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static class Reader {
+		private final byte[] buffer;
+		private int position;
+		private List<String> strings;
+
+		private Reader(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private int skip(int length) {
+			final int skipped = position;
+			position += length;
+			return skipped;
+		}
+
+		private int readByte() {
+			return buffer[ position++ ];
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[ position++ ];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( b < 0 );
+			return value;
+		}
+
+		private long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readFixed(int length) {
+			long value = 0;
+			for ( int i = 0; i < length; i++ ) {
+				value = ( value << 8 ) | ( buffer[ position++ ] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = (int) readVarLong();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		private String readString() {
+			if ( strings == null ) {
+				strings = new ArrayList<>();
+			}
+			final long header = readVarLong();
+			if ( ( header & 1 ) != 0 ) {
+				return strings.get( (int) ( header >>> 1 ) );
+			}
+			final int length = (int) ( header >>> 1 );
+			final String value = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			strings.add( value );
+			return value;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object readTagged() {
+			final int tag = readByte() & 0xFF;
+			switch ( tag ) {
+				case NULL_TAG: {
+					return null;
+				}
+				case UNFETCHED_TAG: {
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				}
+				case UNKNOWN_TAG: {
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				}
+				case ENUM_TAG: {
+					final String enumClassName = readString();
+					final int ordinal = (int) readVarLong();
+					try {
+						return ReflectHelper.classForName( enumClassName ).getEnumConstants()[ordinal];
+					}
+					catch (ClassNotFoundException e) {
+						throw new CacheException( "Unable to resolve enum type of compact cache entry : " + enumClassName, e );
+					}
+				}
+				case SERIALIZED_TAG: {
+					return SerializationHelper.deserialize( readBytes() );
+				}
+				default: {
+					return STANDARD_CODECS_BY_TAG[ tag - FIRST_STANDARD_TAG ].read( this );
+				}
+			}
+		}
+	}
+}
@@ -128,7 +128,7 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		}
 
 		//assembled state gets put in a new array (we read from cache by value!)
-		Object[] state = TypeHelper.assemble( disassembledState, descriptor );
+		Object[] state = TypeHelper.assemble( getDisassembledState(), descriptor );
 
 		//descriptor.setIdentifier(instance, id); //before calling interceptor, for consistency with normal load
 
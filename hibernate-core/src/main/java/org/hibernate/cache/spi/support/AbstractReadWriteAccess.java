@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -29,17 +32,29 @@ import org.jboss.logging.Logger;
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 	private static final boolean DEBUG_ENABLED = log.isDebugEnabled();
+	private static final int MAX_LOCK_STRIPES = 256;
 
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] lockStripes;
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		this.lockStripes = new ReentrantReadWriteLock[ lockStripeCount() ];
+		for ( int i = 0; i < lockStripes.length; i++ ) {
+			lockStripes[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * The number of locks guarding the cached items, a power of two.  Items with
+	 * keys guarded by different locks can be accessed concurrently.
+	 */
+	private static int lockStripeCount() {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		return Math.min( MAX_LOCK_STRIPES, Integer.highestOneBit( Math.max( processors * 4 - 1, 1 ) ) << 1 );
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -57,12 +72,24 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
-	protected Lock readLock() {
-		return readLock;
+	/**
+	 * The lock guarding reads of the item cached under the given key
+	 */
+	protected Lock readLock(Object key) {
+		return lockStripe( key ).readLock();
+	}
+
+	/**
+	 * The lock guarding writes of the item cached under the given key
+	 */
+	protected Lock writeLock(Object key) {
+		return lockStripe( key ).writeLock();
 	}
 
-	protected Lock writeLock() {
-		return writeLock;
+	private ReentrantReadWriteLock lockStripe(Object key) {
+		final int hash = key.hashCode();
+		// spread the higher bits, as the stripe is selected by the lower ones
+		return lockStripes[ ( hash ^ ( hash >>> 16 ) ) & ( lockStripes.length - 1 ) ];
 	}
 
 	/**
@@ -73,7 +100,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	public Object get(SharedSessionContractImplementor session, Object key) {
 		log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		try {
-			readLock.lock();
+			readLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item == null ) {
@@ -92,8 +119,26 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			readLock.unlock();
+			readLock( key ).unlock();
+		}
+	}
+
+	@Override
+	public Map<Object,Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.size() );
+
+		// the locks are not needed here : a readable Item is never modified, and a
+		// SoftLockImpl is never readable whatever its state
+		final Map<Object,Object> items = getStorageAccess().getAllFromCache( keys, session );
+		final Map<Object,Object> values = new HashMap<>( items.size() );
+		for ( Map.Entry<Object,Object> entry : items.entrySet() ) {
+			final Lockable item = (Lockable) entry.getValue();
+			if ( item.isReadable( session.getTransactionStartTimestamp() ) ) {
+				values.put( entry.getKey(), item.getValue() );
+			}
 		}
+		log.debugf( "Cache hits : region = `%s`, hits = %s", getRegion().getName(), values.size() );
+		return values;
 	}
 
 	@Override
@@ -104,7 +149,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			Object version) {
 		try {
 			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
-			writeLock.lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			boolean writable = item == null || item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() );
@@ -128,7 +173,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -147,7 +192,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
 		try {
-			writeLock.lock();
+			writeLock( key ).lock();
 
 			long timeout = getRegion().getRegionFactory().nextTimestamp() + getRegion().getRegionFactory().getTimeout();
 			log.debugf( "Locking cache item [region=`%s` (%s)] : `%s` (timeout=%s, version=%s)", getRegion().getName(), getAccessType(), key, timeout, version );
@@ -160,7 +205,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return lock;
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -168,7 +213,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		try {
 			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
-			writeLock.lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( ( item != null ) && item.isUnlockable( lock ) ) {
@@ -179,7 +224,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
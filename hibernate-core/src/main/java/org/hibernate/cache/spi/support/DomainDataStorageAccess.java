@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +26,18 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Specialized form of putting several items into the cache in cases
+	 * where the puts are coming from a load (read) from the database
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 6.0
+	 */
+	default void putAllFromLoad(Map<?,?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?,?> item : items.entrySet() ) {
+			putFromLoad( item.getKey(), item.getValue(), session );
+		}
+	}
 }
@@ -82,7 +82,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
 		try {
-			writeLock().lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -97,7 +97,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -120,7 +120,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object previousVersion,
 			SoftLock lock) {
 		try {
-			writeLock().lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -144,7 +144,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
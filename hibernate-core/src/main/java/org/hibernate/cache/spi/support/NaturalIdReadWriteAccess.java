@@ -74,7 +74,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
 		try {
-			writeLock().lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -89,7 +89,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -101,7 +101,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 	@Override
 	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
 		try {
-			writeLock().lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -125,7 +125,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock( key ).unlock();
 		}
 	}
 }
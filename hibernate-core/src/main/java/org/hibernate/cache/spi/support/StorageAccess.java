@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,23 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items for all of the given keys.  Keys without a cached item are
+	 * not contained in the returned Map.
+	 *
+	 * @since 6.0
+	 */
+	default Map<Object,Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object,Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
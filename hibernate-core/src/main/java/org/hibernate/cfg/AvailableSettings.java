@@ -799,6 +799,27 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should a Session keep a JDBC batch open for each
+	 * {@link org.hibernate.engine.jdbc.batch.spi.BatchKey} rather than executing
+	 * the pending batch whenever a statement for another key is batched?  The
+	 * open batches are executed in an order respecting the dependencies between
+	 * them declared by their keys, so that interleaved statements for several
+	 * tables are batched without {@link #ORDER_INSERTS ordering the inserts}
+	 * first.  Batches whose keys do not declare their dependencies are assumed to
+	 * depend on each other, and are executed before a statement is added to an
+	 * earlier opened one.
+	 * <p/>
+	 * When enabled, and the {@link #STATEMENT_BATCH_SIZE batch size} is greater than
+	 * 1, entity inserts are batched, each table's batches depending on the batches
+	 * of the tables targeted by its foreign keys.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String KEYED_BATCHES = "hibernate.jdbc.keyed_batches";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -816,6 +837,110 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * Should flushes (including auto-flushes) only visit the entities of the
+	 * persistence context which may actually be dirty?  Entities enhanced for
+	 * inline dirty tracking, and their collections, register themselves as
+	 * candidates when they change; all other entities are always visited.
+	 * <p/>
+	 * Requires that enhanced entities were enhanced by this version of Hibernate.
+	 * Changes an Interceptor or CustomEntityDirtinessStrategy would report for an
+	 * unchanged enhanced entity are not detected.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String FLUSH_DIRTY_CANDIDATES_ONLY = "hibernate.flush.dirty_candidates_only";
+
+	/**
+	 * The number of entities a flush must visit before the dirty checking of
+	 * non-enhanced entities is spread across a ForkJoin pool dedicated to the
+	 * SessionFactory.  Reading the current state of those entities and comparing
+	 * it to their loaded state is then done in parallel, while scheduling the
+	 * resulting actions still happens on the flushing thread and in the usual
+	 * order.  Entities with to-one associations are always checked on the
+	 * flushing thread.
+	 * <p/>
+	 * With property access, the getters of these entities are called from the
+	 * pool's threads, so they must be free of side effects: they must not use
+	 * the Session, initialize lazy state or depend on thread-bound context.
+	 * <p/>
+	 * The state of all such entities is read at the start of the flush, so
+	 * changes an Interceptor or entity callback makes to <em>other</em> entities
+	 * during the flush are only seen by the next flush.
+	 * <p/>
+	 * Default is {@code 0}, meaning dirty checking is never done in parallel
+	 *
+	 * @since 6.0
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/**
+	 * Should an auto-flush (the flush performed before executing a query) only
+	 * dirty check the entities which may affect the tables the query uses?
+	 * Those are the entities mapped to one of these tables or owning a
+	 * collection mapped to one of them; cascades are still applied to all
+	 * entities.  Has no effect with {@link org.hibernate.FlushMode#ALWAYS}.
+	 * <p/>
+	 * Changes to other entities are flushed by the next full flush, and so are
+	 * not seen by the query if they would only reach its tables through a
+	 * trigger or similar.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String FLUSH_AUTO_QUERY_SPACES_ONLY = "hibernate.flush.auto.query_spaces_only";
+
+	/**
+	 * The maximum number of entities a Session should keep managed.  When
+	 * a load, query or other Session operation starts with more entities
+	 * managed, the least recently accessed entities which can safely be
+	 * detached are evicted until the number is 10% below the maximum.
+	 * <p/>
+	 * Only entities which are unchanged, not locked beyond
+	 * {@link org.hibernate.LockMode#READ}, not referenced by an action
+	 * pending until the next flush, not owning a changed collection and not
+	 * cascading evictions to associated entities are evicted.  So the
+	 * number of managed entities may still exceed the maximum, for example
+	 * if the application changes more entities than the maximum between
+	 * flushes.
+	 * <p/>
+	 * An evicted entity is <em>detached</em>, even though the application
+	 * may still hold a reference to it.  Changes later made to such an
+	 * instance are silently <em>not</em> flushed, and loading the same row
+	 * again returns a different instance.  Only use this setting when the
+	 * entities read by a Session are not modified after they were last
+	 * accessed through the Session, or re-attach them with
+	 * {@link org.hibernate.Session#merge} before changing them.
+	 * <p/>
+	 * Default is {@code 0}, meaning the number of managed entities is not
+	 * limited
+	 *
+	 * @since 6.0
+	 */
+	String MAX_MANAGED_ENTITIES = "hibernate.session.max_managed_entities";
+
+	/**
+	 * Should bytecode-enhanced entities tracking their own dirtiness keep only the
+	 * loaded values of the attributes changed since they were loaded or last
+	 * updated, instead of a copy of their whole loaded state?  The loaded values
+	 * are recorded by the enhanced entity before an attribute is first changed,
+	 * and the loaded state is derived from the entity when needed.
+	 * <p/>
+	 * Entities must be enhanced with dirty tracking.  Entities with lazy
+	 * attributes or embedded values, and entities using
+	 * {@link org.hibernate.annotations.OptimisticLockType#DIRTY} or
+	 * {@link org.hibernate.annotations.OptimisticLockType#ALL} optimistic
+	 * locking always keep a copy of their loaded state.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String SPARSE_LOADED_STATE = "hibernate.bytecode.sparse_loaded_state";
+
 	/**
 	 * Specifies how Hibernate should acquire JDBC connections.  Should generally only configure
 	 * this or {@link #RELEASE_CONNECTIONS}, not both
@@ -1078,7 +1203,11 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
 
 	/**
-	 * The {@link TimestampsCacheFactory} implementation class.
+	 * The {@link TimestampsCacheFactory} implementation class, which also determines the
+	 * {@link org.hibernate.cache.spi.QueryCacheInvalidationStrategy} used to recognize stale
+	 * query results.  Besides the standard timestamps based strategy, Hibernate provides
+	 * {@link org.hibernate.cache.internal.VersionCounterTimestampsCacheFactory} keeping a
+	 * version per query space.
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
@@ -1097,6 +1226,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact second-level cache entries for entities, encoding the cached
+	 * state of an entity into a single {@code byte[]}.  Takes precedence over
+	 * {@link #USE_STRUCTURED_CACHE}.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.0
+	 */
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1109,6 +1251,45 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum estimated size, in bytes, of each region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory}.  When a region grows beyond
+	 * it, the entries used least frequently are evicted.  The setting can be given for a
+	 * single region by appending its name, e.g. {@code hibernate.cache.local.max_size.com.acme.Customer}.
+	 * A value of zero or less means the size is not limited.
+	 * <p/>
+	 * Default is {@link org.hibernate.cache.internal.LocalRegionFactory#DEFAULT_MAX_SIZE}
+	 *
+	 * @since 6.0
+	 */
+	String LOCAL_CACHE_MAX_SIZE = "hibernate.cache.local.max_size";
+
+	/**
+	 * The number of seconds after which the entries put into a region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory} expire.  The setting can be
+	 * given for a single region by appending its name, as for {@link #LOCAL_CACHE_MAX_SIZE}.
+	 * <p/>
+	 * Default is {@code 0}, meaning entries do not expire
+	 *
+	 * @since 6.0
+	 */
+	String LOCAL_CACHE_TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+	/**
+	 * Should the domain data regions of the {@link org.hibernate.cache.internal.LocalRegionFactory}
+	 * keep their entries outside of the Java heap, in direct buffers?  The size of such a region,
+	 * given by {@link #LOCAL_CACHE_MAX_SIZE}, is then the size of the serialized entries, and is
+	 * allocated as the region fills up.  It must be positive: the size of an off-heap region is
+	 * always limited, to at most {@link org.hibernate.cache.internal.OffHeapStorageAccess#MAXIMUM_SIZE}.
+	 * The setting can be given for a single region by appending
+	 * its name, as for {@link #LOCAL_CACHE_MAX_SIZE}.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String LOCAL_CACHE_OFF_HEAP = "hibernate.cache.local.off_heap";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query settings
@@ -1130,6 +1311,57 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_LITERAL_RENDERING = "hibernate.query.literal_rendering";
 
+	/**
+	 * Should string, integer and long literals in the WHERE and HAVING clauses of
+	 * HQL queries be replaced by parameters before the query is interpreted?
+	 * Queries differing only in such literal values then share their cached SQM
+	 * and query plans.  Literals in other clauses, in function arguments and in
+	 * CASE expressions are left as they are.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PARAMETERIZE_LITERALS = "hibernate.query.parameterize_literals";
+
+	/**
+	 * Names the {@link org.hibernate.sql.exec.spi.JdbcSelectExecutor} used to execute
+	 * select queries.  Can be a JdbcSelectExecutor instance, a JdbcSelectExecutor
+	 * implementation Class reference or a JdbcSelectExecutor implementation class name.
+	 * <p/>
+	 * Defaults to {@link org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl}
+	 *
+	 * @since 6.0
+	 */
+	String JDBC_SELECT_EXECUTOR = "hibernate.query.jdbc_select_executor";
+
+	/**
+	 * Names the {@link java.util.concurrent.Executor} used to perform the work of
+	 * {@link org.hibernate.query.Query#getResultListAsync()}.  Can be an Executor
+	 * instance, an Executor implementation Class reference, an Executor implementation
+	 * class name or {@code virtual} to run each query on its own virtual thread
+	 * (requires Java 21 or later).  Executors created by Hibernate are shut down when the
+	 * SessionFactory is closed.
+	 * <p/>
+	 * Defaults to a cached thread pool created by Hibernate, keeping the blocking JDBC work
+	 * of the queries off the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_ASYNC_EXECUTOR = "hibernate.query.async_executor";
+
+	/**
+	 * Should entities returned from a streamed query ({@link org.hibernate.query.Query#stream()})
+	 * be detached from the Session once the stream has moved past them?  Doing so keeps
+	 * memory use flat when streaming very large results, but entities can then no longer
+	 * be lazily initialized or have their changes flushed.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_STREAM_DETACH_ENTITIES = "hibernate.query.stream_detach_entities";
+
 
 
 	// Still to categorize
@@ -1199,6 +1431,14 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum total {@link org.hibernate.query.spi.QueryPlan#getEstimatedWeight() weight}
+	 * of the plans maintained by {@link org.hibernate.query.spi.QueryPlanCache}.  When exceeded,
+	 * the least recently used plans are evicted.  Defaults to the value of
+	 * {@link #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 */
+	String QUERY_PLAN_CACHE_MAX_WEIGHT = "hibernate.query.plan_cache_max_weight";
+
 	/**
 	 * The maximum number of {@link ParameterMetadataImpl} maintained
 	 * by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 128.
@@ -1600,6 +1840,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
 
+	/**
+	 * Enables adapting the size of entity batch loads, per Session and entity,
+	 * to the share of the batch loaded entities the application goes on to use.
+	 * Starting from the mapped batch size, well used batches grow up to the
+	 * size given by this setting while poorly used ones shrink.
+	 * <p/>
+	 * Default is {@code 0}, meaning the mapped batch sizes are used as-is.
+	 *
+	 * @see org.hibernate.loader.internal.AdaptiveBatchLoadSizingStrategy
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_FETCH_ADAPTIVE_MAX_SIZE = "hibernate.batch_fetch_adaptive_max_size";
+
 	/**
 	 * Controls how the individual Loaders for an entity are created.
 	 *
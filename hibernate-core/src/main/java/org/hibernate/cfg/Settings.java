@@ -95,6 +95,7 @@ public final class Settings {
 			LOG.debugf( "Second-level cache region prefix: %s", sessionFactoryOptions.getCacheRegionPrefix() );
 			LOG.debugf( "Optimize second-level cache for minimal puts: %s", enabledDisabled( sessionFactoryOptions.isMinimalPutsEnabled() ) );
 			LOG.debugf( "Structured second-level cache entries: %s", enabledDisabled( sessionFactoryOptions.isStructuredCacheEntriesEnabled() ) );
+			LOG.debugf( "Compact second-level cache entries: %s", enabledDisabled( sessionFactoryOptions.isCompactCacheEntriesEnabled() ) );
 			LOG.debugf( "Second-level cache direct-reference entries: %s", enabledDisabled( sessionFactoryOptions.isDirectReferenceCacheEntriesEnabled() ) );
 			LOG.debugf( "Automatic eviction of collection cache: %s", enabledDisabled( sessionFactoryOptions.isAutoEvictCollectionCache() ) );
 
@@ -233,6 +234,10 @@ public final class Settings {
 		return sessionFactoryOptions.isStructuredCacheEntriesEnabled();
 	}
 
+	public boolean isCompactCacheEntriesEnabled() {
+		return sessionFactoryOptions.isCompactCacheEntriesEnabled();
+	}
+
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return sessionFactoryOptions.isDirectReferenceCacheEntriesEnabled();
 	}
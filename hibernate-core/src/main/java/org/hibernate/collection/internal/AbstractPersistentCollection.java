@@ -135,6 +135,19 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	@Override
 	public final void dirty() {
 		dirty = true;
+		registerOwnerAsDirtyCandidate();
+	}
+
+	/**
+	 * A change to the collection may make its owner dirty (version increment,
+	 * cascades, orphans)
+	 *
+	 * @see org.hibernate.engine.spi.PersistenceContext#registerDirtyCandidate
+	 */
+	private void registerOwnerAsDirtyCandidate() {
+		if ( owner != null && session != null ) {
+			session.getPersistenceContext().registerDirtyCandidate( owner );
+		}
 	}
 
 	@Override
@@ -502,6 +515,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		operationQueue.add( operation );
 		//needed so that we remove this collection from the second-level cache
 		dirty = true;
+		registerOwnerAsDirtyCandidate();
 	}
 
 	/**
@@ -2968,6 +2968,27 @@ public abstract class Dialect implements ConversionContext {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size to use when streaming query results, unless the
+	 * query explicitly specifies one.  Drivers differ greatly in their default
+	 * behavior, some of them buffering the whole ResultSet in memory.
+	 *
+	 * @return The fetch size, or {@code 0} to leave the driver default in place
+	 */
+	public int getDefaultStreamingFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Does the driver only honor the fetch size (using a database cursor) when
+	 * the Connection is not in auto-commit mode?
+	 *
+	 * @return {@code true} if auto-commit needs to be disabled while streaming results
+	 */
+	public boolean requiresAutoCommitDisabledForStreaming() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support tuples in subqueries?  Ex:
 	 * delete from Table1 where (col1, col2) in (select col1, col2 from Table2)
@@ -3074,6 +3095,38 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect/database support inserting several rows with a single
+	 * {@code insert ... values (...), (...)} statement?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 */
+	public boolean supportsMultiRowInsert() {
+		return supportsValuesList();
+	}
+
+	/**
+	 * Does {@link java.sql.Statement#getGeneratedKeys()} return the identity values
+	 * generated for every row of a {@link #supportsMultiRowInsert() multi-row insert},
+	 * in the order of the rows?
+	 *
+	 * @return {@code true} if the generated keys of all rows are returned
+	 */
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database or driver places on the number
+	 * of parameters bound to a single statement.  If there is no such limit, simply
+	 * return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
@@ -690,4 +690,9 @@ public class HSQLDialect extends Dialect {
 	public String getCascadeConstraintsString() {
 		return " CASCADE ";
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
 }
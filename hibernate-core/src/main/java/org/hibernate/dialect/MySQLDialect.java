@@ -767,4 +767,21 @@ public class MySQLDialect extends Dialect {
 	protected String escapeLiteral(String literal) {
 		return super.escapeLiteral( literal ).replace("\\", "\\\\");
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		// the driver derives the keys of all rows from the first one
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the limit of the client/server protocol
+		return 65535;
+	}
 }
@@ -847,4 +847,10 @@ public class Oracle8iDialect extends Dialect {
 	public boolean supportsNoWait() {
 		return true;
 	}
+
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		// the driver default of 10 rows per round-trip is far too small for streaming
+		return 256;
+	}
 }
@@ -747,4 +747,22 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
 	}
+
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return 256;
+	}
+
+	@Override
+	public boolean requiresAutoCommitDisabledForStreaming() {
+		// the driver only uses a server-side cursor outside of auto-commit mode,
+		// otherwise the whole ResultSet is read into memory
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the limit of the frontend/backend protocol
+		return 32767;
+	}
 }
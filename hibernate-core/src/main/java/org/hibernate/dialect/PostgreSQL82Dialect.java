@@ -73,6 +73,12 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		// the driver returns the keys of all rows through an appended returning clause
+		return true;
+	}
+
 	@Override
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
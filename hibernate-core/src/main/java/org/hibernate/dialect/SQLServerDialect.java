@@ -221,4 +221,9 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new SQLServerIdentityColumnSupport();
 	}
+
+	@Override
+	public int getParameterCountLimit() {
+		return PARAM_LIST_SIZE_LIMIT;
+	}
 }
@@ -309,14 +309,21 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		// nothing to do if status is READ_ONLY
 		if ( getStatus() != Status.READ_ONLY ) {
 			assert propertyName != null;
-			assert loadedState != null;
 
 			final NonIdPersistentAttribute attribute = (NonIdPersistentAttribute) descriptor.findPersistentAttribute( propertyName );
 			final int propertyIndex = attribute.getStateArrayPosition();
-			loadedState[propertyIndex] = collection;
+			overwriteLoadedValue( propertyIndex, collection );
 		}
 	}
 
+	/**
+	 * Overwrite the loaded value at the given state array position.
+	 */
+	protected void overwriteLoadedValue(int position, Object value) {
+		assert loadedState != null;
+		loadedState[position] = value;
+	}
+
 	@Override
 	public boolean requiresDirtyCheck(Object entity) {
 		return isModifiableEntity()
@@ -359,7 +366,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
 		final int versionIndex = descriptor.getHierarchy().getVersionDescriptor().getStateArrayPosition();
-		loadedState[ versionIndex ] = version;
+		overwriteLoadedValue( versionIndex, version );
 		// TODO:  use LockMode.PESSIMISTIC_FORCE_INCREMENT
 		//noinspection deprecation
 		setLockMode( LockMode.FORCE );
@@ -423,7 +430,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		oos.writeObject( getStatus().name() );
 		oos.writeObject( (previousStatus == null ? "" : previousStatus.name()) );
 		// todo : potentially look at optimizing these two arrays
-		oos.writeObject( loadedState );
+		oos.writeObject( getLoadedState() );
 		oos.writeObject( getDeletedState() );
 		oos.writeObject( version );
 		oos.writeObject( getLockMode().toString() );
@@ -460,6 +467,13 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		return persistenceContext;
 	}
 
+	@Override
+	public void attributeChanged(Object entity, String attributeName) {
+		if ( persistenceContext != null ) {
+			persistenceContext.registerDirtyCandidate( entity );
+		}
+	}
+
 	/**
 	 * Saves the value for the given enum property.
 	 *
@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * The keys registered with the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * for a single entity name or collection role, in registration order.
+ * <p/>
+ * Keys are held in a doubly linked list indexed by hash, so that the keys
+ * registered around a given key can be collected by walking outwards from that
+ * key rather than scanning the whole queue.  Each key may be registered with a
+ * separate anchor - a value by which the key is located as the starting point
+ * of such a walk; by default the key is its own anchor.
+ */
+public final class BatchLoadableKeyIndex<K,V> {
+	private final Map<K,Node<K,V>> nodesByKey = new HashMap<>( 8 );
+	private Map<Object,Node<K,V>> nodesByAnchor;
+
+	private Node<K,V> head;
+	private Node<K,V> tail;
+
+	/**
+	 * Register a key which is its own anchor.  A key already registered keeps its
+	 * position.
+	 */
+	public void add(K key, V value) {
+		add( key, null, value );
+	}
+
+	/**
+	 * Register a key, located by the given anchor.  A key already registered keeps
+	 * its position.
+	 */
+	public void add(K key, Object anchor, V value) {
+		Node<K,V> node = nodesByKey.get( key );
+		if ( node != null ) {
+			node.value = value;
+			return;
+		}
+
+		node = new Node<>( key, anchor, value );
+		nodesByKey.put( key, node );
+		if ( anchor != null ) {
+			if ( nodesByAnchor == null ) {
+				nodesByAnchor = new HashMap<>( 8 );
+			}
+			nodesByAnchor.put( anchor, node );
+		}
+
+		if ( tail == null ) {
+			head = node;
+		}
+		else {
+			tail.next = node;
+			node.previous = tail;
+		}
+		tail = node;
+	}
+
+	public void remove(K key) {
+		final Node<K,V> node = nodesByKey.remove( key );
+		if ( node == null ) {
+			return;
+		}
+
+		if ( node.anchor != null && nodesByAnchor.get( node.anchor ) == node ) {
+			nodesByAnchor.remove( node.anchor );
+		}
+
+		if ( node.previous == null ) {
+			head = node.next;
+		}
+		else {
+			node.previous.next = node.next;
+		}
+		if ( node.next == null ) {
+			tail = node.previous;
+		}
+		else {
+			node.next.previous = node.previous;
+		}
+	}
+
+	public boolean contains(K key) {
+		return nodesByKey.containsKey( key );
+	}
+
+	public int size() {
+		return nodesByKey.size();
+	}
+
+	/**
+	 * Collect the values produced by the given extractor for the keys registered
+	 * around the key located by the given anchor: first those registered after it,
+	 * then those registered before it, nearest first.  If no key is located by the
+	 * anchor, the most recently registered keys are collected.  Keys for which the
+	 * extractor returns {@code null} are skipped.
+	 *
+	 * @param anchor Locates the key to start from, which itself is never collected
+	 * @param into The array to collect into
+	 * @param position The position in {@code into} to start collecting at
+	 * @param extractor Produces the value to collect for a key and its value
+	 *
+	 * @return The position in {@code into} following the last collected value
+	 */
+	public int collectAround(Object anchor, Object[] into, int position, BiFunction<K,V,Object> extractor) {
+		return cursorAround( anchor ).collect( into, position, extractor );
+	}
+
+	/**
+	 * A cursor walking the keys registered around the key located by the given
+	 * anchor, in the order {@link #collectAround} collects them.  The index must not
+	 * be modified while the cursor is in use.
+	 */
+	public Cursor<K,V> cursorAround(Object anchor) {
+		return new Cursor<>( locate( anchor ), tail );
+	}
+
+	@SuppressWarnings("SuspiciousMethodCalls")
+	private Node<K,V> locate(Object anchor) {
+		final Node<K,V> node = nodesByAnchor == null ? null : nodesByAnchor.get( anchor );
+		return node != null ? node : nodesByKey.get( anchor );
+	}
+
+	private static <K,V> int collect(Node<K,V> node, Object[] into, int position, BiFunction<K,V,Object> extractor) {
+		final Object extracted = extractor.apply( node.key, node.value );
+		if ( extracted != null ) {
+			into[position++] = extracted;
+		}
+		return position;
+	}
+
+	/**
+	 * Walks the keys after its start key, then those before it, resuming where the
+	 * previous {@link #collect} call stopped
+	 */
+	public static final class Cursor<K,V> {
+		private final Node<K,V> start;
+		private Node<K,V> next;
+		private boolean forward;
+
+		private Cursor(Node<K,V> start, Node<K,V> tail) {
+			this.start = start;
+			this.next = start == null ? tail : start.next;
+			this.forward = start != null;
+		}
+
+		/**
+		 * Collect the values produced by the given extractor for the keys not walked
+		 * yet, until {@code into} is full or all keys were walked
+		 *
+		 * @return The position in {@code into} following the last collected value
+		 */
+		public int collect(Object[] into, int position, BiFunction<K,V,Object> extractor) {
+			while ( position < into.length ) {
+				if ( next == null ) {
+					if ( !forward ) {
+						break;
+					}
+					forward = false;
+					next = start.previous;
+					continue;
+				}
+				final Node<K,V> node = next;
+				next = forward ? node.next : node.previous;
+				position = BatchLoadableKeyIndex.collect( node, into, position, extractor );
+			}
+			return position;
+		}
+	}
+
+	private static class Node<K,V> {
+		private final K key;
+		private final Object anchor;
+		private V value;
+
+		private Node<K,V> previous;
+		private Node<K,V> next;
+
+		private Node(K key, Object anchor, V value) {
+			this.key = key;
+			this.anchor = anchor;
+			this.value = value;
+		}
+	}
+}
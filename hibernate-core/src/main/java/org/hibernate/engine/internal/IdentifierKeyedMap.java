@@ -0,0 +1,549 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A map keyed by {@link EntityKey} or {@link CollectionKey} - generally, by any key
+ * made up of a group (the entity hierarchy, the collection role) and an identifier
+ * value.
+ * <p/>
+ * Entries whose identifier is a {@link Long}, {@link Integer} or {@link UUID} are
+ * held in open-addressing tables, one per group and identifier type, keyed directly
+ * by the primitive identifier value.  Such entries can be located by group and
+ * identifier via {@link #get(Object, Object)} and {@link #getKey(Object, Object)}
+ * without a key having to be created, and locating them by key never calls into the
+ * identifier's {@link org.hibernate.type.descriptor.java.spi.JavaTypeDescriptor}.
+ * Entries with any other identifier are held in a regular {@link HashMap}.
+ * <p/>
+ * The keys themselves are retained, so that the views hand out the very keys which
+ * were put.  The views are read-only.
+ */
+public final class IdentifierKeyedMap<K,V> extends AbstractMap<K,V> {
+
+	/**
+	 * Splits a key into its group and identifier value.  Two keys are equal exactly
+	 * when their groups are equal and their identifier values are equal.
+	 */
+	public interface KeyResolver<K> {
+		Object getGroup(K key);
+
+		Object getIdentifier(K key);
+	}
+
+	private static final KeyResolver<EntityKey> ENTITY_KEY_RESOLVER = new KeyResolver<EntityKey>() {
+		@Override
+		public Object getGroup(EntityKey key) {
+			return key.getRootEntityName();
+		}
+
+		@Override
+		public Object getIdentifier(EntityKey key) {
+			return key.getIdentifier();
+		}
+	};
+
+	private static final KeyResolver<CollectionKey> COLLECTION_KEY_RESOLVER = new KeyResolver<CollectionKey>() {
+		@Override
+		public Object getGroup(CollectionKey key) {
+			return key.getNavigableRole();
+		}
+
+		@Override
+		public Object getIdentifier(CollectionKey key) {
+			return key.getKey();
+		}
+	};
+
+	/**
+	 * A map keyed by {@link EntityKey}, grouped by the name of the root entity.
+	 */
+	public static <V> IdentifierKeyedMap<EntityKey,V> forEntityKeys() {
+		return new IdentifierKeyedMap<>( EntityKey.class, ENTITY_KEY_RESOLVER );
+	}
+
+	/**
+	 * A map keyed by {@link CollectionKey}, grouped by the collection role.
+	 */
+	public static <V> IdentifierKeyedMap<CollectionKey,V> forCollectionKeys() {
+		return new IdentifierKeyedMap<>( CollectionKey.class, COLLECTION_KEY_RESOLVER );
+	}
+
+	/**
+	 * Is an entry with the given identifier value held in a table keyed by the
+	 * primitive identifier value, and so can it be located without a key?
+	 */
+	public static boolean isIndexed(Object id) {
+		return id instanceof Long || id instanceof Integer || id instanceof UUID;
+	}
+
+	private final Class<K> keyClass;
+	private final KeyResolver<K> keyResolver;
+
+	private final Map<Object,Group<K,V>> groups = new HashMap<>();
+	private Map<K,V> others;
+	private int size;
+	private int modCount;
+
+	// the groups are typically accessed in runs, e.g. while loading the rows of a query
+	private Object lastGroupName;
+	private Group<K,V> lastGroup;
+
+	private Set<Entry<K,V>> entrySet;
+
+	public IdentifierKeyedMap(Class<K> keyClass, KeyResolver<K> keyResolver) {
+		this.keyClass = keyClass;
+		this.keyResolver = keyResolver;
+	}
+
+	/**
+	 * Get the value for the given group and identifier, which must be
+	 * {@linkplain #isIndexed indexed}.
+	 */
+	public V get(Object group, Object id) {
+		assert isIndexed( id );
+		final Table<K,V> table = locateTable( group, id, false );
+		if ( table == null ) {
+			return null;
+		}
+		final int slot = table.indexOf( high( id ), low( id ) );
+		return slot < 0 ? null : table.value( slot );
+	}
+
+	/**
+	 * Get the key under which the value for the given group and identifier, which
+	 * must be {@linkplain #isIndexed indexed}, was put.
+	 */
+	public K getKey(Object group, Object id) {
+		assert isIndexed( id );
+		final Table<K,V> table = locateTable( group, id, false );
+		if ( table == null ) {
+			return null;
+		}
+		final int slot = table.indexOf( high( id ), low( id ) );
+		return slot < 0 ? null : table.key( slot );
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( !keyClass.isInstance( key ) ) {
+			return null;
+		}
+		final K typedKey = keyClass.cast( key );
+		final Object id = keyResolver.getIdentifier( typedKey );
+		if ( isIndexed( id ) ) {
+			return get( keyResolver.getGroup( typedKey ), id );
+		}
+		return others == null ? null : others.get( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if ( !keyClass.isInstance( key ) ) {
+			return false;
+		}
+		final K typedKey = keyClass.cast( key );
+		final Object id = keyResolver.getIdentifier( typedKey );
+		if ( isIndexed( id ) ) {
+			return getKey( keyResolver.getGroup( typedKey ), id ) != null;
+		}
+		return others != null && others.containsKey( key );
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final Object id = keyResolver.getIdentifier( key );
+		final V old;
+		if ( isIndexed( id ) ) {
+			final Table<K,V> table = locateTable( keyResolver.getGroup( key ), id, true );
+			final int sizeBefore = table.size;
+			old = table.put( high( id ), low( id ), key, value );
+			if ( table.size == sizeBefore ) {
+				return old;
+			}
+		}
+		else {
+			if ( others == null ) {
+				others = new HashMap<>();
+			}
+			final int sizeBefore = others.size();
+			old = others.put( key, value );
+			if ( others.size() == sizeBefore ) {
+				return old;
+			}
+		}
+		size++;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if ( !keyClass.isInstance( key ) ) {
+			return null;
+		}
+		final K typedKey = keyClass.cast( key );
+		final Object id = keyResolver.getIdentifier( typedKey );
+		final V old;
+		if ( isIndexed( id ) ) {
+			final Table<K,V> table = locateTable( keyResolver.getGroup( typedKey ), id, false );
+			if ( table == null ) {
+				return null;
+			}
+			final int slot = table.indexOf( high( id ), low( id ) );
+			if ( slot < 0 ) {
+				return null;
+			}
+			old = table.removeAt( slot );
+		}
+		else {
+			if ( others == null || !others.containsKey( key ) ) {
+				return null;
+			}
+			old = others.remove( key );
+		}
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		groups.clear();
+		others = null;
+		lastGroupName = null;
+		lastGroup = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private Table<K,V> locateTable(Object groupName, Object id, boolean create) {
+		Group<K,V> group;
+		if ( lastGroup != null && ( groupName == lastGroupName || groupName.equals( lastGroupName ) ) ) {
+			group = lastGroup;
+		}
+		else {
+			group = groups.get( groupName );
+			if ( group == null ) {
+				if ( !create ) {
+					return null;
+				}
+				group = new Group<>();
+				groups.put( groupName, group );
+			}
+			lastGroupName = groupName;
+			lastGroup = group;
+		}
+
+		if ( id instanceof Long ) {
+			if ( group.longIds == null && create ) {
+				group.longIds = new Table<>( 1 );
+			}
+			return group.longIds;
+		}
+		else if ( id instanceof Integer ) {
+			if ( group.integerIds == null && create ) {
+				group.integerIds = new Table<>( 1 );
+			}
+			return group.integerIds;
+		}
+		else {
+			if ( group.uuidIds == null && create ) {
+				group.uuidIds = new Table<>( 2 );
+			}
+			return group.uuidIds;
+		}
+	}
+
+	private static long high(Object id) {
+		if ( id instanceof Long ) {
+			return (Long) id;
+		}
+		else if ( id instanceof Integer ) {
+			return (Integer) id;
+		}
+		else {
+			return ( (UUID) id ).getMostSignificantBits();
+		}
+	}
+
+	private static long low(Object id) {
+		return id instanceof UUID ? ( (UUID) id ).getLeastSignificantBits() : 0L;
+	}
+
+	private static final class Group<K,V> {
+		private Table<K,V> longIds;
+		private Table<K,V> integerIds;
+		private Table<K,V> uuidIds;
+	}
+
+	/**
+	 * An open-addressing table with linear probing, keyed by one ({@code width} 1) or
+	 * two ({@code width} 2) longs per slot.  A slot is occupied when it holds a key.
+	 */
+	private static final class Table<K,V> {
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final int width;
+
+		private long[] ids;
+		private Object[] keys;
+		private Object[] values;
+		private int mask;
+		private int size;
+
+		private Table(int width) {
+			this.width = width;
+			allocate( INITIAL_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			ids = new long[ capacity * width ];
+			keys = new Object[ capacity ];
+			values = new Object[ capacity ];
+			mask = capacity - 1;
+		}
+
+		private int capacity() {
+			return keys.length;
+		}
+
+		private int home(long high, long low) {
+			long hash = ( high ^ low * 0x9E3779B97F4A7C15L ) * 0x9E3779B97F4A7C15L;
+			return (int) ( hash ^ hash >>> 32 ) & mask;
+		}
+
+		private boolean matches(int slot, long high, long low) {
+			return width == 1
+					? ids[slot] == high
+					: ids[slot * 2] == high && ids[slot * 2 + 1] == low;
+		}
+
+		private long high(int slot) {
+			return ids[slot * width];
+		}
+
+		private long low(int slot) {
+			return width == 1 ? 0L : ids[slot * 2 + 1];
+		}
+
+		private int indexOf(long high, long low) {
+			int slot = home( high, low );
+			while ( keys[slot] != null ) {
+				if ( matches( slot, high, low ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@SuppressWarnings("unchecked")
+		private K key(int slot) {
+			return (K) keys[slot];
+		}
+
+		@SuppressWarnings("unchecked")
+		private V value(int slot) {
+			return (V) values[slot];
+		}
+
+		private V put(long high, long low, K key, V value) {
+			int slot = home( high, low );
+			while ( keys[slot] != null ) {
+				if ( matches( slot, high, low ) ) {
+					// like HashMap, keep the key originally put
+					final V old = value( slot );
+					values[slot] = value;
+					return old;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+
+			store( slot, high, low, key, value );
+			size++;
+			if ( size * 3 > capacity() * 2 ) {
+				resize();
+			}
+			return null;
+		}
+
+		private void store(int slot, long high, long low, Object key, Object value) {
+			if ( width == 1 ) {
+				ids[slot] = high;
+			}
+			else {
+				ids[slot * 2] = high;
+				ids[slot * 2 + 1] = low;
+			}
+			keys[slot] = key;
+			values[slot] = value;
+		}
+
+		private void resize() {
+			final long[] oldIds = ids;
+			final Object[] oldKeys = keys;
+			final Object[] oldValues = values;
+			allocate( oldKeys.length * 2 );
+
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				if ( oldKeys[i] == null ) {
+					continue;
+				}
+				final long high = oldIds[i * width];
+				final long low = width == 1 ? 0L : oldIds[i * 2 + 1];
+				int slot = home( high, low );
+				while ( keys[slot] != null ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				store( slot, high, low, oldKeys[i], oldValues[i] );
+			}
+		}
+
+		private V removeAt(int slot) {
+			final V old = value( slot );
+
+			// backward shift deletion: move up any entry of the following cluster
+			// which would otherwise no longer be reachable from its home slot
+			int gap = slot;
+			int next = ( gap + 1 ) & mask;
+			while ( keys[next] != null ) {
+				final int home = home( high( next ), low( next ) );
+				if ( ( ( next - home ) & mask ) >= ( ( next - gap ) & mask ) ) {
+					store( gap, high( next ), low( next ), keys[next], values[next] );
+					gap = next;
+				}
+				next = ( next + 1 ) & mask;
+			}
+			keys[gap] = null;
+			values[gap] = null;
+
+			size--;
+			return old;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K,V>> {
+		@Override
+		public Iterator<Entry<K,V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Entry ) ) {
+				return false;
+			}
+			final Entry<?,?> entry = (Entry<?,?>) o;
+			return containsKey( entry.getKey() )
+					&& Objects.equals( get( entry.getKey() ), entry.getValue() );
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K,V>> {
+		private final int expectedModCount = modCount;
+
+		private final List<Table<K,V>> tables = new ArrayList<>();
+		private final Iterator<Entry<K,V>> othersIterator;
+
+		private int tableIndex;
+		private int slot = -1;
+
+		private EntryIterator() {
+			for ( Group<K,V> group : groups.values() ) {
+				addTable( group.longIds );
+				addTable( group.integerIds );
+				addTable( group.uuidIds );
+			}
+			othersIterator = others == null
+					? Collections.emptyIterator()
+					: others.entrySet().iterator();
+			advance();
+		}
+
+		private void addTable(Table<K,V> table) {
+			if ( table != null && table.size > 0 ) {
+				tables.add( table );
+			}
+		}
+
+		private void advance() {
+			while ( tableIndex < tables.size() ) {
+				final Table<K,V> table = tables.get( tableIndex );
+				while ( ++slot < table.capacity() ) {
+					if ( table.keys[slot] != null ) {
+						return;
+					}
+				}
+				tableIndex++;
+				slot = -1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return tableIndex < tables.size() || othersIterator.hasNext();
+		}
+
+		@Override
+		public Entry<K,V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( tableIndex < tables.size() ) {
+				final Table<K,V> table = tables.get( tableIndex );
+				final Entry<K,V> entry = new SimpleImmutableEntry<>( table.key( slot ), table.value( slot ) );
+				advance();
+				return entry;
+			}
+			if ( othersIterator.hasNext() ) {
+				final Entry<K,V> entry = othersIterator.next();
+				return new SimpleImmutableEntry<>( entry.getKey(), entry.getValue() );
+			}
+			throw new NoSuchElementException();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.LockMode;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.metamodel.model.domain.spi.EmbeddedValuedNavigable;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.NonIdPersistentAttribute;
+
+/**
+ * Evicts the least recently accessed entities which can safely be detached
+ * from a persistence context holding more entities than the configured maximum.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MAX_MANAGED_ENTITIES
+ */
+public final class ManagedEntityEvictor {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ManagedEntityEvictor.class );
+
+	private ManagedEntityEvictor() {
+	}
+
+	/**
+	 * Evict entities from the persistence context of the given session, if it holds
+	 * more than the configured maximum.  Must only be called at the start of a
+	 * top-level Session operation; nothing is evicted while flushing or cascading.
+	 */
+	public static void evictExcessEntities(EventSource session, StatefulPersistenceContext persistenceContext) {
+		final int excess = persistenceContext.getExcessManagedEntityCount();
+		if ( excess == 0 || persistenceContext.isFlushing() || persistenceContext.getCascadeLevel() > 0 ) {
+			return;
+		}
+
+		final Set<Object> retained = Collections.newSetFromMap( new IdentityHashMap<>() );
+		session.getActionQueue().collectEntitiesWithQueuedActions( retained );
+		collectOwnersOfChangedCollections( persistenceContext, retained );
+
+		final Map<EntityTypeDescriptor,Boolean> cascadingEvictionByDescriptor = new IdentityHashMap<>();
+		final List<Object> evictable = new ArrayList<>( excess );
+		for ( Object entity : persistenceContext.getEntitiesByAccess() ) {
+			if ( evictable.size() == excess ) {
+				break;
+			}
+			if ( retained.contains( entity ) ) {
+				continue;
+			}
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry == null ) {
+				continue;
+			}
+			final boolean cascadesEviction = cascadingEvictionByDescriptor.computeIfAbsent(
+					entry.getDescriptor(),
+					ManagedEntityEvictor::cascadesEviction
+			);
+			if ( !cascadesEviction && isEvictable( entity, entry, session ) ) {
+				evictable.add( entity );
+			}
+		}
+
+		LOG.debugf(
+				"Evicting %s of %s managed entities to stay below the maximum",
+				evictable.size(),
+				persistenceContext.getEntitiesByKey().size()
+		);
+
+		for ( Object entity : evictable ) {
+			session.evict( entity );
+		}
+		persistenceContext.afterExcessEntitiesEvicted();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void collectOwnersOfChangedCollections(StatefulPersistenceContext persistenceContext, Set<Object> owners) {
+		for ( Map.Entry<PersistentCollection,CollectionEntry> entry : IdentityMap.concurrentEntries( persistenceContext.getCollectionEntries() ) ) {
+			final PersistentCollection collection = entry.getKey();
+			if ( collection.getOwner() != null && ( collection.isDirty() || collection.hasQueuedOperations() ) ) {
+				owners.add( collection.getOwner() );
+			}
+		}
+	}
+
+	private static boolean cascadesEviction(EntityTypeDescriptor<?> descriptor) {
+		if ( !descriptor.hasCascades() ) {
+			return false;
+		}
+		for ( NonIdPersistentAttribute attribute : descriptor.getPersistentAttributes() ) {
+			// embedded values may cascade from their own attributes
+			if ( attribute instanceof EmbeddedValuedNavigable
+					|| attribute.getCascadeStyle().doCascade( CascadingActions.EVICT ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isEvictable(Object entity, EntityEntry entry, EventSource session) {
+		if ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) {
+			return false;
+		}
+		if ( entry.getLockMode().greaterThan( LockMode.READ ) ) {
+			return false;
+		}
+		if ( entry.getStatus() == Status.READ_ONLY || !entry.isModifiableEntity() ) {
+			return true;
+		}
+		if ( entity instanceof SelfDirtinessTracker ) {
+			return !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
+		if ( entry.getLoadedState() == null ) {
+			return false;
+		}
+
+		final EntityTypeDescriptor descriptor = entry.getDescriptor();
+		final int[] dirtyProperties = descriptor.findDirty(
+				descriptor.getPropertyValues( entity ),
+				entry.getLoadedState(),
+				entity,
+				session
+		);
+		return dirtyProperties == null;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.NonIdPersistentAttribute;
+
+/**
+ * An EntityEntry implementation for mutable entities tracking their own dirtiness
+ * which does not keep a copy of the loaded state.  Instead the entity reports each
+ * attribute about to change, and the loaded value of the attribute is recorded the
+ * first time it changes.  The loaded state is then the current state of the entity
+ * overlaid with the recorded values.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SPARSE_LOADED_STATE
+ */
+public final class SparseLoadedStateEntityEntry extends AbstractEntityEntry {
+	// stands for a recorded null value
+	private static final Object NULL = new Object();
+
+	private final transient Object entity;
+	private boolean hasLoadedState;
+	private Object[] loadedValues;
+
+	public SparseLoadedStateEntityEntry(
+			final Object entity,
+			final Status status,
+			final Object[] loadedState,
+			final Object rowId,
+			final Object id,
+			final Object version,
+			final LockMode lockMode,
+			final boolean existsInDatabase,
+			final EntityTypeDescriptor descriptor,
+			final boolean disableVersionIncrement,
+			final PersistenceContext persistenceContext) {
+		super( status, null, rowId, id, version, lockMode, existsInDatabase, descriptor,
+				disableVersionIncrement, persistenceContext
+		);
+		this.entity = entity;
+		this.hasLoadedState = loadedState != null && status != Status.READ_ONLY;
+	}
+
+	@Override
+	public Object[] getLoadedState() {
+		if ( !hasLoadedState ) {
+			return null;
+		}
+
+		final Object[] state = getDescriptor().getPropertyValues( entity );
+		if ( loadedValues != null ) {
+			for ( int i = 0; i < loadedValues.length; i++ ) {
+				if ( loadedValues[i] != null ) {
+					state[i] = unmask( loadedValues[i] );
+				}
+			}
+		}
+		return state;
+	}
+
+	@Override
+	public Object getLoadedValue(String propertyName) {
+		if ( !hasLoadedState || propertyName == null ) {
+			return null;
+		}
+
+		final NonIdPersistentAttribute attribute = (NonIdPersistentAttribute) getDescriptor().findPersistentAttribute( propertyName );
+		final int position = attribute.getStateArrayPosition();
+		if ( loadedValues != null && loadedValues[position] != null ) {
+			return unmask( loadedValues[position] );
+		}
+		return attribute.getPropertyAccess().getGetter().get( entity );
+	}
+
+	@Override
+	protected void overwriteLoadedValue(int position, Object value) {
+		assert hasLoadedState;
+		recordLoadedValue( position, value, true );
+	}
+
+	@Override
+	public void attributeChanged(Object entity, String attributeName) {
+		super.attributeChanged( entity, attributeName );
+
+		if ( hasLoadedState && getStatus() == Status.MANAGED ) {
+			final NonIdPersistentAttribute attribute = (NonIdPersistentAttribute) getDescriptor().findPersistentAttribute( attributeName );
+			if ( attribute != null ) {
+				recordLoadedValue(
+						attribute.getStateArrayPosition(),
+						attribute.getPropertyAccess().getGetter().get( entity ),
+						false
+				);
+			}
+		}
+	}
+
+	private void recordLoadedValue(int position, Object value, boolean overwrite) {
+		if ( loadedValues == null ) {
+			loadedValues = new Object[ getDescriptor().getStateArrayContributors().size() ];
+		}
+		if ( overwrite || loadedValues[position] == null ) {
+			loadedValues[position] = value == null ? NULL : value;
+		}
+	}
+
+	private static Object unmask(Object value) {
+		return value == NULL ? null : value;
+	}
+
+	@Override
+	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		super.postUpdate( entity, updatedState, nextVersion );
+
+		// the entity now holds the loaded state
+		loadedState = null;
+		loadedValues = null;
+		hasLoadedState = true;
+	}
+
+	@Override
+	public void setStatus(Status status) {
+		super.setStatus( status );
+
+		if ( status == Status.READ_ONLY ) {
+			hasLoadedState = false;
+			loadedValues = null;
+		}
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly, Object entity) {
+		super.setReadOnly( readOnly, entity );
+
+		if ( !readOnly ) {
+			// the entity now holds the loaded state
+			loadedState = null;
+			loadedValues = null;
+			hasLoadedState = true;
+		}
+	}
+
+	/**
+	 * Custom deserialization routine used during deserialization of a
+	 * Session/PersistenceContext.  As the loaded state is serialized in full,
+	 * the entry is deserialized as a {@link MutableEntityEntry}.
+	 *
+	 * @param ois The stream from which to read the entry.
+	 * @param persistenceContext The context being deserialized.
+	 *
+	 * @return The deserialized EntityEntry
+	 *
+	 * @throws java.io.IOException If a stream error occurs
+	 * @throws ClassNotFoundException If any of the classes declared in the stream
+	 * cannot be found
+	 */
+	public static EntityEntry deserialize(
+			ObjectInputStream ois,
+			PersistenceContext persistenceContext) throws IOException, ClassNotFoundException {
+		return MutableEntityEntry.deserialize( ois, persistenceContext );
+	}
+}
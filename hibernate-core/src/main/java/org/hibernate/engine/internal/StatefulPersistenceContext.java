@@ -11,12 +11,15 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,6 +37,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterc
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.spi.AssociationKey;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -46,6 +50,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -54,6 +59,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.metamodel.model.domain.spi.EmbeddedValuedNavigable;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.model.domain.spi.NaturalIdDescriptor;
 import org.hibernate.metamodel.model.domain.spi.NaturalIdDescriptor.NaturalIdAttributeInfo;
@@ -92,7 +98,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private SharedSessionContractImplementor session;
 
 	// Loaded entity instances, by EntityKey
-	private Map<EntityKey, Object> entitiesByKey;
+	private IdentifierKeyedMap<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private Map<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -105,7 +111,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private Map<EntityKey, Object> entitySnapshotsByKey;
+	private IdentifierKeyedMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private Map<Object, PersistentCollection> arrayHolders;
@@ -114,7 +120,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private Map<CollectionKey, PersistentCollection> collectionsByKey;
+	private IdentifierKeyedMap<CollectionKey, PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -145,6 +151,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// the entities to visit during flush, see AvailableSettings#FLUSH_DIRTY_CANDIDATES_ONLY
+	private final boolean dirtyCandidateTracking;
+	private IdentityMap<Object,Object> dirtyCandidates;
+
+	// the managed entities, least recently accessed first, see AvailableSettings#MAX_MANAGED_ENTITIES
+	private final int maximumManagedEntities;
+	private int evictionThreshold;
+	private LinkedHashMap<EntityKey,Object> entitiesByAccess;
+
+	// whether each entity type keeps only the changed loaded values, see AvailableSettings#SPARSE_LOADED_STATE
+	private final boolean sparseLoadedState;
+	private IdentityHashMap<EntityTypeDescriptor,Boolean> sparseLoadedStateByDescriptor;
+
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -154,7 +173,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 
-		entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+		entitiesByKey = IdentifierKeyedMap.forEntityKeys();
 		entitiesByUniqueKey = new HashMap<>( INIT_COLL_SIZE );
 		//noinspection unchecked
 		proxiesByKey = new ConcurrentReferenceHashMap<>(
@@ -165,18 +184,34 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				ConcurrentReferenceHashMap.ReferenceType.WEAK,
 				null
 		);
-		entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+		entitySnapshotsByKey = IdentifierKeyedMap.forEntityKeys();
 
 		entityEntryContext = new EntityEntryContext( this );
 //		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		parentsByChild = new IdentityHashMap<>( INIT_COLL_SIZE );
 
-		collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+		collectionsByKey = IdentifierKeyedMap.forCollectionKeys();
 		arrayHolders = new IdentityHashMap<>( INIT_COLL_SIZE );
 
 		nullifiableEntityKeys = new HashSet<>();
 
+		dirtyCandidateTracking = session.getFactory().getSessionFactoryOptions().isDirtyCandidateFlushEnabled();
+		if ( dirtyCandidateTracking ) {
+			dirtyCandidates = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+		}
+
+		maximumManagedEntities = session.getFactory().getSessionFactoryOptions().getMaximumManagedEntities();
+		if ( maximumManagedEntities > 0 ) {
+			entitiesByAccess = new LinkedHashMap<>( INIT_COLL_SIZE, .75f, true );
+			evictionThreshold = maximumManagedEntities;
+		}
+
+		sparseLoadedState = session.getFactory().getSessionFactoryOptions().isSparseLoadedStateEnabled();
+		if ( sparseLoadedState ) {
+			sparseLoadedStateByDescriptor = new IdentityHashMap<>();
+		}
+
 		initTransientState();
 	}
 
@@ -271,6 +306,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			loadContexts.cleanup();
 		}
 		naturalIdXrefDelegate.clear();
+		if ( dirtyCandidateTracking ) {
+			dirtyCandidates.clear();
+		}
+		if ( entitiesByAccess != null ) {
+			entitiesByAccess.clear();
+			evictionThreshold = maximumManagedEntities;
+		}
 	}
 
 	@Override
@@ -292,6 +334,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( dirtyCandidateTracking && ( status == Status.DELETED || status == Status.SAVING ) ) {
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity != null ) {
+				dirtyCandidates.put( entity, entity );
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -318,14 +366,20 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, EntityTypeDescriptor descriptor) throws HibernateException {
-		final EntityKey key = session.generateEntityKey( id, descriptor );
-		final Object cached = entitySnapshotsByKey.get( key );
+		final Object cached;
+		if ( IdentifierKeyedMap.isIndexed( id ) ) {
+			cached = entitySnapshotsByKey.get( descriptor.getHierarchy().getRootEntityType().getEntityName(), id );
+		}
+		else {
+			cached = entitySnapshotsByKey.get( session.generateEntityKey( id, descriptor ) );
+		}
+
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = descriptor.getDatabaseSnapshot( id, session );
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			entitySnapshotsByKey.put( session.generateEntityKey( id, descriptor ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -418,6 +472,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		entitiesByKey.put( key, entity );
+		if ( entitiesByAccess != null ) {
+			entitiesByAccess.put( key, entity );
+		}
 		if( batchFetchQueue != null ) {
 			getBatchFetchQueue().removeBatchLoadableEntityKey(key);
 		}
@@ -425,7 +482,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		return entitiesByKey.get( key );
+		final Object entity = entitiesByKey.get( key );
+		if ( entity != null && entitiesByAccess != null ) {
+			entitiesByAccess.get( key );
+		}
+		return entity;
 	}
 
 	@Override
@@ -433,9 +494,71 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public EntityKey findEntityKey(Object id, EntityTypeDescriptor entityDescriptor) {
+		final EntityKey key;
+		if ( IdentifierKeyedMap.isIndexed( id ) ) {
+			key = entitiesByKey.getKey( entityDescriptor.getHierarchy().getRootEntityType().getEntityName(), id );
+		}
+		else {
+			final EntityKey candidate = session.generateEntityKey( id, entityDescriptor );
+			key = entitiesByKey.containsKey( candidate ) ? candidate : null;
+		}
+		if ( key != null && entitiesByAccess != null ) {
+			entitiesByAccess.get( key );
+		}
+		return key;
+	}
+
+	/**
+	 * Is a maximum number of managed entities configured and exceeded?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MAX_MANAGED_ENTITIES
+	 */
+	public boolean hasExcessManagedEntities() {
+		return entitiesByAccess != null && entitiesByKey.size() > evictionThreshold;
+	}
+
+	/**
+	 * The number of entities to evict to get 10% below the configured maximum
+	 * number of managed entities, if it is exceeded.
+	 */
+	public int getExcessManagedEntityCount() {
+		if ( !hasExcessManagedEntities() ) {
+			return 0;
+		}
+		return entitiesByKey.size() - maximumManagedEntities + getEvictionMargin();
+	}
+
+	/**
+	 * Called after evicting excess entities.  If not enough entities could be
+	 * evicted, no further attempt is made before the next flush or before the
+	 * number of managed entities grew by another 10% of the maximum.
+	 */
+	public void afterExcessEntitiesEvicted() {
+		evictionThreshold = Math.max( maximumManagedEntities, entitiesByKey.size() + getEvictionMargin() );
+	}
+
+	private int getEvictionMargin() {
+		return Math.max( 1, maximumManagedEntities / 10 );
+	}
+
+	/**
+	 * A copy of the managed entities, least recently added or looked up first.
+	 * Only available when a maximum number of managed entities is configured.
+	 */
+	public List<Object> getEntitiesByAccess() {
+		return entitiesByAccess == null
+				? Collections.emptyList()
+				: new ArrayList<>( entitiesByAccess.values() );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity = entitiesByKey.remove( key );
+		if ( entitiesByAccess != null ) {
+			entitiesByAccess.remove( key );
+		}
 		final Iterator itr = entitiesByUniqueKey.values().iterator();
 		while ( itr.hasNext() ) {
 			if ( itr.next() == entity ) {
@@ -470,6 +593,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( dirtyCandidateTracking ) {
+			dirtyCandidates.remove( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -537,7 +663,22 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			removes the virtual call, and allows the methods to be in-lined.  In this critical code path, it has a very
 			large impact on performance to make virtual method calls.
 		*/
-		if ( descriptor.getEntityEntryFactory() instanceof MutableEntityEntryFactory) {
+		if ( sparseLoadedState && keepsSparseLoadedState( entity, descriptor ) ) {
+			e = new SparseLoadedStateEntityEntry(
+					entity,
+					status,
+					loadedState,
+					rowId,
+					id,
+					version,
+					lockMode,
+					existsInDatabase,
+					descriptor,
+					disableVersionIncrement,
+					this
+			);
+		}
+		else if ( descriptor.getEntityEntryFactory() instanceof MutableEntityEntryFactory) {
 			//noinspection RedundantCast
 			e = ( (MutableEntityEntryFactory) descriptor.getEntityEntryFactory() ).createEntityEntry(
 					status,
@@ -571,9 +712,40 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		if ( dirtyCandidateTracking && requiresDirtyCheck( entity, e ) ) {
+			dirtyCandidates.put( entity, entity );
+		}
 		return e;
 	}
 
+	private boolean keepsSparseLoadedState(Object entity, EntityTypeDescriptor descriptor) {
+		return entity instanceof SelfDirtinessTracker
+				&& entity instanceof ManagedEntity
+				&& sparseLoadedStateByDescriptor.computeIfAbsent( descriptor, StatefulPersistenceContext::supportsSparseLoadedState );
+	}
+
+	private static boolean supportsSparseLoadedState(EntityTypeDescriptor<?> descriptor) {
+		// the loaded state must be derivable from the entity: no lazy attributes which may
+		// not be initialized, no embedded values which may change without the entity knowing,
+		// no generated values written without tracking and no dirty/all optimistic locking
+		if ( !( descriptor.getEntityEntryFactory() instanceof MutableEntityEntryFactory )
+				|| descriptor.getBytecodeEnhancementMetadata().getLazyAttributesMetadata().hasLazyAttributes()
+				|| descriptor.hasInsertGeneratedProperties()
+				|| descriptor.hasUpdateGeneratedProperties() ) {
+			return false;
+		}
+		final OptimisticLockStyle optimisticLockStyle = descriptor.getHierarchy().getOptimisticLockStyle();
+		if ( optimisticLockStyle == OptimisticLockStyle.DIRTY || optimisticLockStyle == OptimisticLockStyle.ALL ) {
+			return false;
+		}
+		for ( NonIdPersistentAttribute attribute : descriptor.getPersistentAttributes() ) {
+			if ( attribute instanceof EmbeddedValuedNavigable ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public EntityEntry addReferenceEntry(
 			final Object entity,
 			final Status status) {
@@ -582,6 +754,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
 
 		setHasNonReadOnlyEnties( status );
+		if ( dirtyCandidateTracking && requiresDirtyCheck( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() ) ) {
+			dirtyCandidates.put( entity, entity );
+		}
 		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
 	}
 
@@ -1050,6 +1225,78 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.getNumberOfManagedEntities();
 	}
 
+	@Override
+	public boolean isDirtyCandidateTrackingEnabled() {
+		return dirtyCandidateTracking;
+	}
+
+	@Override
+	public void registerDirtyCandidate(Object entity) {
+		if ( !dirtyCandidateTracking ) {
+			return;
+		}
+
+		final EntityEntry entry = entityEntryContext.getEntityEntry( entity );
+		if ( entry != null && entry.getStatus() != Status.LOADING ) {
+			dirtyCandidates.put( entity, entity );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Entry<Object,EntityEntry>[] reentrantSafeDirtyCandidates() {
+		if ( !dirtyCandidateTracking ) {
+			return reentrantSafeEntityEntries();
+		}
+
+		final Entry<Object,Object>[] candidates = IdentityMap.concurrentEntries( dirtyCandidates );
+		final List<Entry<Object,EntityEntry>> result = new ArrayList<>( candidates.length );
+		for ( Entry<Object,Object> candidate : candidates ) {
+			final EntityEntry entry = entityEntryContext.getEntityEntry( candidate.getKey() );
+			if ( entry != null ) {
+				result.add( new AbstractMap.SimpleImmutableEntry<>( candidate.getKey(), entry ) );
+			}
+		}
+		return result.toArray( new Entry[ result.size() ] );
+	}
+
+	@Override
+	public void clearDirtyCandidates() {
+		if ( !dirtyCandidateTracking ) {
+			return;
+		}
+
+		for ( Entry<Object,Object> candidate : IdentityMap.concurrentEntries( dirtyCandidates ) ) {
+			final Object entity = candidate.getKey();
+			if ( !requiresDirtyCheck( entity, entityEntryContext.getEntityEntry( entity ) ) ) {
+				dirtyCandidates.remove( entity );
+			}
+		}
+	}
+
+	/**
+	 * Entities not tracking their own dirtiness need the snapshot comparison
+	 * of each flush; those that do (and, being ManagedEntity, notify their
+	 * EntityEntry of changes) only when they report changes or have a pending
+	 * insert or delete.
+	 */
+	private static boolean requiresDirtyCheck(Object entity, EntityEntry entry) {
+		if ( entry == null ) {
+			return false;
+		}
+
+		if ( !( entity instanceof SelfDirtinessTracker ) || !( entity instanceof ManagedEntity ) ) {
+			return true;
+		}
+
+		final Status status = entry.getStatus();
+		if ( status == Status.SAVING || status == Status.DELETED ) {
+			return true;
+		}
+
+		return ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
 	@Override
 	public Map getEntityEntries() {
 		return null;
@@ -1091,6 +1338,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.flushing = flushing;
 		if ( afterFlush ) {
 			getNaturalIdHelper().cleanupFromSynchronizations();
+			if ( entitiesByAccess != null ) {
+				// the flushed entities may be evictable now
+				evictionThreshold = maximumManagedEntities;
+			}
 		}
 	}
 
@@ -1446,6 +1697,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Object generatedId) {
 		final Object entity = entitiesByKey.remove( oldKey );
+		if ( entitiesByAccess != null ) {
+			entitiesByAccess.remove( oldKey );
+		}
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
 		parentsByChild.clear();
 
@@ -1590,10 +1844,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = IdentifierKeyedMap.forEntityKeys();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
+			if ( rtn.entitiesByAccess != null ) {
+				rtn.entitiesByAccess.putAll( rtn.entitiesByKey );
+			}
 
 			count = ois.readInt();
 			if ( tracing ) {
@@ -1636,18 +1893,24 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = IdentifierKeyedMap.forEntityKeys();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.dirtyCandidateTracking ) {
+				// changes made before serialization are not known anymore
+				for ( Entry<Object,EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.dirtyCandidates.put( entry.getKey(), entry.getKey() );
+				}
+			}
 
 			count = ois.readInt();
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = IdentifierKeyedMap.forCollectionKeys();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois ), (PersistentCollection) ois.readObject() );
 			}
@@ -133,7 +133,8 @@ public abstract class AbstractBatchImpl implements Batch {
 	}
 
 	private PreparedStatement buildBatchStatement(String sql, boolean callable) {
-		return jdbcCoordinator.getStatementPreparer().prepareStatement( sql, callable );
+		// the other statements of this batch, and any other open batches, stay pending
+		return jdbcCoordinator.getStatementPreparer().prepareBatchStatement( sql, callable );
 	}
 
 	@Override
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Set;
+
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.jdbc.Expectation;
 
@@ -18,6 +20,7 @@ public class BasicBatchKey implements BatchKey {
 	private final String comparison;
 	private final int statementCount;
 	private final Expectation expectation;
+	private final Set<String> dependencies;
 
 	/**
 	 * Constructs a BasicBatchKey
@@ -26,9 +29,22 @@ public class BasicBatchKey implements BatchKey {
 	 * @param expectation The expectation for the batch
 	 */
 	public BasicBatchKey(String comparison, Expectation expectation) {
+		this( comparison, expectation, null );
+	}
+
+	/**
+	 * Constructs a BasicBatchKey which knows the batches it depends on
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param dependencies The comparison strings of the batch keys whose statements may need
+	 * to be executed first, or {@code null} if unknown.
+	 */
+	public BasicBatchKey(String comparison, Expectation expectation, Set<String> dependencies) {
 		this.comparison = comparison;
 		this.statementCount = 1;
 		this.expectation = expectation;
+		this.dependencies = dependencies;
 	}
 
 	@Override
@@ -41,6 +57,14 @@ public class BasicBatchKey implements BatchKey {
 		return statementCount;
 	}
 
+	@Override
+	public boolean dependsOn(BatchKey other) {
+		if ( dependencies == null || !( other instanceof BasicBatchKey ) ) {
+			return true;
+		}
+		return dependencies.contains( ( (BasicBatchKey) other ).comparison );
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The batches a {@link JdbcCoordinator} keeps open together, one per {@link BatchKey}, so
+ * that interleaved statements for different keys do not force the pending batch to execute.
+ * <p/>
+ * The batches are kept in execution order, which is the order they were opened in unless
+ * a statement is added to a batch which {@link BatchKey#dependsOn depends on} a batch opened
+ * after it.  In that case the batch is moved behind the others if none of them depends on
+ * it, and otherwise all pending batches are executed first.  When a batch executes implicitly
+ * because it reached the batch size, the batches preceding it are executed first.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#KEYED_BATCHES
+ */
+public class KeyedBatches {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( KeyedBatches.class );
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final BatchBuilder batchBuilder;
+
+	private final LinkedHashMap<BatchKey,Batch> batches = new LinkedHashMap<>();
+
+	public KeyedBatches(JdbcCoordinator jdbcCoordinator, BatchBuilder batchBuilder) {
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.batchBuilder = batchBuilder;
+	}
+
+	/**
+	 * Get the open batch for the given key, opening it if necessary.
+	 *
+	 * @param key The batch key
+	 *
+	 * @return The batch
+	 */
+	public Batch getBatch(BatchKey key) {
+		Batch batch = batches.get( key );
+		if ( batch != null ) {
+			batch = reorder( key, batch );
+		}
+		if ( batch == null ) {
+			batch = batchBuilder.buildBatch( key, jdbcCoordinator );
+			batch.addObserver( new ImplicitExecutionObserver( key ) );
+			batches.put( key, batch );
+		}
+		return batch;
+	}
+
+	private Batch reorder(BatchKey key, Batch batch) {
+		boolean following = false;
+		boolean dependsOnFollowing = false;
+		boolean dependedOnByFollowing = false;
+		for ( BatchKey other : batches.keySet() ) {
+			if ( following ) {
+				dependsOnFollowing = dependsOnFollowing || key.dependsOn( other );
+				dependedOnByFollowing = dependedOnByFollowing || other.dependsOn( key );
+			}
+			else {
+				following = other.equals( key );
+			}
+		}
+
+		if ( !dependsOnFollowing ) {
+			return batch;
+		}
+		else if ( !dependedOnByFollowing ) {
+			LOG.tracef( "Moving batch %s behind the batches it depends on", key );
+			batches.remove( key );
+			batches.put( key, batch );
+			return batch;
+		}
+		else {
+			LOG.debugf( "Executing all batches as batch %s and the batches opened after it depend on each other", key );
+			execute();
+			return null;
+		}
+	}
+
+	/**
+	 * Execute and release all batches, in execution order.
+	 */
+	public void execute() {
+		executeUntil( null );
+	}
+
+	private void executeUntil(BatchKey key) {
+		while ( !batches.isEmpty() ) {
+			// executing a batch may release all batches if it fails
+			final Iterator<Map.Entry<BatchKey,Batch>> itr = batches.entrySet().iterator();
+			final Map.Entry<BatchKey,Batch> first = itr.next();
+			if ( first.getKey().equals( key ) ) {
+				return;
+			}
+			itr.remove();
+			final Batch batch = first.getValue();
+			batch.execute();
+			batch.release();
+		}
+	}
+
+	/**
+	 * Release all batches without executing them.
+	 */
+	public void release() {
+		for ( Batch batch : batches.values() ) {
+			batch.release();
+		}
+		batches.clear();
+	}
+
+	/**
+	 * Are there any open batches?
+	 */
+	public boolean isEmpty() {
+		return batches.isEmpty();
+	}
+
+	private class ImplicitExecutionObserver implements BatchObserver {
+		private final BatchKey key;
+
+		private ImplicitExecutionObserver(BatchKey key) {
+			this.key = key;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			// the statements about to be executed may depend on those of the preceding batches
+			executeUntil( key );
+		}
+	}
+}
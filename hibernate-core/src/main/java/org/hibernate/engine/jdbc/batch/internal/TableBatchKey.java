@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * BatchKey for the executions of one SQL statement writing rows of a single table.  The
+ * batch depends on the batches writing the tables which the rows it writes may reference,
+ * generally the tables targeted by the foreign keys of its table.
+ */
+public class TableBatchKey implements BatchKey {
+	private final String sql;
+	private final String tableName;
+	private final Set<String> dependedOnTableNames;
+	private final Expectation expectation;
+
+	/**
+	 * Constructs a TableBatchKey
+	 *
+	 * @param sql The SQL statement executed by the batch
+	 * @param tableName The name of the table written by the statement
+	 * @param dependedOnTableNames The names of the tables whose rows must be written first
+	 * @param expectation The expectation for the batch
+	 */
+	public TableBatchKey(String sql, String tableName, Set<String> dependedOnTableNames, Expectation expectation) {
+		this.sql = sql;
+		this.tableName = tableName;
+		this.dependedOnTableNames = dependedOnTableNames;
+		this.expectation = expectation;
+	}
+
+	@Override
+	public Expectation getExpectation() {
+		return expectation;
+	}
+
+	@Override
+	public int getBatchedStatementCount() {
+		return 1;
+	}
+
+	@Override
+	public boolean dependsOn(BatchKey other) {
+		if ( !( other instanceof TableBatchKey ) ) {
+			return true;
+		}
+		return dependedOnTableNames.contains( ( (TableBatchKey) other ).tableName );
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		final TableBatchKey that = (TableBatchKey) o;
+		return sql.equals( that.sql );
+	}
+
+	@Override
+	public int hashCode() {
+		return sql.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "TableBatchKey(" + tableName + ")";
+	}
+}
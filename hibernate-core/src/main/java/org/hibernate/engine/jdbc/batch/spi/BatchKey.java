@@ -29,4 +29,21 @@ public interface BatchKey {
 	 * @return The expectations
 	 */
 	Expectation getExpectation();
+
+	/**
+	 * May the statements of the batch associated with this key depend on statements of the
+	 * batch associated with the given key having been executed first, for example because
+	 * the rows they write reference the rows written by the other batch through a foreign key?
+	 * <p/>
+	 * Used to decide whether batches can be kept open together, see
+	 * {@link org.hibernate.cfg.AvailableSettings#KEYED_BATCHES}.  By default any batch is
+	 * assumed to depend on any other.
+	 *
+	 * @param other The key of the other batch
+	 *
+	 * @return {@code false} if the batches are known to be independent of each other.
+	 */
+	default boolean dependsOn(BatchKey other) {
+		return true;
+	}
 }
@@ -22,6 +22,7 @@ import java.util.Set;
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.jdbc.batch.internal.KeyedBatches;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -61,6 +62,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient JdbcSessionOwner owner;
 
 	private transient Batch currentBatch;
+	private transient KeyedBatches keyedBatches;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -183,6 +185,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( keyedBatches != null && !keyedBatches.isEmpty() ) {
+				LOG.closingUnreleasedBatch();
+				keyedBatches.release();
+			}
 			cleanup();
 		}
 		finally {
@@ -193,6 +199,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
+		if ( sessionFactory().getSessionFactoryOptions().isKeyedBatchingEnabled() ) {
+			if ( keyedBatches == null ) {
+				keyedBatches = new KeyedBatches( this, batchBuilder() );
+			}
+			return keyedBatches.getBatch( key );
+		}
+
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -213,6 +226,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			// needed?
 			currentBatch.release();
 		}
+		if ( keyedBatches != null ) {
+			keyedBatches.execute();
+		}
 	}
 
 	@Override
@@ -220,6 +236,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
+		if ( keyedBatches != null ) {
+			keyedBatches.release();
+		}
 	}
 
 	private transient StatementPreparer statementPreparer;
@@ -44,6 +44,18 @@ public interface StatementPreparer {
 	 */
 	public PreparedStatement prepareStatement(String sql, boolean isCallable);
 
+	/**
+	 * Prepare a statement to be added to a {@link org.hibernate.engine.jdbc.batch.spi.Batch}.
+	 * Unlike {@link #prepareStatement(String, boolean)}, this does not execute the pending
+	 * batches.
+	 *
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 *
+	 * @return the prepared statement
+	 */
+	public PreparedStatement prepareBatchStatement(String sql, boolean isCallable);
+
 	/**
 	 * Prepare an INSERT statement, specifying how auto-generated (by the database) keys should be handled.  Really this
 	 * is a boolean, but JDBC opted to define it instead using 2 int constants:<ul>
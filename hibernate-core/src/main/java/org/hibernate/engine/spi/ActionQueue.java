@@ -32,6 +32,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -596,26 +597,34 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final int multiRowInsertSize = getMultiRowInsertSize();
+		final List<EntityInsertAction> inserts = multiRowInsertSize > 1 ? new ArrayList<>() : null;
 		try {
 			for ( E e : list ) {
+				if ( inserts != null ) {
+					// consecutive inserts of the same entity type are executed together,
+					// so that their rows can be inserted using multi-row inserts
+					if ( !inserts.isEmpty() && ( inserts.size() == multiRowInsertSize
+							|| !isInsertOfSameEntityType( e, inserts.get( 0 ) ) ) ) {
+						executeInserts( inserts );
+					}
+					if ( e instanceof EntityInsertAction ) {
+						inserts.add( (EntityInsertAction) e );
+						continue;
+					}
+				}
+
 				try {
 					e.execute();
 				}
 				finally {
-					if( e.getBeforeTransactionCompletionProcess() != null ) {
-						if( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					}
-					if( e.getAfterTransactionCompletionProcess() != null ) {
-						if( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
-					}
+					registerTransactionCompletionProcesses( e );
 				}
 			}
+
+			if ( inserts != null && !inserts.isEmpty() ) {
+				executeInserts( inserts );
+			}
 		}
 		finally {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
@@ -631,6 +640,45 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private int getMultiRowInsertSize() {
+		if ( !session.getJdbcServices().getDialect().supportsMultiRowInsert() ) {
+			return 1;
+		}
+		return session.getConfiguredJdbcBatchSize();
+	}
+
+	private static boolean isInsertOfSameEntityType(Executable executable, EntityInsertAction insert) {
+		return executable instanceof EntityInsertAction
+				&& ( (EntityInsertAction) executable ).getEntityDescriptor() == insert.getEntityDescriptor();
+	}
+
+	private void executeInserts(List<EntityInsertAction> inserts) {
+		try {
+			EntityInsertAction.executeAll( inserts );
+		}
+		finally {
+			for ( EntityInsertAction insert : inserts ) {
+				registerTransactionCompletionProcesses( insert );
+			}
+			inserts.clear();
+		}
+	}
+
+	private void registerTransactionCompletionProcesses(Executable executable) {
+		if( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if( executable.getAfterTransactionCompletionProcess() != null ) {
+			if( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
@@ -826,6 +874,31 @@ public class ActionQueue {
 				|| ( collectionCreations != null && !collectionCreations.isEmpty() );
 	}
 
+	/**
+	 * Collect the entity instances the queued entity actions refer to.
+	 *
+	 * @param entities The set to collect the entity instances into
+	 */
+	public void collectEntitiesWithQueuedActions(Set<Object> entities) {
+		collectEntities( insertions, entities );
+		collectEntities( updates, entities );
+		collectEntities( deletions, entities );
+		collectEntities( orphanRemovals, entities );
+		if ( unresolvedInsertions != null ) {
+			for ( AbstractEntityInsertAction action : unresolvedInsertions.getDependentEntityInsertActions() ) {
+				entities.add( action.getInstance() );
+			}
+		}
+	}
+
+	private static void collectEntities(ExecutableList<? extends EntityAction> actions, Set<Object> entities) {
+		if ( actions != null ) {
+			for ( EntityAction action : actions ) {
+				entities.add( action.getInstance() );
+			}
+		}
+	}
+
 	public void unScheduleDeletion(EntityEntry entry, Object rescuedEntity) {
 		if ( rescuedEntity instanceof HibernateProxy ) {
 			LazyInitializer initializer = ( (HibernateProxy) rescuedEntity ).getHibernateLazyInitializer();
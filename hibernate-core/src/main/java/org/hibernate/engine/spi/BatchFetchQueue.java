@@ -7,18 +7,25 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.hibernate.EntityMode;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BatchLoadableKeyIndex;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.loader.BatchLoadSizingStrategy;
+import org.hibernate.loader.internal.AdaptiveBatchLoadSizingStrategy;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.model.domain.spi.PersistentCollectionDescriptor;
 
@@ -51,13 +58,26 @@ public class BatchFetchQueue {
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
 	 * type at a time.
 	 */
-	private final Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys = new HashMap<>( 8 );
-	
+	private final Map<String,BatchLoadableKeyIndex<EntityKey,Void>> batchLoadableEntityKeys = new HashMap<>( 8 );
+
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
-	 * used by {@link #getCollectionBatch} to build collection load batches.
+	 * used by {@link #getCollectionBatch} to build collection load batches.  The entries are located by the
+	 * {@link CollectionKey} of their loaded key.
+	 */
+	private final Map<String,BatchLoadableKeyIndex<CollectionEntry,PersistentCollection>> batchLoadableCollections = new HashMap<>( 8 );
+
+	/**
+	 * Adapts the size of the entity batches to their use, or {@code null} if the
+	 * requested batch sizes are used as-is.
+	 */
+	private final BatchLoadSizingStrategy sizingStrategy;
+
+	/**
+	 * The keys of the entities loaded by batches in addition to the demanded
+	 * one, and not demanded since.  Only tracked for the sizingStrategy.
 	 */
-	private final Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections = new HashMap<>( 8 );
+	private final Set<EntityKey> prefetchedEntityKeys;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -66,6 +86,20 @@ public class BatchFetchQueue {
 	 */
 	public BatchFetchQueue(PersistenceContext context) {
 		this.context = context;
+
+		final SessionFactoryImplementor factory = context.getSession().getFactory();
+		final int maximumBatchSize = factory.getSessionFactoryOptions().getAdaptiveBatchFetchMaximumSize();
+		if ( maximumBatchSize > 0 ) {
+			this.sizingStrategy = new AdaptiveBatchLoadSizingStrategy(
+					factory.getDialect().getDefaultBatchLoadSizingStrategy(),
+					maximumBatchSize
+			);
+			this.prefetchedEntityKeys = new HashSet<>();
+		}
+		else {
+			this.sizingStrategy = null;
+			this.prefetchedEntityKeys = null;
+		}
 	}
 
 	/**
@@ -77,6 +111,9 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys.clear();
 		batchLoadableCollections.clear();
 		subselectsByEntityKey.clear();
+		if ( prefetchedEntityKeys != null ) {
+			prefetchedEntityKeys.clear();
+		}
 	}
 
 
@@ -127,12 +164,8 @@ public class BatchFetchQueue {
 	 */
 	public void addBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable() ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName());
-			if (set == null) {
-				set = new LinkedHashSet<>( 8 );
-				batchLoadableEntityKeys.put( key.getEntityName(), set);
-			}
-			set.add(key);
+			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> new BatchLoadableKeyIndex<>() )
+					.add( key, null );
 		}
 	}
 	
@@ -144,9 +177,9 @@ public class BatchFetchQueue {
 	 */
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable() ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName());
-			if (set != null) {
-				set.remove(key);
+			final BatchLoadableKeyIndex<EntityKey,Void> index = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( index != null ) {
+				index.remove( key );
 			}
 		}
 	}
@@ -156,85 +189,132 @@ public class BatchFetchQueue {
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable() ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName());
-			if ( set != null ) {
-				return set.contains( key );
+			final BatchLoadableKeyIndex<EntityKey,Void> index = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( index != null ) {
+				return index.contains( key );
 			}
 		}
 		return false;
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Notification that an entity was demanded from the persistence context.
+	 * Used to adapt the size of the batches to the use of the entities they load.
+	 */
+	public void entityDemanded(EntityKey key) {
+		if ( prefetchedEntityKeys != null && prefetchedEntityKeys.remove( key ) ) {
+			sizingStrategy.prefetchedEntityUsed( key.getEntityName() );
+		}
+	}
+
+	/**
+	 * Get a batch of unloaded identifiers for this class, preferring the keys
+	 * registered immediately after the given key, then those registered
+	 * immediately before it.
+	 * <p/>
+	 * If adaptive sizing is {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE enabled},
+	 * the given batch size is the initial size of the batches for the entity.
 	 *
 	 * @param entityDescriptor The descriptor for the entities being loaded.
 	 * @param id The identifier of the entity currently demanding load.
 	 * @param batchSize The maximum number of keys to return
-	 * @return an array of identifiers, of length batchSize (possibly padded with nulls)
+	 * @return an array of identifiers, of length batchSize or less (possibly padded with nulls)
 	 */
-	@SuppressWarnings("unchecked")
 	public Object[] getEntityBatch(
 			final EntityTypeDescriptor entityDescriptor,
 			final Object id,
 			final int batchSize,
 			final EntityMode entityMode) {
-		Object[] ids = new Serializable[batchSize];
+		final String entityName = entityDescriptor.getEntityName();
+		final int size = sizingStrategy == null ? batchSize : sizingStrategy.determineBatchSize( entityName, batchSize );
+		final Object[] ids = new Object[size];
 		ids[0] = id; //first element of array is reserved for the actual instance we are loading!
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
+		int count = 1;
 
 		// TODO: this needn't exclude subclasses...
 
-		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					//the first id found after the given id
-					return ids;
-				}
-				if ( entityDescriptor.getIdentifierType().getJavaTypeDescriptor().areEqual( id, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityDescriptor ) ) {
-						ids[i++] = key.getIdentifier();
-					}
-				}
-				if ( i == batchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
+		final BatchLoadableKeyIndex<EntityKey,Void> index = batchLoadableEntityKeys.get( entityName );
+		if ( index != null && size > 1 ) {
+			final EntityKey anchor = context.getSession().generateEntityKey( id, entityDescriptor );
+			if ( isCacheReadable( entityDescriptor ) ) {
+				final SharedSessionContractImplementor session = context.getSession();
+				final EntityDataAccess cacheAccess = entityDescriptor.getHierarchy().getEntityCacheAccess();
+				count = collectUncached(
+						index,
+						anchor,
+						ids,
+						count,
+						(key, ignored) -> key.getIdentifier(),
+						cacheAccess,
+						identifier -> cacheAccess.generateCacheKey(
+								identifier,
+								entityDescriptor.getHierarchy(),
+								session.getFactory(),
+								session.getTenantIdentifier()
+						)
+				);
 			}
+			else {
+				count = index.collectAround( anchor, ids, count, (key, ignored) -> key.getIdentifier() );
+			}
+		}
+
+		if ( sizingStrategy != null && count > 1 ) {
+			for ( int i = 1; i < count; i++ ) {
+				prefetchedEntityKeys.add( context.getSession().generateEntityKey( ids[i], entityDescriptor ) );
+			}
+			sizingStrategy.entitiesPrefetched( entityName, count - 1 );
 		}
-		return ids; //we ran out of ids to try
+
+		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityTypeDescriptor entityDescriptor) {
-		final SharedSessionContractImplementor session = context.getSession();
+	private boolean isCacheReadable(EntityTypeDescriptor entityDescriptor) {
+		return context.getSession().getCacheMode().isGetEnabled() && entityDescriptor.canReadFromCache();
+	}
 
-		if ( ! session.getCacheMode().isGetEnabled() ) {
-			return false;
-		}
+	/**
+	 * Collect the values produced by the extractor around the anchor as
+	 * {@link BatchLoadableKeyIndex#collectAround} does, skipping those cached in the
+	 * second-level cache.  The cache is checked for all candidates at once, collecting
+	 * more candidates as long as cached ones leave room in the batch.
+	 */
+	private <K,V> int collectUncached(
+			BatchLoadableKeyIndex<K,V> index,
+			Object anchor,
+			Object[] into,
+			int position,
+			BiFunction<K,V,Object> extractor,
+			CachedDomainDataAccess cacheAccess,
+			Function<Object,Object> cacheKeyGenerator) {
+		final BatchLoadableKeyIndex.Cursor<K,V> cursor = index.cursorAround( anchor );
+		while ( position < into.length ) {
+			// the cursor resumes after the candidates already checked
+			final Object[] candidates = new Object[ into.length - position ];
+			final int collected = cursor.collect( candidates, 0, extractor );
+			if ( collected == 0 ) {
+				break;
+			}
 
-		if ( !entityDescriptor.canReadFromCache() ) {
-			return false;
-		}
+			final List<Object> cacheKeys = new ArrayList<>( collected );
+			for ( int i = 0; i < collected; i++ ) {
+				cacheKeys.add( cacheKeyGenerator.apply( candidates[i] ) );
+			}
+			final Map<Object,Object> cached = CacheHelper.fromSharedCache( context.getSession(), cacheKeys, cacheAccess );
+			for ( int i = 0; i < collected; i++ ) {
+				if ( !cached.containsKey( cacheKeys.get( i ) ) ) {
+					into[position++] = candidates[i];
+				}
+			}
 
-		EntityDataAccess cacheAccess = entityDescriptor.getHierarchy().getEntityCacheAccess();
-		final Object key = cacheAccess.generateCacheKey(
-				entityKey.getIdentifier(),
-				entityDescriptor.getHierarchy(),
-				session.getFactory(),
-				session.getTenantIdentifier()
-		);
-		return CacheHelper.fromSharedCache( session, key, cacheAccess ) != null;
+			if ( collected < candidates.length ) {
+				// no more candidates
+				break;
+			}
+		}
+		return position;
 	}
-	
+
 
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -245,12 +325,11 @@ public class BatchFetchQueue {
 	public void addBatchLoadableCollection(PersistentCollection collection, CollectionEntry ce) {
 		final PersistentCollectionDescriptor collectionDescriptor = ce.getLoadedCollectionDescriptor();
 
-		LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionDescriptor.getNavigableRole().getFullPath() );
-		if ( map == null ) {
-			map = new LinkedHashMap<>( 16 );
-			batchLoadableCollections.put( collectionDescriptor.getNavigableRole().getFullPath(), map );
-		}
-		map.put( ce, collection );
+		final Object loadedKey = ce.getLoadedKey();
+		batchLoadableCollections.computeIfAbsent(
+				collectionDescriptor.getNavigableRole().getFullPath(),
+				k -> new BatchLoadableKeyIndex<>()
+		).add( ce, loadedKey == null ? null : new CollectionKey( collectionDescriptor, loadedKey ), collection );
 	}
 	
 	/**
@@ -259,98 +338,86 @@ public class BatchFetchQueue {
 	 * if necessary
 	 */
 	public void removeBatchLoadableCollection(CollectionEntry ce) {
-		LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( ce.getLoadedCollectionDescriptor().getNavigableRole().getFullPath() );
-		if ( map != null ) {
-			map.remove( ce );
+		final BatchLoadableKeyIndex<CollectionEntry,PersistentCollection> index = batchLoadableCollections.get(
+				ce.getLoadedCollectionDescriptor().getNavigableRole().getFullPath()
+		);
+		if ( index != null ) {
+			index.remove( ce );
 		}
 	}
 
 	/**
-	 * Get a batch of uninitialized collection keys for a given role
+	 * Get a batch of uninitialized collection keys for a given role, preferring
+	 * the collections registered immediately after the one with the given key,
+	 * then those registered immediately before it.
 	 *
 	 * @param persistentCollectionDescriptor The descriptor for the collection role.
 	 * @param id A key that must be included in the batch fetch
 	 * @param batchSize the maximum number of keys to return
-	 * @return an array of collection keys, of length batchSize (padded with nulls)
+	 * @return an array of collection keys, of length batchSize or less (padded with nulls)
 	 */
 	public Object[] getCollectionBatch(
 			final PersistentCollectionDescriptor persistentCollectionDescriptor,
 			final Serializable id,
 			final int batchSize) {
-
-		Object[] keys = new Object[batchSize];
+		final String role = persistentCollectionDescriptor.getNavigableRole().getFullPath();
+		final Object[] keys = new Object[batchSize];
 		keys[0] = id;
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( persistentCollectionDescriptor.getNavigableRole().getFullPath() );
-		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final PersistentCollection collection = me.getValue();
-				
-				if ( ce.getLoadedKey() == null ) {
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-					continue;
-				}
-
-				if ( collection.wasInitialized() ) {
-					// should never happen
-					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-					continue;
-				}
-
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
-
-				final boolean isEqual = persistentCollectionDescriptor.getCollectionKeyDescriptor()
-						.getJavaTypeDescriptor()
-						.areEqual(
-								id,
-								ce.getLoadedKey()
-						);
-
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
-				}
-				else if ( !isCached( ce.getLoadedKey(), persistentCollectionDescriptor ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
-				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
+		final BatchLoadableKeyIndex<CollectionEntry,PersistentCollection> index = batchLoadableCollections.get( role );
+		if ( index != null && batchSize > 1 ) {
+			final CollectionKey anchor = new CollectionKey( persistentCollectionDescriptor, id );
+			final BiFunction<CollectionEntry,PersistentCollection,Object> extractor =
+					(ce, collection) -> {
+						if ( ce.getLoadedKey() == null ) {
+							// the loadedKey of the collectionEntry might be null as it might have been reset to null
+							// (see for example Collections.processDereferencedCollection()
+							// and CollectionEntry.afterAction())
+							// though we clear the queue on flush, it seems like a good idea to guard
+							// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+							return null;
+						}
+
+						if ( collection.wasInitialized() ) {
+							// should never happen
+							LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
+							return null;
+						}
+
+						final boolean isEqual = persistentCollectionDescriptor.getCollectionKeyDescriptor()
+								.getJavaTypeDescriptor()
+								.areEqual( id, ce.getLoadedKey() );
+						if ( isEqual ) {
+							return null;
+						}
+
+						return ce.getLoadedKey();
+					};
+
+			if ( context.getSession().getCacheMode().isGetEnabled() && persistentCollectionDescriptor.hasCache() ) {
+				final SharedSessionContractImplementor session = context.getSession();
+				final CollectionDataAccess cacheAccess = persistentCollectionDescriptor.getCacheAccess();
+				collectUncached(
+						index,
+						anchor,
+						keys,
+						1,
+						extractor,
+						cacheAccess,
+						collectionKey -> cacheAccess.generateCacheKey(
+								collectionKey,
+								persistentCollectionDescriptor,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						)
+				);
+			}
+			else {
+				index.collectAround( anchor, keys, 1, extractor );
 			}
-		}
-		return keys; //we ran out of keys to try
-	}
-
-	private boolean isCached(Object collectionKey, PersistentCollectionDescriptor descriptor) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && descriptor.hasCache() ) {
-			CollectionDataAccess cache = descriptor.getCacheAccess();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					descriptor,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
 		}
 
-		return false;
+		return keys;
 	}
 
 }
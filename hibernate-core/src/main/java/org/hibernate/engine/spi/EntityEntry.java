@@ -132,6 +132,19 @@ public interface EntityEntry {
 
 	void setReadOnly(boolean readOnly, Object entity);
 
+	/**
+	 * Notification from an entity tracking its own dirtiness (see {@link SelfDirtinessTracker})
+	 * that one of its attributes is about to change.  The attribute still holds its
+	 * previous value.
+	 *
+	 * @param entity The entity instance
+	 * @param attributeName The name of the changing attribute
+	 *
+	 * @see PersistenceContext#registerDirtyCandidate
+	 */
+	default void attributeChanged(Object entity, String attributeName) {
+	}
+
 	@Override
 	String toString();
 
@@ -57,7 +57,7 @@ public final class EntityKey implements EntityKeyCommon, Serializable {
 
 	private int generateHashCode() {
 		int result = 17;
-		final String rootEntityName = entityDescriptor.getHierarchy().getRootEntityType().getEntityName();
+		final String rootEntityName = getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
 		result = 37 * result + entityDescriptor.getHierarchy().getIdentifierDescriptor()
 				.getJavaTypeDescriptor()
@@ -77,6 +77,14 @@ public final class EntityKey implements EntityKeyCommon, Serializable {
 		return entityDescriptor.getEntityName();
 	}
 
+	/**
+	 * The name of the root entity of the hierarchy; keys for the same identifier
+	 * are equal across the hierarchy.
+	 */
+	public String getRootEntityName() {
+		return entityDescriptor.getHierarchy().getRootEntityType().getEntityName();
+	}
+
 	@Override
 	public Object getKeyValue() {
 		return getIdentifier();
@@ -141,6 +141,19 @@ public class LoadQueryInfluencers implements Serializable {
 	}
 
 
+	/**
+	 * Are any influencers (filters, fetch profiles, internal fetch profile or
+	 * entity graph) in effect?  If not, SQL generated for a query does not
+	 * depend on this state and can be shared across Sessions.
+	 */
+	public boolean hasAnyInfluencers() {
+		return hasEnabledFilters()
+				|| hasEnabledFetchProfiles()
+				|| enabledInternalFetchProfileType != null
+				|| effectiveEntityGraph.getSemantic() != null;
+	}
+
+
 	// filter support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	public boolean hasEnabledFilters() {
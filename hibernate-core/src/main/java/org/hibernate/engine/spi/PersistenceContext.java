@@ -172,6 +172,19 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Locate the key under which the entity with the given identifier is held in the
+	 * persistence context.  For the common identifier types this does not require a
+	 * key to be created, so it is the preferred way to look for an entity when no key
+	 * is at hand yet.
+	 *
+	 * @param id The identifier of the entity to look for
+	 * @param entityDescriptor The descriptor of the entity to look for
+	 *
+	 * @return The key under which the entity is held, or {@code null}
+	 */
+	EntityKey findEntityKey(Object id, EntityTypeDescriptor entityDescriptor);
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -512,6 +525,38 @@ public interface PersistenceContext {
 
 	int getNumberOfManagedEntities();
 
+	/**
+	 * Are flushes limited to the registered dirty candidates?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_DIRTY_CANDIDATES_ONLY
+	 */
+	default boolean isDirtyCandidateTrackingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Register a managed entity as possibly being dirty, so that it is visited
+	 * by the next flush.  A no-op unless {@link #isDirtyCandidateTrackingEnabled()}.
+	 */
+	default void registerDirtyCandidate(Object entity) {
+	}
+
+	/**
+	 * Provides access to the entity/EntityEntry combos to be visited by a flush
+	 * in a manner that is safe from reentrant access.  Unless
+	 * {@link #isDirtyCandidateTrackingEnabled()} this is all of them.
+	 */
+	default Map.Entry<Object,EntityEntry>[] reentrantSafeDirtyCandidates() {
+		return reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Called after the changes found by a flush were executed, to forget the
+	 * candidates which are no longer dirty
+	 */
+	default void clearDirtyCandidates() {
+	}
+
 	/**
 	 * Get the mapping from collection instance to collection entry
 	 */
@@ -12,6 +12,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.FlushModeType;
@@ -242,6 +245,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.prepareForQueryExecution( requiresTxn );
 	}
 
+	@Override
+	public <T> CompletableFuture<T> executeQueryAsync(Supplier<T> work, Executor executor) {
+		return delegate.executeQueryAsync( work, executor );
+	}
+
+	@Override
+	public boolean autoFlushIfRequired(Set<String> querySpaces) {
+		return delegate.autoFlushIfRequired( querySpaces );
+	}
+
 	@Override
 	public void markForRollbackOnly() {
 		delegate.markForRollbackOnly();
@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import javax.naming.NamingException;
 import javax.naming.Reference;
 import javax.persistence.EntityGraph;
@@ -191,6 +192,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getQueryEngine();
 	}
 
+	@Override
+	public ForkJoinPool getParallelDirtyCheckPool() {
+		return delegate.getParallelDirtyCheckPool();
+	}
+
 	@Override
 	public Interceptor getInterceptor() {
 		return delegate.getInterceptor();
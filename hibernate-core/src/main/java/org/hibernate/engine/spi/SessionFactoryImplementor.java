@@ -9,6 +9,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.persistence.EntityGraph;
 
@@ -111,6 +112,16 @@ public interface SessionFactoryImplementor
 
 	QueryEngine getQueryEngine();
 
+	/**
+	 * The pool across which the dirty checking of large flushes is spread, or
+	 * {@code null} if dirty checking is never done in parallel.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default ForkJoinPool getParallelDirtyCheckPool() {
+		return null;
+	}
+
 	/**
 	 * Retrieve fetch profile by name.
 	 *
@@ -8,7 +8,11 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 
 import org.hibernate.CacheMode;
@@ -146,6 +150,30 @@ public interface SharedSessionContractImplementor
 
 	void prepareForQueryExecution(boolean requiresTxn);
 
+	/**
+	 * Perform query work asynchronously on the given Executor.  As the Session is
+	 * not thread-safe, it accepts no other asynchronous query work and executes no
+	 * query from another thread until the work has completed.
+	 *
+	 * @throws IllegalStateException if asynchronous query work of this Session is still in progress
+	 *
+	 * @since 6.0
+	 */
+	<T> CompletableFuture<T> executeQueryAsync(Supplier<T> work, Executor executor);
+
+	/**
+	 * Flush the in-memory changes which affect the given query spaces (table
+	 * names) before a query against them is executed, if the flush mode
+	 * calls for it.
+	 *
+	 * @return {@code true} if a flush was performed
+	 *
+	 * @since 6.0
+	 */
+	default boolean autoFlushIfRequired(Set<String> querySpaces) {
+		return false;
+	}
+
 	/**
 	 * Marks current transaction (if one) for rollback only
 	 */
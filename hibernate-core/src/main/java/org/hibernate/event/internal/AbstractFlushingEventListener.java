@@ -9,6 +9,7 @@ package org.hibernate.event.internal;
 import java.io.Serializable;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.CollectionRecreateAction;
@@ -73,6 +74,24 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 	 * @throws HibernateException Error flushing caches to execution queues.
 	 */
 	protected void flushEverythingToExecutions(FlushEvent event) throws HibernateException {
+		flushToExecutions( event, null );
+	}
+
+	/**
+	 * Like {@link #flushEverythingToExecutions}, but only dirty checks the
+	 * entities which may affect the given query spaces: those mapped to one of
+	 * these tables or owning a collection mapped to one of them.  Cascades and
+	 * collections are still processed for all entities.
+	 *
+	 * @param event The flush event.
+	 * @param querySpaces The query spaces (table names) of interest
+	 * @throws HibernateException Error flushing caches to execution queues.
+	 */
+	protected void flushQuerySpacesToExecutions(FlushEvent event, Set<String> querySpaces) throws HibernateException {
+		flushToExecutions( event, querySpaces );
+	}
+
+	private void flushToExecutions(FlushEvent event, Set<String> querySpaces) throws HibernateException {
 
 		LOG.trace( "Flushing session" );
 
@@ -92,7 +111,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
+			int entityCount = flushEntities( event, persistenceContext, querySpaces );
 			int collectionCount = flushCollections( session, persistenceContext );
 
 			event.setNumberOfEntitiesProcessed( entityCount );
@@ -144,7 +163,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Object anything = getAnything();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeDirtyCandidates() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
@@ -205,7 +224,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final Set<String> querySpaces) throws HibernateException {
 
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
@@ -221,10 +243,19 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// unless dirty candidate tracking is enabled, these are all entities
+		final Map.Entry<Object,EntityEntry>[] entityEntries = querySpaces == null
+				? persistenceContext.reentrantSafeDirtyCandidates()
+				: QuerySpaceFilter.filter( persistenceContext.reentrantSafeDirtyCandidates(), querySpaces );
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		// for large flushes, read and compare the entity state up-front in parallel
+		final FlushEntityEvent[] precomputedEvents = ParallelDirtyChecker.isApplicable( source, count, flushListeners )
+				? ParallelDirtyChecker.createFlushEvents( source, entityEntries )
+				: null;
+
+		for ( int i = 0; i < count; i++ ) {
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 
 			// Update the status of the object and if necessary, schedule an update
 
@@ -232,18 +263,65 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				final FlushEntityEvent entityEvent = precomputedEvents == null
+						? new FlushEntityEvent( source, me.getKey(), entry )
+						: precomputedEvents[i];
 				for ( FlushEntityEventListener listener : flushListeners ) {
 					listener.onFlushEntity( entityEvent );
 				}
 			}
 		}
 
+		if ( querySpaces != null || persistenceContext.isDirtyCandidateTrackingEnabled() ) {
+			reachCollectionsOfUnvisitedOwners( source, persistenceContext, entityEntries );
+		}
+
 		source.getActionQueue().sortActions();
 
 		return count;
 	}
 
+	/**
+	 * Visiting an entity marks the collections it references as reachable.  The
+	 * collections of entities skipped by a dirty candidate or query space flush
+	 * are still referenced by those entities, so mark them as reached from their
+	 * owner rather than have them dereferenced.
+	 */
+	@SuppressWarnings("unchecked")
+	private void reachCollectionsOfUnvisitedOwners(
+			EventSource session,
+			PersistenceContext persistenceContext,
+			Map.Entry<Object,EntityEntry>[] visitedEntries) {
+		final IdentityHashMap<Object,Object> visited = new IdentityHashMap<>( visitedEntries.length );
+		for ( Map.Entry<Object,EntityEntry> me : visitedEntries ) {
+			visited.put( me.getKey(), me.getKey() );
+		}
+
+		for ( Map.Entry<PersistentCollection,CollectionEntry> me :
+				IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) persistenceContext.getCollectionEntries() ) ) {
+			final CollectionEntry ce = me.getValue();
+			if ( ce.isReached() || ce.isIgnore() || ce.getLoadedCollectionDescriptor() == null ) {
+				continue;
+			}
+
+			final Object owner = me.getKey().getOwner();
+			if ( owner == null || visited.containsKey( owner ) ) {
+				continue;
+			}
+
+			final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+			if ( ownerEntry != null
+					&& ( ownerEntry.getStatus() == Status.MANAGED || ownerEntry.getStatus() == Status.READ_ONLY ) ) {
+				Collections.processReachableCollection(
+						me.getKey(),
+						ce.getLoadedCollectionDescriptor().getDescribedAttribute(),
+						owner,
+						session
+				);
+			}
+		}
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -379,6 +457,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		persistenceContext.getCollectionsByKey().clear();
+		persistenceContext.clearDirtyCandidates();
 		
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
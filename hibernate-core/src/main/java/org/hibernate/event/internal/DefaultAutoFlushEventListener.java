@@ -32,6 +32,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	 *            The auto-flush event to be handled.
 	 * @throws HibernateException
 	 */
+	@SuppressWarnings("unchecked")
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		try {
@@ -41,7 +42,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final int oldSize = source.getActionQueue().numberOfCollectionRemovals();
-				flushEverythingToExecutions(event);
+				if ( isQuerySpaceFlush( event, source ) ) {
+					flushQuerySpacesToExecutions( event, event.getQuerySpaces() );
+				}
+				else {
+					flushEverythingToExecutions( event );
+				}
 				if ( flushIsReallyNeeded(event, source) ) {
 					LOG.trace( "Need to execute flush" );
 
@@ -77,6 +83,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	private boolean isQuerySpaceFlush(AutoFlushEvent event, final EventSource source) {
+		return source.getFactory().getSessionFactoryOptions().isQuerySpaceAutoFlushEnabled()
+				&& source.getHibernateFlushMode() != FlushMode.ALWAYS
+				&& event.getQuerySpaces() != null;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
 				&& source.getDontFlushFromFind() == 0
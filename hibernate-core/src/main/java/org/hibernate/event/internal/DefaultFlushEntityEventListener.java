@@ -146,7 +146,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -172,7 +172,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final SessionImplementor session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 		final Status status = entry.getStatus();
 		final EntityTypeDescriptor descriptor = entry.getDescriptor();
@@ -188,8 +191,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			checkId( entity, descriptor, entry.getId(), session );
 
-			// grab its current state
-			values = descriptor.getPropertyValues( entity );
+			// grab its current state, unless read already by a parallel dirty check
+			values = isDirtyCheckPrecomputed( event )
+					? event.getPropertyValues()
+					: descriptor.getPropertyValues( entity );
 
 			checkNaturalId( descriptor, entry, values, loadedState, session );
 		}
@@ -588,7 +593,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
 					// dirty check against the usual snapshot of the entity
-					dirtyProperties = entityDescriptor.findDirty( values, loadedState, entity, session );
+					dirtyProperties = isDirtyCheckPrecomputed( event )
+							? event.getPrecomputedDirtyProperties()
+							: entityDescriptor.findDirty( values, loadedState, entity, session );
 				}
 				else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -635,6 +642,17 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		event.setDirtyCheckHandledByInterceptor( interceptorHandledDirtyCheck );
 		event.setDirtyCheckPossible( dirtyCheckPossible );
 
+		// the Interceptor may change the values, any further dirty check must be a real one
+		event.clearPrecomputedDirtyCheck();
+
+	}
+
+	/**
+	 * Can the outcome of a parallel dirty check (see {@link ParallelDirtyChecker}) be
+	 * used?  Not if the entity changed status since.
+	 */
+	private static boolean isDirtyCheckPrecomputed(FlushEntityEvent event) {
+		return event.isDirtyCheckPrecomputed() && event.getEntityEntry().getStatus() == Status.MANAGED;
 	}
 
 	private class DirtyCheckAttributeInfoImpl implements CustomEntityDirtinessStrategy.AttributeInformation {
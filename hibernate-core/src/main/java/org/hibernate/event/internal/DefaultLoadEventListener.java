@@ -434,7 +434,11 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		Object entity = persistenceContextEntry.getEntity();
 
 		if ( entity != null ) {
-			return persistenceContextEntry.isManaged() ? entity : null;
+			if ( persistenceContextEntry.isManaged() ) {
+				event.getSession().getPersistenceContext().getBatchFetchQueue().entityDemanded( keyToLoad );
+				return entity;
+			}
+			return null;
 		}
 
 		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, entityDescriptor, keyToLoad );
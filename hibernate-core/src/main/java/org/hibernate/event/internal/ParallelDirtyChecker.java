@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.model.domain.internal.SingularPersistentAttributeEmbedded;
+import org.hibernate.metamodel.model.domain.internal.SingularPersistentAttributeEntity;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.ManagedTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.StateArrayContributor;
+
+/**
+ * Performs the read-only part of dirty checking non-enhanced entities - reading
+ * their current state and comparing it to their loaded state - for all entities
+ * of a flush at once, spread across the pool of the SessionFactory (see
+ * {@link org.hibernate.engine.spi.SessionFactoryImplementor#getParallelDirtyCheckPool()}).
+ * The outcome is handed to {@link DefaultFlushEntityEventListener} through the
+ * {@link FlushEntityEvent}s, which are then handled on the flushing thread in
+ * the usual order, so actions are scheduled exactly as for a sequential flush.
+ * <p/>
+ * Anything which may have side effects (Interceptor and
+ * CustomEntityDirtinessStrategy calls, identifier and natural-id checks,
+ * collection wrapping) is left to the listener, as are the entities whose
+ * state cannot be read and compared without the (not thread-safe) Session:
+ * entities enhanced for lazy loading, whose getters may initialize attributes,
+ * and entities with to-one associations, whose foreign keys are resolved
+ * through the Session.
+ */
+final class ParallelDirtyChecker {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyChecker.class );
+
+	/**
+	 * The number of entities below which a task checks the entities itself
+	 * rather than splitting further
+	 */
+	private static final int MIN_ENTITIES_PER_TASK = 128;
+
+	private ParallelDirtyChecker() {
+	}
+
+	/**
+	 * Should the dirty checking of this flush be done in parallel?
+	 */
+	static boolean isApplicable(
+			EventSource session,
+			int numberOfEntities,
+			Iterable<FlushEntityEventListener> flushListeners) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckThreshold();
+		if ( threshold <= 0 || numberOfEntities < threshold || session.getFactory().getParallelDirtyCheckPool() == null ) {
+			return false;
+		}
+
+		// a CustomEntityDirtinessStrategy would be asked first anyway
+		if ( !( session.getFactory().getCustomEntityDirtinessStrategy() instanceof DefaultCustomEntityDirtinessStrategy ) ) {
+			return false;
+		}
+
+		// custom listeners may change entity state while the flush is handled
+		for ( FlushEntityEventListener listener : flushListeners ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create the flush events for the given entity entries, in the same order,
+	 * with the dirty check precomputed for all those for which it is possible.
+	 */
+	static FlushEntityEvent[] createFlushEvents(EventSource session, Map.Entry<Object,EntityEntry>[] entityEntries) {
+		final FlushEntityEvent[] events = new FlushEntityEvent[ entityEntries.length ];
+		final boolean[] precomputable = new boolean[ entityEntries.length ];
+		final Map<EntityTypeDescriptor,Boolean> sessionIndependentDescriptors = new IdentityHashMap<>();
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			events[i] = new FlushEntityEvent( session, entityEntries[i].getKey(), entityEntries[i].getValue() );
+			precomputable[i] = isPrecomputable( events[i], sessionIndependentDescriptors );
+		}
+
+		LOG.debugf( "Dirty checking %s entities in parallel", events.length );
+		session.getFactory().getParallelDirtyCheckPool().invoke(
+				new DirtyCheckTask( events, precomputable, 0, events.length )
+		);
+
+		return events;
+	}
+
+	private static boolean isPrecomputable(
+			FlushEntityEvent event,
+			Map<EntityTypeDescriptor,Boolean> sessionIndependentDescriptors) {
+		final EntityEntry entry = event.getEntityEntry();
+		return entry.getStatus() == Status.MANAGED
+				&& entry.getLoadedState() != null
+				&& entry.isModifiableEntity()
+				&& !( event.getEntity() instanceof SelfDirtinessTracker )
+				&& !( event.getEntity() instanceof PersistentAttributeInterceptable )
+				&& sessionIndependentDescriptors.computeIfAbsent(
+						entry.getDescriptor(),
+						ParallelDirtyChecker::isSessionIndependent
+				);
+	}
+
+	/**
+	 * Can the state of the given type be compared without the Session?  Not if
+	 * it (or one of its embedded values) refers to other entities, as their
+	 * foreign keys are resolved through the Session.
+	 */
+	private static boolean isSessionIndependent(ManagedTypeDescriptor<?> descriptor) {
+		for ( StateArrayContributor<?> contributor : descriptor.getStateArrayContributors() ) {
+			if ( contributor instanceof SingularPersistentAttributeEntity ) {
+				return false;
+			}
+			if ( contributor instanceof SingularPersistentAttributeEmbedded
+					&& !isSessionIndependent( ( (SingularPersistentAttributeEmbedded<?,?>) contributor ).getEmbeddedDescriptor() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void precompute(FlushEntityEvent event) {
+		final EntityEntry entry = event.getEntityEntry();
+		final EntityTypeDescriptor descriptor = entry.getDescriptor();
+		try {
+			final Object[] values = descriptor.getPropertyValues( event.getEntity() );
+			final int[] dirtyProperties = descriptor.findDirty(
+					values,
+					entry.getLoadedState(),
+					event.getEntity(),
+					event.getSession()
+			);
+			event.setPrecomputedDirtyCheck( values, dirtyProperties );
+		}
+		catch (RuntimeException e) {
+			// leave it to the flushing thread, which reports any problem in order
+			LOG.tracef( e, "Unable to precompute dirty check of %s", descriptor.getEntityName() );
+		}
+	}
+
+	private static class DirtyCheckTask extends RecursiveAction {
+		private final FlushEntityEvent[] events;
+		private final boolean[] precomputable;
+		private final int start;
+		private final int end;
+
+		private DirtyCheckTask(FlushEntityEvent[] events, boolean[] precomputable, int start, int end) {
+			this.events = events;
+			this.precomputable = precomputable;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start <= MIN_ENTITIES_PER_TASK ) {
+				for ( int i = start; i < end; i++ ) {
+					if ( precomputable[i] ) {
+						precompute( events[i] );
+					}
+				}
+			}
+			else {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll(
+						new DirtyCheckTask( events, precomputable, start, middle ),
+						new DirtyCheckTask( events, precomputable, middle, end )
+				);
+			}
+		}
+	}
+}
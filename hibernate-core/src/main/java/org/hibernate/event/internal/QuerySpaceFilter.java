@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.NonIdPersistentAttribute;
+import org.hibernate.metamodel.model.domain.spi.PluralPersistentAttribute;
+
+/**
+ * Restricts the entities dirty checked by an auto-flush to those which may
+ * affect the query spaces of the query about to be executed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_AUTO_QUERY_SPACES_ONLY
+ */
+public final class QuerySpaceFilter {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QuerySpaceFilter.class );
+
+	private QuerySpaceFilter() {
+	}
+
+	/**
+	 * Select the entries of the entities which may affect the given query spaces.
+	 * Entities being saved or deleted, and entities whose tables are not known,
+	 * are always selected.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map.Entry<Object,EntityEntry>[] filter(
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			Set<String> querySpaces) {
+		final IdentityHashMap<EntityTypeDescriptor,Boolean> affectedByDescriptor = new IdentityHashMap<>();
+		final List<Map.Entry<Object,EntityEntry>> selected = new ArrayList<>();
+
+		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+			final EntityEntry entry = me.getValue();
+			final Status status = entry.getStatus();
+			if ( status != Status.MANAGED && status != Status.READ_ONLY ) {
+				selected.add( me );
+			}
+			else if ( affectedByDescriptor.computeIfAbsent( entry.getDescriptor(), d -> affects( d, querySpaces ) ) ) {
+				selected.add( me );
+			}
+		}
+
+		LOG.tracef( "Flushing %s of %s entities for query spaces %s", selected.size(), entityEntries.length, querySpaces );
+		return selected.toArray( new Map.Entry[ selected.size() ] );
+	}
+
+	private static boolean affects(EntityTypeDescriptor<?> entityDescriptor, Set<String> querySpaces) {
+		final Set<String> tableNames = entityDescriptor.getAffectedTableNames();
+		if ( tableNames.isEmpty() || containsAny( querySpaces, tableNames ) ) {
+			return true;
+		}
+
+		for ( NonIdPersistentAttribute attribute : entityDescriptor.getPersistentAttributes() ) {
+			if ( attribute instanceof PluralPersistentAttribute ) {
+				final Set<String> collectionSpaces = ( (PluralPersistentAttribute) attribute ).getPersistentCollectionDescriptor()
+						.getCollectionSpaces();
+				if ( containsAny( querySpaces, collectionSpaces ) ) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean containsAny(Set<String> querySpaces, Set<String> spaces) {
+		for ( String space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -20,7 +20,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
-	
+	private boolean dirtyCheckPrecomputed;
+	private int[] precomputedDirtyProperties;
+
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
 		this.entity = entity;
@@ -72,4 +74,26 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * Has the comparison of the current against the loaded state already been
+	 * performed, ahead of this event being handled?  If so, the current state
+	 * is available as {@link #getPropertyValues()} and the outcome as
+	 * {@link #getPrecomputedDirtyProperties()}
+	 */
+	public boolean isDirtyCheckPrecomputed() {
+		return dirtyCheckPrecomputed;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.propertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+		this.dirtyCheckPrecomputed = true;
+	}
+	public void clearPrecomputedDirtyCheck() {
+		this.precomputedDirtyProperties = null;
+		this.dirtyCheckPrecomputed = false;
+	}
 }
@@ -13,6 +13,10 @@ import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 import javax.persistence.TransactionRequiredException;
 
@@ -64,6 +68,9 @@ import org.hibernate.query.spi.QueryPlanCache;
 import org.hibernate.query.spi.ResultSetMappingDescriptor;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer.NormalizedHql;
+import org.hibernate.query.sqm.produce.internal.hql.LiteralParameterizationException;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
@@ -93,6 +100,10 @@ import org.hibernate.type.descriptor.sql.spi.SqlTypeDescriptor;
 public abstract class AbstractSharedSessionContract implements SharedSessionContractImplementor {
 	private static final EntityManagerMessageLogger log = HEMLogging.messageLogger( SessionImpl.class );
 
+	private static final AtomicReferenceFieldUpdater<AbstractSharedSessionContract,Object> ASYNC_QUERY_OWNER =
+			AtomicReferenceFieldUpdater.newUpdater( AbstractSharedSessionContract.class, Object.class, "asyncQueryOwner" );
+	private static final Object ASYNC_QUERY_PENDING = new Object();
+
 	private transient SessionFactoryImpl factory;
 	private final String tenantIdentifier;
 	private UUID sessionIdentifier;
@@ -126,6 +137,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	protected transient ExceptionConverter exceptionConverter;
 
 	private transient Boolean useStreamForLobBinding;
+
+	// the thread performing asynchronous query work, or ASYNC_QUERY_PENDING until it starts
+	private transient volatile Object asyncQueryOwner;
 	private Integer jdbcBatchSize;
 
 
@@ -368,6 +382,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	@Override
 	public void prepareForQueryExecution(boolean requiresTxn) {
 		checkOpen();
+		checkNotInUseByAsyncQuery();
 		checkTransactionSynchStatus();
 
 		if ( requiresTxn && !isTransactionInProgress() ) {
@@ -377,6 +392,42 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	private void checkNotInUseByAsyncQuery() {
+		final Object owner = asyncQueryOwner;
+		if ( owner != null && owner != Thread.currentThread() ) {
+			throw new IllegalStateException( "Session is in use by an asynchronous query" );
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeQueryAsync(Supplier<T> work, Executor executor) {
+		checkOpen();
+		if ( !ASYNC_QUERY_OWNER.compareAndSet( this, null, ASYNC_QUERY_PENDING ) ) {
+			throw new IllegalStateException( "Session is in use by an asynchronous query" );
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(
+					() -> {
+						asyncQueryOwner = Thread.currentThread();
+						try {
+							return work.get();
+						}
+						finally {
+							// released before the returned future completes
+							asyncQueryOwner = null;
+						}
+					},
+					executor
+			);
+		}
+		catch (RuntimeException e) {
+			// the Executor rejected the work
+			asyncQueryOwner = null;
+			throw e;
+		}
+	}
+
 	@Override
 	public void markForRollbackOnly() {
 		try {
@@ -619,20 +670,26 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		delayedAfterCompletion();
 
 		try {
-			final QueryEngine queryEngine = getFactory().getQueryEngine();
-			final QueryPlanCache queryPlanCache = queryEngine.getQueryPlanCache();
-			SqmStatement sqm = queryPlanCache.getSqmStatement( queryString );
-			if ( sqm == null ) {
-				sqm = queryEngine.getSemanticQueryProducer().interpret( queryString );
-				queryPlanCache.cacheSqmStatement( queryString, sqm );
+			QuerySqmImpl query = null;
+
+			if ( getFactory().getSessionFactoryOptions().isQueryLiteralParameterizationEnabled() ) {
+				final NormalizedHql normalizedHql = HqlLiteralNormalizer.normalize( queryString );
+				if ( normalizedHql != null ) {
+					final SqmStatement sqm = interpretHql( normalizedHql.getQueryString(), true );
+					if ( sqm != null ) {
+						query = new QuerySqmImpl( queryString, normalizedHql, sqm, resultClass, this );
+					}
+				}
 			}
 
-			final QuerySqmImpl query = new QuerySqmImpl(
-					queryString,
-					sqm,
-					resultClass,
-					this
-			);
+			if ( query == null ) {
+				query = new QuerySqmImpl(
+						queryString,
+						interpretHql( queryString, false ),
+						resultClass,
+						this
+				);
+			}
 
 			query.setComment( queryString );
 			applyQuerySettingsAndHints( query );
@@ -645,6 +702,34 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	/**
+	 * Resolve the SQM for the given HQL, from the QueryPlanCache if possible.
+	 *
+	 * @param literalsParameterized Whether the HQL has been normalized by the
+	 * {@link HqlLiteralNormalizer}.  If so, {@code null} is returned when the
+	 * normalization turns out to be unacceptable for this query.
+	 */
+	private SqmStatement interpretHql(String hql, boolean literalsParameterized) {
+		final QueryEngine queryEngine = getFactory().getQueryEngine();
+		final QueryPlanCache queryPlanCache = queryEngine.getQueryPlanCache();
+
+		SqmStatement sqm = queryPlanCache.getSqmStatement( hql );
+		if ( sqm == null ) {
+			try {
+				sqm = queryEngine.getSemanticQueryProducer().interpret( hql );
+			}
+			catch (LiteralParameterizationException e) {
+				if ( literalsParameterized ) {
+					log.debugf( "Unable to parameterize literals of query [%s] : %s", hql, e.getMessage() );
+					return null;
+				}
+				throw e;
+			}
+			queryPlanCache.cacheSqmStatement( hql, sqm );
+		}
+		return sqm;
+	}
+
 	protected void applyQuerySettingsAndHints(Query query) {
 	}
 
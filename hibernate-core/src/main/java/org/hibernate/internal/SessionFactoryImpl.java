@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
 import javax.persistence.EntityGraph;
@@ -175,6 +177,8 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 	private final transient QueryEngine queryEngine;
 
+	private final transient ForkJoinPool parallelDirtyCheckPool;
+
 	private final transient CurrentSessionContext currentSessionContext;
 
 	private volatile DelayedDropAction delayedDropAction;
@@ -305,6 +309,12 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 					sqmFunctionRegistry
 			);
 
+			// a pool of its own, so that large flushes neither compete with other users
+			// of the common pool nor block each other across SessionFactories
+			this.parallelDirtyCheckPool = sessionFactoryOptions.getParallelDirtyCheckThreshold() > 0
+					? new ForkJoinPool()
+					: null;
+
 			settings.getMultiTableBulkIdStrategy().prepare(
 					metamodel,
 					sessionFactoryOptions,
@@ -454,6 +464,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryEngine;
 	}
 
+	@Override
+	public ForkJoinPool getParallelDirtyCheckPool() {
+		return parallelDirtyCheckPool;
+	}
+
 	public Session openSession() throws HibernateException {
 		return withOptions().openSession();
 	}
@@ -732,6 +747,14 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			delayedDropAction.perform( serviceRegistry );
 		}
 
+		if ( parallelDirtyCheckPool != null ) {
+			parallelDirtyCheckPool.shutdown();
+		}
+
+		if ( getSessionFactoryOptions().isQueryAsyncExecutorOwned() ) {
+			( (ExecutorService) getSessionFactoryOptions().getQueryAsyncExecutor() ).shutdown();
+		}
+
 		SessionFactoryRegistry.INSTANCE.removeSessionFactory(
 				getUuid(),
 				name,
@@ -67,6 +67,7 @@ import org.hibernate.TypeMismatchException;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.ManagedEntityEvictor;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
@@ -614,6 +615,19 @@ public final class SessionImpl
 		if ( persistenceContext.getCascadeLevel() == 0 && actionQueue.hasUnresolvedEntityInsertActions() ) {
 			throw new IllegalStateException( "There are delayed insert actions before operation as cascade level 0." );
 		}
+		evictExcessEntities();
+	}
+
+	@Override
+	public void prepareForQueryExecution(boolean requiresTxn) {
+		super.prepareForQueryExecution( requiresTxn );
+		evictExcessEntities();
+	}
+
+	private void evictExcessEntities() {
+		if ( persistenceContext.hasExcessManagedEntities() ) {
+			ManagedEntityEvictor.evictExcessEntities( this, persistenceContext );
+		}
 	}
 
 	private void checkNoUnresolvedActionsAfterOperation() {
@@ -1377,7 +1391,8 @@ public final class SessionImpl
 	 * detect in-memory changes, determine if the changes are to tables
 	 * named in the query and, if so, complete execution the flush
 	 */
-	protected boolean autoFlushIfRequired(Set querySpaces) throws HibernateException {
+	@Override
+	public boolean autoFlushIfRequired(Set<String> querySpaces) throws HibernateException {
 		checkOpen();
 		if ( !isTransactionInProgress() ) {
 			// do not auto-flush while outside a transaction
@@ -2246,6 +2261,8 @@ public final class SessionImpl
 		}
 
 		protected T perform(Supplier<T> executor) {
+			evictExcessEntities();
+
 			CacheMode sessionCacheMode = getCacheMode();
 			boolean cacheModeChanged = false;
 			if ( cacheMode != null ) {
@@ -7,6 +7,9 @@
 package org.hibernate.internal;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
@@ -80,6 +83,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 		EntityTypeDescriptor descriptor = getEntityDescriptor( entityName, entity );
 		Object id = descriptor.getIdentifierDescriptor().getIdentifierValueGenerator().generate( this, entity );
+		Object[] state = getInsertState( descriptor, entity );
+
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			id = descriptor.insert( state, entity, this );
+		}
+		else {
+			descriptor.insert( id, state, entity, this );
+		}
+		// a stateless session does not hold on to batched inserts
+		getJdbcCoordinator().executeBatch();
+		descriptor.setIdentifier( entity, id, this );
+		return id;
+	}
+
+	private Object[] getInsertState(EntityTypeDescriptor descriptor, Object entity) {
 		Object[] state = descriptor.getPropertyValues( entity );
 
 		final VersionDescriptor versionDescriptor = descriptor.getHierarchy().getVersionDescriptor();
@@ -93,14 +111,108 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				descriptor.setPropertyValues( entity, state );
 			}
 		}
-		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
-			id = descriptor.insert( state, entity, this );
+		return state;
+	}
+
+	@Override
+	public long insertAll(Iterable<?> entities, LongConsumer progressCallback) {
+		checkOpen();
+
+		final int groupSize = Math.max( getConfiguredJdbcBatchSize(), 1 );
+		final InsertGroup group = new InsertGroup( groupSize );
+		long count = 0;
+		long reportedCount = 0;
+		for ( Object entity : entities ) {
+			final EntityTypeDescriptor descriptor = getEntityDescriptor( null, entity );
+			final Object id = descriptor.getIdentifierDescriptor().getIdentifierValueGenerator().generate( this, entity );
+			// identity values are only known once the rows are inserted
+			final boolean identity = id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR;
+			if ( !group.accepts( descriptor, identity ) ) {
+				count += group.insert();
+			}
+
+			group.add( descriptor, identity, id, getInsertState( descriptor, entity ), entity );
+
+			if ( progressCallback != null && count - reportedCount >= groupSize ) {
+				progressCallback.accept( count );
+				reportedCount = count;
+			}
 		}
-		else {
-			descriptor.insert( id, state, entity, this );
+		count += group.insert();
+
+		if ( progressCallback != null && count > reportedCount ) {
+			progressCallback.accept( count );
+		}
+		return count;
+	}
+
+	/**
+	 * Consecutive entities of the same type to be inserted together by {@link #insertAll}
+	 */
+	private class InsertGroup {
+		private final int size;
+
+		private EntityTypeDescriptor descriptor;
+		private boolean identity;
+		private final List<Object> ids;
+		private final List<Object[]> states;
+		private final List<Object> entities;
+
+		private InsertGroup(int size) {
+			this.size = size;
+			this.ids = new ArrayList<>( size );
+			this.states = new ArrayList<>( size );
+			this.entities = new ArrayList<>( size );
+		}
+
+		private boolean accepts(EntityTypeDescriptor descriptor, boolean identity) {
+			return entities.isEmpty()
+					|| ( this.descriptor == descriptor && this.identity == identity && entities.size() < size );
+		}
+
+		private void add(EntityTypeDescriptor descriptor, boolean identity, Object id, Object[] state, Object entity) {
+			this.descriptor = descriptor;
+			this.identity = identity;
+			ids.add( id );
+			states.add( state );
+			entities.add( entity );
+		}
+
+		private int insert() {
+			final int count = entities.size();
+			if ( count == 0 ) {
+				return 0;
+			}
+
+			final Object[] insertedIds;
+			if ( identity ) {
+				insertedIds = descriptor.insertAll(
+						states.toArray( new Object[count][] ),
+						entities.toArray(),
+						StatelessSessionImpl.this
+				);
+			}
+			else {
+				insertedIds = ids.toArray();
+				descriptor.insertAll(
+						insertedIds,
+						states.toArray( new Object[count][] ),
+						entities.toArray(),
+						StatelessSessionImpl.this
+				);
+			}
+			// the inserted rows are reported as such, so they must not be held back in a batch
+			getJdbcCoordinator().executeBatch();
+			for ( int i = 0; i < count; i++ ) {
+				descriptor.setIdentifier( entities.get( i ), insertedIds[i], StatelessSessionImpl.this );
+			}
+
+			ids.clear();
+			states.clear();
+			entities.clear();
+			descriptor = null;
+			return count;
 		}
-		descriptor.setIdentifier( entity, id, this );
-		return id;
 	}
 
 
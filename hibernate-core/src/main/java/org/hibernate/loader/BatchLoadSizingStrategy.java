@@ -13,4 +13,33 @@ package org.hibernate.loader;
  */
 public interface BatchLoadSizingStrategy {
 	int determineOptimalBatchLoadSize(int numberOfKeyColumns, int numberOfKeys);
+
+	/**
+	 * Determine the size of the next batch of entities to load.
+	 *
+	 * @param entityName The name of the entities to load
+	 * @param batchSize The batch size mapped for the entity
+	 */
+	default int determineBatchSize(String entityName, int batchSize) {
+		return batchSize;
+	}
+
+	/**
+	 * Notification that a batch is about to load entities in addition to
+	 * the one demanded.
+	 *
+	 * @param entityName The name of the loaded entities
+	 * @param numberOfEntities The number of additional entities loaded
+	 */
+	default void entitiesPrefetched(String entityName, int numberOfEntities) {
+	}
+
+	/**
+	 * Notification that an entity loaded in addition to the demanded one
+	 * was demanded later on.
+	 *
+	 * @param entityName The name of the entity
+	 */
+	default void prefetchedEntityUsed(String entityName) {
+	}
 }
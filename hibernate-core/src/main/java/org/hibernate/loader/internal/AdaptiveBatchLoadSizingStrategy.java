@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.loader.BatchLoadSizingStrategy;
+
+/**
+ * BatchLoadSizingStrategy adapting the size of entity batches to the
+ * fetch hit ratio, i.e. the share of the entities loaded in addition to
+ * the demanded one which the application went on to use.  The ratio is
+ * evaluated whenever the next batch of the same entity is demanded: a
+ * batch whose entities were mostly used doubles the size of the next one,
+ * up to the given maximum; a batch whose entities were mostly unused
+ * halves it.  The mapped batch size is the initial size.
+ * <p/>
+ * Instances track the entities of a single Session and are not thread-safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+ */
+public class AdaptiveBatchLoadSizingStrategy implements BatchLoadSizingStrategy {
+	private static final int MINIMUM_BATCH_SIZE = 2;
+	private static final double GROWTH_HIT_RATIO = 0.75;
+	private static final double SHRINK_HIT_RATIO = 0.25;
+
+	private final BatchLoadSizingStrategy delegate;
+	private final int maximumBatchSize;
+	private final Map<String,FetchStatistics> statisticsByEntityName = new HashMap<>();
+
+	public AdaptiveBatchLoadSizingStrategy(BatchLoadSizingStrategy delegate, int maximumBatchSize) {
+		this.delegate = delegate;
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	@Override
+	public int determineOptimalBatchLoadSize(int numberOfKeyColumns, int numberOfKeys) {
+		return delegate.determineOptimalBatchLoadSize( numberOfKeyColumns, numberOfKeys );
+	}
+
+	@Override
+	public int determineBatchSize(String entityName, int batchSize) {
+		if ( batchSize <= 1 ) {
+			return batchSize;
+		}
+		return statisticsByEntityName.computeIfAbsent( entityName, name -> new FetchStatistics( batchSize ) )
+				.nextBatchSize( Math.max( batchSize, maximumBatchSize ) );
+	}
+
+	@Override
+	public void entitiesPrefetched(String entityName, int numberOfEntities) {
+		final FetchStatistics statistics = statisticsByEntityName.get( entityName );
+		if ( statistics != null ) {
+			statistics.prefetched += numberOfEntities;
+		}
+	}
+
+	@Override
+	public void prefetchedEntityUsed(String entityName) {
+		final FetchStatistics statistics = statisticsByEntityName.get( entityName );
+		if ( statistics != null ) {
+			statistics.used++;
+		}
+	}
+
+	private static class FetchStatistics {
+		private int batchSize;
+		private int prefetched;
+		private int used;
+
+		private FetchStatistics(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		private int nextBatchSize(int maximumBatchSize) {
+			if ( prefetched > 0 ) {
+				final double hitRatio = (double) used / prefetched;
+				if ( hitRatio >= GROWTH_HIT_RATIO ) {
+					batchSize = Math.min( batchSize * 2, maximumBatchSize );
+				}
+				else if ( hitRatio < SHRINK_HIT_RATIO ) {
+					batchSize = Math.max( batchSize / 2, MINIMUM_BATCH_SIZE );
+				}
+				prefetched = 0;
+				used = 0;
+			}
+			return batchSize;
+		}
+	}
+}
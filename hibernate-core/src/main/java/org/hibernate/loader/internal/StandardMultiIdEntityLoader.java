@@ -9,6 +9,7 @@ package org.hibernate.loader.internal;
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.spi.MultiIdEntityLoader;
 import org.hibernate.loader.spi.MultiIdLoaderSelectors;
@@ -59,13 +60,23 @@ public class StandardMultiIdEntityLoader<J>
 
 		// todo (6.0) : account for batch size, if one
 
+		return load( ids, options.getLockOptions(), session );
+	}
+
+	/**
+	 * Load the entities with the given ids using a single select
+	 */
+	List<J> load(
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		final SelectByEntityIdentifierBuilder selectBuilder = new SelectByEntityIdentifierBuilder(
 				session.getSessionFactory(),
 				entityDescriptor
 		);
 
 		final SqlAstSelectDescriptor selectDescriptor = selectBuilder
-				.generateSelectStatement( ids.length, session.getLoadQueryInfluencers(), options.getLockOptions() );
+				.generateSelectStatement( ids.length, session.getLoadQueryInfluencers(), lockOptions );
 
 
 		final JdbcSelect jdbcSelect = SqlAstSelectToJdbcSelectConverter.interpret(
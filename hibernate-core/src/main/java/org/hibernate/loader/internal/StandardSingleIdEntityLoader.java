@@ -7,10 +7,12 @@
 package org.hibernate.loader.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 
+import org.hibernate.EntityMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -70,6 +72,7 @@ import org.hibernate.sql.results.spi.SqlSelection;
  */
 public class StandardSingleIdEntityLoader<T> implements SingleIdEntityLoader<T> {
 	private final EntityTypeDescriptor<T> entityDescriptor;
+	private final StandardMultiIdEntityLoader<T> batchLoader;
 
 	private final SqlAstSelectDescriptor databaseSnapshotSelectAst;
 	private LoadIdParameter idParameter;
@@ -79,6 +82,9 @@ public class StandardSingleIdEntityLoader<T> implements SingleIdEntityLoader<T>
 
 	public StandardSingleIdEntityLoader(EntityTypeDescriptor<T> entityDescriptor) {
 		this.entityDescriptor = entityDescriptor;
+		this.batchLoader = entityDescriptor.isBatchLoadable()
+				? new StandardMultiIdEntityLoader<>( entityDescriptor, null )
+				: null;
 
 		this.databaseSnapshotSelectAst = generateDatabaseSnapshotSelect( entityDescriptor );
 
@@ -97,6 +103,22 @@ public class StandardSingleIdEntityLoader<T> implements SingleIdEntityLoader<T>
 
 	@Override
 	public T load(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		if ( batchLoader != null && !lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			final Object[] batch = session.getPersistenceContext().getBatchFetchQueue().getEntityBatch(
+					entityDescriptor,
+					id,
+					entityDescriptor.getBatchSize(),
+					EntityMode.fromRepresentation( entityDescriptor.getRepresentationStrategy().getMode() )
+			);
+			int numberOfIds = 0;
+			while ( numberOfIds < batch.length && batch[numberOfIds] != null ) {
+				numberOfIds++;
+			}
+			if ( numberOfIds > 1 ) {
+				return loadBatch( id, Arrays.copyOf( batch, numberOfIds ), lockOptions, session );
+			}
+		}
+
 		final ParameterBindingContext parameterBindingContext = new LoadParameterBindingContext(
 				session.getFactory(),
 				id
@@ -180,6 +202,20 @@ public class StandardSingleIdEntityLoader<T> implements SingleIdEntityLoader<T>
 		return entityInstance;
 	}
 
+	/**
+	 * Load the entity with the given id along with the entities of the other
+	 * ids, which were collected from the BatchFetchQueue
+	 */
+	@SuppressWarnings("unchecked")
+	private T loadBatch(
+			Object id,
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		batchLoader.load( ids, lockOptions, session );
+		return (T) session.getPersistenceContext().getEntity( session.generateEntityKey( id, entityDescriptor ) );
+	}
+
 	private JdbcSelect resolveJdbcSelect(
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
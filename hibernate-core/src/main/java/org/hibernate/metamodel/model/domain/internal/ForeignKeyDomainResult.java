@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.sql.results.internal.domain.basic.BasicResultAssembler;
 import org.hibernate.sql.results.spi.AssemblerCreationContext;
 import org.hibernate.sql.results.spi.AssemblerCreationState;
 import org.hibernate.sql.results.spi.DomainResult;
@@ -49,15 +50,15 @@ public class ForeignKeyDomainResult implements DomainResult {
 			Consumer<Initializer> initializerCollector,
 			AssemblerCreationState creationOptions,
 			AssemblerCreationContext creationContext) {
+		if ( sqlSelections.size() == 1 ) {
+			// reads primitive typed keys through the typed accessors
+			return new BasicResultAssembler( sqlSelections.get( 0 ), null, jtd );
+		}
+
 		return new DomainResultAssembler() {
 			@Override
 			public Object assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
-				if ( sqlSelections.size() == 1 ) {
-					return rowProcessingState.getJdbcValue( sqlSelections.get( 0 ) );
-				}
-				else {
-					throw new NotYetImplementedFor6Exception();
-				}
+				throw new NotYetImplementedFor6Exception();
 			}
 
 			@Override
@@ -7,9 +7,7 @@
 package org.hibernate.metamodel.model.domain.internal.entity;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -17,7 +15,6 @@ import org.hibernate.LockOptions;
 import org.hibernate.boot.model.domain.EntityMapping;
 import org.hibernate.boot.model.domain.spi.ManagedTypeMappingImplementor;
 import org.hibernate.cache.spi.entry.CacheEntry;
-import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -105,11 +102,6 @@ public class JoinedEntityTypeDescriptor<J> extends AbstractEntityTypeDescriptor<
 
 	}
 
-	@Override
-	public Set<String> getAffectedTableNames() {
-		return Collections.emptySet();
-	}
-
 	@Override
 	public boolean hasProxy() {
 		return false;
@@ -186,11 +178,6 @@ public class JoinedEntityTypeDescriptor<J> extends AbstractEntityTypeDescriptor<
 		return false;
 	}
 
-	@Override
-	public CacheEntryStructure getCacheEntryStructure() {
-		return null;
-	}
-
 	@Override
 	public CacheEntry buildCacheEntry(
 			Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
@@ -199,7 +186,7 @@ public class JoinedEntityTypeDescriptor<J> extends AbstractEntityTypeDescriptor<
 
 	@Override
 	public boolean isBatchLoadable() {
-		return false;
+		return getBatchSize() > 1;
 	}
 
 	@Override
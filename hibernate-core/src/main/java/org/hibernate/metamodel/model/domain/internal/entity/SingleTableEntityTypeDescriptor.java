@@ -9,11 +9,15 @@ package org.hibernate.metamodel.model.domain.internal.entity;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import org.hibernate.HibernateException;
@@ -25,14 +29,17 @@ import org.hibernate.StaleStateException;
 import org.hibernate.boot.model.domain.EntityMapping;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.entry.CacheEntry;
-import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.jdbc.batch.internal.TableBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
@@ -47,6 +54,7 @@ import org.hibernate.metamodel.model.domain.spi.PluralPersistentAttribute;
 import org.hibernate.metamodel.model.domain.spi.StateArrayContributor;
 import org.hibernate.metamodel.model.domain.spi.TenantDiscrimination;
 import org.hibernate.metamodel.model.relational.spi.Column;
+import org.hibernate.metamodel.model.relational.spi.ForeignKey;
 import org.hibernate.metamodel.model.relational.spi.JoinedTableBinding;
 import org.hibernate.metamodel.model.relational.spi.Table;
 import org.hibernate.pretty.MessageHelper;
@@ -88,6 +96,7 @@ import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescriptor<T> {
 	private Boolean hasCollections;
 	private final boolean isJpaCacheComplianceEnabled;
+	private final Map<Table,Set<String>> insertDependencies = new ConcurrentHashMap<>();
 
 	public SingleTableEntityTypeDescriptor(
 			EntityMapping bootMapping,
@@ -122,11 +131,6 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 		return String.format( "SingleTableEntityDescriptor<%s>", getEntityName() );
 	}
 
-	@Override
-	public Set<String> getAffectedTableNames() {
-		return Collections.emptySet();
-	}
-
 	@Override
 	public int[] findDirty(
 			Object[] currentState,
@@ -193,13 +197,25 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 			}
 		}
 
-//		final Object unresolvedId = getHierarchy().getIdentifierDescriptor().unresolve( id, session );
-		final Object unresolvedId = id;
 		final ExecutionContext executionContext = getExecutionContext( session );
+		final TableReference tableReference = new TableReference( getPrimaryTable(), null, false );
 
 		// for now - just root table
 		// for now - we also regenerate these SQL AST objects each time - we can cache these
-		executeInsert( fields, session, unresolvedId, executionContext, new TableReference( getPrimaryTable(), null, false) );
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			// the identity column is left out of the insert, its value is read back afterwards
+			id = executeIdentityInsert(
+					executionContext,
+					createInsertStatement( fields, session, null, tableReference ),
+					1
+			)[0];
+		}
+		else {
+			executeInsert( fields, session, id, executionContext, tableReference );
+		}
+
+//		final Object unresolvedId = getHierarchy().getIdentifierDescriptor().unresolve( id, session );
+		final Object unresolvedId = id;
 
 		getSecondaryTableBindings().forEach(
 				tableBindings -> executeJoinTableInsert(
@@ -214,6 +230,198 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 		return id;
 	}
 
+	@Override
+	public void insertAll(
+			Object[] ids,
+			Object[][] fields,
+			Object[] objects,
+			SharedSessionContractImplementor session) {
+		final ExecutionContext executionContext = getExecutionContext( session );
+		final TableReference tableReference = new TableReference( getPrimaryTable(), null, false );
+
+		final List<InsertStatement> insertStatements = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			insertStatements.add( createInsertStatement( fields[i], session, ids[i], tableReference ) );
+		}
+		executeInserts( executionContext, insertStatements );
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object[] rowFields = fields[i];
+			final Object unresolvedId = ids[i];
+			getSecondaryTableBindings().forEach(
+					tableBindings -> executeJoinTableInsert(
+							rowFields,
+							session,
+							unresolvedId,
+							executionContext,
+							tableBindings
+					)
+			);
+		}
+	}
+
+	@Override
+	public Object[] insertAll(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		if ( !getFactory().getJdbcServices().getDialect().supportsMultiRowInsertGeneratedKeys() ) {
+			return super.insertAll( fields, objects, session );
+		}
+
+		final ExecutionContext executionContext = getExecutionContext( session );
+		final TableReference tableReference = new TableReference( getPrimaryTable(), null, false );
+
+		final List<InsertStatement> insertStatements = new ArrayList<>( objects.length );
+		for ( int i = 0; i < objects.length; i++ ) {
+			insertStatements.add( createInsertStatement( fields[i], session, null, tableReference ) );
+		}
+		final Object[] ids = new Object[objects.length];
+		int position = 0;
+		for ( InsertStatement multiRowInsert : combineInserts( insertStatements ) ) {
+			final Object[] generatedIds = executeIdentityInsert(
+					executionContext,
+					multiRowInsert,
+					multiRowInsert.getValuesRows().size()
+			);
+			System.arraycopy( generatedIds, 0, ids, position, generatedIds.length );
+			position += generatedIds.length;
+		}
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object[] rowFields = fields[i];
+			final Object unresolvedId = ids[i];
+			getSecondaryTableBindings().forEach(
+					tableBindings -> executeJoinTableInsert(
+							rowFields,
+							session,
+							unresolvedId,
+							executionContext,
+							tableBindings
+					)
+			);
+		}
+		return ids;
+	}
+
+	/**
+	 * Execute the given inserts as multi-row inserts if supported by the Dialect, and
+	 * otherwise as a JDBC batch
+	 */
+	private void executeInserts(ExecutionContext executionContext, List<InsertStatement> insertStatements) {
+		if ( !getFactory().getJdbcServices().getDialect().supportsMultiRowInsert() ) {
+			insertStatements.forEach( insertStatement -> addInsertToBatch( executionContext, insertStatement ) );
+			return;
+		}
+
+		for ( InsertStatement multiRowInsert : combineInserts( insertStatements ) ) {
+			executeMultiRowInsert( executionContext, multiRowInsert );
+		}
+	}
+
+	/**
+	 * Combine consecutive inserts of the same columns into multi-row inserts, as far as
+	 * the Dialect's parameter count limit allows
+	 */
+	private List<InsertStatement> combineInserts(List<InsertStatement> insertStatements) {
+		final int parameterCountLimit = getFactory().getJdbcServices().getDialect().getParameterCountLimit();
+		final List<InsertStatement> multiRowInserts = new ArrayList<>();
+		InsertStatement multiRowInsert = null;
+		int rowCount = 0;
+		for ( InsertStatement insertStatement : insertStatements ) {
+			if ( multiRowInsert != null
+					&& multiRowInsert.getTargetColumnReferences().equals( insertStatement.getTargetColumnReferences() )
+					&& ( parameterCountLimit <= 0 || ( rowCount + 1 ) * insertStatement.getValues().size() <= parameterCountLimit ) ) {
+				multiRowInsert.addValuesRow( insertStatement.getValues() );
+				rowCount++;
+			}
+			else {
+				multiRowInsert = insertStatement;
+				multiRowInserts.add( multiRowInsert );
+				rowCount = 1;
+			}
+		}
+		return multiRowInserts;
+	}
+
+	private void executeMultiRowInsert(ExecutionContext executionContext, InsertStatement insertStatement) {
+		final int rowCount = insertStatement.getValuesRows().size();
+		if ( rowCount == 1 ) {
+			executeInsert( executionContext, insertStatement );
+			return;
+		}
+
+		final JdbcMutation jdbcInsert = InsertToJdbcInsertConverter.createJdbcInsert(
+				insertStatement,
+				executionContext.getSession().getSessionFactory()
+		);
+		executeOperation(
+				executionContext,
+				jdbcInsert,
+				(rows, preparedStatement) -> verifyInsertedRowCount( rows, rowCount, preparedStatement, jdbcInsert )
+		);
+	}
+
+	/**
+	 * Execute an insert leaving out the identity column, returning the identity
+	 * values generated for its rows
+	 */
+	private Object[] executeIdentityInsert(ExecutionContext executionContext, InsertStatement insertStatement, int rowCount) {
+		final JdbcMutation jdbcInsert = InsertToJdbcInsertConverter.createJdbcInsert(
+				insertStatement,
+				executionContext.getSession().getSessionFactory()
+		);
+		final Object[] ids = new Object[rowCount];
+		JdbcMutationExecutor.WITH_AFTER_STATEMENT_CALL.execute(
+				jdbcInsert,
+				executionContext,
+				(connection, sql) -> connection.prepareStatement( sql, PreparedStatement.RETURN_GENERATED_KEYS ),
+				(rows, preparedStatement) -> {
+					verifyInsertedRowCount( rows, rowCount, preparedStatement, jdbcInsert );
+					readGeneratedIdentifiers( preparedStatement, ids, jdbcInsert );
+				}
+		);
+		return ids;
+	}
+
+	private void verifyInsertedRowCount(
+			Integer rows,
+			int rowCount,
+			PreparedStatement preparedStatement,
+			JdbcMutation jdbcInsert) {
+		// the row count is checked for the statement as a whole
+		final Expectation expectation = new Expectations.BasicExpectation( rowCount ) {
+		};
+		try {
+			expectation.verifyOutcome( rows, preparedStatement, -1 );
+		}
+		catch (SQLException e) {
+			throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to verify the row count of an insert",
+					jdbcInsert.getSql()
+			);
+		}
+	}
+
+	private void readGeneratedIdentifiers(PreparedStatement preparedStatement, Object[] ids, JdbcMutation jdbcInsert) {
+		final Class identifierType = getHierarchy().getIdentifierDescriptor().getJavaTypeDescriptor().getJavaType();
+		try ( ResultSet resultSet = preparedStatement.getGeneratedKeys() ) {
+			for ( int i = 0; i < ids.length; i++ ) {
+				if ( !resultSet.next() ) {
+					throw new HibernateException( "The database returned no natively generated identity value" );
+				}
+				ids[i] = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType )
+						.initialize( resultSet, -1L )
+						.makeValue();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to read the natively generated identity values",
+					jdbcInsert.getSql()
+			);
+		}
+	}
+
 	private void executeJoinTableInsert(
 			Object[] fields,
 			SharedSessionContractImplementor session,
@@ -300,30 +508,40 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 			Object unresolvedId,
 			ExecutionContext executionContext,
 			TableReference tableReference) {
+		executeInsert( executionContext, createInsertStatement( fields, session, unresolvedId, tableReference ) );
+	}
 
+	private InsertStatement createInsertStatement(
+			Object[] fields,
+			SharedSessionContractImplementor session,
+			Object unresolvedId,
+			TableReference tableReference) {
 		final InsertStatement insertStatement = new InsertStatement( tableReference );
 		// todo (6.0) : account for non-generated identifiers
 
-		getHierarchy().getIdentifierDescriptor().dehydrate(
-				// NOTE : at least according to the argument name (`unresolvedId`), the
-				// 		incoming id value should already be unresolved - so do not
-				// 		unresolve it again
-				getHierarchy().getIdentifierDescriptor().unresolve( unresolvedId, session ),
-				//unresolvedId,
-				(jdbcValue, type, boundColumn) -> {
-					insertStatement.addTargetColumnReference( new ColumnReference( boundColumn ) );
-					insertStatement.addValue(
-							new LiteralParameter(
-									jdbcValue,
-									boundColumn.getExpressableType(),
-									Clause.INSERT,
-									session.getFactory().getTypeConfiguration()
-							)
-					);
-				},
-				Clause.INSERT,
-				session
-		);
+		// a null id is generated by the identity column
+		if ( unresolvedId != null ) {
+			getHierarchy().getIdentifierDescriptor().dehydrate(
+					// NOTE : at least according to the argument name (`unresolvedId`), the
+					// 		incoming id value should already be unresolved - so do not
+					// 		unresolve it again
+					getHierarchy().getIdentifierDescriptor().unresolve( unresolvedId, session ),
+					//unresolvedId,
+					(jdbcValue, type, boundColumn) -> {
+						insertStatement.addTargetColumnReference( new ColumnReference( boundColumn ) );
+						insertStatement.addValue(
+								new LiteralParameter(
+										jdbcValue,
+										boundColumn.getExpressableType(),
+										Clause.INSERT,
+										session.getFactory().getTypeConfiguration()
+								)
+						);
+					},
+					Clause.INSERT,
+					session
+			);
+		}
 
 		final DiscriminatorDescriptor<Object> discriminatorDescriptor = getHierarchy().getDiscriminatorDescriptor();
 		if ( discriminatorDescriptor != null ) {
@@ -370,7 +588,7 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 				}
 		);
 
-		executeInsert( executionContext, insertStatement );
+		return insertStatement;
 	}
 
 	private void executeInsert(ExecutionContext executionContext, InsertStatement insertStatement) {
@@ -378,7 +596,64 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 				insertStatement,
 				executionContext.getSession().getSessionFactory()
 		);
-		executeOperation( executionContext, jdbcInsert, (rows, prepareStatement) -> {} );
+		if ( isInsertBatchingEnabled( executionContext.getSession() ) ) {
+			addInsertToBatch( executionContext, jdbcInsert, insertStatement );
+		}
+		else {
+			executeOperation( executionContext, jdbcInsert, (rows, prepareStatement) -> {} );
+		}
+	}
+
+	private void addInsertToBatch(ExecutionContext executionContext, InsertStatement insertStatement) {
+		addInsertToBatch(
+				executionContext,
+				InsertToJdbcInsertConverter.createJdbcInsert(
+						insertStatement,
+						executionContext.getSession().getSessionFactory()
+				),
+				insertStatement
+		);
+	}
+
+	private void addInsertToBatch(
+			ExecutionContext executionContext,
+			JdbcMutation jdbcInsert,
+			InsertStatement insertStatement) {
+		JdbcMutationExecutor.WITH_AFTER_STATEMENT_CALL.addToBatch(
+				jdbcInsert,
+				executionContext,
+				createInsertBatchKey( jdbcInsert, insertStatement.getTargetTable().getTable() )
+		);
+	}
+
+	/**
+	 * Inserts are added to JDBC batches if keyed batching is enabled, as the batches then
+	 * execute in an order respecting the foreign keys between their tables
+	 */
+	private boolean isInsertBatchingEnabled(SharedSessionContractImplementor session) {
+		return getFactory().getSessionFactoryOptions().isKeyedBatchingEnabled()
+				&& session.getConfiguredJdbcBatchSize() > 1;
+	}
+
+	private BatchKey createInsertBatchKey(JdbcMutation jdbcInsert, Table table) {
+		return new TableBatchKey(
+				jdbcInsert.getSql(),
+				table.getTableExpression(),
+				insertDependencies.computeIfAbsent( table, SingleTableEntityTypeDescriptor::resolveReferencedTableNames ),
+				Expectations.BASIC
+		);
+	}
+
+	/**
+	 * The rows inserted into the given table may reference rows of the tables targeted by
+	 * its foreign keys, including itself
+	 */
+	private static Set<String> resolveReferencedTableNames(Table table) {
+		final Set<String> tableNames = new HashSet<>();
+		for ( ForeignKey foreignKey : table.getForeignKeys() ) {
+			tableNames.add( foreignKey.getTargetTable().getTableExpression() );
+		}
+		return tableNames;
 	}
 
 	private void addInsertColumn(
@@ -903,11 +1178,6 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 		return false;
 	}
 
-	@Override
-	public CacheEntryStructure getCacheEntryStructure() {
-		return null;
-	}
-
 	@Override
 	public CacheEntry buildCacheEntry(
 			Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
@@ -916,7 +1186,7 @@ public class SingleTableEntityTypeDescriptor<T> extends AbstractEntityTypeDescri
 
 	@Override
 	public boolean isBatchLoadable() {
-		return false;
+		return getBatchSize() > 1;
 	}
 
 	@Override
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +35,10 @@ import org.hibernate.boot.model.relational.MappedTable;
 import org.hibernate.bytecode.internal.BytecodeEnhancementMetadataNonPojoImpl;
 import org.hibernate.bytecode.internal.BytecodeEnhancementMetadataPojoImpl;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.StructuredCacheEntry;
+import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityEntryFactory;
@@ -119,12 +124,15 @@ public abstract class AbstractEntityTypeDescriptor<J>
 
 	private final boolean canReadFromCache;
 	private final boolean canWriteToCache;
+	private final CacheEntryStructure cacheEntryStructure;
 
 	private final boolean hasProxy;
 	private final Class proxyInterface;
+	private final int batchSize;
 
 	private ProxyFactory proxyFactory;
 	private boolean canIdentityInsertBeDelayed;
+	private Set<String> affectedTableNames;
 
 	protected final ExecuteUpdateResultCheckStyle rootUpdateResultCheckStyle;
 
@@ -184,12 +192,28 @@ public abstract class AbstractEntityTypeDescriptor<J>
 			this.canReadFromCache = false;
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			this.cacheEntryStructure = new CompactCacheEntry( this );
+		}
+		else if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
+			this.cacheEntryStructure = new StructuredCacheEntry( this );
+		}
+		else {
+			this.cacheEntryStructure = UnstructuredCacheEntry.INSTANCE;
+		}
+
 		// Handle any filters applied to the class level
 		this.filterHelper = new FilterHelper( bootMapping.getFilters(), factory );
 
 		this.hasProxy = bootMapping.hasProxy() && !bytecodeEnhancementMetadata.isEnhancedForLazyLoading();
 		proxyInterface = bootMapping.getProxyInterface();
 
+		int batch = ( (PersistentClass) bootMapping ).getBatchSize();
+		if ( batch == -1 ) {
+			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
+		}
+		this.batchSize = batch;
+
 		creationContext.registerNavigable( this, bootMapping );
 	}
 
@@ -347,11 +371,21 @@ public abstract class AbstractEntityTypeDescriptor<J>
 		return canWriteToCache;
 	}
 
+	@Override
+	public CacheEntryStructure getCacheEntryStructure() {
+		return cacheEntryStructure;
+	}
+
 	@Override
 	public boolean hasProxy() {
 		return hasProxy;
 	}
 
+	@Override
+	public int getBatchSize() {
+		return batchSize;
+	}
+
 	@Override
 	public EntityJavaDescriptor<J> getJavaTypeDescriptor() {
 		return (EntityJavaDescriptor<J>) super.getJavaTypeDescriptor();
@@ -387,6 +421,22 @@ public abstract class AbstractEntityTypeDescriptor<J>
 		return secondaryTableBindings;
 	}
 
+	@Override
+	public Set<String> getAffectedTableNames() {
+		if ( affectedTableNames == null ) {
+			final Set<String> tableNames = new LinkedHashSet<>();
+			if ( getSuperclassType() instanceof EntityTypeDescriptor ) {
+				tableNames.addAll( ( (EntityTypeDescriptor<?>) getSuperclassType() ).getAffectedTableNames() );
+			}
+			tableNames.add( getPrimaryTable().getTableExpression() );
+			for ( JoinedTableBinding secondaryTableBinding : getSecondaryTableBindings() ) {
+				tableNames.add( secondaryTableBinding.getReferringTable().getTableExpression() );
+			}
+			affectedTableNames = Collections.unmodifiableSet( tableNames );
+		}
+		return affectedTableNames;
+	}
+
 	@Override
 	public Class<J> getBindableJavaType() {
 		return getJavaType();
@@ -304,12 +304,43 @@ public interface EntityTypeDescriptor<T>
 	void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Persist several instances with pre-assigned identifiers.  Implementations may insert
+	 * consecutive rows of a table with a single multi-row insert statement.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultiRowInsert()
+	 */
+	default void insertAll(Object[] ids, Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+	throws HibernateException {
+		for ( int i = 0; i < ids.length; i++ ) {
+			insert( ids[i], fields[i], objects[i], session );
+		}
+	}
+
 	/**
 	 * Persist an instance, using a natively generated identifier (optional operation)
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Persist several instances, using natively generated identifiers (optional operation).
+	 * Implementations may insert consecutive rows with a single multi-row insert statement
+	 * if the Dialect returns the generated identifiers of all its rows.
+	 *
+	 * @return The generated identifiers, in the order of the instances
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultiRowInsertGeneratedKeys()
+	 */
+	default Object[] insertAll(Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+	throws HibernateException {
+		final Object[] ids = new Object[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			ids[i] = insert( fields[i], objects[i], session );
+		}
+		return ids;
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -376,6 +407,13 @@ public interface EntityTypeDescriptor<T>
 	 */
 	boolean isBatchLoadable();
 
+	/**
+	 * The number of entities to load at once, if batch loading is enabled
+	 */
+	default int getBatchSize() {
+		return 1;
+	}
+
 	/**
 	 * Is select snapshot beforeQuery update enabled?
 	 */
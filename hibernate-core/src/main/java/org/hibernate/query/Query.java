@@ -18,6 +18,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -159,6 +160,23 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 		return list();
 	}
 
+	/**
+	 * Execute the query asynchronously, using the Executor configured via
+	 * {@link org.hibernate.cfg.AvailableSettings#QUERY_ASYNC_EXECUTOR}.
+	 * <p/>
+	 * The Session is not thread-safe: neither it nor the entities it manages
+	 * may be used until the returned CompletionStage has completed.  Until then,
+	 * the Session rejects other asynchronous queries, as well as queries executed
+	 * from other threads.
+	 *
+	 * @return A CompletionStage completed with the result list
+	 *
+	 * @throws IllegalStateException if an asynchronous query of the Session is still in progress
+	 *
+	 * @since 6.0
+	 */
+	CompletionStage<List<R>> getResultListAsync();
+
 	/**
 	 * Convenience method to return a single instance that matches
 	 * the query, or {@code null} if the query returns no results.
@@ -192,6 +210,21 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	 */
 	Stream<R> stream();
 
+	/**
+	 * Obtain a publisher of the query results which only advances through the
+	 * underlying JDBC ResultSet as its subscriber signals demand.  The query is
+	 * executed, as per {@link #stream()}, upon the first request.
+	 * <p/>
+	 * All signals are delivered on the thread calling
+	 * {@link ResultsPublisher.Subscription#request}; like the Session itself,
+	 * the publisher is not meant for concurrent use.
+	 *
+	 * @return The results publisher
+	 *
+	 * @since 6.0
+	 */
+	ResultsPublisher<R> getResultPublisher();
+
 	/**
 	 * Obtain the comment currently associated with this query.  Provided SQL commenting is enabled
 	 * (generally by enabling the {@code hibernate.use_sql_comments} config setting), this comment will also be added
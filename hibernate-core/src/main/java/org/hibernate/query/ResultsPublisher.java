@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * A demand-driven source of query results, obtained from {@link Query#getResultPublisher()}.
+ * <p/>
+ * The contract is intentionally shaped after {@code java.util.concurrent.Flow.Publisher}
+ * (and Reactive Streams) which are not available on the Java baseline of Hibernate;
+ * adapting it to a {@code Flow.Publisher} is a matter of delegating the 4 subscriber
+ * signals and the 2 subscription operations.
+ *
+ * @param <R> The query result type
+ *
+ *
+ * @since 6.0
+ */
+@Incubating
+public interface ResultsPublisher<R> {
+	/**
+	 * Subscribe to the results.  Only a single subscription is supported.
+	 */
+	void subscribe(Subscriber<? super R> subscriber);
+
+	/**
+	 * Receiver of the results
+	 */
+	interface Subscriber<T> {
+		void onSubscribe(Subscription subscription);
+
+		void onNext(T item);
+
+		void onError(Throwable throwable);
+
+		void onComplete();
+	}
+
+	/**
+	 * Link between the publisher and its subscriber, used to signal demand
+	 */
+	interface Subscription {
+		/**
+		 * Request (up to) {@code n} more results.  The ResultSet is only advanced
+		 * to satisfy outstanding demand.
+		 */
+		void request(long n);
+
+		/**
+		 * Stop receiving results, releasing the underlying JDBC resources
+		 */
+		void cancel();
+	}
+}
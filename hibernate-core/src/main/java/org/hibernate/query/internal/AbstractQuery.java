@@ -22,6 +22,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.persistence.CacheRetrieveMode;
@@ -59,6 +61,7 @@ import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.ResultsPublisher;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.TypedParameterValue;
 import org.hibernate.query.spi.MutableQueryOptions;
@@ -1317,6 +1320,12 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 
 	protected abstract List<R> doList();
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		final Executor executor = getSession().getFactory().getSessionFactoryOptions().getQueryAsyncExecutor();
+		return getSession().executeQueryAsync( this::list, executor );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
@@ -1382,7 +1391,22 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 	@Override
 	@SuppressWarnings("unchecked")
 	public Stream<R> stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		beforeQuery();
+		try {
+			return doStream();
+		}
+		finally {
+			afterQuery();
+		}
+	}
+
+	/**
+	 * Perform the stream execution.  By default the Stream is built on top
+	 * of forward-only {@link #doScroll ScrollableResults}.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Stream<R> doStream() {
+		final ScrollableResultsImplementor scrollableResults = doScroll( ScrollMode.FORWARD_ONLY );
 		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
@@ -1390,6 +1414,11 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 		return stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public ResultsPublisher<R> getResultPublisher() {
+		return new StreamResultsPublisher<>( this::stream );
+	}
+
 	@Override
 	public int executeUpdate() throws HibernateException {
 		if ( !getSession().isTransactionInProgress() ) {
@@ -6,22 +6,42 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryPlanCache;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryPlanKind;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
 
 /**
- * Standard QueryInterpretations implementation
+ * Standard QueryInterpretations implementation.
+ * <p/>
+ * Select plans, non-select plans and SQM statements are kept in separate
+ * regions, each bounded by the total {@link org.hibernate.query.spi.QueryPlan#getEstimatedWeight() weight}
+ * of its entries rather than by entry count.  When a region grows beyond its
+ * maximum weight the least recently used entries are evicted until the region
+ * is back under {@link #EVICTION_TARGET_RATIO} of that weight.
  *
  * @author Steve Ebersole
  */
 public class QueryPlanCacheImpl implements QueryPlanCache {
-	private final SessionFactoryImplementor sessionFactory;
+	private static final Logger log = CoreLogging.logger( QueryPlanCacheImpl.class );
+
 	/**
 	 * The default strong reference count.
 	 */
@@ -31,11 +51,28 @@ public class QueryPlanCacheImpl implements QueryPlanCache {
 	 */
 	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = 2048;
 
+	/**
+	 * Once eviction kicks in, entries are evicted until the region weight
+	 * drops below this ratio of its maximum weight.  Evicting a little more
+	 * than strictly needed avoids paying the eviction cost on every put once
+	 * the region is full.
+	 */
+	public static final double EVICTION_TARGET_RATIO = 0.9;
+
+	/**
+	 * Number of query string characters accounted as one unit of weight
+	 * for cached SQM statements
+	 */
+	private static final int SQM_STATEMENT_CHARS_PER_WEIGHT = 512;
+
+	private final SessionFactoryImplementor sessionFactory;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
-	private final BoundedConcurrentHashMap sqmStatementCache;
+	private final WeightedRegion<Key,SelectQueryPlan> selectQueryPlanCache;
+	private final WeightedRegion<Key,NonSelectQueryPlan> nonSelectQueryPlanCache;
+	private final WeightedRegion<String,SqmStatement> sqmStatementCache;
 
 	public QueryPlanCacheImpl(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
@@ -52,47 +89,188 @@ public class QueryPlanCacheImpl implements QueryPlanCache {
 			);
 		}
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		sqmStatementCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		final long maxQueryPlanWeight = ConfigurationHelper.getLong(
+				Environment.QUERY_PLAN_CACHE_MAX_WEIGHT,
+				sessionFactory.getProperties(),
+				maxQueryPlanCount
+		);
+
+		selectQueryPlanCache = new WeightedRegion<>(
+				QueryPlanKind.SELECT,
+				maxQueryPlanWeight,
+				(key, plan) -> plan.getEstimatedWeight()
+		);
+		nonSelectQueryPlanCache = new WeightedRegion<>(
+				QueryPlanKind.NON_SELECT,
+				maxQueryPlanWeight,
+				(key, plan) -> plan.getEstimatedWeight()
+		);
+		sqmStatementCache = new WeightedRegion<>(
+				QueryPlanKind.SQM_STATEMENT,
+				maxQueryPlanWeight,
+				(queryString, sqmStatement) -> 1 + queryString.length() / SQM_STATEMENT_CHARS_PER_WEIGHT
+		);
 	}
 
 	@Override
 	public SelectQueryPlan getSelectQueryPlan(Key key) {
-		// todo (6.0) : Log and stats, see HHH-12855
-		return (SelectQueryPlan) queryPlanCache.get( key );
+		return selectQueryPlanCache.get( key );
 	}
 
 	@Override
 	public void cacheSelectQueryPlan(Key key, SelectQueryPlan plan) {
-		// todo (6.0) : LOG, see HHH-12855
-		queryPlanCache.putIfAbsent( key, plan );
+		selectQueryPlanCache.putIfAbsent( key, plan );
 	}
 
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
-		// todo (6.0) : implement
-		return null;
+		return nonSelectQueryPlanCache.get( key );
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
-		// todo (6.0) : implement
+		nonSelectQueryPlanCache.putIfAbsent( key, plan );
 	}
 
 	@Override
 	public SqmStatement getSqmStatement(String queryString) {
-		return (SqmStatement) sqmStatementCache.get( queryString );
+		return sqmStatementCache.get( queryString );
 	}
 
 	@Override
 	public void cacheSqmStatement(String key, SqmStatement sqmStatement) {
-		// todo (6.0) : Log and stats, see HHH-12855
 		sqmStatementCache.putIfAbsent( key, sqmStatement );
 	}
 
 	@Override
 	public void close() {
-		// todo (6.0) : clear maps/caches and LOG
-		queryPlanCache.clear();
+		log.tracef( "Closing query plan cache" );
+		selectQueryPlanCache.clear();
+		nonSelectQueryPlanCache.clear();
+		sqmStatementCache.clear();
+	}
+
+	private StatisticsImplementor getStatistics() {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		return statistics != null && statistics.isStatisticsEnabled() ? statistics : null;
+	}
+
+	/**
+	 * A concurrent map bounded by the total weight of its values, evicting
+	 * the least recently accessed entries when that bound is exceeded.
+	 */
+	private final class WeightedRegion<K,V> {
+		private final QueryPlanKind kind;
+		private final long maxWeight;
+		private final ToIntBiFunction<K,V> weigher;
+
+		private final ConcurrentHashMap<K,WeightedEntry<V>> entries = new ConcurrentHashMap<>();
+		private final AtomicLong totalWeight = new AtomicLong();
+		private final ReentrantLock evictionLock = new ReentrantLock();
+
+		private WeightedRegion(QueryPlanKind kind, long maxWeight, ToIntBiFunction<K,V> weigher) {
+			this.kind = kind;
+			this.maxWeight = maxWeight;
+			this.weigher = weigher;
+		}
+
+		private V get(K key) {
+			final WeightedEntry<V> entry = entries.get( key );
+			final StatisticsImplementor statistics = getStatistics();
+
+			if ( entry == null ) {
+				log.tracef( "%s query plan cache miss : %s", kind, key );
+				if ( statistics != null ) {
+					statistics.queryPlanCacheMiss( kind );
+				}
+				return null;
+			}
+
+			log.tracef( "%s query plan cache hit : %s", kind, key );
+			if ( statistics != null ) {
+				statistics.queryPlanCacheHit( kind );
+			}
+			entry.lastAccess = System.nanoTime();
+			return entry.value;
+		}
+
+		private void putIfAbsent(K key, V value) {
+			final int weight = Math.max( 1, weigher.applyAsInt( key, value ) );
+			if ( weight > maxWeight ) {
+				log.debugf( "Skipping caching of %s query plan heavier (%s) than the cache itself : %s", kind, weight, key );
+				return;
+			}
+
+			final WeightedEntry<V> entry = new WeightedEntry<>( value, weight );
+			if ( entries.putIfAbsent( key, entry ) != null ) {
+				return;
+			}
+
+			log.tracef( "Cached %s query plan (weight %s) : %s", kind, weight, key );
+			if ( totalWeight.addAndGet( weight ) > maxWeight ) {
+				evict();
+			}
+		}
+
+		private void evict() {
+			// a single thread performs eviction; others simply continue as
+			// the region only temporarily exceeds its bound
+			if ( !evictionLock.tryLock() ) {
+				return;
+			}
+
+			try {
+				final long targetWeight = (long) ( maxWeight * EVICTION_TARGET_RATIO );
+				if ( totalWeight.get() <= targetWeight ) {
+					return;
+				}
+
+				final List<Map.Entry<K,WeightedEntry<V>>> candidates = new ArrayList<>( entries.entrySet() );
+				candidates.sort( Comparator.comparingLong( candidate -> candidate.getValue().lastAccess ) );
+
+				int evictionCount = 0;
+				for ( Map.Entry<K,WeightedEntry<V>> candidate : candidates ) {
+					if ( totalWeight.get() <= targetWeight ) {
+						break;
+					}
+					if ( entries.remove( candidate.getKey(), candidate.getValue() ) ) {
+						totalWeight.addAndGet( -candidate.getValue().weight );
+						evictionCount++;
+					}
+				}
+
+				log.debugf( "Evicted %s %s query plan(s) from query plan cache", evictionCount, kind );
+				final StatisticsImplementor statistics = getStatistics();
+				if ( statistics != null && evictionCount > 0 ) {
+					statistics.queryPlanCacheEviction( kind, evictionCount );
+				}
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+
+		private void clear() {
+			evictionLock.lock();
+			try {
+				entries.clear();
+				totalWeight.set( 0 );
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private static final class WeightedEntry<V> {
+		private final V value;
+		private final int weight;
+		private volatile long lastAccess;
+
+		private WeightedEntry(V value, int weight) {
+			this.value = value;
+			this.weight = weight;
+			this.lastAccess = System.nanoTime();
+		}
 	}
 }
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.query.ResultsPublisher;
+
+/**
+ * ResultsPublisher backed by a (lazily opened) query results Stream,
+ * emitting a result only for each unit of requested demand.
+ */
+public class StreamResultsPublisher<R> implements ResultsPublisher<R> {
+	private final Supplier<Stream<R>> streamSupplier;
+	private boolean subscribed;
+
+	public StreamResultsPublisher(Supplier<Stream<R>> streamSupplier) {
+		this.streamSupplier = streamSupplier;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super R> subscriber) {
+		Objects.requireNonNull( subscriber, "Subscriber cannot be null" );
+
+		if ( subscribed ) {
+			subscriber.onSubscribe( NoOpSubscription.INSTANCE );
+			subscriber.onError( new IllegalStateException( "Query results publisher supports a single subscriber" ) );
+			return;
+		}
+
+		subscribed = true;
+		subscriber.onSubscribe( new StreamSubscription<>( streamSupplier, subscriber ) );
+	}
+
+	private static class StreamSubscription<R> implements Subscription {
+		private final Supplier<Stream<R>> streamSupplier;
+		private final Subscriber<? super R> subscriber;
+
+		private Stream<R> stream;
+		private Spliterator<R> spliterator;
+
+		private long demand;
+		private boolean emitting;
+		private boolean done;
+
+		private StreamSubscription(Supplier<Stream<R>> streamSupplier, Subscriber<? super R> subscriber) {
+			this.streamSupplier = streamSupplier;
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( done ) {
+				return;
+			}
+
+			if ( n <= 0 ) {
+				fail( new IllegalArgumentException( "Requested demand must be positive : " + n ) );
+				return;
+			}
+
+			demand += n;
+			if ( demand < 0 ) {
+				// overflow : treat as unbounded
+				demand = Long.MAX_VALUE;
+			}
+
+			if ( emitting ) {
+				// re-entrant request from within onNext; the outer loop picks up the new demand
+				return;
+			}
+
+			emitting = true;
+			try {
+				if ( spliterator == null ) {
+					stream = streamSupplier.get();
+					spliterator = stream.spliterator();
+				}
+
+				while ( demand > 0 && !done ) {
+					if ( !spliterator.tryAdvance( subscriber::onNext ) ) {
+						done = true;
+						closeStream();
+						subscriber.onComplete();
+						return;
+					}
+					demand--;
+				}
+			}
+			catch (RuntimeException e) {
+				fail( e );
+			}
+			finally {
+				emitting = false;
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if ( !done ) {
+				done = true;
+				closeStream();
+			}
+		}
+
+		private void fail(Throwable throwable) {
+			if ( done ) {
+				return;
+			}
+
+			done = true;
+			try {
+				closeStream();
+			}
+			finally {
+				subscriber.onError( throwable );
+			}
+		}
+
+		private void closeStream() {
+			if ( stream != null ) {
+				final Stream<R> toClose = stream;
+				stream = null;
+				spliterator = null;
+				toClose.close();
+			}
+		}
+	}
+
+	private static class NoOpSubscription implements Subscription {
+		private static final NoOpSubscription INSTANCE = new NoOpSubscription();
+
+		@Override
+		public void request(long n) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+	}
+}
@@ -12,7 +12,7 @@ import org.hibernate.sql.exec.spi.ParameterBindingContext;
 /**
  * @author Steve Ebersole
  */
-public interface NonSelectQueryPlan {
+public interface NonSelectQueryPlan extends QueryPlan {
 	int executeUpdate(
 			SharedSessionContractImplementor persistenceContext,
 			QueryOptions queryOptions,
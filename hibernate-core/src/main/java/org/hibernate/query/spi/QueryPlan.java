@@ -12,4 +12,12 @@ package org.hibernate.query.spi;
  * @author Steve Ebersole
  */
 public interface QueryPlan {
+	/**
+	 * An estimate of the relative amount of memory retained by this plan,
+	 * used by the {@link QueryPlanCache} to bound its size.  A simple,
+	 * single-table plan is expected to weigh {@code 1}.
+	 */
+	default int getEstimatedWeight() {
+		return 1;
+	}
 }
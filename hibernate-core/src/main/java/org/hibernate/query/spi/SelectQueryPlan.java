@@ -7,10 +7,15 @@
 package org.hibernate.query.spi;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 
 /**
@@ -43,4 +48,17 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, ExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning a Stream.  By default the Stream
+	 * is built on top of forward-only {@link #performScroll ScrollableResults}
+	 */
+	default Stream<R> performStream(ExecutionContext executionContext) {
+		final ScrollableResultsImplementor<R> scrollableResults = performScroll( ScrollMode.FORWARD_ONLY, executionContext );
+		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		final Stream<R> stream = StreamSupport.stream( spliterator, false );
+		return stream.onClose( scrollableResults::close );
+	}
+
 }
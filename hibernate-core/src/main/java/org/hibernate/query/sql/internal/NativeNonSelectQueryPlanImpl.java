@@ -8,7 +8,6 @@ package org.hibernate.query.sql.internal;
 
 import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.query.spi.NativeQueryImplementor;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.ParameterBindingContext;
@@ -17,11 +16,8 @@ import org.hibernate.sql.exec.spi.ParameterBindingContext;
  * @author Steve Ebersole
  */
 public class NativeNonSelectQueryPlanImpl implements NonSelectQueryPlan {
-	private final NativeQueryImplementor nativeQuery;
-
-	public NativeNonSelectQueryPlanImpl(NativeQueryImplementor nativeQuery) {
-		this.nativeQuery = nativeQuery;
-	}
+	// NOTE : plans are cached beyond the scope of the Session, so do not
+	// hold a reference to the query (and through it the Session) here
 
 	@Override
 	public int executeUpdate(
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -544,6 +545,14 @@ public class NativeQueryImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected Stream<R> doStream() {
+		getSession().prepareForQueryExecution( false );
+		prepareForExecution();
+
+		return resolveSelectQueryPlan().performStream( this );
+	}
+
 	protected int doExecuteUpdate() {
 		// trigger the transaction-in-progress checks...
 		getSession().prepareForQueryExecution( true );
@@ -564,7 +573,7 @@ public class NativeQueryImpl<R>
 		}
 
 		if ( queryPlan == null ) {
-			queryPlan = new NativeNonSelectQueryPlanImpl( this );
+			queryPlan = new NativeNonSelectQueryPlanImpl();
 			if ( cacheKey != null ) {
 				getSession().getFactory().getQueryEngine().getQueryPlanCache().cacheNonSelectQueryPlan( cacheKey, queryPlan );
 			}
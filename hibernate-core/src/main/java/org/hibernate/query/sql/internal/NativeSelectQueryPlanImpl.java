@@ -10,6 +10,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -19,7 +20,6 @@ import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.sql.spi.NativeSelectQueryPlan;
 import org.hibernate.sql.ast.Clause;
-import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.internal.JdbcSelectImpl;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -64,8 +64,10 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 				affectedTableNames
 		);
 
-		// todo (6.0) : need to make this swappable (see note in executor class)
-		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
+		final JdbcSelectExecutor executor = executionContext.getSession()
+				.getFactory()
+				.getSessionFactoryOptions()
+				.getJdbcSelectExecutor();
 
 		return executor.list( jdbcSelect, executionContext, rowTransformer );
 	}
@@ -118,8 +120,29 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 				resultSetMapping,
 				affectedTableNames
 		);
-		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
+		final JdbcSelectExecutor executor = executionContext.getSession()
+				.getFactory()
+				.getSessionFactoryOptions()
+				.getJdbcSelectExecutor();
 
 		return executor.scroll( jdbcSelect, scrollMode, executionContext, rowTransformer );
 	}
+
+	@Override
+	public Stream<R> performStream(ExecutionContext executionContext) {
+		final List<JdbcParameterBinder> jdbcParameterBinders = resolveJdbcParameterBinders( executionContext );
+
+		final JdbcSelect jdbcSelect = new JdbcSelectImpl(
+				sql,
+				jdbcParameterBinders,
+				resultSetMapping,
+				affectedTableNames
+		);
+		final JdbcSelectExecutor executor = executionContext.getSession()
+				.getFactory()
+				.getSessionFactoryOptions()
+				.getJdbcSelectExecutor();
+
+		return executor.stream( jdbcSelect, executionContext, rowTransformer );
+	}
 }
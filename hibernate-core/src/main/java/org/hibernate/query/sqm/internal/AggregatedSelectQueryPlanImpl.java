@@ -25,6 +25,15 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
 	}
 
+	@Override
+	public int getEstimatedWeight() {
+		int weight = 0;
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			weight += aggregatedQueryPlan.getEstimatedWeight();
+		}
+		return weight;
+	}
+
 	@Override
 	public List<R> performList(ExecutionContext executionContext) {
 		final List<R> overallResults = new ArrayList<R>();
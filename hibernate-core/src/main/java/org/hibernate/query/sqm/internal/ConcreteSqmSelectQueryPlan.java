@@ -10,9 +10,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import javax.persistence.Tuple;
 import javax.persistence.TupleElement;
 
+import org.hibernate.LockMode;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -33,7 +35,6 @@ import org.hibernate.sql.ast.produce.spi.SqlAstSelectDescriptor;
 import org.hibernate.sql.ast.produce.sqm.spi.Callback;
 import org.hibernate.sql.ast.produce.sqm.spi.SqmSelectToSqlAstConverter;
 import org.hibernate.sql.exec.internal.Helper;
-import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.internal.RowTransformerJpaTupleImpl;
 import org.hibernate.sql.exec.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.exec.internal.RowTransformerSingularReturnImpl;
@@ -43,6 +44,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.exec.spi.ParameterBindingContext;
 import org.hibernate.sql.exec.spi.RowTransformer;
 
@@ -58,8 +60,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final Map<QueryParameterImplementor, SqmParameter> sqmParamByQueryParam;
 	private final RowTransformer<R> rowTransformer;
 
-	private JdbcSelect jdbcSelect;
-	private  Map<QueryParameterImplementor, List<JdbcParameter>> jdbcParamsByDomainParams;
+	private volatile SqmInterpretation cachedInterpretation;
 
 	@SuppressWarnings("WeakerAccess")
 	public ConcreteSqmSelectQueryPlan(
@@ -154,28 +155,121 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	@Override
+	public int getEstimatedWeight() {
+		// the interpreted SQL AST (and the JdbcSelect rendered from it) grows
+		// with the number of selections and parameters
+		final int selectionCount = sqm.getQuerySpec().getSelectClause().getSelections().size();
+		return 1 + ( selectionCount + sqmParamByQueryParam.size() ) / 8;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public List<R> performList(ExecutionContext executionContext) {
-		if ( jdbcSelect == null ) {
-			SqmSelectToSqlAstConverter sqmConverter = getSqmSelectToSqlAstConverter( executionContext );
-			SqlAstSelectDescriptor interpretation = sqmConverter.interpret( sqm );
-			jdbcSelect = SqlAstSelectToJdbcSelectConverter.interpret(
-					interpretation,
-					executionContext.getSession().getSessionFactory()
-			);
+		final SqmInterpretation interpretation = resolveInterpretation( executionContext );
+		autoFlushIfRequired( executionContext, interpretation );
 
-			jdbcParamsByDomainParams = generateJdbcParamsByQueryParamMap(
-					sqmConverter );
+		return resolveJdbcSelectExecutor( executionContext ).list(
+				interpretation.jdbcSelect,
+				createExecutionContext( executionContext, interpretation ),
+				rowTransformer
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ScrollableResultsImplementor performScroll(ScrollMode scrollMode, ExecutionContext executionContext) {
+		final SqmInterpretation interpretation = resolveInterpretation( executionContext );
+		autoFlushIfRequired( executionContext, interpretation );
+
+		return resolveJdbcSelectExecutor( executionContext ).scroll(
+				interpretation.jdbcSelect,
+				scrollMode,
+				createExecutionContext( executionContext, interpretation ),
+				rowTransformer
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<R> performStream(ExecutionContext executionContext) {
+		final SqmInterpretation interpretation = resolveInterpretation( executionContext );
+		autoFlushIfRequired( executionContext, interpretation );
+
+		return resolveJdbcSelectExecutor( executionContext ).stream(
+				interpretation.jdbcSelect,
+				createExecutionContext( executionContext, interpretation ),
+				rowTransformer
+		);
+	}
+
+	private static void autoFlushIfRequired(ExecutionContext executionContext, SqmInterpretation interpretation) {
+		executionContext.getSession().autoFlushIfRequired( interpretation.jdbcSelect.getAffectedTableNames() );
+	}
+
+	private static JdbcSelectExecutor resolveJdbcSelectExecutor(ExecutionContext executionContext) {
+		return executionContext.getSession().getFactory().getSessionFactoryOptions().getJdbcSelectExecutor();
+	}
+
+	private SqmInterpretation resolveInterpretation(ExecutionContext executionContext) {
+		if ( !isInterpretationCacheable( executionContext ) ) {
+			return buildInterpretation( executionContext );
+		}
+
+		// the plan may be shared across threads - worst case 2 threads build
+		// the same interpretation concurrently and one of them "wins"
+		SqmInterpretation interpretation = cachedInterpretation;
+		if ( interpretation == null ) {
+			interpretation = buildInterpretation( executionContext );
+			cachedInterpretation = interpretation;
+		}
+		return interpretation;
+	}
+
+	/**
+	 * The SQL AST (and therefore the JdbcSelect rendered from it) can be re-used
+	 * across executions as long as nothing specific to the execution influences
+	 * its generation: filters, fetch profiles and entity graphs, as well as
+	 * locking which is rendered into the SQL.  First/max results are applied
+	 * to the SQL per execution by the Dialect's LimitHandler.
+	 */
+	private static boolean isInterpretationCacheable(ExecutionContext executionContext) {
+		if ( executionContext.getSession().getLoadQueryInfluencers().hasAnyInfluencers() ) {
+			return false;
+		}
+
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions.getAppliedGraph() != null && queryOptions.getAppliedGraph().getGraph() != null ) {
+			return false;
 		}
 
+		return !queryOptions.getLockOptions().findGreatestLockMode().greaterThan( LockMode.READ );
+	}
+
+	private SqmInterpretation buildInterpretation(ExecutionContext executionContext) {
+		final SqmSelectToSqlAstConverter sqmConverter = getSqmSelectToSqlAstConverter( executionContext );
+		final SqlAstSelectDescriptor sqlAstDescriptor = sqmConverter.interpret( sqm );
+		final JdbcSelect jdbcSelect = SqlAstSelectToJdbcSelectConverter.interpret(
+				sqlAstDescriptor,
+				executionContext.getSession().getSessionFactory()
+		);
+
+		return new SqmInterpretation(
+				jdbcSelect,
+				generateJdbcParamsByQueryParamMap( sqmConverter )
+		);
+	}
+
+	private static ExecutionContext createExecutionContext(
+			ExecutionContext executionContext,
+			SqmInterpretation interpretation) {
 		final JdbcParameterBindings jdbcParameterBindings = Helper.createJdbcParameterBindings(
 				executionContext.getParameterBindingContext().getQueryParameterBindings(),
-				jdbcParamsByDomainParams,
+				interpretation.jdbcParamsByDomainParams,
 				executionContext.getSession()
 		);
 
-		final ExecutionContext realExecutionContext = new ExecutionContext() {
+		return new ExecutionContext() {
 			@Override
 			public SharedSessionContractImplementor getSession() {
 				return executionContext.getSession();
@@ -201,14 +295,6 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				return jdbcParameterBindings;
 			}
 		};
-
-		// todo (6.0) : make these executors resolvable to allow plugging in custom ones.
-		//		Dialect?
-		return JdbcSelectExecutorStandardImpl.INSTANCE.list(
-				jdbcSelect,
-				realExecutionContext,
-				rowTransformer
-		);
 	}
 
 	private Map<QueryParameterImplementor, List<JdbcParameter>> generateJdbcParamsByQueryParamMap(
@@ -223,7 +309,6 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private SqmSelectToSqlAstConverter getSqmSelectToSqlAstConverter(ExecutionContext executionContext) {
-		// todo (6.0) : for cases where we have no "load query influencers" we could use a cached SQL AST
 		return new SqmSelectToSqlAstConverter(
 					executionContext.getQueryOptions(),
 					new SqlAstProducerContext() {
@@ -245,60 +330,19 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			);
 	}
 
-	@Override
-	@SuppressWarnings("unchecked")
-	public ScrollableResultsImplementor performScroll(ScrollMode scrollMode, ExecutionContext executionContext) {
-
-		final SqmSelectToSqlAstConverter sqmConverter = getSqmSelectToSqlAstConverter( executionContext );
-
-		final SqlAstSelectDescriptor interpretation = sqmConverter.interpret( sqm );
-
-		final JdbcSelect jdbcSelect = SqlAstSelectToJdbcSelectConverter.interpret(
-				interpretation,
-				executionContext.getSession().getSessionFactory()
-		);
-
-		final Map<QueryParameterImplementor, List<JdbcParameter>> jdbcParamsByDomainParams
-				= generateJdbcParamsByQueryParamMap( sqmConverter );
-
-		final JdbcParameterBindings jdbcParameterBindings = Helper.createJdbcParameterBindings(
-				executionContext.getParameterBindingContext().getQueryParameterBindings(),
-				jdbcParamsByDomainParams,
-				executionContext.getSession()
-		);
-
-		final ExecutionContext realExecutionContext = new ExecutionContext() {
-			@Override
-			public SharedSessionContractImplementor getSession() {
-				return executionContext.getSession();
-			}
-
-			@Override
-			public QueryOptions getQueryOptions() {
-				return executionContext.getQueryOptions();
-			}
-
-			@Override
-			public ParameterBindingContext getParameterBindingContext() {
-				return executionContext.getParameterBindingContext();
-			}
-
-			@Override
-			public Callback getCallback() {
-				return executionContext.getCallback();
-			}
-
-			@Override
-			public JdbcParameterBindings getJdbcParameterBindings() {
-				return jdbcParameterBindings;
-			}
-		};
-
-		return JdbcSelectExecutorStandardImpl.INSTANCE.scroll(
-				jdbcSelect,
-				scrollMode,
-				realExecutionContext,
-				rowTransformer
-		);
+	/**
+	 * The result of interpreting the SQM into a JdbcSelect, along with the
+	 * JdbcParameters each domain parameter expanded into
+	 */
+	private static class SqmInterpretation {
+		private final JdbcSelect jdbcSelect;
+		private final Map<QueryParameterImplementor, List<JdbcParameter>> jdbcParamsByDomainParams;
+
+		private SqmInterpretation(
+				JdbcSelect jdbcSelect,
+				Map<QueryParameterImplementor, List<JdbcParameter>> jdbcParamsByDomainParams) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParamsByDomainParams = jdbcParamsByDomainParams;
+		}
 	}
 }
@@ -24,6 +24,13 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 		this.updateHandler = updateHandler;
 	}
 
+	@Override
+	public int getEstimatedWeight() {
+		// the handler holds the id-table population statement plus one
+		// statement per table in the hierarchy
+		return 4;
+	}
+
 	@Override
 	public int executeUpdate(
 			SharedSessionContractImplementor session,
@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import javax.persistence.Parameter;
 import javax.persistence.PersistenceException;
 
@@ -49,6 +50,8 @@ import org.hibernate.query.sqm.consume.multitable.spi.DeleteHandler;
 import org.hibernate.query.sqm.consume.multitable.spi.HandlerExecutionContext;
 import org.hibernate.query.sqm.consume.multitable.spi.UpdateHandler;
 import org.hibernate.query.sqm.consume.spi.QuerySplitter;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer.NormalizedHql;
 import org.hibernate.query.sqm.tree.SqmDeleteStatement;
 import org.hibernate.query.sqm.tree.SqmNonSelectStatement;
 import org.hibernate.query.sqm.tree.SqmSelectStatement;
@@ -68,10 +71,13 @@ public class QuerySqmImpl<R>
 		implements HqlQueryImplementor<R>, HandlerExecutionContext, ParameterBindingContext {
 
 	private final String sourceQueryString;
+	private final String interpretedQueryString;
 	private final SqmStatement sqmStatement;
 	private final Class resultType;
 
 	private final ParameterMetadataImpl parameterMetadata;
+	// without the synthetic parameters of parameterized literals
+	private final ParameterMetadataImpl exposedParameterMetadata;
 	private final QueryParameterBindingsImpl parameterBindings;
 	private final Map<QueryParameterImplementor, SqmParameter> sqmParamByQueryParam = new HashMap<>(  );
 
@@ -82,6 +88,21 @@ public class QuerySqmImpl<R>
 			SqmStatement sqmStatement,
 			Class resultType,
 			SharedSessionContractImplementor producer) {
+		this( sourceQueryString, null, sqmStatement, resultType, producer );
+	}
+
+	/**
+	 * Creates a query for an SQM interpreted from the literal-parameterized
+	 * form of {@code sourceQueryString}.  The replaced literal values are bound
+	 * to their synthetic parameters, which are otherwise not exposed.
+	 */
+	@SuppressWarnings("unchecked")
+	public QuerySqmImpl(
+			String sourceQueryString,
+			NormalizedHql normalizedHql,
+			SqmStatement sqmStatement,
+			Class resultType,
+			SharedSessionContractImplementor producer) {
 		super( producer );
 
 		if ( resultType != null ) {
@@ -91,11 +112,25 @@ public class QuerySqmImpl<R>
 		}
 
 		this.sourceQueryString = sourceQueryString;
+		this.interpretedQueryString = normalizedHql == null ? sourceQueryString : normalizedHql.getQueryString();
 		this.sqmStatement = sqmStatement;
 		this.resultType = resultType;
 
 		this.parameterMetadata = buildParameterMetadata( sqmStatement, sqmParamByQueryParam );
+		this.exposedParameterMetadata = normalizedHql == null
+				? parameterMetadata
+				: hideSyntheticParameters( parameterMetadata );
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, producer.getFactory() );
+
+		if ( normalizedHql != null ) {
+			for ( Map.Entry<String, Object> entry : normalizedHql.getLiteralValues().entrySet() ) {
+				final Object value = entry.getValue();
+				parameterBindings.getBinding( entry.getKey() ).setBindValue(
+						value,
+						producer.getFactory().resolveParameterBindType( value )
+				);
+			}
+		}
 	}
 
 
@@ -137,6 +172,22 @@ public class QuerySqmImpl<R>
 		return new ParameterMetadataImpl( positionalQueryParameters, namedQueryParameters );
 	}
 
+	private static ParameterMetadataImpl hideSyntheticParameters(ParameterMetadataImpl parameterMetadata) {
+		final Map<String, QueryParameterImplementor<?>> namedQueryParameters = new HashMap<>();
+		for ( QueryParameterImplementor<?> parameter : parameterMetadata.getNamedParameters() ) {
+			if ( !HqlLiteralNormalizer.isSyntheticParameterName( parameter.getName() ) ) {
+				namedQueryParameters.put( parameter.getName(), parameter );
+			}
+		}
+
+		final Map<Integer, QueryParameterImplementor<?>> positionalQueryParameters = new HashMap<>();
+		for ( QueryParameterImplementor<?> parameter : parameterMetadata.getPositionalParameters() ) {
+			positionalQueryParameters.put( parameter.getPosition(), parameter );
+		}
+
+		return new ParameterMetadataImpl( positionalQueryParameters, namedQueryParameters );
+	}
+
 	@Override
 	public SessionFactoryImplementor getSessionFactory() {
 		return getSession().getFactory();
@@ -151,6 +202,14 @@ public class QuerySqmImpl<R>
 		return sourceQueryString;
 	}
 
+	/**
+	 * The query string the SQM was interpreted from, which differs from
+	 * {@link #getQueryString()} when literals were parameterized
+	 */
+	String getInterpretedQueryString() {
+		return interpretedQueryString;
+	}
+
 	@Override
 	public Query<R> applyGraph(RootGraph graph, GraphSemantic semantic) {
 		queryOptions.applyGraph( (RootGraphImplementor<?>) graph, semantic );
@@ -180,7 +239,7 @@ public class QuerySqmImpl<R>
 
 	@Override
 	public ParameterMetadataImplementor<QueryParameterImplementor<?>> getParameterMetadata() {
-		return parameterMetadata;
+		return exposedParameterMetadata;
 	}
 
 	@Override
@@ -191,7 +250,7 @@ public class QuerySqmImpl<R>
 	@Override
 	public Set<Parameter<?>> getParameters() {
 		Set<Parameter<?>> parameters = new HashSet<>();
-		parameterMetadata.collectAllParameters( parameters::add );
+		exposedParameterMetadata.collectAllParameters( parameters::add );
 		return parameters;
 	}
 
@@ -220,8 +279,8 @@ public class QuerySqmImpl<R>
 			return (T) this;
 		}
 
-		if ( cls.isInstance( parameterMetadata ) ) {
-			return (T) parameterMetadata;
+		if ( cls.isInstance( exposedParameterMetadata ) ) {
+			return (T) exposedParameterMetadata;
 		}
 
 		if ( cls.isInstance( parameterBindings ) ) {
@@ -359,6 +418,14 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected Stream<R> doStream() {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement() );
+		getSession().prepareForQueryExecution( requiresTxn( getLockOptions().findGreatestLockMode() ) );
+
+		return resolveSelectQueryPlan().performStream( this );
+	}
+
 	@Override
 	protected int doExecuteUpdate() {
 		SqmUtil.verifyIsNonSelectStatement( getSqmStatement() );
@@ -416,10 +483,12 @@ public class QuerySqmImpl<R>
 				.getEntityDescriptor();
 
 		if ( entityToDelete.isMultiTable() ) {
-			final DeleteHandler handler = getSession().getFactory()
-					.getSessionFactoryOptions()
+			// the plan is cached beyond the scope of the Session, so the handler
+			// must only be given access to the SessionFactory
+			final SessionFactoryImplementor factory = getSessionFactory();
+			final DeleteHandler handler = factory.getSessionFactoryOptions()
 					.getIdTableStrategy()
-					.buildDeleteHandler( sqmStatement, getSession() );
+					.buildDeleteHandler( sqmStatement, () -> factory );
 			return new MultiTableDeleteQueryPlan( handler );
 		}
 		else {
@@ -438,10 +507,12 @@ public class QuerySqmImpl<R>
 				.getEntityDescriptor();
 
 		if ( entityToDelete.isMultiTable() ) {
-			final UpdateHandler handler = getSession().getFactory()
-					.getSessionFactoryOptions()
+			// the plan is cached beyond the scope of the Session, so the handler
+			// must only be given access to the SessionFactory
+			final SessionFactoryImplementor factory = getSessionFactory();
+			final UpdateHandler handler = factory.getSessionFactoryOptions()
 					.getIdTableStrategy()
-					.buildUpdateHandler( sqmStatement, getSession() );
+					.buildUpdateHandler( sqmStatement, () -> factory );
 			return new MultiTableUpdateQueryPlan( handler );
 		}
 		else {
@@ -33,10 +33,11 @@ import org.hibernate.sql.exec.spi.ParameterBindingContext;
 public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement sqmStatement;
 
+	// the plan is cached beyond the scope of the Session - see `#resolveJdbcDelete`
+	private volatile JdbcMutation cachedJdbcDelete;
+
 	public SimpleDeleteQueryPlan(SqmDeleteStatement sqmStatement) {
 		this.sqmStatement = sqmStatement;
-
-		// todo (6.0) : here is where we need to perform the conversion into SQL AST
 	}
 
 	@Override
@@ -44,6 +45,55 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 			SharedSessionContractImplementor session,
 			QueryOptions queryOptions,
 			ParameterBindingContext parameterBindingContext) {
+		final JdbcMutation jdbcDelete = resolveJdbcDelete( session, queryOptions );
+
+		return JdbcMutationExecutorImpl.WITH_AFTER_STATEMENT_CALL.execute(
+				jdbcDelete,
+				new ExecutionContext() {
+					@Override
+					public SharedSessionContractImplementor getSession() {
+						return session;
+					}
+
+					@Override
+					public QueryOptions getQueryOptions() {
+						return queryOptions;
+					}
+
+					@Override
+					public ParameterBindingContext getParameterBindingContext() {
+						return parameterBindingContext;
+					}
+
+					@Override
+					public Callback getCallback() {
+						return afterLoadAction -> {};
+					}
+				},
+				Connection::prepareStatement
+		);
+	}
+
+	/**
+	 * The SQL AST (and therefore the JdbcMutation rendered from it) can be re-used
+	 * across executions as long as the Session's LoadQueryInfluencers do not
+	 * influence its generation.  Worst case 2 threads build the same JdbcMutation
+	 * concurrently and one of them "wins".
+	 */
+	private JdbcMutation resolveJdbcDelete(SharedSessionContractImplementor session, QueryOptions queryOptions) {
+		if ( session.getLoadQueryInfluencers().hasAnyInfluencers() ) {
+			return buildJdbcDelete( session, queryOptions );
+		}
+
+		JdbcMutation jdbcDelete = cachedJdbcDelete;
+		if ( jdbcDelete == null ) {
+			jdbcDelete = buildJdbcDelete( session, queryOptions );
+			cachedJdbcDelete = jdbcDelete;
+		}
+		return jdbcDelete;
+	}
+
+	private JdbcMutation buildJdbcDelete(SharedSessionContractImplementor session, QueryOptions queryOptions) {
 		final DeleteStatement deleteStatement = SqmDeleteToSqlAstConverterSimple.interpret(
 				sqmStatement,
 				queryOptions,
@@ -66,8 +116,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				}
 		);
 
-
-		final JdbcMutation jdbcDelete = SqlDeleteToJdbcDeleteConverter.interpret(
+		return SqlDeleteToJdbcDeleteConverter.interpret(
 				new SqlAstDeleteDescriptor() {
 					@Override
 					public DeleteStatement getSqlAstStatement() {
@@ -83,31 +132,5 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				},
 				session.getSessionFactory()
 		);
-
-		return JdbcMutationExecutorImpl.WITH_AFTER_STATEMENT_CALL.execute(
-				jdbcDelete,
-				new ExecutionContext() {
-					@Override
-					public SharedSessionContractImplementor getSession() {
-						return session;
-					}
-
-					@Override
-					public QueryOptions getQueryOptions() {
-						return queryOptions;
-					}
-
-					@Override
-					public ParameterBindingContext getParameterBindingContext() {
-						return parameterBindingContext;
-					}
-
-					@Override
-					public Callback getCallback() {
-						return afterLoadAction -> {};
-					}
-				},
-				Connection::prepareStatement
-		);
 	}
 }
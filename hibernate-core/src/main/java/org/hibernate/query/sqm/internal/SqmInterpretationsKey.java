@@ -8,7 +8,6 @@ package org.hibernate.query.sqm.internal;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.query.Limit;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -26,7 +25,7 @@ public class SqmInterpretationsKey implements QueryPlanCache.Key {
 		}
 
 		return new SqmInterpretationsKey(
-				query.getQueryString(),
+				query.getInterpretedQueryString(),
 				query.getResultType(),
 				query.getQueryOptions()
 		);
@@ -34,9 +33,18 @@ public class SqmInterpretationsKey implements QueryPlanCache.Key {
 
 	@SuppressWarnings("WeakerAccess")
 	public static QueryPlanCache.Key generateNonSelectKey(QuerySqmImpl query) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		// for now... no caching of non-select plans
-		return null;
+		// non-select plans are built from the SQM tree and the SessionFactory
+		// only, so the same requirements as for select plans apply minus the
+		// select-specific ones (entity-graph, limit, locking)
+		if ( query.getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				query.getInterpretedQueryString(),
+				null,
+				query.getQueryOptions()
+		);
 	}
 
 	@SuppressWarnings("RedundantIfStatement")
@@ -52,11 +60,6 @@ public class SqmInterpretationsKey implements QueryPlanCache.Key {
 			return false;
 		}
 
-		if ( hasLimit( query.getQueryOptions().getLimit() ) ) {
-			// cannot cache query plans if there is a limit defined
-			return false;
-		}
-
 		if ( definesLocking( query.getQueryOptions().getLockOptions() ) ) {
 			// cannot cache query plans if it defines locking
 			return false;
@@ -65,10 +68,6 @@ public class SqmInterpretationsKey implements QueryPlanCache.Key {
 		return true;
 	}
 
-	private static boolean hasLimit(Limit limit) {
-		return limit.getFirstRow() != null || limit.getMaxRows() != null;
-	}
-
 	private static boolean definesLocking(LockOptions lockOptions) {
 		final LockMode mostRestrictiveLockMode = lockOptions.findGreatestLockMode();
 		return mostRestrictiveLockMode.greaterThan( LockMode.READ );
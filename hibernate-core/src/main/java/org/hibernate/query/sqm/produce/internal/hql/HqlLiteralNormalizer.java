@@ -0,0 +1,457 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.produce.internal.hql;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.sqm.produce.internal.hql.grammar.HqlLexer;
+
+import org.jboss.logging.Logger;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Rewrites an HQL query string such that the string, integer and long literals
+ * it contains in WHERE and HAVING predicates are replaced by synthetic named
+ * parameters.  Queries which differ only in the values of such literals are so
+ * normalized to the same query string, and thereby share the cached SQM and
+ * query plans.
+ * <p/>
+ * Literals are left in place when they appear in the select, from, group-by,
+ * order-by, set, limit and offset clauses, as function arguments, within CASE
+ * expressions, as LIKE escape characters and as part of date/time escapes.
+ * These are the contexts where the literal value changes the meaning of the
+ * query or where a Dialect may require an actual literal.  Literals compared
+ * with (or combined with) another literal or a parameter are left in place as
+ * well, as some databases reject operations on parameters alone.  SemanticQueryBuilder
+ * verifies the placement of each synthetic parameter again against the parse
+ * tree and raises a {@link LiteralParameterizationException} for any it does
+ * not accept, in which case the original query should be used instead.
+ */
+public final class HqlLiteralNormalizer {
+	private static final Logger log = Logger.getLogger( HqlLiteralNormalizer.class );
+
+	/**
+	 * Prefix of the names of the synthetic parameters replacing literals
+	 */
+	public static final String SYNTHETIC_PARAMETER_PREFIX = "_hibernate_literal_";
+
+	private HqlLiteralNormalizer() {
+	}
+
+	public static boolean isSyntheticParameterName(String name) {
+		return name != null && name.startsWith( SYNTHETIC_PARAMETER_PREFIX );
+	}
+
+	/**
+	 * Normalize the given HQL.
+	 *
+	 * @return The normalized form, or {@code null} if the query contains no literals
+	 * which can be parameterized.
+	 */
+	public static NormalizedHql normalize(String hql) {
+		final HqlLexer lexer = new HqlLexer( CharStreams.fromString( hql ) );
+		lexer.removeErrorListeners();
+
+		final List<? extends Token> tokens;
+		try {
+			tokens = lexer.getAllTokens();
+		}
+		catch (RuntimeException e) {
+			// let the real parse report the problem
+			return null;
+		}
+
+		final StringBuilder buffer = new StringBuilder( hql.length() + 16 );
+		Map<String, Object> literalValues = null;
+
+		final Deque<Scope> scopes = new ArrayDeque<>();
+		Scope scope = new Scope( true, false );
+
+		Token previous = null;
+		boolean inDateTimeEscape = false;
+
+		for ( int index = 0; index < tokens.size(); index++ ) {
+			final Token token = tokens.get( index );
+			final int type = token.getType();
+
+			Object literalValue = null;
+
+			if ( inDateTimeEscape ) {
+				if ( type == HqlLexer.RIGHT_BRACE ) {
+					inDateTimeEscape = false;
+				}
+			}
+			else if ( previous != null && previous.getType() == HqlLexer.DOT ) {
+				// a keyword used as part of a path : nothing to do
+			}
+			else {
+				switch ( type ) {
+					case HqlLexer.TIMESTAMP_ESCAPE_START:
+					case HqlLexer.DATE_ESCAPE_START:
+					case HqlLexer.TIME_ESCAPE_START: {
+						inDateTimeEscape = true;
+						break;
+					}
+					case HqlLexer.LEFT_PAREN: {
+						final boolean grouping = isGroupingParenthesis( previous );
+						scopes.push( scope );
+						scope = new Scope( scope.canParameterize && grouping, scope.isParameterizing() && grouping );
+						if ( previous != null && previous.getType() == HqlLexer.IN ) {
+							scope.constantInListTest = isConstantInListTest( tokens, index - 1 );
+						}
+						break;
+					}
+					case HqlLexer.RIGHT_PAREN: {
+						if ( !scopes.isEmpty() ) {
+							scope = scopes.pop();
+						}
+						break;
+					}
+					case HqlLexer.WHERE:
+					case HqlLexer.HAVING: {
+						scope.inPredicate = true;
+						break;
+					}
+					case HqlLexer.SELECT:
+					case HqlLexer.FROM:
+					case HqlLexer.GROUP:
+					case HqlLexer.ORDER:
+					case HqlLexer.SET:
+					case HqlLexer.LIMIT:
+					case HqlLexer.OFFSET: {
+						scope.inPredicate = false;
+						break;
+					}
+					case HqlLexer.CASE: {
+						scope.caseDepth++;
+						break;
+					}
+					case HqlLexer.END: {
+						if ( scope.caseDepth > 0 ) {
+							scope.caseDepth--;
+						}
+						break;
+					}
+					case HqlLexer.STRING_LITERAL:
+					case HqlLexer.INTEGER_LITERAL:
+					case HqlLexer.LONG_LITERAL: {
+						if ( scope.isParameterizing()
+								&& !scope.constantInListTest
+								&& isParameterizable( previous )
+								&& !hasConstantOperand( tokens, index ) ) {
+							literalValue = literalValue( token );
+						}
+						break;
+					}
+					default: {
+						// nothing to do
+					}
+				}
+			}
+
+			if ( buffer.length() > 0 ) {
+				buffer.append( ' ' );
+			}
+
+			if ( literalValue != null ) {
+				if ( literalValues == null ) {
+					literalValues = new LinkedHashMap<>();
+				}
+				final String name = SYNTHETIC_PARAMETER_PREFIX + literalValues.size();
+				literalValues.put( name, literalValue );
+				buffer.append( ':' ).append( name );
+			}
+			else {
+				buffer.append( hql, token.getStartIndex(), token.getStopIndex() + 1 );
+			}
+
+			previous = token;
+		}
+
+		if ( literalValues == null ) {
+			return null;
+		}
+
+		final String normalized = buffer.toString();
+		log.tracef( "Normalized HQL [%s] as [%s]", hql, normalized );
+		return new NormalizedHql( normalized, literalValues );
+	}
+
+	/**
+	 * A parenthesis following one of these tokens groups an expression, a
+	 * predicate, an IN list or a sub-query; any other parenthesis is assumed
+	 * to enclose function arguments.
+	 */
+	private static boolean isGroupingParenthesis(Token previous) {
+		if ( previous == null ) {
+			return true;
+		}
+
+		switch ( previous.getType() ) {
+			case HqlLexer.LEFT_PAREN:
+			case HqlLexer.COMMA:
+			case HqlLexer.WHERE:
+			case HqlLexer.HAVING:
+			case HqlLexer.AND:
+			case HqlLexer.OR:
+			case HqlLexer.NOT:
+			case HqlLexer.IN:
+			case HqlLexer.BETWEEN:
+			case HqlLexer.LIKE:
+			case HqlLexer.EQUAL:
+			case HqlLexer.NOT_EQUAL:
+			case HqlLexer.GREATER:
+			case HqlLexer.GREATER_EQUAL:
+			case HqlLexer.LESS:
+			case HqlLexer.LESS_EQUAL:
+			case HqlLexer.PLUS:
+			case HqlLexer.MINUS:
+			case HqlLexer.ASTERISK:
+			case HqlLexer.SLASH:
+			case HqlLexer.PERCENT:
+			case HqlLexer.DOUBLE_PIPE: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Literals which are a parameter position ({@code ?1}), a LIKE escape character
+	 * or the operand of a unary sign are left alone.
+	 */
+	private static boolean isParameterizable(Token previous) {
+		if ( previous == null ) {
+			return false;
+		}
+
+		switch ( previous.getType() ) {
+			case HqlLexer.QUESTION_MARK:
+			case HqlLexer.COLON:
+			case HqlLexer.ESCAPE:
+			case HqlLexer.PLUS:
+			case HqlLexer.MINUS: {
+				return false;
+			}
+			default: {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Whether the literal at the given index is compared with, or combined
+	 * with, another literal or a parameter, or is tested by an IN predicate.
+	 * Some databases (e.g. DB2 and Derby) reject an operation whose operands
+	 * are all parameters, so such literals are left alone.
+	 * <p/>
+	 * This only looks at the tokens directly around the operator, which is
+	 * conservative for operands made up of several tokens.
+	 */
+	private static boolean hasConstantOperand(List<? extends Token> tokens, int index) {
+		if ( index >= 2 && isBinaryOperator( tokens.get( index - 1 ) ) && endsConstant( tokens, index - 2 ) ) {
+			return true;
+		}
+		if ( index + 1 < tokens.size() && isInPredicateStart( tokens, index + 1 ) ) {
+			// the expression tested by an IN predicate : simply left alone
+			return true;
+		}
+		return index + 2 < tokens.size()
+				&& isBinaryOperator( tokens.get( index + 1 ) )
+				&& startsConstant( tokens.get( index + 2 ) );
+	}
+
+	/**
+	 * Whether the expression tested by an IN predicate, ending with the IN
+	 * token at the given index, is a literal or a parameter
+	 */
+	private static boolean isConstantInListTest(List<? extends Token> tokens, int inIndex) {
+		int index = inIndex - 1;
+		if ( index >= 0 && tokens.get( index ).getType() == HqlLexer.NOT ) {
+			index--;
+		}
+		return index >= 0 && endsConstant( tokens, index );
+	}
+
+	private static boolean isInPredicateStart(List<? extends Token> tokens, int index) {
+		final int type = tokens.get( index ).getType();
+		return type == HqlLexer.IN
+				|| ( type == HqlLexer.NOT && index + 1 < tokens.size() && tokens.get( index + 1 ).getType() == HqlLexer.IN );
+	}
+
+	private static boolean isBinaryOperator(Token token) {
+		switch ( token.getType() ) {
+			case HqlLexer.EQUAL:
+			case HqlLexer.NOT_EQUAL:
+			case HqlLexer.GREATER:
+			case HqlLexer.GREATER_EQUAL:
+			case HqlLexer.LESS:
+			case HqlLexer.LESS_EQUAL:
+			case HqlLexer.LIKE:
+			case HqlLexer.BETWEEN:
+			case HqlLexer.PLUS:
+			case HqlLexer.MINUS:
+			case HqlLexer.ASTERISK:
+			case HqlLexer.SLASH:
+			case HqlLexer.PERCENT:
+			case HqlLexer.DOUBLE_PIPE: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	private static boolean endsConstant(List<? extends Token> tokens, int index) {
+		final Token token = tokens.get( index );
+		if ( isLiteral( token ) ) {
+			return true;
+		}
+
+		switch ( token.getType() ) {
+			case HqlLexer.QUESTION_MARK:
+			case HqlLexer.RIGHT_BRACE: {
+				// a JDBC style parameter, or the end of a date/time escape
+				return true;
+			}
+			default: {
+				// a named parameter
+				return index >= 1 && tokens.get( index - 1 ).getType() == HqlLexer.COLON;
+			}
+		}
+	}
+
+	private static boolean startsConstant(Token token) {
+		if ( isLiteral( token ) ) {
+			return true;
+		}
+
+		switch ( token.getType() ) {
+			case HqlLexer.COLON:
+			case HqlLexer.QUESTION_MARK:
+			case HqlLexer.TIMESTAMP_ESCAPE_START:
+			case HqlLexer.DATE_ESCAPE_START:
+			case HqlLexer.TIME_ESCAPE_START: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	private static boolean isLiteral(Token token) {
+		switch ( token.getType() ) {
+			case HqlLexer.STRING_LITERAL:
+			case HqlLexer.CHARACTER_LITERAL:
+			case HqlLexer.INTEGER_LITERAL:
+			case HqlLexer.LONG_LITERAL:
+			case HqlLexer.BIG_INTEGER_LITERAL:
+			case HqlLexer.FLOAT_LITERAL:
+			case HqlLexer.DOUBLE_LITERAL:
+			case HqlLexer.BIG_DECIMAL_LITERAL:
+			case HqlLexer.HEX_LITERAL:
+			case HqlLexer.OCTAL_LITERAL:
+			case HqlLexer.NULL:
+			case HqlLexer.TRUE:
+			case HqlLexer.FALSE: {
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	private static Object literalValue(Token token) {
+		final String text = token.getText();
+		try {
+			switch ( token.getType() ) {
+				case HqlLexer.STRING_LITERAL: {
+					return text;
+				}
+				case HqlLexer.INTEGER_LITERAL: {
+					return Integer.valueOf( text );
+				}
+				case HqlLexer.LONG_LITERAL: {
+					return Long.valueOf( text.substring( 0, text.length() - 1 ) );
+				}
+				default: {
+					return null;
+				}
+			}
+		}
+		catch (NumberFormatException e) {
+			// leave it to SemanticQueryBuilder to report
+			return null;
+		}
+	}
+
+	private static class Scope {
+		/**
+		 * Whether a WHERE or HAVING clause within this scope may be parameterized.
+		 * False within function arguments, for which a Dialect may require
+		 * actual literals, and for anything nested within them.
+		 */
+		private final boolean canParameterize;
+
+		private boolean inPredicate;
+		private int caseDepth;
+
+		/**
+		 * Whether this scope is the list of an IN predicate testing a literal
+		 * or a parameter
+		 */
+		private boolean constantInListTest;
+
+		private Scope(boolean canParameterize, boolean inPredicate) {
+			this.canParameterize = canParameterize;
+			this.inPredicate = inPredicate;
+		}
+
+		private boolean isParameterizing() {
+			return canParameterize && inPredicate && caseDepth == 0;
+		}
+	}
+
+	/**
+	 * The result of normalizing a query
+	 */
+	public static class NormalizedHql {
+		private final String queryString;
+		private final Map<String, Object> literalValues;
+
+		private NormalizedHql(String queryString, Map<String, Object> literalValues) {
+			this.queryString = queryString;
+			this.literalValues = Collections.unmodifiableMap( literalValues );
+		}
+
+		/**
+		 * The normalized query string, containing the synthetic parameters
+		 */
+		public String getQueryString() {
+			return queryString;
+		}
+
+		/**
+		 * The values of the replaced literals, keyed by synthetic parameter name
+		 */
+		public Map<String, Object> getLiteralValues() {
+			return literalValues;
+		}
+	}
+}
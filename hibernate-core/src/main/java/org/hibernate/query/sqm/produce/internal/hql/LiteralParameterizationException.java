@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.produce.internal.hql;
+
+import org.hibernate.query.sqm.SemanticException;
+
+/**
+ * Indicates that a synthetic parameter introduced by {@link HqlLiteralNormalizer}
+ * appears in a context where a literal cannot be replaced by a parameter.  The
+ * query should be interpreted without literal parameterization instead.
+ */
+public class LiteralParameterizationException extends SemanticException {
+	public LiteralParameterizationException(String message) {
+		super( message );
+	}
+}
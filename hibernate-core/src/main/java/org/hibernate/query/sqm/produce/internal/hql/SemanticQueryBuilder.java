@@ -191,7 +191,9 @@ import org.hibernate.type.spi.StandardSpiBasicTypes;
 
 import org.jboss.logging.Logger;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
 
 /**
  * @author Steve Ebersole
@@ -2126,14 +2128,106 @@ public class SemanticQueryBuilder
 
 	@Override
 	public SqmNamedParameter visitNamedParameter(HqlParser.NamedParameterContext ctx) {
+		final String name = ctx.identifier().getText();
+
+		if ( HqlLiteralNormalizer.isSyntheticParameterName( name ) ) {
+			// a literal replaced by HqlLiteralNormalizer : a single value, and
+			// only acceptable where the literal could have been a parameter
+			if ( !isLiteralParameterizationAllowed( ctx ) ) {
+				throw new LiteralParameterizationException(
+						"Literal cannot be parameterized in this context [" + ctx.getParent().getText() + "]"
+				);
+			}
+			final SqmNamedParameter param = new SqmNamedParameter( name, false );
+			parameterCollector.addParameter( param );
+			return param;
+		}
+
 		final SqmNamedParameter param = new SqmNamedParameter(
-				ctx.identifier().getText(),
+				name,
 				parameterDeclarationContextStack.getCurrent().isMultiValuedBindingAllowed()
 		);
 		parameterCollector.addParameter( param );
 		return param;
 	}
 
+	/**
+	 * Literals may be parameterized when they are part of a WHERE or HAVING
+	 * predicate, unless nested in a function call, CASE expression, LIKE escape
+	 * or unary sign within that predicate, or when all the other operands of
+	 * the operation are literals or parameters as well (DB2 and Derby, e.g.,
+	 * reject {@code ? = ?}).
+	 */
+	private static boolean isLiteralParameterizationAllowed(ParserRuleContext ctx) {
+		if ( hasOnlyConstantOperands( ctx.getParent() ) ) {
+			return false;
+		}
+
+		for ( ParserRuleContext current = ctx.getParent(); current != null; current = current.getParent() ) {
+			if ( current instanceof HqlParser.WhereClauseContext
+					|| current instanceof HqlParser.HavingClauseContext ) {
+				return true;
+			}
+
+			if ( current instanceof HqlParser.QuerySpecContext
+					|| current instanceof HqlParser.SetClauseContext
+					|| current instanceof HqlParser.FunctionContext
+					|| current instanceof HqlParser.CaseStatementContext
+					|| current instanceof HqlParser.CoalesceContext
+					|| current instanceof HqlParser.NullIfContext
+					|| current instanceof HqlParser.LikeEscapeContext
+					|| current instanceof HqlParser.UnaryMinusExpressionContext
+					|| current instanceof HqlParser.UnaryPlusExpressionContext ) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Whether the given (parameter) expression is an operand of a comparison,
+	 * arithmetic operation, concatenation or IN list whose other operands are
+	 * all literals or parameters
+	 */
+	private static boolean hasOnlyConstantOperands(ParserRuleContext expression) {
+		final ParserRuleContext operation = expression.getParent();
+		if ( operation instanceof HqlParser.ExplicitTupleInListContext ) {
+			return isConstant( ( (HqlParser.InPredicateContext) operation.getParent() ).expression() );
+		}
+		if ( operation instanceof HqlParser.InPredicateContext ) {
+			final HqlParser.InListContext inList = ( (HqlParser.InPredicateContext) operation ).inList();
+			return inList instanceof HqlParser.ExplicitTupleInListContext
+					&& ( (HqlParser.ExplicitTupleInListContext) inList ).expression()
+							.stream()
+							.allMatch( SemanticQueryBuilder::isConstant );
+		}
+
+		if ( !( operation instanceof HqlParser.PredicateContext || operation instanceof HqlParser.ExpressionContext )
+				|| operation instanceof HqlParser.UnaryMinusExpressionContext
+				|| operation instanceof HqlParser.UnaryPlusExpressionContext ) {
+			return false;
+		}
+
+		boolean hasOtherOperand = false;
+		for ( int i = 0; i < operation.getChildCount(); i++ ) {
+			final ParseTree operand = operation.getChild( i );
+			if ( operand == expression || !( operand instanceof HqlParser.ExpressionContext ) ) {
+				continue;
+			}
+			if ( !isConstant( (HqlParser.ExpressionContext) operand ) ) {
+				return false;
+			}
+			hasOtherOperand = true;
+		}
+		return hasOtherOperand;
+	}
+
+	private static boolean isConstant(HqlParser.ExpressionContext expression) {
+		return expression instanceof HqlParser.LiteralExpressionContext
+				|| expression instanceof HqlParser.ParameterExpressionContext;
+	}
+
 	@Override
 	public SqmPositionalParameter visitPositionalParameter(HqlParser.PositionalParameterContext ctx) {
 		if ( ctx.INTEGER_LITERAL() == null ) {
@@ -27,6 +27,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.ParameterBindingContext;
 import org.hibernate.sql.results.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.caching.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.internal.values.DirectResultSetAccess;
 import org.hibernate.sql.results.internal.values.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.spi.JdbcValuesSourceProcessingOptions;
@@ -137,7 +138,7 @@ public abstract class OutputsImpl
 		final ResultSetMapping resultSetMapping = resolveResultSetMapping( resultSetAccess );
 		final JdbcValuesResultSetImpl jdbcValuesSource = new JdbcValuesResultSetImpl(
 				resultSetAccess,
-				null,
+				QueryCachePutManagerDisabledImpl.INSTANCE,
 				context.getQueryOptions(),
 				resultSetMapping,
 				context
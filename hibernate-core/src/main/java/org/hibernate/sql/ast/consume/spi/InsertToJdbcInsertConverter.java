@@ -88,10 +88,26 @@ public class InsertToJdbcInsertConverter
 			visitColumnReference( columnReference );
 		}
 
-		appendSql( ") values (" );
+		appendSql( ") values " );
 
 		firstPass = true;
-		for ( Expression expression : sqlAst.getValues() ) {
+		for ( List<Expression> valuesRow : sqlAst.getValuesRows() ) {
+			if ( firstPass ) {
+				firstPass = false;
+			}
+			else {
+				appendSql( ", " );
+			}
+
+			visitValuesRow( valuesRow );
+		}
+	}
+
+	private void visitValuesRow(List<Expression> valuesRow) {
+		appendSql( "(" );
+
+		boolean firstPass = true;
+		for ( Expression expression : valuesRow ) {
 			if ( firstPass ) {
 				firstPass = false;
 			}
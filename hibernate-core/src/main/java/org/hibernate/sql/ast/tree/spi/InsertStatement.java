@@ -20,6 +20,7 @@ public class InsertStatement implements MutationStatement {
 	private TableReference targetTable;
 	private List<ColumnReference> targetColumnReferences;
 	private List<Expression> values;
+	private List<List<Expression>> additionalValuesRows;
 
 	public InsertStatement(TableReference targetTable) {
 		this.targetTable = targetTable;
@@ -62,4 +63,27 @@ public class InsertStatement implements MutationStatement {
 		}
 		values.add( expression );
 	}
+
+	/**
+	 * Add another row of values for the target columns, making this a
+	 * multi-row insert.
+	 */
+	public void addValuesRow(List<Expression> valuesRow) {
+		if ( additionalValuesRows == null ) {
+			additionalValuesRows = new ArrayList<>();
+		}
+		additionalValuesRows.add( valuesRow );
+	}
+
+	/**
+	 * The rows of values to insert, starting with {@link #getValues()}.
+	 */
+	public List<List<Expression>> getValuesRows() {
+		final List<List<Expression>> valuesRows = new ArrayList<>();
+		valuesRows.add( values );
+		if ( additionalValuesRows != null ) {
+			valuesRows.addAll( additionalValuesRows );
+		}
+		return valuesRows;
+	}
 }
@@ -11,6 +11,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.function.BiConsumer;
 
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -36,6 +38,9 @@ public class JdbcMutationExecutorImpl implements JdbcMutationExecutor {
 			ExecutionContext executionContext,
 			PreparedStatementCreator statementCreator,
 			BiConsumer<Integer, PreparedStatement> expectationCkeck) {
+		// the statements still pending in a batch may be needed by this one
+		executionContext.getSession().getJdbcCoordinator().executeBatch();
+
 		final LogicalConnectionImplementor logicalConnection = executionContext.getSession()
 				.getJdbcCoordinator()
 				.getLogicalConnection();
@@ -94,4 +99,30 @@ public class JdbcMutationExecutorImpl implements JdbcMutationExecutor {
 		return execute( jdbcMutation, executionContext, statementCreator, (integer, preparedStatement) -> {
 		} );
 	}
+
+	@Override
+	public void addToBatch(
+			JdbcMutation jdbcMutation,
+			ExecutionContext executionContext,
+			BatchKey batchKey) {
+		final Batch batch = executionContext.getSession().getJdbcCoordinator().getBatch( batchKey );
+		final PreparedStatement preparedStatement = batch.getBatchStatement( jdbcMutation.getSql(), false );
+		try {
+			int paramBindingPosition = 1;
+			for ( JdbcParameterBinder parameterBinder : jdbcMutation.getParameterBinders() ) {
+				paramBindingPosition += parameterBinder.bindParameterValue(
+						preparedStatement,
+						paramBindingPosition,
+						executionContext
+				);
+			}
+		}
+		catch (SQLException e) {
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"JDBC exception binding the parameters of batched SQL [" + jdbcMutation.getSql() + "]"
+			);
+		}
+		batch.addToBatch();
+	}
 }
@@ -8,20 +8,25 @@ package org.hibernate.sql.exec.internal;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.hibernate.CacheMode;
 import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.spi.AfterLoadAction;
-import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcSelect;
@@ -30,6 +35,9 @@ import org.hibernate.sql.exec.spi.PreparedStatementCreator;
 import org.hibernate.sql.exec.spi.RowTransformer;
 import org.hibernate.sql.results.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.caching.QueryCachePutManager;
+import org.hibernate.sql.results.internal.caching.QueryCachePutManagerDisabledImpl;
+import org.hibernate.sql.results.internal.caching.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.internal.values.DeferredResultSetAccess;
 import org.hibernate.sql.results.internal.values.JdbcValues;
 import org.hibernate.sql.results.internal.values.JdbcValuesCacheHit;
@@ -45,12 +53,12 @@ import org.jboss.logging.Logger;
  * @author Steve Ebersole
  */
 public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
-	// todo (6.0) : Make resolving these executors swappable - JdbcServices?
-	//		Since JdbcServices is just a "composition service", this is actually
-	//		a very good option...
+	// NOTE : query plans resolve the executor to use via
+	//		SessionFactoryOptions#getJdbcSelectExecutor, this being the default
 
-	// todo (6.0) : where do affected-table-names get checked for up-to-date?
-	//		who is responsible for that?  Here?
+	// NOTE : the affected-table-names of a JdbcSelect are checked for being
+	//		up-to-date in regards to cached results by the QueryCacheInvalidationStrategy
+	//		as part of #resolveJdbcValuesSource
 
 	/**
 	 * Singleton access
@@ -98,19 +106,98 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			JdbcSelect jdbcSelect,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer) {
-		final ScrollableResultsImplementor<R> scrollableResults = scroll(
-				jdbcSelect,
-				ScrollMode.FORWARD_ONLY,
-				executionContext,
-				rowTransformer
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final StreamingStatementCreator statementCreator = new StreamingStatementCreator(
+				session.getJdbcServices().getJdbcEnvironment().getDialect()
 		);
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
-		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
+		final ScrollableResultsImplementor<R> scrollableResults;
+		try {
+			scrollableResults = executeQuery(
+					jdbcSelect,
+					executionContext,
+					rowTransformer,
+					statementCreator,
+					ScrollableResultsConsumer.instance()
+			);
+		}
+		catch (RuntimeException e) {
+			statementCreator.restoreAutoCommit( session );
+			throw e;
+		}
+
+		final SessionImplementor detachingSession = session instanceof SessionImplementor
+				&& session.getFactory().getSessionFactoryOptions().isStreamDetachEntitiesEnabled()
+				? (SessionImplementor) session
+				: null;
+		final StreamingResultsSpliterator<R> spliterator = new StreamingResultsSpliterator<>(
+				scrollableResults,
+				detachingSession,
+				() -> statementCreator.restoreAutoCommit( session )
+		);
+
+		// the spliterator releases everything once the results are exhausted;
+		// closing the Stream covers early termination
 		final Stream<R> stream = StreamSupport.stream( spliterator, false );
-		return stream.onClose( scrollableResults::close );
+		return stream.onClose( spliterator::close );
 	}
 
+	/**
+	 * Creates the forward-only statement used for streaming, applying the
+	 * Dialect's streaming fetch size.  Where the driver only uses a cursor
+	 * outside of auto-commit mode, auto-commit is disabled for the duration
+	 * of the stream.
+	 */
+	private static class StreamingStatementCreator implements PreparedStatementCreator {
+		private final Dialect dialect;
+		private Connection autoCommitDisabledConnection;
+
+		private StreamingStatementCreator(Dialect dialect) {
+			this.dialect = dialect;
+		}
+
+		@Override
+		public PreparedStatement create(Connection connection, String sql) throws SQLException {
+			if ( dialect.requiresAutoCommitDisabledForStreaming() && connection.getAutoCommit() ) {
+				log.debugf( "Disabling auto-commit for streaming of query results" );
+				connection.setAutoCommit( false );
+				autoCommitDisabledConnection = connection;
+			}
+
+			final PreparedStatement preparedStatement = connection.prepareStatement(
+					sql,
+					ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY
+			);
+
+			// an explicit fetch size specified for the query still wins
+			final int fetchSize = dialect.getDefaultStreamingFetchSize();
+			if ( fetchSize != 0 ) {
+				preparedStatement.setFetchSize( fetchSize );
+			}
+
+			return preparedStatement;
+		}
+
+		private void restoreAutoCommit(SharedSessionContractImplementor session) {
+			if ( autoCommitDisabledConnection == null ) {
+				return;
+			}
+
+			final Connection connection = autoCommitDisabledConnection;
+			autoCommitDisabledConnection = null;
+			try {
+				// ends the implicit transaction started for the cursor
+				connection.setAutoCommit( true );
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Unable to re-enable auto-commit after streaming query results"
+				);
+			}
+		}
+	}
 
 	private enum ExecuteAction {
 		EXECUTE_QUERY,
@@ -200,76 +287,88 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			JdbcSelect jdbcSelect,
 			ExecutionContext executionContext,
 			ResultSetAccess resultSetAccess) {
-		final List<Object[]> cachedResults;
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
-		final boolean queryCacheEnabled = executionContext.getSession().getFactory().getSessionFactoryOptions().isQueryCacheEnabled();
-		final CacheMode cacheMode = resolveCacheMode(  executionContext );
+		final boolean queryCacheEnabled = session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled();
+		final CacheMode cacheMode = resolveCacheMode( executionContext );
 
 		final ResultSetMapping resultSetMapping = jdbcSelect.getResultSetMapping()
-				.resolve( resultSetAccess, executionContext.getSession().getSessionFactory() );
+				.resolve( resultSetAccess, session.getSessionFactory() );
 
-		final QueryKey queryResultsCacheKey;
+		if ( !queryCacheEnabled || queryOptions.isResultCachingEnabled() != Boolean.TRUE ) {
+			log.debugf(
+					"Skipping Query result cache: cache-enabled = %s, cacheable = %s",
+					queryCacheEnabled,
+					queryOptions.isResultCachingEnabled()
+			);
+			return new JdbcValuesResultSetImpl(
+					resultSetAccess,
+					QueryCachePutManagerDisabledImpl.INSTANCE,
+					queryOptions,
+					resultSetMapping,
+					executionContext
+			);
+		}
 
-		if ( queryCacheEnabled && executionContext.getQueryOptions().getCacheMode().isGetEnabled() ) {
-			log.debugf( "Reading Query result cache data per CacheMode#isGetEnabled [%s]", cacheMode.name() );
+		final QueryResultsCache queryCache = session.getFactory()
+				.getCache()
+				.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+
+		// todo (6.0) : not sure that it is at all important that we account for QueryResults
+		//		these cached values are "lower level" than that, representing the
+		// 		"raw" JDBC values.
+		//
+		// todo (6.0) : relatedly ^^, pretty sure that SqlSelections are also irrelevant
+
+		final QueryKey queryResultsCacheKey = QueryKey.from(
+				jdbcSelect.getSql(),
+				queryOptions.getLimit(),
+				executionContext.getParameterBindingContext().getQueryParameterBindings(),
+				session
+		);
 
-			final QueryResultsCache queryCache = executionContext.getSession().getFactory()
-					.getCache()
-					.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() );
-
-			// todo (6.0) : not sure that it is at all important that we account for QueryResults
-			//		these cached values are "lower level" than that, representing the
-			// 		"raw" JDBC values.
-			//
-			// todo (6.0) : relatedly ^^, pretty sure that SqlSelections are also irrelevant
-
-			queryResultsCacheKey = QueryKey.from(
-					jdbcSelect.getSql(),
-					executionContext.getQueryOptions().getLimit(),
-					executionContext.getParameterBindingContext().getQueryParameterBindings(),
-					executionContext.getSession()
-			);
+		final Set<String> affectedTableNames = jdbcSelect.getAffectedTableNames();
+		final String[] querySpaces = affectedTableNames == null
+				? new String[0]
+				: affectedTableNames.toArray( new String[ affectedTableNames.size() ] );
 
-			cachedResults = queryCache.get(
-					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
-					queryResultsCacheKey,
-					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
-					//		atm we do not even collect querySpaces, but we need to
-					jdbcSelect.getAffectedTableNames(),
-					executionContext.getSession()
-			);
+		// the up-to-date check of the cached results against the query spaces is
+		// performed by the QueryCacheInvalidationStrategy (the TimestampsCache)
+		final QueryCacheInvalidationStrategy invalidationStrategy = session.getFactory()
+				.getCache()
+				.getTimestampsCache();
 
-			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
-			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
-			//		the underlying query result cache region.
-			//
-			// todo (6.0) : if we go this route (^^), still beneficial to have an abstraction over different UpdateTimestampsCache-based
-			//		invalidation strategies - QueryCacheInvalidationStrategy
-		}
-		else {
-			log.debugf( "Skipping reading Query result cache data: cache-enabled = %s, cache-mode = %s",
-						queryCacheEnabled,
-						cacheMode.name()
-			);
-			cachedResults = null;
-			queryResultsCacheKey = null;
+		if ( cacheMode.isGetEnabled() ) {
+			log.debugf( "Reading Query result cache data per CacheMode#isGetEnabled [%s]", cacheMode.name() );
+
+			final List<Object[]> cachedResults = queryCache.get( queryResultsCacheKey, querySpaces, session );
+			if ( cachedResults != null && !cachedResults.isEmpty() ) {
+				return new JdbcValuesCacheHit( cachedResults, resultSetMapping );
+			}
 		}
 
-		if ( cachedResults == null || cachedResults.isEmpty() ) {
-			return new JdbcValuesResultSetImpl(
-					resultSetAccess,
+		final QueryCachePutManager queryCachePutManager;
+		if ( cacheMode.isPutEnabled() ) {
+			// the validity marker must be captured *before* the query is executed
+			queryCachePutManager = new QueryCachePutManagerEnabledImpl(
+					queryCache,
 					queryResultsCacheKey,
-					executionContext.getQueryOptions(),
-					resultSetMapping,
-					executionContext
+					invalidationStrategy.getValidityMarker( querySpaces, session ),
+					session
 			);
 		}
 		else {
-			return new JdbcValuesCacheHit(
-					cachedResults,
-					resultSetMapping
-			);
+			queryCachePutManager = QueryCachePutManagerDisabledImpl.INSTANCE;
 		}
+
+		return new JdbcValuesResultSetImpl(
+				resultSetAccess,
+				queryCachePutManager,
+				queryOptions,
+				resultSetMapping,
+				executionContext
+		);
 	}
 
 	private CacheMode resolveCacheMode(ExecutionContext executionContext) {
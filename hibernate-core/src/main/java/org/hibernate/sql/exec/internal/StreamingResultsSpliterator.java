@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * Spliterator over forward-only ScrollableResults backing the Streams
+ * returned by {@link JdbcSelectExecutorStandardImpl#stream}.  The underlying
+ * ResultSet is only advanced when the Stream asks for the next element.
+ * <p/>
+ * When a {@code detachingSession} is given, the entities making up a row are
+ * evicted from that Session as soon as the Stream moves on to the next row
+ * (or is closed), so that the persistence context does not grow with the
+ * number of rows processed.
+ * <p/>
+ * The underlying ScrollableResults is released, and the given
+ * {@code releaseAction} run, as soon as the results are exhausted or
+ * advancing fails; closing the Stream covers early termination.
+ */
+public class StreamingResultsSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+	private final ScrollableResultsImplementor<R> scrollableResults;
+	private final SessionImplementor detachingSession;
+	private final Runnable releaseAction;
+
+	private R lastEmitted;
+	private boolean closed;
+
+	public StreamingResultsSpliterator(
+			ScrollableResultsImplementor<R> scrollableResults,
+			SessionImplementor detachingSession,
+			Runnable releaseAction) {
+		super( Long.MAX_VALUE, Spliterator.NONNULL | Spliterator.ORDERED );
+		this.scrollableResults = scrollableResults;
+		this.detachingSession = detachingSession;
+		this.releaseAction = releaseAction;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action) {
+		if ( closed ) {
+			return false;
+		}
+
+		try {
+			detachLastEmitted();
+
+			if ( scrollableResults.isClosed() || !scrollableResults.next() ) {
+				close();
+				return false;
+			}
+
+			final R row = scrollableResults.get();
+			if ( detachingSession != null ) {
+				lastEmitted = row;
+			}
+			action.accept( row );
+			return true;
+		}
+		catch (RuntimeException e) {
+			try {
+				close();
+			}
+			catch (RuntimeException closeFailure) {
+				e.addSuppressed( closeFailure );
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Release the underlying ScrollableResults, detaching the entities of
+	 * the last emitted row if needed, and run the release action.  Calling
+	 * this more than once has no effect.
+	 */
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+
+		try {
+			detachLastEmitted();
+		}
+		finally {
+			try {
+				scrollableResults.close();
+			}
+			finally {
+				releaseAction.run();
+			}
+		}
+	}
+
+	private void detachLastEmitted() {
+		if ( lastEmitted == null ) {
+			return;
+		}
+
+		final Object row = lastEmitted;
+		lastEmitted = null;
+
+		if ( row instanceof Object[] ) {
+			for ( Object element : (Object[]) row ) {
+				detach( element );
+			}
+		}
+		else {
+			detach( row );
+		}
+	}
+
+	private void detach(Object value) {
+		if ( value != null && detachingSession.getPersistenceContext().isEntryFor( value ) ) {
+			detachingSession.evict( value );
+		}
+	}
+}
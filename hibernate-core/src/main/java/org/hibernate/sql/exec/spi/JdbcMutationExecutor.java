@@ -9,6 +9,7 @@ package org.hibernate.sql.exec.spi;
 import java.sql.PreparedStatement;
 import java.util.function.BiConsumer;
 
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.sql.exec.internal.JdbcMutationExecutorImpl;
 
 /**
@@ -36,4 +37,14 @@ public interface JdbcMutationExecutor {
 			ExecutionContext executionContext,
 			PreparedStatementCreator statementCreator);
 
+	/**
+	 * Add the mutation to the JDBC batch of the Session for the given key rather than
+	 * executing it immediately.  The outcome is checked against the key's expectation
+	 * when the batch executes.
+	 */
+	void addToBatch(
+			JdbcMutation jdbcMutation,
+			ExecutionContext executionContext,
+			BatchKey batchKey);
+
 }
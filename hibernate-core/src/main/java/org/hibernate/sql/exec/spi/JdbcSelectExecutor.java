@@ -15,6 +15,9 @@ import org.hibernate.query.spi.ScrollableResultsImplementor;
 
 /**
  * An executor for JdbcSelect operations.
+ * <p/>
+ * The executor used for queries can be plugged in using
+ * {@link org.hibernate.cfg.AvailableSettings#JDBC_SELECT_EXECUTOR}.
  *
  * @author Steve Ebersole
  */
@@ -24,8 +27,6 @@ public interface JdbcSelectExecutor {
 	// todo (6.0) : need to pass some form of JdbcValuesSourceProcessingOptions to list to be able to have it handle single entity loads -
 	//		or just drop the form of loading an entity by passing an instance of itself as the one to load
 
-	// todo (6.0) : Ideally we'd have a singular place (JdbcServices? ServiceRegistry?) to obtain these executors
-
 	<R> List<R> list(
 			JdbcSelect jdbcSelect,
 			ExecutionContext executionContext,
@@ -39,7 +39,6 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 	private final Map<NavigablePath,Initializer> initializerMap;
 
 	private final JdbcValues jdbcValues;
-	private Object[] currentRowJdbcValues;
 
 	public RowProcessingStateStandardImpl(
 			JdbcValuesSourceProcessingStateStandardImpl resultSetProcessingState,
@@ -69,19 +68,37 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 	}
 
 	public boolean next() throws SQLException {
-		if ( jdbcValues.next( this ) ) {
-			currentRowJdbcValues = jdbcValues.getCurrentRowValuesArray();
-			return true;
-		}
-		else {
-			currentRowJdbcValues = null;
-			return false;
-		}
+		return jdbcValues.next( this );
 	}
 
 	@Override
 	public Object getJdbcValue(SqlSelection sqlSelection) {
-		return currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ];
+		return jdbcValues.getCurrentRowValue( sqlSelection.getValuesArrayPosition() );
+	}
+
+	@Override
+	public boolean isJdbcValueNull(SqlSelection sqlSelection) {
+		return jdbcValues.isCurrentRowValueNull( sqlSelection.getValuesArrayPosition() );
+	}
+
+	@Override
+	public long getJdbcLongValue(SqlSelection sqlSelection) {
+		return jdbcValues.getCurrentRowLongValue( sqlSelection.getValuesArrayPosition() );
+	}
+
+	@Override
+	public int getJdbcIntValue(SqlSelection sqlSelection) {
+		return jdbcValues.getCurrentRowIntValue( sqlSelection.getValuesArrayPosition() );
+	}
+
+	@Override
+	public double getJdbcDoubleValue(SqlSelection sqlSelection) {
+		return jdbcValues.getCurrentRowDoubleValue( sqlSelection.getValuesArrayPosition() );
+	}
+
+	@Override
+	public boolean getJdbcBooleanValue(SqlSelection sqlSelection) {
+		return jdbcValues.getCurrentRowBooleanValue( sqlSelection.getValuesArrayPosition() );
 	}
 
 	@Override
@@ -90,7 +107,6 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 
 	@Override
 	public void finishRowProcessing() {
-		currentRowJdbcValues = null;
 	}
 
 	@Override
@@ -10,6 +10,14 @@ package org.hibernate.sql.results.internal.caching;
  * @author Steve Ebersole
  */
 public interface QueryCachePutManager {
+	/**
+	 * Whether rows registered with this manager are actually put into the
+	 * cache.  When {@code false}, callers may skip materializing the rows.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
 	void registerJdbcRow(Object[] values);
 
 	void finishUp();
@@ -21,6 +21,11 @@ public class QueryCachePutManagerDisabledImpl implements QueryCachePutManager {
 	private QueryCachePutManagerDisabledImpl() {
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
 	@Override
 	public void registerJdbcRow(Object[] values) {
 	}
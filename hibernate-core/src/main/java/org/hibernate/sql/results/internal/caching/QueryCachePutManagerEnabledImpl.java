@@ -6,11 +6,14 @@
  */
 package org.hibernate.sql.results.internal.caching;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * QueryCachePutManager implementation for cases where we will be putting
@@ -21,12 +24,20 @@ import org.hibernate.cache.spi.QueryKey;
 public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final QueryResultsCache queryCache;
 	private final QueryKey queryKey;
+	private final Serializable validityMarker;
+	private final SharedSessionContractImplementor session;
 
 	private List<Object[]> dataToCache;
 
-	public QueryCachePutManagerEnabledImpl(QueryResultsCache queryCache, QueryKey queryKey) {
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			QueryKey queryKey,
+			Serializable validityMarker,
+			SharedSessionContractImplementor session) {
 		this.queryCache = queryCache;
 		this.queryKey = queryKey;
+		this.validityMarker = validityMarker;
+		this.session = session;
 	}
 
 	@Override
@@ -41,9 +52,9 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	public void finishUp() {
 		queryCache.put(
 				queryKey,
-				dataToCache,
-				// todo (6.0) : needs access to Session to pass along to cache call
-				null
+				dataToCache == null ? Collections.emptyList() : dataToCache,
+				validityMarker,
+				session
 		);
 	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.sql.results.internal.domain.basic;
 
 import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
+import org.hibernate.sql.AbstractJdbcValueExtractor;
+import org.hibernate.sql.JdbcValueExtractor;
 import org.hibernate.sql.results.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.spi.DomainResultAssembler;
 import org.hibernate.sql.results.spi.RowProcessingState;
@@ -17,9 +19,18 @@ import org.hibernate.type.descriptor.java.spi.JavaTypeDescriptor;
  * @author Steve Ebersole
  */
 public class BasicResultAssembler implements DomainResultAssembler {
+	private enum JdbcValueType {
+		LONG,
+		INT,
+		DOUBLE,
+		BOOLEAN,
+		OBJECT
+	}
+
 	private final SqlSelection sqlSelection;
 	private final BasicValueConverter valueConverter;
 	private final JavaTypeDescriptor javaTypeDescriptor;
+	private final JdbcValueType jdbcValueType;
 
 	public BasicResultAssembler(
 			SqlSelection sqlSelection,
@@ -28,6 +39,30 @@ public class BasicResultAssembler implements DomainResultAssembler {
 		this.sqlSelection = sqlSelection;
 		this.valueConverter = valueConverter;
 		this.javaTypeDescriptor = javaTypeDescriptor;
+		this.jdbcValueType = valueConverter == null
+				? resolveJdbcValueType( sqlSelection.getJdbcValueExtractor() )
+				: JdbcValueType.OBJECT;
+	}
+
+	private static JdbcValueType resolveJdbcValueType(JdbcValueExtractor extractor) {
+		if ( !( extractor instanceof AbstractJdbcValueExtractor ) ) {
+			return JdbcValueType.OBJECT;
+		}
+
+		final Class<?> javaType = ( (AbstractJdbcValueExtractor<?>) extractor ).getJavaDescriptor().getJavaType();
+		if ( javaType == Long.class ) {
+			return JdbcValueType.LONG;
+		}
+		if ( javaType == Integer.class ) {
+			return JdbcValueType.INT;
+		}
+		if ( javaType == Double.class ) {
+			return JdbcValueType.DOUBLE;
+		}
+		if ( javaType == Boolean.class ) {
+			return JdbcValueType.BOOLEAN;
+		}
+		return JdbcValueType.OBJECT;
 	}
 
 	@Override
@@ -40,6 +75,10 @@ public class BasicResultAssembler implements DomainResultAssembler {
 	public Object assemble(
 			RowProcessingState rowProcessingState,
 			JdbcValuesSourceProcessingOptions options) {
+		if ( jdbcValueType != JdbcValueType.OBJECT ) {
+			return assemblePrimitive( rowProcessingState );
+		}
+
 		final Object rawJdbcValue = rowProcessingState.getJdbcValue( sqlSelection );
 
 		if ( valueConverter != null ) {
@@ -48,4 +87,27 @@ public class BasicResultAssembler implements DomainResultAssembler {
 
 		return rawJdbcValue;
 	}
+
+	private Object assemblePrimitive(RowProcessingState rowProcessingState) {
+		// read through the typed accessors, so that values held unboxed in the
+		// current row are only boxed here, using the JDK's cached instances where possible
+		if ( rowProcessingState.isJdbcValueNull( sqlSelection ) ) {
+			return null;
+		}
+
+		switch ( jdbcValueType ) {
+			case LONG: {
+				return Long.valueOf( rowProcessingState.getJdbcLongValue( sqlSelection ) );
+			}
+			case INT: {
+				return Integer.valueOf( rowProcessingState.getJdbcIntValue( sqlSelection ) );
+			}
+			case DOUBLE: {
+				return Double.valueOf( rowProcessingState.getJdbcDoubleValue( sqlSelection ) );
+			}
+			default: {
+				return Boolean.valueOf( rowProcessingState.getJdbcBooleanValue( sqlSelection ) );
+			}
+		}
+	}
 }
@@ -299,12 +299,18 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			return;
 		}
 
-		//		2) build the EntityKey
-		this.entityKey = new EntityKey( id, concreteDescriptor.getEntityDescriptor() );
+		//		2) build the EntityKey, or reuse the one of the entity if it is already managed
+		final EntityKey existingKey = session.getPersistenceContext().findEntityKey(
+				id,
+				concreteDescriptor.getEntityDescriptor()
+		);
+		this.entityKey = existingKey != null
+				? existingKey
+				: new EntityKey( id, concreteDescriptor.getEntityDescriptor() );
 
 		//		3) schedule the EntityKey for batch loading, if possible
 		if ( concreteDescriptor.getEntityDescriptor().isBatchLoadable() ) {
-			if ( !session.getPersistenceContext().containsEntity( entityKey ) ) {
+			if ( existingKey == null ) {
 				session.getPersistenceContext().getBatchFetchQueue().addBatchLoadableEntityKey( entityKey );
 			}
 		}
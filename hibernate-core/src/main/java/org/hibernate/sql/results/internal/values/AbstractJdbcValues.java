@@ -26,8 +26,12 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 
 	@Override
 	public final boolean next(RowProcessingState rowProcessingState) throws SQLException {
-		if ( getCurrentRowValuesArray() != null ) {
-			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
+		if ( queryCachePutManager.isEnabled() ) {
+			// only materialize the previous row when it needs to be cached
+			final Object[] previousRow = getCurrentRowValuesArray();
+			if ( previousRow != null ) {
+				queryCachePutManager.registerJdbcRow( previousRow );
+			}
 		}
 		return processNext( rowProcessingState );
 	}
@@ -11,9 +11,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.query.Limit;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -64,7 +68,16 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 		final JdbcServices jdbcServices = getPersistenceContext().getFactory().getServiceRegistry().getService( JdbcServices.class );
 
-		final String sql = jdbcSelect.getSql();
+		// the SQL of the JdbcSelect is independent of the first/max results
+		// so that it can be cached; the limit is applied here, per execution,
+		// using the Dialect's LimitHandler
+		final RowSelection rowSelection = toRowSelection( executionContext.getQueryOptions().getLimit() );
+		final LimitHandler limitHandler = jdbcServices.getJdbcEnvironment().getDialect().getLimitHandler();
+		final boolean useLimit = LimitHelper.useLimit( limitHandler, rowSelection );
+
+		final String sql = useLimit
+				? limitHandler.processSql( jdbcSelect.getSql(), rowSelection )
+				: jdbcSelect.getSql();
 
 		try {
 			log.tracef( "Executing query to retrieve ResultSet : %s", sql );
@@ -82,12 +95,17 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				preparedStatement.setQueryTimeout( executionContext.getQueryOptions().getTimeout() );
 			}
 
-			// todo : limit/offset
-
-
 			// bind parameters
 			// 		todo : validate that all query parameters were bound?
 			int paramBindingPosition = 1;
+			if ( useLimit ) {
+				paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery(
+						rowSelection,
+						preparedStatement,
+						paramBindingPosition
+				);
+			}
+
 			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
 				paramBindingPosition += parameterBinder.bindParameterValue(
 						preparedStatement,
@@ -96,9 +114,20 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				);
 			}
 
+			if ( useLimit ) {
+				limitHandler.bindLimitParametersAtEndOfQuery( rowSelection, preparedStatement, paramBindingPosition );
+			}
+
+			// for handlers without LIMIT support this falls back to Statement#setMaxRows
+			limitHandler.setMaxRows( rowSelection, preparedStatement );
+
 			resultSet = preparedStatement.executeQuery();
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
 
+			if ( !useLimit || !limitHandler.supportsLimitOffset() ) {
+				// the offset was not applied in the SQL, skip the rows here
+				skipRows( resultSet, LimitHelper.getFirstRow( rowSelection ) );
+			}
 		}
 		catch (SQLException e) {
 			throw jdbcServices.getSqlExceptionHelper().convert(
@@ -111,6 +140,31 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private static RowSelection toRowSelection(Limit limit) {
+		final RowSelection rowSelection = new RowSelection();
+		if ( limit != null ) {
+			rowSelection.setFirstRow( limit.getFirstRow() );
+			rowSelection.setMaxRows( limit.getMaxRows() );
+		}
+		return rowSelection;
+	}
+
+	private static void skipRows(ResultSet resultSet, int firstRow) throws SQLException {
+		if ( firstRow <= 0 ) {
+			return;
+		}
+
+		log.debugf( "Offset not applied in SQL; skipping %s rows of the ResultSet", firstRow );
+		if ( resultSet.getType() != ResultSet.TYPE_FORWARD_ONLY ) {
+			resultSet.absolute( firstRow );
+		}
+		else {
+			for ( int i = 0; i < firstRow && resultSet.next(); i++ ) {
+				// nothing to do
+			}
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( resultSet != null ) {
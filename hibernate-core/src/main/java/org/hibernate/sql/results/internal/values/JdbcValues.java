@@ -45,6 +45,35 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Get the JDBC value at the given position of the current row.  Unlike
+	 * {@link #getCurrentRowValuesArray}, implementations are not expected to
+	 * materialize the whole row.
+	 */
+	default Object getCurrentRowValue(int position) {
+		return getCurrentRowValuesArray()[ position ];
+	}
+
+	default boolean isCurrentRowValueNull(int position) {
+		return getCurrentRowValue( position ) == null;
+	}
+
+	default long getCurrentRowLongValue(int position) {
+		return ( (Number) getCurrentRowValue( position ) ).longValue();
+	}
+
+	default int getCurrentRowIntValue(int position) {
+		return ( (Number) getCurrentRowValue( position ) ).intValue();
+	}
+
+	default double getCurrentRowDoubleValue(int position) {
+		return ( (Number) getCurrentRowValue( position ) ).doubleValue();
+	}
+
+	default boolean getCurrentRowBooleanValue(int position) {
+		return (Boolean) getCurrentRowValue( position );
+	}
+
 	// todo : ? - is this needed?
 	//		^^ it's supposed to give impls a chance to write to the query cache
 	//		or release ResultSet it.  But that could technically be handled by the
@@ -34,7 +34,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	}
 
 	public JdbcValuesCacheHit(List<Object[]> cachedResults, ResultSetMapping resolvedResultSetMapping) {
-		this( (Object[][]) cachedResults.toArray(), resolvedResultSetMapping );
+		this( cachedResults.toArray( new Object[ cachedResults.size() ][] ), resolvedResultSetMapping );
 	}
 
 	@Override
@@ -46,7 +46,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 			return false;
 		}
 		position++;
-		return true;
+		return !isExhausted();
 	}
 
 	private boolean isExhausted() {
@@ -60,7 +60,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 
 	@Override
 	public Object[] getCurrentRowValuesArray() {
-		if ( isExhausted() ) {
+		if ( position < 0 || isExhausted() ) {
 			return null;
 		}
 		return cachedData[position];
@@ -8,20 +8,14 @@ package org.hibernate.sql.results.internal.values;
 
 import java.sql.SQLException;
 
-import org.hibernate.CacheMode;
-import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.query.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.caching.QueryCachePutManager;
-import org.hibernate.sql.results.internal.caching.QueryCachePutManagerDisabledImpl;
-import org.hibernate.sql.results.internal.caching.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.spi.ResultSetAccess;
 import org.hibernate.sql.results.spi.ResultSetMapping;
 import org.hibernate.sql.results.spi.RowProcessingState;
-import org.hibernate.sql.results.spi.SqlSelection;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -34,7 +28,9 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final ResultSetMapping resultSetMapping;
 	private final ExecutionContext executionContext;
 
-	// todo (6.0) - manage limit-based skips
+	// NOTE : first-row skipping and limiting are applied to the SQL by
+	//		DeferredResultSetAccess; numberOfRowsToProcess simply guards against
+	//		reading more rows than requested when the Dialect cannot limit them
 
 	private final int numberOfRowsToProcess;
 
@@ -42,22 +38,23 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	//		increments position to 0, which is the first row
 	private int position = -1;
 
-	private Object[] currentRowJdbcValues;
+	// the values of the current row are read into a single buffer which is
+	//		reused for every row; it is created on first read as the SqlSelections
+	//		of native queries are only fully resolved at that point
+	private RowBuffer rowBuffer;
+	private boolean hasCurrentRow;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
-			QueryKey queryCacheKey,
+			QueryCachePutManager queryCachePutManager,
 			QueryOptions queryOptions,
 			ResultSetMapping resultSetMapping,
 			ExecutionContext executionContext) {
-		super(
-				resolveQueryCachePutManager( executionContext, queryOptions, queryCacheKey )
-		);
+		super( queryCachePutManager );
 		this.resultSetAccess = resultSetAccess;
 		this.resultSetMapping = resultSetMapping;
 		this.executionContext = executionContext;
 
-		// todo (6.0) : decide how to handle paged/limited results
 		this.numberOfRowsToProcess = interpretNumberOfRowsToProcess( queryOptions );
 	}
 
@@ -73,36 +70,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return limit.getMaxRows();
 	}
 
-	private static QueryCachePutManager resolveQueryCachePutManager(
-			ExecutionContext executionContext,
-			QueryOptions queryOptions,
-			QueryKey queryCacheKey) {
-		final boolean queryCacheEnabled = executionContext.getSession()
-				.getFactory()
-				.getSessionFactoryOptions()
-				.isQueryCacheEnabled();
-		final CacheMode cacheMode = queryOptions.getCacheMode();
-
-		if ( queryCacheEnabled && cacheMode.isPutEnabled() ) {
-			final QueryResultsCache queryCache = executionContext.getSession().getFactory()
-					.getCache()
-					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
-
-			return new QueryCachePutManagerEnabledImpl( queryCache, queryCacheKey );
-		}
-		else {
-			return QueryCachePutManagerDisabledImpl.INSTANCE;
-		}
-	}
-
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		currentRowJdbcValues = null;
+		hasCurrentRow = false;
 
-		if ( numberOfRowsToProcess != -1 && position > numberOfRowsToProcess ) {
+		if ( numberOfRowsToProcess != -1 && position + 1 >= numberOfRowsToProcess ) {
 			// numberOfRowsToProcess != -1 means we had some limit, and
-			//		position > numberOfRowsToProcess means we have exceeded the
-			// 		number of limited rows
+			//		position + 1 >= numberOfRowsToProcess means we have already
+			// 		processed the number of limited rows
 			return false;
 		}
 
@@ -118,7 +93,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 
 		try {
-			currentRowJdbcValues = readCurrentRowValues( rowProcessingState );
+			readCurrentRowValues();
+			hasCurrentRow = true;
 			return true;
 		}
 		catch (SQLException e) {
@@ -136,21 +112,19 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		);
 	}
 
-	private Object[] readCurrentRowValues(RowProcessingState rowProcessingState) throws SQLException {
-		final int numberOfSqlSelections = resultSetMapping.getSqlSelections().size();
-		final Object[] row = new Object[numberOfSqlSelections];
-		for ( SqlSelection sqlSelection : resultSetMapping.getSqlSelections() ) {
-			row[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-					resultSetAccess.getResultSet(),
-					sqlSelection.getJdbcResultSetIndex(),
-					executionContext
-			);
+	private void readCurrentRowValues() throws SQLException {
+		if ( rowBuffer == null ) {
+			rowBuffer = new RowBuffer( resultSetMapping.getSqlSelections() );
 		}
-		return row;
+		rowBuffer.read( resultSetAccess.getResultSet(), executionContext );
 	}
 
 	@Override
 	protected void release() {
+		hasCurrentRow = false;
+		if ( rowBuffer != null ) {
+			rowBuffer.clear();
+		}
 		resultSetAccess.release();
 	}
 
@@ -161,6 +135,37 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public Object[] getCurrentRowValuesArray() {
-		return currentRowJdbcValues;
+		// boxes the whole row; row processing uses the typed accessors below
+		return hasCurrentRow ? rowBuffer.toArray() : null;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int position) {
+		return rowBuffer.getValue( position );
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int position) {
+		return rowBuffer.isNull( position );
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int position) {
+		return rowBuffer.getLong( position );
+	}
+
+	@Override
+	public int getCurrentRowIntValue(int position) {
+		return rowBuffer.getInt( position );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int position) {
+		return rowBuffer.getDouble( position );
+	}
+
+	@Override
+	public boolean getCurrentRowBooleanValue(int position) {
+		return rowBuffer.getBoolean( position );
 	}
 }
@@ -0,0 +1,278 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal.values;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.sql.AbstractJdbcValueExtractor;
+import org.hibernate.sql.JdbcValueExtractor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.spi.SqlSelection;
+import org.hibernate.type.descriptor.sql.spi.BigIntSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.BitSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.BooleanSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.DoubleSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.IntegerSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.JdbcTypeNameMapper;
+import org.hibernate.type.descriptor.sql.spi.SqlTypeDescriptor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Reusable holder for the JDBC values of the "current row" of a ResultSet.
+ * <p/>
+ * Selections whose extractor is one of the standard numeric or boolean
+ * extractors producing the matching wrapper type are read through the
+ * primitive {@code ResultSet} getters into a {@code long[]} slot, avoiding
+ * the wrapper allocation per row.  All other selections are read through
+ * their {@link JdbcValueExtractor} into an {@code Object[]} slot.  The buffer
+ * itself is allocated once and overwritten for every row.
+ * <p/>
+ * A primitive value requested in boxed form is boxed once and kept for the
+ * rest of the row.
+ */
+public class RowBuffer {
+	// primitive reads bypass the extractors, so log them the same way they do
+	private static final Logger log = CoreLogging.logger( AbstractJdbcValueExtractor.class );
+
+	enum SlotType {
+		LONG,
+		INT,
+		DOUBLE,
+		BOOLEAN,
+		OBJECT
+	}
+
+	private final SqlSelection[] selections;
+	private final SlotType[] slotTypes;
+
+	private final long[] primitiveValues;
+	private final Object[] objectValues;
+	private final boolean[] nulls;
+
+	public RowBuffer(List<SqlSelection> sqlSelections) {
+		final int size = sqlSelections.size();
+
+		this.selections = new SqlSelection[size];
+		this.slotTypes = new SlotType[size];
+		this.primitiveValues = new long[size];
+		this.objectValues = new Object[size];
+		this.nulls = new boolean[size];
+
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
+			selections[position] = sqlSelection;
+			slotTypes[position] = resolveSlotType( sqlSelection.getJdbcValueExtractor() );
+		}
+	}
+
+	static SlotType resolveSlotType(JdbcValueExtractor extractor) {
+		if ( !( extractor instanceof AbstractJdbcValueExtractor ) ) {
+			return SlotType.OBJECT;
+		}
+
+		final AbstractJdbcValueExtractor<?> standardExtractor = (AbstractJdbcValueExtractor<?>) extractor;
+		final SqlTypeDescriptor sqlDescriptor = standardExtractor.getSqlDescriptor();
+		final Class<?> javaType = standardExtractor.getJavaDescriptor().getJavaType();
+
+		// only the standard descriptors are known to read the value through
+		// the matching primitive getter and to wrap it unchanged
+		if ( sqlDescriptor == BigIntSqlDescriptor.INSTANCE && javaType == Long.class ) {
+			return SlotType.LONG;
+		}
+		if ( sqlDescriptor == IntegerSqlDescriptor.INSTANCE && javaType == Integer.class ) {
+			return SlotType.INT;
+		}
+		if ( sqlDescriptor == DoubleSqlDescriptor.INSTANCE && javaType == Double.class ) {
+			return SlotType.DOUBLE;
+		}
+		if ( ( sqlDescriptor == BooleanSqlDescriptor.INSTANCE || sqlDescriptor == BitSqlDescriptor.INSTANCE )
+				&& javaType == Boolean.class ) {
+			return SlotType.BOOLEAN;
+		}
+		return SlotType.OBJECT;
+	}
+
+	/**
+	 * Read the values of the row the given ResultSet is currently positioned at
+	 */
+	public void read(ResultSet resultSet, ExecutionContext executionContext) throws SQLException {
+		final boolean traceEnabled = log.isTraceEnabled();
+		for ( int position = 0; position < selections.length; position++ ) {
+			final SqlSelection sqlSelection = selections[position];
+			final int jdbcPosition = sqlSelection.getJdbcResultSetIndex();
+
+			switch ( slotTypes[position] ) {
+				case LONG: {
+					primitiveValues[position] = resultSet.getLong( jdbcPosition );
+					nulls[position] = resultSet.wasNull();
+					break;
+				}
+				case INT: {
+					primitiveValues[position] = resultSet.getInt( jdbcPosition );
+					nulls[position] = resultSet.wasNull();
+					break;
+				}
+				case DOUBLE: {
+					primitiveValues[position] = Double.doubleToRawLongBits( resultSet.getDouble( jdbcPosition ) );
+					nulls[position] = resultSet.wasNull();
+					break;
+				}
+				case BOOLEAN: {
+					primitiveValues[position] = resultSet.getBoolean( jdbcPosition ) ? 1L : 0L;
+					nulls[position] = resultSet.wasNull();
+					break;
+				}
+				default: {
+					final Object value = sqlSelection.getJdbcValueExtractor().extract(
+							resultSet,
+							jdbcPosition,
+							executionContext
+					);
+					objectValues[position] = value;
+					nulls[position] = value == null;
+					continue;
+				}
+			}
+
+			// the boxed form of the previous row's value, if any
+			objectValues[position] = null;
+			if ( traceEnabled ) {
+				logPrimitiveValue( position, jdbcPosition );
+			}
+		}
+	}
+
+	private void logPrimitiveValue(int position, int jdbcPosition) {
+		final AbstractJdbcValueExtractor<?> extractor =
+				(AbstractJdbcValueExtractor<?>) selections[position].getJdbcValueExtractor();
+		log.tracef(
+				"extracted value ([%s] : [%s]) - [%s]",
+				jdbcPosition,
+				JdbcTypeNameMapper.getTypeName( extractor.getSqlDescriptor().getJdbcTypeCode() ),
+				nulls[position] ? "null" : getValue( position )
+		);
+	}
+
+	public int size() {
+		return selections.length;
+	}
+
+	public boolean isNull(int position) {
+		return nulls[position];
+	}
+
+	public long getLong(int position) {
+		switch ( slotTypes[position] ) {
+			case LONG:
+			case INT: {
+				return primitiveValues[position];
+			}
+			case DOUBLE: {
+				return (long) getDouble( position );
+			}
+			case BOOLEAN: {
+				return primitiveValues[position];
+			}
+			default: {
+				return ( (Number) objectValues[position] ).longValue();
+			}
+		}
+	}
+
+	public int getInt(int position) {
+		return (int) getLong( position );
+	}
+
+	public double getDouble(int position) {
+		switch ( slotTypes[position] ) {
+			case DOUBLE: {
+				return Double.longBitsToDouble( primitiveValues[position] );
+			}
+			case OBJECT: {
+				return ( (Number) objectValues[position] ).doubleValue();
+			}
+			default: {
+				return getLong( position );
+			}
+		}
+	}
+
+	public boolean getBoolean(int position) {
+		switch ( slotTypes[position] ) {
+			case OBJECT: {
+				return (Boolean) objectValues[position];
+			}
+			case DOUBLE: {
+				return getDouble( position ) != 0d;
+			}
+			default: {
+				return primitiveValues[position] != 0L;
+			}
+		}
+	}
+
+	/**
+	 * Get the (boxed) value at the given position.  A primitive slot is
+	 * boxed on the first call for the current row only.
+	 */
+	public Object getValue(int position) {
+		if ( nulls[position] ) {
+			return null;
+		}
+
+		final Object value = objectValues[position];
+		if ( value != null ) {
+			return value;
+		}
+
+		final Object boxed = box( position );
+		objectValues[position] = boxed;
+		return boxed;
+	}
+
+	private Object box(int position) {
+		switch ( slotTypes[position] ) {
+			case LONG: {
+				return primitiveValues[position];
+			}
+			case INT: {
+				return (int) primitiveValues[position];
+			}
+			case DOUBLE: {
+				return Double.longBitsToDouble( primitiveValues[position] );
+			}
+			default: {
+				return primitiveValues[position] != 0L;
+			}
+		}
+	}
+
+	/**
+	 * Materialize the current row as an array of boxed values, e.g. for
+	 * putting it into the query cache
+	 */
+	public Object[] toArray() {
+		final Object[] row = new Object[selections.length];
+		for ( int position = 0; position < row.length; position++ ) {
+			row[position] = getValue( position );
+		}
+		return row;
+	}
+
+	/**
+	 * Release references to the Object values of the last row read
+	 */
+	public void clear() {
+		for ( int position = 0; position < objectValues.length; position++ ) {
+			objectValues[position] = null;
+		}
+	}
+}
@@ -28,10 +28,50 @@ public interface RowProcessingState extends ExecutionContext {
 	 * We read all the ResultSet values for the given row one time
 	 * and store them into an array internally based on the principle that multiple
 	 * accesses to this array will be significantly faster than accessing them
-	 * from the ResultSet potentially multiple times.
+	 * from the ResultSet potentially multiple times.  Values of primitive
+	 * typed selections may be held unboxed; prefer the typed accessors below
+	 * for those.
 	 */
 	Object getJdbcValue(SqlSelection sqlSelection);
 
+	/**
+	 * Whether the value corresponding to the given SqlSelection is null for
+	 * the "current JDBC row".
+	 */
+	default boolean isJdbcValueNull(SqlSelection sqlSelection) {
+		return getJdbcValue( sqlSelection ) == null;
+	}
+
+	/**
+	 * Primitive variant of {@link #getJdbcValue}, avoiding boxing of the
+	 * value for implementations buffering the row in primitive form.  The
+	 * result is undefined if {@link #isJdbcValueNull} is {@code true}.
+	 */
+	default long getJdbcLongValue(SqlSelection sqlSelection) {
+		return ( (Number) getJdbcValue( sqlSelection ) ).longValue();
+	}
+
+	/**
+	 * @see #getJdbcLongValue
+	 */
+	default int getJdbcIntValue(SqlSelection sqlSelection) {
+		return ( (Number) getJdbcValue( sqlSelection ) ).intValue();
+	}
+
+	/**
+	 * @see #getJdbcLongValue
+	 */
+	default double getJdbcDoubleValue(SqlSelection sqlSelection) {
+		return ( (Number) getJdbcValue( sqlSelection ) ).doubleValue();
+	}
+
+	/**
+	 * @see #getJdbcLongValue
+	 */
+	default boolean getJdbcBooleanValue(SqlSelection sqlSelection) {
+		return (Boolean) getJdbcValue( sqlSelection );
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	void finishRowProcessing();
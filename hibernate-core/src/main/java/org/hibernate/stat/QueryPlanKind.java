@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+/**
+ * The kinds of entries held by the query plan cache, used to break down
+ * the query plan cache statistics.
+ */
+public enum QueryPlanKind {
+	/**
+	 * Plans for select queries
+	 */
+	SELECT,
+
+	/**
+	 * Plans for update, delete and insert-select queries
+	 */
+	NON_SELECT,
+
+	/**
+	 * Interpreted (semantic) representation of HQL/JPQL query strings
+	 */
+	SQM_STATEMENT
+}
@@ -372,4 +372,36 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the number of query plans of the given kind successfully retrieved from cache
+	 */
+	default long getQueryPlanCacheHitCount(QueryPlanKind kind) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of query plan lookups of the given kind *not* found in cache
+	 */
+	default long getQueryPlanCacheMissCount(QueryPlanKind kind) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of query plans evicted from cache
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of query plans of the given kind evicted from cache
+	 */
+	default long getQueryPlanCacheEvictionCount(QueryPlanKind kind) {
+		//For backward compatibility
+		return 0;
+	}
 }
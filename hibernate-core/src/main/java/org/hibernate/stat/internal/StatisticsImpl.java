@@ -7,7 +7,9 @@
 package org.hibernate.stat.internal;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -23,6 +25,7 @@ import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryPlanKind;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -82,6 +85,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final Map<QueryPlanKind,LongAdder> queryPlanCacheHitCountByKind = createQueryPlanKindCounters();
+	private final Map<QueryPlanKind,LongAdder> queryPlanCacheMissCountByKind = createQueryPlanKindCounters();
+	private final Map<QueryPlanKind,LongAdder> queryPlanCacheEvictionCountByKind = createQueryPlanKindCounters();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -183,6 +191,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+		queryPlanCacheHitCountByKind.values().forEach( LongAdder::reset );
+		queryPlanCacheMissCountByKind.values().forEach( LongAdder::reset );
+		queryPlanCacheEvictionCountByKind.values().forEach( LongAdder::reset );
 
 		startTime = System.currentTimeMillis();
 	}
@@ -829,6 +841,52 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public long getQueryPlanCacheHitCount(QueryPlanKind kind) {
+		return queryPlanCacheHitCountByKind.get( kind ).sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheMissCount(QueryPlanKind kind) {
+		return queryPlanCacheMissCountByKind.get( kind ).sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheEvictionCount(QueryPlanKind kind) {
+		return queryPlanCacheEvictionCountByKind.get( kind ).sum();
+	}
+
+	@Override
+	public void queryPlanCacheHit(QueryPlanKind kind) {
+		queryPlanCacheHitCount.increment();
+		queryPlanCacheHitCountByKind.get( kind ).increment();
+	}
+
+	@Override
+	public void queryPlanCacheMiss(QueryPlanKind kind) {
+		queryPlanCacheMissCount.increment();
+		queryPlanCacheMissCountByKind.get( kind ).increment();
+	}
+
+	@Override
+	public void queryPlanCacheEviction(QueryPlanKind kind, int count) {
+		queryPlanCacheEvictionCount.add( count );
+		queryPlanCacheEvictionCountByKind.get( kind ).add( count );
+	}
+
+	private static Map<QueryPlanKind,LongAdder> createQueryPlanKindCounters() {
+		final Map<QueryPlanKind,LongAdder> counters = new EnumMap<>( QueryPlanKind.class );
+		for ( QueryPlanKind kind : QueryPlanKind.values() ) {
+			counters.put( kind, new LongAdder() );
+		}
+		return counters;
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.computeIfAbsent(
 				regionName,
@@ -1004,6 +1062,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append( ']' )
 				.toString();
 	}
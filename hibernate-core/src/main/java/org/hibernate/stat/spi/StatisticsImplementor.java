@@ -8,6 +8,7 @@ package org.hibernate.stat.spi;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryPlanKind;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -260,6 +261,34 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a hit.
+	 *
+	 * @param kind The kind of plan that was looked up
+	 */
+	default void queryPlanCacheHit(QueryPlanKind kind) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a miss.
+	 *
+	 * @param kind The kind of plan that was looked up
+	 */
+	default void queryPlanCacheMiss(QueryPlanKind kind) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating plans were evicted from the query plan cache.
+	 *
+	 * @param kind The kind of plans that were evicted
+	 * @param count The number of evicted plans
+	 */
+	default void queryPlanCacheEviction(QueryPlanKind kind, int count) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
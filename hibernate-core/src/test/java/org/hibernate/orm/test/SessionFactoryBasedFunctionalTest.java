@@ -10,6 +10,8 @@ import java.util.EnumSet;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.boot.spi.MetadataImplementor;
@@ -54,7 +56,7 @@ public abstract class SessionFactoryBasedFunctionalTest
 	public SessionFactoryImplementor produceSessionFactory() {
 		log.trace( "Producing SessionFactory" );
 
-		final StandardServiceRegistryBuilder ssrBuilder = new StandardServiceRegistryBuilder()
+		final StandardServiceRegistryBuilder ssrBuilder = new StandardServiceRegistryBuilder( buildBootstrapServiceRegistry() )
 				.applySetting( AvailableSettings.HBM2DDL_AUTO, exportSchema() ? "create-drop" : "none" );
 		applySettings( ssrBuilder );
 		final StandardServiceRegistry ssr = ssrBuilder.build();
@@ -75,6 +77,12 @@ public abstract class SessionFactoryBasedFunctionalTest
 		}
 	}
 
+	private BootstrapServiceRegistry buildBootstrapServiceRegistry() {
+		final BootstrapServiceRegistryBuilder bsrBuilder = new BootstrapServiceRegistryBuilder().enableAutoClose();
+		applyBootstrapSettings( bsrBuilder );
+		return bsrBuilder.build();
+	}
+
 	private MetadataImplementor buildMetadata(StandardServiceRegistry ssr) {
 		MetadataSources metadataSources = new MetadataSources( ssr );
 		applyMetadataSources( metadataSources );
@@ -82,7 +90,7 @@ public abstract class SessionFactoryBasedFunctionalTest
 	}
 
 	private void dropDatabase() {
-		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder().build();
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder( buildBootstrapServiceRegistry() ).build();
 		try {
 			final DatabaseModel databaseModel = Helper.buildDatabaseModel( buildMetadata( ssr ) );
 			new SchemaExport( databaseModel, ssr ).drop( EnumSet.of( TargetType.DATABASE ) );
@@ -95,6 +103,9 @@ public abstract class SessionFactoryBasedFunctionalTest
 	protected void sessionFactoryBuilt(SessionFactoryImplementor factory) {
 	}
 
+	protected void applyBootstrapSettings(BootstrapServiceRegistryBuilder builder) {
+	}
+
 	protected void applySettings(StandardServiceRegistryBuilder builer) {
 	}
 
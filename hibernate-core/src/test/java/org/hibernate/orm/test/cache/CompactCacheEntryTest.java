@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Date;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompactCacheEntryTest extends SessionFactoryBasedFunctionalTest {
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.USE_COMPACT_CACHE, "true" );
+	}
+
+	@Test
+	public void testEntryRoundTrip() {
+		final Serializable[] state = new Serializable[] {
+				Date.from( Instant.EPOCH ),
+				Instant.ofEpochSecond( 1_500_000_000L, 42 ),
+				-1,
+				Long.MAX_VALUE,
+				"the string"
+		};
+
+		final CacheEntry entry = roundTrip( state, 3 );
+		assertThat( entry.getDisassembledState(), equalTo( state ) );
+		assertThat( entry.getDisassembledState(), sameInstance( entry.getDisassembledState() ) );
+	}
+
+	@Test
+	public void testValuesNotMatchingTheSchemaRoundTrip() {
+		final Serializable[] state = new Serializable[] {
+				null,
+				LazyPropertyInitializer.UNFETCHED_PROPERTY,
+				"not an integer",
+				new Serializable[] { "not an integer", 1L, null },
+				"not an integer"
+		};
+
+		final CacheEntry entry = roundTrip( state, null );
+		final Serializable[] disassembledState = entry.getDisassembledState();
+		assertThat( disassembledState[0], nullValue() );
+		assertThat( disassembledState[1], sameInstance( LazyPropertyInitializer.UNFETCHED_PROPERTY ) );
+		assertThat( disassembledState[2], is( "not an integer" ) );
+		assertThat( disassembledState[3], equalTo( state[3] ) );
+		assertThat( disassembledState[4], is( "not an integer" ) );
+	}
+
+	@Test
+	public void testNullEntriesArePassedThrough() {
+		final CacheEntryStructure structure = entityDescriptor().getCacheEntryStructure();
+		assertThat( structure.structure( null ), nullValue() );
+		assertThat( structure.destructure( null, sessionFactory() ), nullValue() );
+	}
+
+	@Test
+	public void testEncodedEntryIsSmallerThanTheSerializedStandardEntry() {
+		final EntityTypeDescriptor<SimpleEntity> entityDescriptor = entityDescriptor();
+		final Object[] state = new Object[] {
+				Date.from( Instant.EPOCH ),
+				Instant.ofEpochSecond( 1_500_000_000L, 42 ),
+				-1,
+				Long.MAX_VALUE,
+				"the string"
+		};
+
+		sessionFactoryScope().inSession(
+				session -> {
+					final StandardCacheEntryImpl standardEntry = new StandardCacheEntryImpl(
+							state,
+							entityDescriptor,
+							3,
+							session,
+							null
+					);
+					final byte[] encoded = (byte[]) entityDescriptor.getCacheEntryStructure().structure( standardEntry );
+					final byte[] serialized = SerializationHelper.serialize( standardEntry );
+					assertThat( encoded.length < serialized.length, is( true ) );
+				}
+		);
+	}
+
+	private EntityTypeDescriptor<SimpleEntity> entityDescriptor() {
+		return sessionFactory().getMetamodel().getEntityDescriptor( SimpleEntity.class );
+	}
+
+	private CacheEntry roundTrip(Serializable[] state, Object version) {
+		final EntityTypeDescriptor<SimpleEntity> entityDescriptor = entityDescriptor();
+		final CacheEntryStructure structure = entityDescriptor.getCacheEntryStructure();
+		assertThat( structure, instanceOf( CompactCacheEntry.class ) );
+
+		final Object structured = structure.structure( new TestCacheEntry( state, entityDescriptor.getEntityName(), version ) );
+		assertThat( structured, instanceOf( byte[].class ) );
+
+		final CacheEntry entry = (CacheEntry) structure.destructure( structured, sessionFactory() );
+		assertThat( entry.getSubclass(), is( entityDescriptor.getEntityName() ) );
+		assertThat( entry.getVersion(), is( version ) );
+		return entry;
+	}
+
+	private static class TestCacheEntry implements CacheEntry {
+		private final Serializable[] state;
+		private final String subclass;
+		private final Object version;
+
+		private TestCacheEntry(Serializable[] state, String subclass, Object version) {
+			this.state = state;
+			this.subclass = subclass;
+			this.version = version;
+		}
+
+		@Override
+		public boolean isReferenceEntry() {
+			return false;
+		}
+
+		@Override
+		public String getSubclass() {
+			return subclass;
+		}
+
+		@Override
+		public Object getVersion() {
+			return version;
+		}
+
+		@Override
+		public Serializable[] getDisassembledState() {
+			return state;
+		}
+	}
+}
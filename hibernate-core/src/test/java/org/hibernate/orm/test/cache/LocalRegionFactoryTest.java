@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LocalRegionFactoryTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 50;
+	private static final long SMALL_REGION_MAX_SIZE = 2_000;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SmallRegionEntity.class );
+		metadataSources.addAnnotatedClass( DefaultRegionEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		builder.applySetting( AvailableSettings.CACHE_REGION_FACTORY, LocalRegionFactory.class.getName() );
+		builder.applySetting( AvailableSettings.LOCAL_CACHE_MAX_SIZE + ".small", Long.toString( SMALL_REGION_MAX_SIZE ) );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testRegionSizeCanBeOverriddenPerRegion() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.save( new SmallRegionEntity( i, "small " + i ) );
+						session.save( new DefaultRegionEntity( i, "default " + i ) );
+					}
+				}
+		);
+
+		final ExtendedStatisticsSupport smallRegion = getRegionStatistics( "small" );
+		assertThat( smallRegion.getElementCountInMemory() > 0, is( true ) );
+		assertThat( smallRegion.getElementCountInMemory() < NUMBER_OF_ENTITIES, is( true ) );
+		assertThat( smallRegion.getSizeInMemory() <= SMALL_REGION_MAX_SIZE, is( true ) );
+
+		final ExtendedStatisticsSupport defaultRegion = getRegionStatistics( "default" );
+		assertThat( defaultRegion.getElementCountInMemory(), is( (long) NUMBER_OF_ENTITIES ) );
+		assertThat( defaultRegion.getSizeInMemory() > SMALL_REGION_MAX_SIZE, is( true ) );
+		assertThat( defaultRegion.getSizeInMemory() <= LocalRegionFactory.DEFAULT_MAX_SIZE, is( true ) );
+		assertThat( defaultRegion.getElementCountOnDisk(), is( 0L ) );
+	}
+
+	private ExtendedStatisticsSupport getRegionStatistics(String regionName) {
+		final Region region = sessionFactory().getCache().getRegion( regionName );
+		assertThat( region, instanceOf( ExtendedStatisticsSupport.class ) );
+		return (ExtendedStatisticsSupport) region;
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "from SmallRegionEntity e" ).list().forEach( session::delete );
+					session.createQuery( "from DefaultRegionEntity e" ).list().forEach( session::delete );
+				}
+		);
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@Entity(name = "SmallRegionEntity")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "small")
+	public static class SmallRegionEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		SmallRegionEntity() {
+		}
+
+		SmallRegionEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "DefaultRegionEntity")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "default")
+	public static class DefaultRegionEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		DefaultRegionEntity() {
+		}
+
+		DefaultRegionEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.internal.LocalStorageAccess;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LocalStorageAccessTest extends BaseUnitTest {
+	private static final long MAX_SIZE = 100_000;
+
+	@Test
+	public void testSizeIsBounded() {
+		final LocalStorageAccess storageAccess = new LocalStorageAccess( MAX_SIZE, 0 );
+		for ( int i = 0; i < 10_000; i++ ) {
+			storageAccess.putIntoCache( "key" + i, "value" + i, null );
+			assertThat( storageAccess.getEstimatedSize() <= MAX_SIZE, is( true ) );
+		}
+		assertThat( storageAccess.getElementCount() < 10_000, is( true ) );
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getElementCount(), is( 0L ) );
+		assertThat( storageAccess.getEstimatedSize(), is( 0L ) );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final LocalStorageAccess storageAccess = new LocalStorageAccess( MAX_SIZE, 0 );
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 20; i++ ) {
+				if ( storageAccess.getFromCache( "frequent" + i, null ) == null ) {
+					storageAccess.putIntoCache( "frequent" + i, "value" + i, null );
+				}
+			}
+		}
+
+		for ( int i = 0; i < 10_000; i++ ) {
+			storageAccess.getFromCache( "scan" + i, null );
+			storageAccess.putIntoCache( "scan" + i, "value" + i, null );
+			storageAccess.getFromCache( "frequent" + ( i % 20 ), null );
+		}
+
+		for ( int i = 0; i < 20; i++ ) {
+			assertThat( storageAccess.getFromCache( "frequent" + i, null ), is( "value" + i ) );
+		}
+	}
+
+	@Test
+	public void testEntriesLargerThanTheRegionAreNotCached() {
+		final LocalStorageAccess storageAccess = new LocalStorageAccess( 1_000, 0 );
+		storageAccess.putIntoCache( "key", new byte[ 2_000 ], null );
+		assertThat( storageAccess.contains( "key" ), is( false ) );
+	}
+
+	@Test
+	public void testEntriesExpire() {
+		final AtomicLong clock = new AtomicLong();
+		final LocalStorageAccess storageAccess = new LocalStorageAccess( MAX_SIZE, 50, clock::get );
+		storageAccess.putIntoCache( "key", "value", null );
+		clock.addAndGet( 49 );
+		assertThat( storageAccess.getFromCache( "key", null ), is( "value" ) );
+
+		clock.addAndGet( 1 );
+		assertThat( storageAccess.contains( "key" ), is( false ) );
+		assertThat( storageAccess.getFromCache( "key", null ), nullValue() );
+		assertThat( storageAccess.getElementCount(), is( 0L ) );
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that entities cached in an off-heap region, under the cache keys built by
+ * Hibernate, are found again when loaded by id
+ */
+public class OffHeapRegionTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 20;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( OffHeapEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		builder.applySetting( AvailableSettings.CACHE_REGION_FACTORY, LocalRegionFactory.class.getName() );
+		builder.applySetting( AvailableSettings.LOCAL_CACHE_OFF_HEAP, "true" );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testCachedEntitiesAreLoadedById() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.save( new OffHeapEntity( i, "entity " + i ) );
+					}
+				}
+		);
+
+		final Region region = sessionFactory().getCache().getRegion( "offheap" );
+		assertThat( region, instanceOf( DomainDataRegionTemplate.class ) );
+		assertThat(
+				( (DomainDataRegionTemplate) region ).getCacheStorageAccess(),
+				instanceOf( OffHeapStorageAccess.class )
+		);
+		assertThat( ( (ExtendedStatisticsSupport) region ).getElementCountInMemory(), is( (long) NUMBER_OF_ENTITIES ) );
+
+		sessionFactory().getStatistics().clear();
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						assertThat( session.get( OffHeapEntity.class, i ).getName(), is( "entity " + i ) );
+					}
+				}
+		);
+
+		assertThat( sessionFactory().getStatistics().getSecondLevelCacheHitCount(), is( (long) NUMBER_OF_ENTITIES ) );
+		assertThat( sessionFactory().getStatistics().getSecondLevelCacheMissCount(), is( 0L ) );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from OffHeapEntity e" ).list().forEach( session::delete )
+		);
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@Entity(name = "OffHeapEntity")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "offheap")
+	public static class OffHeapEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		OffHeapEntity() {
+		}
+
+		OffHeapEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
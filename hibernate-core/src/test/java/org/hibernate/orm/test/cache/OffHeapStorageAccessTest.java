@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OffHeapStorageAccessTest extends BaseUnitTest {
+	private static final long MAX_SIZE = 100_000;
+
+	@Test
+	public void testValuesAreReadBack() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( MAX_SIZE, 0 );
+		storageAccess.putIntoCache( "key", "value", null );
+		storageAccess.putIntoCache( 1L, new byte[] { 1, 2, 3 }, null );
+		assertThat( storageAccess.getFromCache( "key", null ), is( "value" ) );
+		assertThat( storageAccess.getFromCache( 1L, null ), equalTo( new byte[] { 1, 2, 3 } ) );
+		assertThat( storageAccess.getFromCache( "other", null ), nullValue() );
+
+		storageAccess.putIntoCache( "key", "new value", null );
+		assertThat( storageAccess.getFromCache( "key", null ), is( "new value" ) );
+		assertThat( storageAccess.getElementCount(), is( 2L ) );
+
+		storageAccess.evictData( "key" );
+		assertThat( storageAccess.contains( "key" ), is( false ) );
+		assertThat( storageAccess.getElementCount(), is( 1L ) );
+	}
+
+	@Test
+	public void testKeysAreMatchedBySerializedForm() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( MAX_SIZE, 0 );
+		// both keys have the same hash code
+		storageAccess.putIntoCache( "Aa", "first", null );
+		storageAccess.putIntoCache( "BB", "second", null );
+		assertThat( storageAccess.getFromCache( new String( "Aa" ), null ), is( "first" ) );
+		assertThat( storageAccess.getFromCache( new String( "BB" ), null ), is( "second" ) );
+
+		storageAccess.evictData( "Aa" );
+		assertThat( storageAccess.contains( "Aa" ), is( false ) );
+		assertThat( storageAccess.contains( "BB" ), is( true ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( MAX_SIZE, 0 );
+		for ( int i = 0; i < 10_000; i++ ) {
+			storageAccess.putIntoCache( "key" + i, "value" + i, null );
+			assertThat( storageAccess.getEstimatedSize() <= MAX_SIZE, is( true ) );
+		}
+		assertThat( storageAccess.getElementCount() < 10_000, is( true ) );
+		assertThat( storageAccess.getFromCache( "key9999", null ), is( "value9999" ) );
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getElementCount(), is( 0L ) );
+		assertThat( storageAccess.getEstimatedSize(), is( 0L ) );
+		assertThat( storageAccess.getFromCache( "key9999", null ), nullValue() );
+	}
+
+	@Test
+	public void testEntriesLargerThanTheRegionAreNotCached() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( MAX_SIZE, 0 );
+		storageAccess.putIntoCache( "key", "value", null );
+		storageAccess.putIntoCache( "key", new byte[ 200_000 ], null );
+		assertThat( storageAccess.contains( "key" ), is( false ) );
+	}
+
+	@Test
+	public void testEntriesExpire() {
+		final AtomicLong clock = new AtomicLong();
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( MAX_SIZE, 50, clock::get );
+		storageAccess.putIntoCache( "key", "value", null );
+		clock.addAndGet( 49 );
+		assertThat( storageAccess.getFromCache( "key", null ), is( "value" ) );
+
+		clock.addAndGet( 1 );
+		assertThat( storageAccess.contains( "key" ), is( false ) );
+		assertThat( storageAccess.getFromCache( "key", null ), nullValue() );
+		assertThat( storageAccess.getElementCount(), is( 0L ) );
+	}
+
+	@Test
+	public void testCapacityCoversLargeMaximumSizes() {
+		// the arenas are allocated by the first put into their segment, none is allocated here
+		final long maximumSize = 40L * 1024 * 1024 * 1024;
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( maximumSize, 0 );
+		assertThat( storageAccess.getCapacity() >= maximumSize, is( true ) );
+		assertThat( new OffHeapStorageAccess( MAX_SIZE, 0 ).getCapacity() >= MAX_SIZE, is( true ) );
+	}
+
+	@Test
+	public void testMaximumSizeIsLimited() {
+		assertThat(
+				new OffHeapStorageAccess( OffHeapStorageAccess.MAXIMUM_SIZE, 0 ).getCapacity(),
+				is( OffHeapStorageAccess.MAXIMUM_SIZE )
+		);
+		assertThrows( CacheException.class, () -> new OffHeapStorageAccess( OffHeapStorageAccess.MAXIMUM_SIZE + 1, 0 ) );
+	}
+}
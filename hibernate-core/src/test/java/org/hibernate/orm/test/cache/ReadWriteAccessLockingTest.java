@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.EntityReadWriteAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the read-write access locks the cached items by key: an item being
+ * loaded into the cache blocks the readers of that item only
+ */
+public class ReadWriteAccessLockingTest extends BaseUnitTest {
+	private static final Integer LOADED_KEY = 0;
+	private static final Integer OTHER_KEY = 1;
+
+	private final CountDownLatch putStarted = new CountDownLatch( 1 );
+	private final CountDownLatch putReleased = new CountDownLatch( 1 );
+
+	private ExecutorService executor;
+	private SharedSessionContractImplementor session;
+	private EntityReadWriteAccess access;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newCachedThreadPool();
+		session = mock( SharedSessionContractImplementor.class );
+
+		// the put of the loaded item blocks until released, holding the lock of its key
+		final DomainDataStorageAccess storageAccess = mock( DomainDataStorageAccess.class );
+		doAnswer(
+				invocation -> {
+					putStarted.countDown();
+					putReleased.await();
+					return null;
+				}
+		).when( storageAccess ).putIntoCache( eq( LOADED_KEY ), any(), any() );
+
+		access = new EntityReadWriteAccess(
+				mock( DomainDataRegion.class ),
+				null,
+				storageAccess,
+				mock( EntityDataCachingConfig.class )
+		);
+		when( session.getTransactionStartTimestamp() ).thenReturn( 0L );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		putReleased.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testDifferentKeysAreAccessedConcurrently() throws Exception {
+		final Future<Boolean> put = executor.submit( () -> access.putFromLoad( session, LOADED_KEY, "value", null ) );
+		assertThat( putStarted.await( 5, TimeUnit.SECONDS ), is( true ) );
+
+		// keys 0 and 1 are guarded by different locks, whatever the number of locks
+		final Future<Object> otherGet = executor.submit( () -> access.get( session, OTHER_KEY ) );
+		assertThat( otherGet.get( 5, TimeUnit.SECONDS ), nullValue() );
+		assertThat( put.isDone(), is( false ) );
+
+		putReleased.countDown();
+		assertThat( put.get( 5, TimeUnit.SECONDS ), is( true ) );
+	}
+
+	@Test
+	public void testSameKeyIsSerialized() throws Exception {
+		final Future<Boolean> put = executor.submit( () -> access.putFromLoad( session, LOADED_KEY, "value", null ) );
+		assertThat( putStarted.await( 5, TimeUnit.SECONDS ), is( true ) );
+
+		final Future<Object> loadedGet = executor.submit( () -> access.get( session, LOADED_KEY ) );
+		assertThrows( TimeoutException.class, () -> loadedGet.get( 200, TimeUnit.MILLISECONDS ) );
+
+		putReleased.countDown();
+		assertThat( put.get( 5, TimeUnit.SECONDS ), is( true ) );
+		// the read went on once the put released the lock
+		assertThat( loadedGet.get( 5, TimeUnit.SECONDS ), nullValue() );
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.VersionCounterTimestampsCacheFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class VersionCounterQueryCacheTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.USE_QUERY_CACHE, "true" );
+		builder.applySetting( AvailableSettings.QUERY_CACHE_FACTORY, VersionCounterTimestampsCacheFactory.class.getName() );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testCachedResultsInvalidatedBySpaceChange() {
+		sessionFactoryScope().inTransaction( session -> session.save( createEntity( 1 ) ) );
+
+		sessionFactoryScope().inTransaction( session -> assertThat( cachedIds( session ).size(), is( 1 ) ) );
+
+		// changes bypassing Hibernate do not invalidate the query space - the cached results are used
+		sessionFactoryScope().inTransaction(
+				session -> session.doWork(
+						connection -> {
+							final Statement statement = connection.createStatement();
+							try {
+								statement.execute( "delete from SimpleEntity" );
+							}
+							finally {
+								try {
+									statement.close();
+								}
+								catch (SQLException ignore) {
+								}
+							}
+						}
+				)
+		);
+		sessionFactoryScope().inTransaction( session -> assertThat( cachedIds( session ).size(), is( 1 ) ) );
+
+		// the insert changes the version of the query space, making the cached results stale
+		sessionFactoryScope().inTransaction( session -> session.save( createEntity( 2 ) ) );
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Integer> ids = cachedIds( session );
+					assertThat( ids.size(), is( 1 ) );
+					assertThat( ids.get( 0 ), is( 2 ) );
+				}
+		);
+	}
+
+	private static List<Integer> cachedIds(SessionImplementor session) {
+		return session.createQuery( "select e.id from SimpleEntity e", Integer.class )
+				.setCacheable( true )
+				.list();
+	}
+
+	private static SimpleEntity createEntity(int id) {
+		return new SimpleEntity(
+				id,
+				Calendar.getInstance().getTime(),
+				null,
+				Integer.MAX_VALUE,
+				Long.MAX_VALUE,
+				null
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
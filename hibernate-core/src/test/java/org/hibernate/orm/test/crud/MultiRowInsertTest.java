@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.crud;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultiRowInsertTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 7;
+
+	private final StatementRecordingConnectionProvider connectionProvider = new StatementRecordingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testConsecutiveInsertsAreExecutedTogether() {
+		connectionProvider.clear();
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.save(
+								new SimpleEntity(
+										i,
+										Calendar.getInstance().getTime(),
+										null,
+										i,
+										(long) i,
+										i % 2 == 0 ? "entity " + i : null
+								)
+						);
+					}
+				}
+		);
+
+		final List<Integer> rowsPerInsert = connectionProvider.getRowsPerInsert();
+		if ( sessionFactory().getDialect().supportsMultiRowInsert() ) {
+			assertThat( rowsPerInsert, is( Arrays.asList( 3, 3, 1 ) ) );
+		}
+		else {
+			assertThat( rowsPerInsert, is( Collections.nCopies( NUMBER_OF_ENTITIES, 1 ) ) );
+		}
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						final SimpleEntity entity = session.get( SimpleEntity.class, i );
+						assertThat( entity.getSomeInteger(), is( i ) );
+						assertThat( entity.getSomeLong(), is( (long) i ) );
+						if ( i % 2 == 0 ) {
+							assertThat( entity.getSomeString(), is( "entity " + i ) );
+						}
+						else {
+							assertThat( entity.getSomeString(), nullValue() );
+						}
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+
+	/**
+	 * Records the SQL of the statements prepared on its connections, as entity
+	 * mutations are not passed to the StatementInspector
+	 */
+	public static class StatementRecordingConnectionProvider extends ConnectionProviderDelegate {
+		private final List<String> preparedStatements = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class[] { Connection.class },
+					new RecordingHandler( super.getConnection(), preparedStatements )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (RecordingHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+
+		public void clear() {
+			preparedStatements.clear();
+		}
+
+		/**
+		 * The number of rows of each insert prepared since the last {@link #clear()}
+		 */
+		public List<Integer> getRowsPerInsert() {
+			final List<Integer> rowsPerInsert = new ArrayList<>();
+			synchronized ( preparedStatements ) {
+				for ( String sql : preparedStatements ) {
+					final String normalized = sql.toLowerCase( Locale.ROOT );
+					if ( normalized.startsWith( "insert" ) ) {
+						final String values = normalized.substring( normalized.indexOf( " values " ) );
+						rowsPerInsert.add( values.length() - values.replace( "(", "" ).length() );
+					}
+				}
+			}
+			return rowsPerInsert;
+		}
+	}
+
+	private static class RecordingHandler implements InvocationHandler {
+		private final Connection connection;
+		private final List<String> preparedStatements;
+
+		private RecordingHandler(Connection connection, List<String> preparedStatements) {
+			this.connection = connection;
+			this.preparedStatements = preparedStatements;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ( "prepareStatement".equals( method.getName() ) ) {
+				preparedStatements.add( (String) args[0] );
+			}
+			try {
+				return method.invoke( connection, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
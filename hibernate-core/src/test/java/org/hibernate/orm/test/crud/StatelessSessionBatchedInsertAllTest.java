@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.crud;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.stream.IntStream;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.hibernate.testing.junit5.RequiresDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that without multi-row inserts, the rows inserted by
+ * {@link StatelessSession#insertAll} are inserted as JDBC batches
+ */
+@RequiresDialect(dialectClass = H2Dialect.class, matchSubTypes = true)
+public class StatelessSessionBatchedInsertAllTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 7;
+
+	private final MultiRowInsertTest.StatementRecordingConnectionProvider connectionProvider =
+			new MultiRowInsertTest.StatementRecordingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.DIALECT, SingleRowInsertH2Dialect.class.getName() );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testRowsAreInsertedAsJdbcBatches() {
+		connectionProvider.clear();
+		try (StatelessSession statelessSession = sessionFactoryScope().getSessionFactory().openStatelessSession()) {
+			final Transaction transaction = statelessSession.beginTransaction();
+			final long count = statelessSession.insertAll(
+					IntStream.range( 0, NUMBER_OF_ENTITIES ).mapToObj( StatelessSessionBatchedInsertAllTest::entity )
+			);
+			transaction.commit();
+
+			assertThat( count, is( (long) NUMBER_OF_ENTITIES ) );
+		}
+
+		// one single-row insert statement prepared per batch
+		assertThat( connectionProvider.getRowsPerInsert(), is( Arrays.asList( 1, 1, 1 ) ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						assertThat( session.get( SimpleEntity.class, i ).getSomeString(), is( "entity " + i ) );
+					}
+				}
+		);
+	}
+
+	private static SimpleEntity entity(int i) {
+		return new SimpleEntity(
+				i,
+				Calendar.getInstance().getTime(),
+				null,
+				i,
+				(long) i,
+				"entity " + i
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" ).list().forEach( session::delete )
+		);
+	}
+
+	public static class SingleRowInsertH2Dialect extends H2Dialect {
+		@Override
+		public boolean supportsMultiRowInsert() {
+			return false;
+		}
+	}
+}
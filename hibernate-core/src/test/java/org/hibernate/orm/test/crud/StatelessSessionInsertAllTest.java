@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.crud;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StatelessSessionInsertAllTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 7;
+
+	private final MultiRowInsertTest.StatementRecordingConnectionProvider connectionProvider =
+			new MultiRowInsertTest.StatementRecordingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+		metadataSources.addAnnotatedClass( IdentityEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testInsertAllReportsProgress() {
+		final List<Long> progress = new ArrayList<>();
+		try (StatelessSession statelessSession = sessionFactoryScope().getSessionFactory().openStatelessSession()) {
+			final Transaction transaction = statelessSession.beginTransaction();
+			final long count = statelessSession.insertAll(
+					IntStream.range( 0, NUMBER_OF_ENTITIES ).mapToObj( StatelessSessionInsertAllTest::entity ),
+					progress::add
+			);
+			transaction.commit();
+
+			assertThat( count, is( (long) NUMBER_OF_ENTITIES ) );
+		}
+		assertThat( progress, is( Arrays.asList( 3L, 6L, 7L ) ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						assertThat( session.get( SimpleEntity.class, i ).getSomeString(), is( "entity " + i ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testIdentityEntitiesAreInsertedTogether() {
+		final List<IdentityEntity> entities = new ArrayList<>();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			entities.add( new IdentityEntity( "entity " + i ) );
+		}
+
+		connectionProvider.clear();
+		try (StatelessSession statelessSession = sessionFactoryScope().getSessionFactory().openStatelessSession()) {
+			final Transaction transaction = statelessSession.beginTransaction();
+			final long count = statelessSession.insertAll( entities );
+			transaction.commit();
+
+			assertThat( count, is( (long) NUMBER_OF_ENTITIES ) );
+		}
+
+		final List<Integer> rowsPerInsert = connectionProvider.getRowsPerInsert();
+		if ( sessionFactory().getDialect().supportsMultiRowInsertGeneratedKeys() ) {
+			assertThat( rowsPerInsert, is( Arrays.asList( 3, 3, 1 ) ) );
+		}
+		else {
+			assertThat( rowsPerInsert, is( Collections.nCopies( NUMBER_OF_ENTITIES, 1 ) ) );
+		}
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( IdentityEntity entity : entities ) {
+						assertThat( session.get( IdentityEntity.class, entity.id ).name, is( entity.name ) );
+					}
+				}
+		);
+	}
+
+	private static SimpleEntity entity(int i) {
+		return new SimpleEntity(
+				i,
+				Calendar.getInstance().getTime(),
+				null,
+				i,
+				(long) i,
+				"entity " + i
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "from SimpleEntity e" )
+							.list()
+							.forEach( simpleEntity -> session.delete( simpleEntity ) );
+					session.createQuery( "from IdentityEntity e" ).list().forEach( session::delete );
+				}
+		);
+	}
+
+	@Entity(name = "IdentityEntity")
+	public static class IdentityEntity {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Integer id;
+
+		private String name;
+
+		IdentityEntity() {
+		}
+
+		IdentityEntity(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that batches of entities whose proxies are all initialized grow
+ */
+public class AdaptiveBatchFetchTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 10;
+
+	private final SelectCountingConnectionProvider connectionProvider = new SelectCountingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( BatchEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE, "8" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testBatchesGrowWhileTheirEntitiesAreUsed() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+						session.save( new BatchEntity( i, "entity " + i ) );
+					}
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<BatchEntity> proxies = new ArrayList<>();
+					for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+						proxies.add( session.load( BatchEntity.class, i ) );
+					}
+
+					connectionProvider.selects.set( 0 );
+					for ( BatchEntity proxy : proxies ) {
+						Hibernate.initialize( proxy );
+						assertThat( proxy.getName(), is( "entity " + proxy.getId() ) );
+					}
+
+					// batches of 2 (mapped), 4 and 8 entities, the last holding the 4 remaining ones
+					assertThat( connectionProvider.selects.get(), is( 3 ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from BatchEntity e" ).list().forEach( session::delete )
+		);
+	}
+
+	public static class SelectCountingConnectionProvider extends ConnectionProviderDelegate {
+		private final AtomicInteger selects = new AtomicInteger();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class[] { Connection.class },
+					(proxy, method, args) -> {
+						if ( "prepareStatement".equals( method.getName() )
+								&& ( (String) args[0] ).toLowerCase( Locale.ROOT ).startsWith( "select" ) ) {
+							selects.incrementAndGet();
+						}
+						if ( "unwrap".equals( method.getName() ) && args[0] == Connection.class ) {
+							return connection;
+						}
+						try {
+							return method.invoke( connection, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connection.unwrap( Connection.class ) );
+		}
+	}
+
+	@Entity(name = "BatchEntity")
+	@BatchSize(size = 2)
+	public static class BatchEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		BatchEntity() {
+		}
+
+		BatchEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import org.hibernate.loader.internal.AdaptiveBatchLoadSizingStrategy;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdaptiveBatchLoadSizingStrategyTest extends BaseUnitTest {
+	@Test
+	public void testUsedBatchesGrowUpToTheMaximum() {
+		final AdaptiveBatchLoadSizingStrategy strategy = new AdaptiveBatchLoadSizingStrategy(
+				(numberOfKeyColumns, numberOfKeys) -> 50,
+				16
+		);
+
+		assertThat( strategy.determineBatchSize( "Entity", 4 ), is( 4 ) );
+		prefetch( strategy, "Entity", 3, 3 );
+		assertThat( strategy.determineBatchSize( "Entity", 4 ), is( 8 ) );
+		prefetch( strategy, "Entity", 7, 6 );
+		assertThat( strategy.determineBatchSize( "Entity", 4 ), is( 16 ) );
+		prefetch( strategy, "Entity", 15, 15 );
+		assertThat( strategy.determineBatchSize( "Entity", 4 ), is( 16 ) );
+
+		assertThat( strategy.determineOptimalBatchLoadSize( 1, 100 ), is( 50 ) );
+	}
+
+	@Test
+	public void testUnusedBatchesShrink() {
+		final AdaptiveBatchLoadSizingStrategy strategy = new AdaptiveBatchLoadSizingStrategy(
+				(numberOfKeyColumns, numberOfKeys) -> numberOfKeys,
+				32
+		);
+
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 8 ) );
+		prefetch( strategy, "Entity", 7, 1 );
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 4 ) );
+		// a moderate hit ratio keeps the size
+		prefetch( strategy, "Entity", 3, 1 );
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 4 ) );
+		prefetch( strategy, "Entity", 3, 0 );
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 2 ) );
+		prefetch( strategy, "Entity", 1, 0 );
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 2 ) );
+
+		// nothing prefetched since, e.g. the queue held no other key
+		assertThat( strategy.determineBatchSize( "Entity", 8 ), is( 2 ) );
+	}
+
+	@Test
+	public void testEntitiesAreSizedIndependently() {
+		final AdaptiveBatchLoadSizingStrategy strategy = new AdaptiveBatchLoadSizingStrategy(
+				(numberOfKeyColumns, numberOfKeys) -> numberOfKeys,
+				32
+		);
+
+		assertThat( strategy.determineBatchSize( "Order", 4 ), is( 4 ) );
+		assertThat( strategy.determineBatchSize( "Customer", 10 ), is( 10 ) );
+		prefetch( strategy, "Order", 3, 3 );
+		prefetch( strategy, "Customer", 9, 0 );
+		assertThat( strategy.determineBatchSize( "Order", 4 ), is( 8 ) );
+		assertThat( strategy.determineBatchSize( "Customer", 10 ), is( 5 ) );
+
+		// batch loading disabled for the entity
+		assertThat( strategy.determineBatchSize( "Item", 1 ), is( 1 ) );
+	}
+
+	private static void prefetch(
+			AdaptiveBatchLoadSizingStrategy strategy,
+			String entityName,
+			int numberOfEntities,
+			int numberOfUsedEntities) {
+		strategy.entitiesPrefetched( entityName, numberOfEntities );
+		for ( int i = 0; i < numberOfUsedEntities; i++ ) {
+			strategy.prefetchedEntityUsed( entityName );
+		}
+	}
+}
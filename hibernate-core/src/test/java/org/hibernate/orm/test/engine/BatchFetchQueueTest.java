@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.CacheMode;
+import org.hibernate.EntityMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.model.domain.spi.EntityHierarchy;
+import org.hibernate.metamodel.model.domain.spi.EntityIdentifier;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.orm.test.BaseUnitTest;
+import org.hibernate.type.descriptor.java.internal.IntegerJavaDescriptor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the entity batches skip the entities cached in the second-level cache
+ */
+public class BatchFetchQueueTest extends BaseUnitTest {
+	private final Set<Object> cachedIds = new HashSet<>();
+	private final List<List<Object>> cacheLookups = new ArrayList<>();
+
+	private EntityTypeDescriptor descriptor;
+	private BatchFetchQueue queue;
+
+	@BeforeEach
+	public void setUp() {
+		cachedIds.clear();
+		cacheLookups.clear();
+
+		final EntityDataAccess cacheAccess = mock( EntityDataAccess.class );
+		when( cacheAccess.generateCacheKey( any(), any(), any(), any() ) ).thenAnswer(
+				invocation -> "cached-" + invocation.getArgument( 0 )
+		);
+		when( cacheAccess.getAll( any(), anyCollection() ) ).thenAnswer(
+				invocation -> {
+					final Collection<?> cacheKeys = invocation.getArgument( 1 );
+					cacheLookups.add( new ArrayList<>( cacheKeys ) );
+					final Map<Object,Object> cached = new HashMap<>();
+					for ( Object cacheKey : cacheKeys ) {
+						if ( cachedIds.contains( cacheKey ) ) {
+							cached.put( cacheKey, "state" );
+						}
+					}
+					return cached;
+				}
+		);
+
+		final EntityIdentifier identifier = mock( EntityIdentifier.class );
+		doReturn( IntegerJavaDescriptor.INSTANCE ).when( identifier ).getJavaTypeDescriptor();
+
+		descriptor = mock( EntityTypeDescriptor.class );
+		final EntityHierarchy hierarchy = mock( EntityHierarchy.class );
+		when( descriptor.getEntityName() ).thenReturn( "Order" );
+		when( descriptor.isBatchLoadable() ).thenReturn( true );
+		when( descriptor.canReadFromCache() ).thenReturn( true );
+		when( descriptor.getHierarchy() ).thenReturn( hierarchy );
+		doReturn( descriptor ).when( hierarchy ).getRootEntityType();
+		doReturn( identifier ).when( hierarchy ).getIdentifierDescriptor();
+		when( hierarchy.getEntityCacheAccess() ).thenReturn( cacheAccess );
+
+		final SessionFactoryImplementor factory = mock( SessionFactoryImplementor.class );
+		when( factory.getSessionFactoryOptions() ).thenReturn( mock( SessionFactoryOptions.class ) );
+
+		final SharedSessionContractImplementor session = mock( SharedSessionContractImplementor.class );
+		when( session.getFactory() ).thenReturn( factory );
+		when( session.getCacheMode() ).thenReturn( CacheMode.NORMAL );
+		when( session.getEventListenerManager() ).thenReturn( mock( SessionEventListenerManager.class ) );
+		when( session.generateEntityKey( any(), any() ) ).thenAnswer(
+				invocation -> new EntityKey( invocation.getArgument( 0 ), invocation.getArgument( 1 ) )
+		);
+
+		final PersistenceContext context = mock( PersistenceContext.class );
+		when( context.getSession() ).thenReturn( session );
+		queue = new BatchFetchQueue( context );
+		for ( int id = 1; id <= 10; id++ ) {
+			queue.addBatchLoadableEntityKey( new EntityKey( id, descriptor ) );
+		}
+	}
+
+	@Test
+	public void testCachedEntitiesAreReplacedByFurtherCandidates() {
+		cache( 2, 3, 4, 5 );
+
+		final Object[] batch = queue.getEntityBatch( descriptor, 1, 4, EntityMode.POJO );
+
+		assertThat( Arrays.asList( batch ), is( Arrays.<Object>asList( 1, 6, 7, 8 ) ) );
+		// each candidate is looked up once, the later lookups resuming after the earlier ones
+		assertThat(
+				cacheLookups,
+				is(
+						Arrays.asList(
+								Arrays.<Object>asList( "cached-2", "cached-3", "cached-4" ),
+								Arrays.<Object>asList( "cached-5", "cached-6", "cached-7" ),
+								Arrays.<Object>asList( "cached-8" )
+						)
+				)
+		);
+	}
+
+	@Test
+	public void testCollectingStopsOnceAllCandidatesWereChecked() {
+		cache( 1, 2, 3, 4, 5, 6, 7, 8, 10 );
+
+		final Object[] batch = queue.getEntityBatch( descriptor, 5, 3, EntityMode.POJO );
+
+		assertThat( Arrays.asList( batch ), is( Arrays.<Object>asList( 5, 9, null ) ) );
+		// the nine other keys are each looked up once
+		assertThat( cacheLookups.size(), is( 7 ) );
+		assertThat( cacheLookups.stream().mapToInt( List::size ).sum(), is( 9 ) );
+	}
+
+	private void cache(Integer... ids) {
+		for ( Integer id : ids ) {
+			cachedIds.add( "cached-" + id );
+		}
+	}
+}
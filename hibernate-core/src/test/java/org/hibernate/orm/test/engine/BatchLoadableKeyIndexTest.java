@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.engine.internal.BatchLoadableKeyIndex;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BatchLoadableKeyIndexTest extends BaseUnitTest {
+	@Test
+	public void testCollectAroundKey() {
+		final BatchLoadableKeyIndex<Integer,Void> index = index( 1, 2, 3, 4, 5, 6, 7 );
+
+		assertThat( collect( index, 5, 4 ), is( Arrays.<Object>asList( 5, 6, 7, 4 ) ) );
+		assertThat( collect( index, 1, 3 ), is( Arrays.<Object>asList( 1, 2, 3 ) ) );
+		assertThat( collect( index, 7, 4 ), is( Arrays.<Object>asList( 7, 6, 5, 4 ) ) );
+
+		// not registered : the most recently registered keys
+		assertThat( collect( index, 10, 3 ), is( Arrays.<Object>asList( 10, 7, 6 ) ) );
+
+		// more room than keys
+		assertThat( collect( index, 4, 9 ), is( Arrays.<Object>asList( 4, 5, 6, 7, 3, 2, 1, null, null ) ) );
+	}
+
+	@Test
+	public void testRemoveAndSkip() {
+		final BatchLoadableKeyIndex<Integer,Void> index = index( 1, 2, 3, 4, 5, 6, 7 );
+		index.remove( 6 );
+		index.remove( 1 );
+		index.remove( 7 );
+		index.remove( 42 );
+
+		assertThat( index.size(), is( 4 ) );
+		assertThat( index.contains( 6 ), is( false ) );
+		assertThat( collect( index, 3, 5 ), is( Arrays.<Object>asList( 3, 4, 5, 2, null ) ) );
+
+		// re-registering keeps the position
+		index.add( 3, null );
+		assertThat( collect( index, 2, 4 ), is( Arrays.<Object>asList( 2, 3, 4, 5 ) ) );
+
+		final Object[] into = new Object[4];
+		into[0] = 2;
+		final int count = index.collectAround( 2, into, 1, (key, value) -> key % 2 == 0 ? null : key );
+		assertThat( count, is( 3 ) );
+		assertThat( Arrays.asList( into ), is( Arrays.<Object>asList( 2, 3, 5, null ) ) );
+	}
+
+	@Test
+	public void testAnchors() {
+		final BatchLoadableKeyIndex<String,String> index = new BatchLoadableKeyIndex<>();
+		index.add( "a", 1, "first" );
+		index.add( "b", 2, "second" );
+		index.add( "c", 3, "third" );
+
+		final Object[] into = new Object[3];
+		into[0] = "anchor";
+		index.collectAround( 2, into, 1, (key, value) -> value );
+		assertThat( Arrays.asList( into ), is( Arrays.<Object>asList( "anchor", "third", "first" ) ) );
+
+		index.remove( "b" );
+		index.collectAround( 2, into, 1, (key, value) -> key );
+		assertThat( Arrays.asList( into ), is( Arrays.<Object>asList( "anchor", "c", "a" ) ) );
+	}
+
+	@Test
+	public void testCursorResumes() {
+		final BatchLoadableKeyIndex<Integer,Void> index = index( 1, 2, 3, 4, 5, 6, 7 );
+		final BatchLoadableKeyIndex.Cursor<Integer,Void> cursor = index.cursorAround( 5 );
+
+		final Object[] into = new Object[2];
+		assertThat( cursor.collect( into, 0, (key, value) -> key ), is( 2 ) );
+		assertThat( Arrays.asList( into ), is( Arrays.<Object>asList( 6, 7 ) ) );
+		assertThat( cursor.collect( into, 0, (key, value) -> key ), is( 2 ) );
+		assertThat( Arrays.asList( into ), is( Arrays.<Object>asList( 4, 3 ) ) );
+
+		// a skipped key is walked anyway
+		assertThat( cursor.collect( into, 0, (key, value) -> key == 2 ? null : key ), is( 1 ) );
+		assertThat( into[0], is( 1 ) );
+		assertThat( cursor.collect( into, 0, (key, value) -> key ), is( 0 ) );
+	}
+
+	private static BatchLoadableKeyIndex<Integer,Void> index(Integer... keys) {
+		final BatchLoadableKeyIndex<Integer,Void> index = new BatchLoadableKeyIndex<>();
+		for ( Integer key : keys ) {
+			index.add( key, null );
+		}
+		return index;
+	}
+
+	private static List<Object> collect(BatchLoadableKeyIndex<Integer,Void> index, Integer key, int size) {
+		final Object[] into = new Object[size];
+		into[0] = key;
+		index.collectAround( key, into, 1, (k, v) -> k );
+		return Arrays.asList( into );
+	}
+}
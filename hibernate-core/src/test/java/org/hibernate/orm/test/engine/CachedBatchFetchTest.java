@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that the batches loading proxies leave out the entities found in the
+ * second-level cache, which are then read from the cache
+ */
+public class CachedBatchFetchTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 8;
+
+	private final SelectCountingConnectionProvider connectionProvider = new SelectCountingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( CachedBatchEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		builder.applySetting( AvailableSettings.CACHE_REGION_FACTORY, LocalRegionFactory.class.getName() );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testCachedEntitiesAreLeftOutOfTheBatch() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+						session.save( new CachedBatchEntity( i, "entity " + i ) );
+					}
+				}
+		);
+		// only the entities with an even id stay cached
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i += 2 ) {
+			sessionFactory().getCache().evictEntityData( CachedBatchEntity.class, i );
+		}
+
+		sessionFactory().getStatistics().clear();
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<CachedBatchEntity> proxies = new ArrayList<>();
+					for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+						proxies.add( session.load( CachedBatchEntity.class, i ) );
+					}
+
+					connectionProvider.selects.set( 0 );
+					for ( CachedBatchEntity proxy : proxies ) {
+						Hibernate.initialize( proxy );
+						assertThat( proxy.getName(), is( "entity " + proxy.getId() ) );
+					}
+
+					// the first batch holds the 4 uncached entities, the others are read from the cache
+					assertThat( connectionProvider.selects.get(), is( 1 ) );
+				}
+		);
+
+		assertThat( sessionFactory().getStatistics().getSecondLevelCacheHitCount(), is( (long) NUMBER_OF_ENTITIES / 2 ) );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from CachedBatchEntity e" ).list().forEach( session::delete )
+		);
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	public static class SelectCountingConnectionProvider extends ConnectionProviderDelegate {
+		private final AtomicInteger selects = new AtomicInteger();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class[] { Connection.class },
+					(proxy, method, args) -> {
+						if ( "prepareStatement".equals( method.getName() )
+								&& ( (String) args[0] ).toLowerCase( Locale.ROOT ).startsWith( "select" ) ) {
+							selects.incrementAndGet();
+						}
+						if ( "unwrap".equals( method.getName() ) && args[0] == Connection.class ) {
+							return connection;
+						}
+						try {
+							return method.invoke( connection, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connection.unwrap( Connection.class ) );
+		}
+	}
+
+	@Entity(name = "CachedBatchEntity")
+	@BatchSize(size = 4)
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class CachedBatchEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		CachedBatchEntity() {
+		}
+
+		CachedBatchEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+import org.hibernate.engine.internal.IdentifierKeyedMap;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IdentifierKeyedMapTest extends BaseUnitTest {
+	@Test
+	public void testBehavesLikeHashMap() {
+		final IdentifierKeyedMap<Key,Object> map = map();
+		final Map<Key,Object> expected = new HashMap<>();
+
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			final Key key = new Key( "group" + random.nextInt( 3 ), randomId( random ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertThat( map.remove( key ), is( expected.remove( key ) ) );
+			}
+			else {
+				assertThat( map.put( key, i ), is( expected.put( key, i ) ) );
+			}
+			assertThat( map.size(), is( expected.size() ) );
+		}
+
+		assertThat( map, is( expected ) );
+		for ( Key key : expected.keySet() ) {
+			assertThat( map.containsKey( key ), is( true ) );
+			assertThat( map.get( new Key( key.group, key.id ) ), is( expected.get( key ) ) );
+		}
+
+		map.clear();
+		assertThat( map.isEmpty(), is( true ) );
+		assertThat( map.entrySet().iterator().hasNext(), is( false ) );
+	}
+
+	@Test
+	public void testLookupByGroupAndIdentifier() {
+		final IdentifierKeyedMap<Key,Object> map = map();
+		final Key longKey = new Key( "a", 1L );
+		final Key uuidKey = new Key( "a", new UUID( 1L, 2L ) );
+		map.put( longKey, "long" );
+		map.put( uuidKey, "uuid" );
+		map.put( new Key( "a", "1" ), "string" );
+
+		assertThat( IdentifierKeyedMap.isIndexed( 1L ), is( true ) );
+		assertThat( IdentifierKeyedMap.isIndexed( "1" ), is( false ) );
+
+		assertThat( map.get( "a", 1L ), is( "long" ) );
+		assertThat( map.get( "a", new UUID( 1L, 2L ) ), is( "uuid" ) );
+		assertThat( map.get( "b", 1L ), nullValue() );
+
+		// as with the key equality, an Integer identifier is not the same as a Long one
+		assertThat( map.get( "a", 1 ), nullValue() );
+
+		// the key originally put is retained
+		assertThat( map.getKey( "a", 1L ), sameInstance( longKey ) );
+		map.put( new Key( "a", 1L ), "long again" );
+		assertThat( map.getKey( "a", 1L ), sameInstance( longKey ) );
+		assertThat( map.get( "a", 1L ), is( "long again" ) );
+
+		assertThat( map.get( new Key( "a", "1" ) ), is( "string" ) );
+		assertThat( map.size(), is( 3 ) );
+	}
+
+	private static Object randomId(Random random) {
+		switch ( random.nextInt( 4 ) ) {
+			case 0:
+				return (long) random.nextInt( 2_000 );
+			case 1:
+				return random.nextInt( 2_000 );
+			case 2:
+				return new UUID( random.nextInt( 50 ), random.nextInt( 50 ) );
+			default:
+				return String.valueOf( random.nextInt( 2_000 ) );
+		}
+	}
+
+	private static IdentifierKeyedMap<Key,Object> map() {
+		return new IdentifierKeyedMap<>(
+				Key.class,
+				new IdentifierKeyedMap.KeyResolver<Key>() {
+					@Override
+					public Object getGroup(Key key) {
+						return key.group;
+					}
+
+					@Override
+					public Object getIdentifier(Key key) {
+						return key.id;
+					}
+				}
+		);
+	}
+
+	private static class Key {
+		private final String group;
+		private final Object id;
+
+		private Key(String group, Object id) {
+			this.group = group;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return group.equals( key.group ) && id.equals( key.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( group, id );
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.KeyedBatches;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KeyedBatchesTest extends BaseUnitTest {
+	private static final BatchKey PARENT = key( "Parent#INSERT", Collections.emptySet() );
+	private static final BatchKey CHILD = key( "Child#INSERT", Collections.singleton( "Parent#INSERT" ) );
+	private static final BatchKey OTHER = key( "Other#INSERT", null );
+	private static final BatchKey ANOTHER = key( "Another#INSERT", null );
+
+	private final List<String> executed = new ArrayList<>();
+
+	@Test
+	public void testInterleavedStatementsAreBatchedTogether() {
+		final KeyedBatches batches = batches();
+		for ( int i = 0; i < 2; i++ ) {
+			add( batches, PARENT, "parent" + i );
+			add( batches, CHILD, "child" + i );
+		}
+		assertThat( executed.isEmpty(), is( true ) );
+
+		batches.execute();
+		assertThat(
+				executed,
+				is( Arrays.asList( "parent0,parent1", "child0,child1" ) )
+		);
+		assertThat( batches.isEmpty(), is( true ) );
+	}
+
+	@Test
+	public void testBatchIsMovedBehindItsDependencies() {
+		final KeyedBatches batches = batches();
+		add( batches, CHILD, "orphan" );
+		add( batches, PARENT, "parent" );
+		add( batches, CHILD, "child" );
+
+		batches.execute();
+		assertThat( executed, is( Arrays.asList( "parent", "orphan,child" ) ) );
+	}
+
+	@Test
+	public void testBatchesWithUnknownDependenciesKeepTheStatementOrder() {
+		final KeyedBatches batches = batches();
+		add( batches, OTHER, "other0" );
+		add( batches, ANOTHER, "another0" );
+		add( batches, OTHER, "other1" );
+		assertThat( executed, is( Arrays.asList( "other0", "another0" ) ) );
+
+		batches.execute();
+		assertThat( executed, is( Arrays.asList( "other0", "another0", "other1" ) ) );
+	}
+
+	@Test
+	public void testPrecedingBatchesExecuteBeforeImplicitExecution() {
+		final KeyedBatches batches = batches();
+		add( batches, PARENT, "parent0" );
+		add( batches, CHILD, "child0" );
+		add( batches, PARENT, "parent1" );
+		add( batches, CHILD, "child1" );
+		add( batches, CHILD, "child2" );
+		assertThat( executed, is( Arrays.asList( "parent0,parent1", "child0,child1,child2" ) ) );
+	}
+
+	private void add(KeyedBatches batches, BatchKey key, String statement) {
+		( (RecordingBatch) batches.getBatch( key ) ).add( statement );
+	}
+
+	private KeyedBatches batches() {
+		return new KeyedBatches( null, (key, jdbcCoordinator) -> new RecordingBatch( key ) );
+	}
+
+	private static BatchKey key(String comparison, Set<String> dependencies) {
+		return new BasicBatchKey( comparison, Expectations.BASIC, dependencies );
+	}
+
+	/**
+	 * A batch recording its statements, and executing implicitly once it holds 3
+	 */
+	private class RecordingBatch implements Batch {
+		private final BatchKey key;
+		private final List<String> statements = new ArrayList<>();
+		private final List<BatchObserver> observers = new ArrayList<>();
+
+		private RecordingBatch(BatchKey key) {
+			this.key = key;
+		}
+
+		private void add(String statement) {
+			statements.add( statement );
+			if ( statements.size() == 3 ) {
+				observers.forEach( BatchObserver::batchImplicitlyExecuted );
+				execute();
+			}
+		}
+
+		@Override
+		public BatchKey getKey() {
+			return key;
+		}
+
+		@Override
+		public void addObserver(BatchObserver observer) {
+			observers.add( observer );
+		}
+
+		@Override
+		public PreparedStatement getBatchStatement(String sql, boolean callable) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void addToBatch() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void execute() {
+			if ( !statements.isEmpty() ) {
+				executed.add( String.join( ",", statements ) );
+				statements.clear();
+			}
+		}
+
+		@Override
+		public void release() {
+			statements.clear();
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that interleaved inserts of parents and children are batched per table, the
+ * batches executing in the order required by the foreign key between them
+ */
+public class KeyedBatchingTest extends SessionFactoryBasedFunctionalTest {
+	private final InsertRecordingConnectionProvider connectionProvider = new InsertRecordingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( BatchParent.class );
+		metadataSources.addAnnotatedClass( BatchChild.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.KEYED_BATCHES, "true" );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testInterleavedInsertsAreBatchedPerTable() {
+		connectionProvider.inserts.clear();
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						final BatchParent parent = new BatchParent( i );
+						session.save( parent );
+						session.save( new BatchChild( i, parent ) );
+					}
+				}
+		);
+
+		assertThat( connectionProvider.inserts.size(), is( 2 ) );
+		assertThat( connectionProvider.inserts.get( 0 ), containsString( "batchparent" ) );
+		assertThat( connectionProvider.inserts.get( 1 ), containsString( "batchchild" ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						assertThat( session.get( BatchChild.class, i ).getParent().getId(), is( i ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testChildBatchIsExecutedAfterTheParentBatchOpenedAfterIt() {
+		sessionFactoryScope().inTransaction(
+				session -> session.save( new BatchParent( 0 ) )
+		);
+
+		connectionProvider.inserts.clear();
+		sessionFactoryScope().inTransaction(
+				session -> {
+					// the child batch is opened first, the second child requires the parent batch
+					// to execute first, which the foreign key constraint would otherwise reject
+					session.save( new BatchChild( 0, session.get( BatchParent.class, 0 ) ) );
+					final BatchParent parent = new BatchParent( 1 );
+					session.save( parent );
+					session.save( new BatchChild( 1, parent ) );
+				}
+		);
+
+		assertThat( connectionProvider.inserts.size(), is( 2 ) );
+		assertThat( connectionProvider.inserts.get( 0 ), containsString( "batchchild" ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( session.get( BatchChild.class, 1 ).getParent().getId(), is( 1 ) )
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "from BatchChild e" ).list().forEach( session::delete );
+					session.createQuery( "from BatchParent e" ).list().forEach( session::delete );
+				}
+		);
+	}
+
+	public static class InsertRecordingConnectionProvider extends ConnectionProviderDelegate {
+		private final List<String> inserts = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class[] { Connection.class },
+					(proxy, method, args) -> {
+						if ( "prepareStatement".equals( method.getName() ) ) {
+							final String sql = ( (String) args[0] ).toLowerCase( Locale.ROOT );
+							if ( sql.startsWith( "insert" ) ) {
+								inserts.add( sql );
+							}
+						}
+						if ( "unwrap".equals( method.getName() ) && args[0] == Connection.class ) {
+							return connection;
+						}
+						try {
+							return method.invoke( connection, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connection.unwrap( Connection.class ) );
+		}
+	}
+
+	@Entity(name = "BatchParent")
+	public static class BatchParent {
+		@Id
+		private Integer id;
+
+		BatchParent() {
+		}
+
+		BatchParent(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "BatchChild")
+	public static class BatchChild {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private BatchParent parent;
+
+		BatchChild() {
+		}
+
+		BatchChild(Integer id, BatchParent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public BatchParent getParent() {
+			return parent;
+		}
+	}
+}
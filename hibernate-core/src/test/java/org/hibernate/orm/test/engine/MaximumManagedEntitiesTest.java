@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.Calendar;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MaximumManagedEntitiesTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 300;
+	private static final int MAXIMUM_MANAGED_ENTITIES = 100;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.MAX_MANAGED_ENTITIES, String.valueOf( MAXIMUM_MANAGED_ENTITIES ) );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testCleanEntitiesAreEvicted() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.get( SimpleEntity.class, i );
+						final int managed = session.getPersistenceContext().getNumberOfManagedEntities();
+						assertThat( managed <= MAXIMUM_MANAGED_ENTITIES + 1, is( true ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testChangedEntitiesAreKept() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final SimpleEntity first = session.get( SimpleEntity.class, 0 );
+					first.setSomeString( "changed" );
+
+					// recently accessed, so it is evicted last
+					SimpleEntity second = session.get( SimpleEntity.class, 1 );
+					for ( int i = 2; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.get( SimpleEntity.class, i );
+						if ( i % 50 == 0 ) {
+							second = session.get( SimpleEntity.class, 1 );
+						}
+					}
+
+					assertThat( session.contains( first ), is( true ) );
+					assertThat( session.contains( second ), is( true ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( session.get( SimpleEntity.class, 0 ).getSomeString(), is( "changed" ) )
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.save(
+								new SimpleEntity(
+										i,
+										Calendar.getInstance().getTime(),
+										null,
+										i,
+										(long) i,
+										"entity " + i
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
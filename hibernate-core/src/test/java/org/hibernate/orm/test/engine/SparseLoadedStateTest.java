@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.internal.SparseLoadedStateEntityEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.tracking.Tracked;
+import org.hibernate.orm.test.support.domains.tracking.TrackedEntity;
+import org.hibernate.orm.test.support.util.EnhancingClassLoader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that the loaded state is recorded by the setters of entities
+ * actually enhanced for inline dirty tracking.
+ */
+public class SparseLoadedStateTest extends SessionFactoryBasedFunctionalTest {
+	private final EnhancingClassLoader classLoader = new EnhancingClassLoader(
+			Environment.getBytecodeProvider(),
+			TrackedEntity.class
+	);
+
+	@Override
+	protected void applyBootstrapSettings(BootstrapServiceRegistryBuilder builder) {
+		super.applyBootstrapSettings( builder );
+		builder.applyClassLoader( classLoader );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( classLoader.enhance( TrackedEntity.class ) );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.SPARSE_LOADED_STATE, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testLoadedValuesOfChangedAttributesAreRecorded() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final Tracked entity = getTrackedEntity( session, 1 );
+					assertThat( entity, instanceOf( SelfDirtinessTracker.class ) );
+					final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
+					assertThat( entry, instanceOf( SparseLoadedStateEntityEntry.class ) );
+					assertThat( entry.getLoadedValue( "name" ), is( "entity 1" ) );
+
+					entity.setName( "changed" );
+					entity.setName( "changed again" );
+					entity.setDescription( null );
+					assertThat( entry.getLoadedValue( "name" ), is( "entity 1" ) );
+					assertThat( entry.getLoadedValue( "description" ), is( "description 1" ) );
+
+					session.flush();
+					assertThat( entry.getLoadedValue( "name" ), is( "changed again" ) );
+					assertThat( entry.getLoadedValue( "description" ), nullValue() );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final Tracked entity = getTrackedEntity( session, 1 );
+					assertThat( entity.getName(), is( "changed again" ) );
+					assertThat( entity.getDescription(), nullValue() );
+				}
+		);
+	}
+
+	@Test
+	public void testReadOnlyEntityHasNoLoadedState() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final Tracked entity = getTrackedEntity( session, 2 );
+					session.setReadOnly( entity, true );
+					final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
+					assertThat( entry.getLoadedState(), nullValue() );
+
+					session.setReadOnly( entity, false );
+					entity.setName( "changed" );
+					assertThat( entry.getLoadedValue( "name" ), is( "entity 2" ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( getTrackedEntity( session, 2 ).getName(), is( "changed" ) )
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= 2; i++ ) {
+						session.save( TrackedEntity.create( classLoader, i, "entity " + i, "description " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from TrackedEntity e" )
+						.list()
+						.forEach( entity -> session.delete( entity ) )
+		);
+	}
+
+	private static Tracked getTrackedEntity(SessionImplementor session, Integer id) {
+		return (Tracked) session.get( "TrackedEntity", id );
+	}
+}
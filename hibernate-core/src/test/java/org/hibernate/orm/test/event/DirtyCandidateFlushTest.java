@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.event;
+
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+import org.hibernate.orm.test.support.domains.tracking.Tracked;
+import org.hibernate.orm.test.support.domains.tracking.TrackedEntity;
+import org.hibernate.orm.test.support.util.EnhancingClassLoader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that the candidates are registered by the change notifications of
+ * entities actually enhanced for inline dirty tracking.
+ */
+public class DirtyCandidateFlushTest extends SessionFactoryBasedFunctionalTest {
+	private final EnhancingClassLoader classLoader = new EnhancingClassLoader( bytecodeProvider(), TrackedEntity.class );
+
+	protected BytecodeProvider bytecodeProvider() {
+		return Environment.getBytecodeProvider();
+	}
+
+	@Override
+	protected void applyBootstrapSettings(BootstrapServiceRegistryBuilder builder) {
+		super.applyBootstrapSettings( builder );
+		builder.applyClassLoader( classLoader );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+		metadataSources.addAnnotatedClass( classLoader.enhance( TrackedEntity.class ) );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.FLUSH_DIRTY_CANDIDATES_ONLY, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testOnlyChangedTrackingEntitiesAreVisited() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Tracked> entities = listTrackedEntities( session );
+					assertThat( entities.size(), is( 3 ) );
+					assertThat( entities.get( 0 ), instanceOf( SelfDirtinessTracker.class ) );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 0 ) );
+
+					entities.get( 1 ).setName( "changed" );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 1 ) );
+
+					session.flush();
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 0 ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Tracked> entities = listTrackedEntities( session );
+					assertThat( entities.get( 0 ).getName(), is( "entity 1" ) );
+					assertThat( entities.get( 1 ).getName(), is( "changed" ) );
+					assertThat( entities.get( 2 ).getName(), is( "entity 3" ) );
+
+					// the collections of the entities skipped by the flush must not be dereferenced
+					for ( Tracked entity : entities ) {
+						assertThat( entity.getTags().size(), is( 2 ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testSettingTheSameValueDoesNotMakeACandidate() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final Tracked entity = getTrackedEntity( session, 1 );
+					entity.setName( "entity 1" );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionChangeMakesOwnerACandidate() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final Tracked entity = getTrackedEntity( session, 1 );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 0 ) );
+
+					entity.getTags().add( "third" );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 1 ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( getTrackedEntity( session, 1 ).getTags().size(), is( 3 ) )
+		);
+	}
+
+	@Test
+	public void testNonTrackingEntitiesAreAlwaysVisited() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final SimpleEntity entity = session.get( SimpleEntity.class, 1 );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 1 ) );
+
+					entity.setSomeString( "changed" );
+					session.flush();
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 1 ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( session.get( SimpleEntity.class, 1 ).getSomeString(), is( "changed" ) )
+		);
+	}
+
+	@Test
+	public void testDeletedTrackingEntityIsACandidate() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.delete( getTrackedEntity( session, 3 ) );
+					assertThat( session.getPersistenceContext().reentrantSafeDirtyCandidates().length, is( 1 ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( listTrackedEntities( session ).size(), is( 2 ) )
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Tracked entity = TrackedEntity.create( classLoader, i, "entity " + i, null );
+						entity.getTags().add( "first" );
+						entity.getTags().add( "second" );
+						session.save( entity );
+					}
+					session.save(
+							new SimpleEntity(
+									1,
+									Calendar.getInstance().getTime(),
+									null,
+									Integer.MAX_VALUE,
+									Long.MAX_VALUE,
+									"a"
+							)
+					);
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "from TrackedEntity e" )
+							.list()
+							.forEach( entity -> session.delete( entity ) );
+					session.createQuery( "from SimpleEntity e" )
+							.list()
+							.forEach( entity -> session.delete( entity ) );
+				}
+		);
+	}
+
+	private static Tracked getTrackedEntity(SessionImplementor session, Integer id) {
+		return (Tracked) session.get( "TrackedEntity", id );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Tracked> listTrackedEntities(SessionImplementor session) {
+		return session.createQuery( "select e from TrackedEntity e order by e.id" ).list();
+	}
+}
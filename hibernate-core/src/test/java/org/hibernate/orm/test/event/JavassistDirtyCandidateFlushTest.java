@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.event;
+
+import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+
+/**
+ * {@link DirtyCandidateFlushTest} against entities enhanced by Javassist
+ */
+public class JavassistDirtyCandidateFlushTest extends DirtyCandidateFlushTest {
+	@Override
+	protected BytecodeProvider bytecodeProvider() {
+		return new BytecodeProviderImpl();
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.event;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ParallelDirtyCheckTest extends SessionFactoryBasedFunctionalTest {
+	private static final int NUMBER_OF_ENTITIES = 500;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+		builder.applySetting( AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, "100" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testOnlyDirtyEntitiesAreUpdated() {
+		sessionFactory().getStatistics().clear();
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> entities = session.createQuery(
+							"select e from SimpleEntity e order by e.id",
+							SimpleEntity.class
+					).list();
+					assertThat( entities.size(), is( NUMBER_OF_ENTITIES ) );
+
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i += 50 ) {
+						entities.get( i ).setSomeString( "changed " + i );
+					}
+				}
+		);
+
+		assertThat( sessionFactory().getStatistics().getEntityUpdateCount(), is( (long) NUMBER_OF_ENTITIES / 50 ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> entities = session.createQuery(
+							"select e from SimpleEntity e order by e.id",
+							SimpleEntity.class
+					).list();
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						final String expected = i % 50 == 0 ? "changed " + i : "entity " + i;
+						assertThat( entities.get( i ).getSomeString(), is( expected ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testDeletedEntitiesAreStillHandled() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> entities = session.createQuery(
+							"select e from SimpleEntity e order by e.id",
+							SimpleEntity.class
+					).list();
+					session.delete( entities.get( 0 ) );
+					entities.get( 1 ).setSomeInteger( -1 );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					assertThat( session.get( SimpleEntity.class, 0 ), is( (SimpleEntity) null ) );
+					assertThat( session.get( SimpleEntity.class, 1 ).getSomeInteger(), is( -1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testDirtyCheckingUsesADedicatedPool() {
+		final ForkJoinPool pool = sessionFactory().getParallelDirtyCheckPool();
+		assertThat( pool, notNullValue() );
+		assertThat( pool, not( sameInstance( ForkJoinPool.commonPool() ) ) );
+		assertThat( pool.isShutdown(), is( false ) );
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						session.save(
+								new SimpleEntity(
+										i,
+										Calendar.getInstance().getTime(),
+										null,
+										i,
+										(long) i,
+										"entity " + i
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
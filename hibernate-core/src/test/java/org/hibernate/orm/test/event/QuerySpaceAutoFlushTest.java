@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.event;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that an auto-flush before a query only flushes the entities
+ * stored in the tables the query reads
+ */
+public class QuerySpaceAutoFlushTest extends SessionFactoryBasedFunctionalTest {
+	private final UpdateRecordingConnectionProvider connectionProvider = new UpdateRecordingConnectionProvider();
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( QueriedEntity.class );
+		metadataSources.addAnnotatedClass( OtherEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.FLUSH_AUTO_QUERY_SPACES_ONLY, "true" );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testOnlyTheQueriedTableIsFlushed() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.save( new QueriedEntity( 1, "initial" ) );
+					session.save( new OtherEntity( 1, "initial" ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.get( QueriedEntity.class, 1 ).setName( "changed" );
+					session.get( OtherEntity.class, 1 ).setName( "changed" );
+
+					connectionProvider.updates.clear();
+					final List<QueriedEntity> results = session.createQuery(
+							"select e from QueriedEntity e where e.name = :name",
+							QueriedEntity.class
+					).setParameter( "name", "changed" ).list();
+
+					// the change to the queried entity was flushed, the other one is still pending
+					assertThat( results.size(), is( 1 ) );
+					assertThat( connectionProvider.updates.size(), is( 1 ) );
+					assertThat( connectionProvider.updates.get( 0 ), containsString( "queriedentity" ) );
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> assertThat( session.get( OtherEntity.class, 1 ).getName(), is( "changed" ) )
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "from QueriedEntity e" ).list().forEach( session::delete );
+					session.createQuery( "from OtherEntity e" ).list().forEach( session::delete );
+				}
+		);
+	}
+
+	public static class UpdateRecordingConnectionProvider extends ConnectionProviderDelegate {
+		private final List<String> updates = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class[] { Connection.class },
+					(proxy, method, args) -> {
+						if ( "prepareStatement".equals( method.getName() ) ) {
+							final String sql = ( (String) args[0] ).toLowerCase( Locale.ROOT );
+							if ( sql.startsWith( "update" ) ) {
+								updates.add( sql );
+							}
+						}
+						if ( "unwrap".equals( method.getName() ) && args[0] == Connection.class ) {
+							return connection;
+						}
+						try {
+							return method.invoke( connection, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connection.unwrap( Connection.class ) );
+		}
+	}
+
+	@Entity(name = "QueriedEntity")
+	public static class QueriedEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		QueriedEntity() {
+		}
+
+		QueriedEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "OtherEntity")
+	public static class OtherEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		OtherEntity() {
+		}
+
+		OtherEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
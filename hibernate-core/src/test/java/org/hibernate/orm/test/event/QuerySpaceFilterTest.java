@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.event;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.QuerySpaceFilter;
+import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.metamodel.model.domain.spi.NonIdPersistentAttribute;
+import org.hibernate.metamodel.model.domain.spi.PersistentCollectionDescriptor;
+import org.hibernate.metamodel.model.domain.spi.PluralPersistentAttribute;
+import org.hibernate.orm.test.BaseUnitTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QuerySpaceFilterTest extends BaseUnitTest {
+	private static final Set<String> QUERY_SPACES = new HashSet<>( Arrays.asList( "orders", "order_lines" ) );
+
+	@Test
+	public void testEntitiesOutsideTheQuerySpacesAreSkipped() {
+		final EntityTypeDescriptor order = descriptor( "orders" );
+		final EntityTypeDescriptor customer = descriptor( "customers" );
+
+		final Map.Entry<Object,EntityEntry> order1 = entry( order, Status.MANAGED );
+		final Map.Entry<Object,EntityEntry> customer1 = entry( customer, Status.MANAGED );
+		final Map.Entry<Object,EntityEntry> order2 = entry( order, Status.READ_ONLY );
+		final Map.Entry<Object,EntityEntry> customer2 = entry( customer, Status.READ_ONLY );
+
+		assertThat( filter( order1, customer1, order2, customer2 ), is( Arrays.asList( order1, order2 ) ) );
+
+		// relevance is decided once per descriptor
+		verify( order, times( 1 ) ).getAffectedTableNames();
+		verify( customer, times( 1 ) ).getAffectedTableNames();
+	}
+
+	@Test
+	public void testOwnersOfCollectionsInTheQuerySpacesAreSelected() {
+		final EntityTypeDescriptor customer = descriptor( "customers" );
+		final EntityTypeDescriptor order = descriptor( "purchases" );
+		final PluralPersistentAttribute lines = mock( PluralPersistentAttribute.class );
+		final PersistentCollectionDescriptor linesDescriptor = mock( PersistentCollectionDescriptor.class );
+		when( lines.getPersistentCollectionDescriptor() ).thenReturn( linesDescriptor );
+		when( linesDescriptor.getCollectionSpaces() ).thenReturn( Collections.singleton( "order_lines" ) );
+		when( order.getPersistentAttributes() ).thenReturn( Collections.<NonIdPersistentAttribute>singletonList( lines ) );
+
+		final Map.Entry<Object,EntityEntry> customer1 = entry( customer, Status.MANAGED );
+		final Map.Entry<Object,EntityEntry> order1 = entry( order, Status.MANAGED );
+
+		assertThat( filter( customer1, order1 ), is( Collections.singletonList( order1 ) ) );
+	}
+
+	@Test
+	public void testSavedAndDeletedEntitiesAreAlwaysSelected() {
+		final EntityTypeDescriptor customer = descriptor( "customers" );
+
+		final Map.Entry<Object,EntityEntry> managed = entry( customer, Status.MANAGED );
+		final Map.Entry<Object,EntityEntry> saving = entry( customer, Status.SAVING );
+		final Map.Entry<Object,EntityEntry> deleted = entry( customer, Status.DELETED );
+
+		assertThat( filter( managed, saving, deleted ), is( Arrays.asList( saving, deleted ) ) );
+	}
+
+	@Test
+	public void testEntitiesWithUnknownTablesAreSelected() {
+		final EntityTypeDescriptor unknown = descriptor();
+		final EntityTypeDescriptor customer = descriptor( "customers" );
+
+		final Map.Entry<Object,EntityEntry> unknown1 = entry( unknown, Status.MANAGED );
+		final Map.Entry<Object,EntityEntry> customer1 = entry( customer, Status.MANAGED );
+
+		assertThat( filter( unknown1, customer1 ), is( Collections.singletonList( unknown1 ) ) );
+	}
+
+	@SafeVarargs
+	private static List<Map.Entry<Object,EntityEntry>> filter(Map.Entry<Object,EntityEntry>... entries) {
+		return Arrays.asList( QuerySpaceFilter.filter( entries, QUERY_SPACES ) );
+	}
+
+	private static EntityTypeDescriptor descriptor(String... tableNames) {
+		final EntityTypeDescriptor descriptor = mock( EntityTypeDescriptor.class );
+		when( descriptor.getAffectedTableNames() ).thenReturn( new HashSet<>( Arrays.asList( tableNames ) ) );
+		return descriptor;
+	}
+
+	private static Map.Entry<Object,EntityEntry> entry(EntityTypeDescriptor descriptor, Status status) {
+		final EntityEntry entry = mock( EntityEntry.class );
+		when( entry.getDescriptor() ).thenReturn( descriptor );
+		when( entry.getStatus() ).thenReturn( status );
+		return new AbstractMap.SimpleImmutableEntry<>( new Object(), entry );
+	}
+}
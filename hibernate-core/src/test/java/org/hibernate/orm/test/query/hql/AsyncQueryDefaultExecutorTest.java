@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that asynchronous queries default to an Executor owned by Hibernate
+ */
+public class AsyncQueryDefaultExecutorTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testQueriesRunOnADedicatedExecutor() {
+		final SessionFactoryOptions options = sessionFactory().getSessionFactoryOptions();
+		assertThat( options.isQueryAsyncExecutorOwned(), is( true ) );
+		assertThat( options.getQueryAsyncExecutor(), not( sameInstance( ForkJoinPool.commonPool() ) ) );
+		assertThat( options.getQueryAsyncExecutor(), instanceOf( ExecutorService.class ) );
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List results = session.createQuery( "select o from SimpleEntity o" )
+							.getResultListAsync()
+							.toCompletableFuture()
+							.join();
+					assertThat( results.size(), is( 0 ) );
+				} );
+	}
+}
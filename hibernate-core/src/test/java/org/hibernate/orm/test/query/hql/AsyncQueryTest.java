@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AsyncQueryTest extends SessionFactoryBasedFunctionalTest {
+	private static ExecutorService executor;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		executor = Executors.newSingleThreadExecutor();
+		builder.applySetting( AvailableSettings.QUERY_ASYNC_EXECUTOR, executor );
+	}
+
+	@AfterAll
+	public static void shutdownExecutor() {
+		if ( executor != null ) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testGetResultListAsync() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List results = session.createQuery( "select o from SimpleEntity o" )
+							.getResultListAsync()
+							.toCompletableFuture()
+							.join();
+					assertThat( results.size(), is( 1 ) );
+				} );
+	}
+
+	@Test
+	public void testSessionIsNotUsedConcurrently() {
+		final CountDownLatch executorBlocked = new CountDownLatch( 1 );
+		// keep the single executor thread busy, so that the async query stays pending
+		executor.execute(
+				() -> {
+					try {
+						executorBlocked.await();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final CompletableFuture<List<SimpleEntity>> pending = session.createQuery(
+							"select o from SimpleEntity o",
+							SimpleEntity.class
+					).getResultListAsync().toCompletableFuture();
+					try {
+						assertThrows(
+								IllegalStateException.class,
+								() -> session.createQuery( "select o from SimpleEntity o" ).getResultListAsync()
+						);
+						assertThrows(
+								IllegalStateException.class,
+								() -> session.createQuery( "select o from SimpleEntity o" ).list()
+						);
+					}
+					finally {
+						executorBlocked.countDown();
+					}
+					assertThat( pending.join().size(), is( 1 ) );
+
+					// once completed, the Session can be used again
+					assertThat( session.createQuery( "select o from SimpleEntity o" ).list().size(), is( 1 ) );
+				} );
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> session.save(
+						new SimpleEntity(
+								1,
+								Calendar.getInstance().getTime(),
+								null,
+								Integer.MAX_VALUE,
+								Long.MAX_VALUE,
+								null
+						)
+				)
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.lang.reflect.Proxy;
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.sql.results.internal.domain.basic.BasicResultAssembler;
+import org.hibernate.sql.results.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.SqlSelection;
+import org.hibernate.type.descriptor.java.internal.BooleanJavaDescriptor;
+import org.hibernate.type.descriptor.java.internal.LongJavaDescriptor;
+import org.hibernate.type.descriptor.java.spi.BasicJavaDescriptor;
+import org.hibernate.type.descriptor.sql.spi.AbstractTemplateSqlTypeDescriptor;
+import org.hibernate.type.descriptor.sql.spi.BigIntSqlDescriptor;
+import org.hibernate.type.descriptor.sql.spi.BooleanSqlDescriptor;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Selection of primitive typed (integer, bigint) values, which are read into
+ * the reusable row buffer without boxing
+ */
+public class PrimitiveSelectionTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testSelectPrimitiveValues() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Long> longs = session.createQuery(
+							"select s.someLong from SimpleEntity s order by s.id",
+							Long.class
+					).list();
+					assertThat( longs.size(), is( 3 ) );
+					assertThat( longs.get( 0 ), is( Long.MAX_VALUE ) );
+					assertThat( longs.get( 1 ), is( nullValue() ) );
+					assertThat( longs.get( 2 ), is( 0L ) );
+
+					final List<Integer> integers = session.createQuery(
+							"select s.someInteger from SimpleEntity s order by s.id",
+							Integer.class
+					).list();
+					assertThat( integers.size(), is( 3 ) );
+					assertThat( integers.get( 0 ), is( Integer.MIN_VALUE ) );
+					assertThat( integers.get( 1 ), is( nullValue() ) );
+					assertThat( integers.get( 2 ), is( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testLoadEntitiesWithPrimitiveValues() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> entities = session.createQuery(
+							"select s from SimpleEntity s order by s.id",
+							SimpleEntity.class
+					).list();
+					assertThat( entities.size(), is( 3 ) );
+
+					// the buffer is reused for every row, make sure no values leak between rows
+					assertThat( entities.get( 0 ).getId(), is( 1 ) );
+					assertThat( entities.get( 0 ).getSomeLong(), is( Long.MAX_VALUE ) );
+					assertThat( entities.get( 0 ).getSomeInteger(), is( Integer.MIN_VALUE ) );
+					assertThat( entities.get( 1 ).getId(), is( 2 ) );
+					assertThat( entities.get( 1 ).getSomeLong(), is( nullValue() ) );
+					assertThat( entities.get( 1 ).getSomeInteger(), is( nullValue() ) );
+					assertThat( entities.get( 2 ).getId(), is( 3 ) );
+					assertThat( entities.get( 2 ).getSomeLong(), is( 0L ) );
+					assertThat( entities.get( 2 ).getSomeInteger(), is( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testAssemblerReadsPrimitiveValuesWithoutBoxedAccess() {
+		final TypeConfiguration typeConfiguration = sessionFactory().getTypeConfiguration();
+		final SqlSelection longSelection = selection( BigIntSqlDescriptor.INSTANCE, LongJavaDescriptor.INSTANCE, typeConfiguration );
+		final SqlSelection booleanSelection = selection( BooleanSqlDescriptor.INSTANCE, BooleanJavaDescriptor.INSTANCE, typeConfiguration );
+
+		// fails on any boxed access to the current row
+		final RowProcessingState rowProcessingState = (RowProcessingState) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { RowProcessingState.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "isJdbcValueNull": {
+							return false;
+						}
+						case "getJdbcLongValue": {
+							return Long.MAX_VALUE;
+						}
+						case "getJdbcBooleanValue": {
+							return true;
+						}
+						default: {
+							throw new AssertionError( "Unexpected call to " + method.getName() );
+						}
+					}
+				}
+		);
+
+		assertThat(
+				new BasicResultAssembler( longSelection, null, LongJavaDescriptor.INSTANCE ).assemble( rowProcessingState, null ),
+				is( Long.MAX_VALUE )
+		);
+		assertThat(
+				new BasicResultAssembler( booleanSelection, null, BooleanJavaDescriptor.INSTANCE ).assemble( rowProcessingState, null ),
+				sameInstance( Boolean.TRUE )
+		);
+	}
+
+	private static SqlSelection selection(
+			AbstractTemplateSqlTypeDescriptor sqlDescriptor,
+			BasicJavaDescriptor javaDescriptor,
+			TypeConfiguration typeConfiguration) {
+		return new SqlSelectionImpl(
+				1,
+				0,
+				null,
+				sqlDescriptor.getSqlExpressableType( javaDescriptor, typeConfiguration )
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.save(
+							new SimpleEntity(
+									1,
+									Calendar.getInstance().getTime(),
+									null,
+									Integer.MIN_VALUE,
+									Long.MAX_VALUE,
+									"a"
+							)
+					);
+					session.save(
+							new SimpleEntity(
+									2,
+									Calendar.getInstance().getTime(),
+									null,
+									null,
+									null,
+									"b"
+							)
+					);
+					session.save(
+							new SimpleEntity(
+									3,
+									Calendar.getInstance().getTime(),
+									null,
+									0,
+									0L,
+									"c"
+							)
+					);
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
@@ -44,6 +44,43 @@ public class SimpleLimitTest extends SessionFactoryBasedFunctionalTest {
 				} );
 	}
 
+	@Test
+	public void testMaxResults() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					List results = session.createQuery( "select o from SimpleEntity o order by o.id" )
+							.setMaxResults( 1 )
+							.list();
+					assertThat( results.size(), is( 1 ) );
+					assertThat( ( (SimpleEntity) results.get( 0 ) ).getId(), is( 1 ) );
+				} );
+	}
+
+	@Test
+	public void testFirstResult() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					List results = session.createQuery( "select o from SimpleEntity o order by o.id" )
+							.setFirstResult( 1 )
+							.list();
+					assertThat( results.size(), is( 1 ) );
+					assertThat( ( (SimpleEntity) results.get( 0 ) ).getId(), is( 2 ) );
+				} );
+	}
+
+	@Test
+	public void testFirstAndMaxResults() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					List results = session.createQuery( "select o from SimpleEntity o order by o.id" )
+							.setFirstResult( 1 )
+							.setMaxResults( 5 )
+							.list();
+					assertThat( results.size(), is( 1 ) );
+					assertThat( ( (SimpleEntity) results.get( 0 ) ).getId(), is( 2 ) );
+				} );
+	}
+
 	@BeforeEach
 	public void setUp() {
 		sessionFactoryScope().inTransaction(
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+
+import org.hibernate.testing.junit5.RequiresDialect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that auto-commit, disabled for the duration of a stream, is
+ * restored once the stream is exhausted even if it is never closed.
+ */
+@RequiresDialect(dialectClass = H2Dialect.class, matchSubTypes = true)
+public class StreamingAutoCommitTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.DIALECT, CursorStreamingH2Dialect.class.getName() );
+		builder.applySetting( AvailableSettings.AUTOCOMMIT, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testAutoCommitIsRestoredWhenStreamIsExhausted() {
+		sessionFactoryScope().inSession(
+				session -> {
+					assertThat( session.doReturningWork( Connection::getAutoCommit ), is( true ) );
+
+					final List<Integer> ids = new ArrayList<>();
+					// deliberately not closed
+					session.createQuery( "select o.id from SimpleEntity o order by o.id", Integer.class )
+							.stream()
+							.forEach(
+									id -> {
+										assertThat( session.doReturningWork( Connection::getAutoCommit ), is( false ) );
+										ids.add( id );
+									}
+							);
+
+					assertThat( ids.size(), is( 3 ) );
+					assertThat( session.doReturningWork( Connection::getAutoCommit ), is( true ) );
+				}
+		);
+	}
+
+	@Test
+	public void testAutoCommitIsRestoredWhenConsumerFails() {
+		sessionFactoryScope().inSession(
+				session -> {
+					final RuntimeException failure = new RuntimeException( "expected" );
+					final RuntimeException thrown = assertThrows(
+							RuntimeException.class,
+							() -> session.createQuery( "select o.id from SimpleEntity o order by o.id", Integer.class )
+									.stream()
+									.forEach(
+											id -> {
+												throw failure;
+											}
+									)
+					);
+					assertThat( thrown, is( failure ) );
+
+					assertThat( session.doReturningWork( Connection::getAutoCommit ), is( true ) );
+				}
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.save(
+								new SimpleEntity(
+										i,
+										Calendar.getInstance().getTime(),
+										null,
+										Integer.MAX_VALUE,
+										Long.MAX_VALUE,
+										null
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+
+	public static class CursorStreamingH2Dialect extends H2Dialect {
+		@Override
+		public boolean requiresAutoCommitDisabledForStreaming() {
+			return true;
+		}
+	}
+}
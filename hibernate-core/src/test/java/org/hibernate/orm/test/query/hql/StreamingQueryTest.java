@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+import org.hibernate.query.ResultsPublisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StreamingQueryTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.QUERY_STREAM_DETACH_ENTITIES, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testStreamDetachesEmittedEntities() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> emitted = new ArrayList<>();
+					try ( Stream<SimpleEntity> stream = session.createQuery(
+							"select o from SimpleEntity o order by o.id",
+							SimpleEntity.class
+					).stream() ) {
+						stream.forEach(
+								entity -> {
+									// still managed while being processed
+									assertThat( session.contains( entity ), is( true ) );
+									emitted.forEach(
+											previous -> assertThat( session.contains( previous ), is( false ) )
+									);
+									emitted.add( entity );
+								}
+						);
+					}
+
+					assertThat( emitted.size(), is( 3 ) );
+					emitted.forEach( entity -> assertThat( session.contains( entity ), is( false ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPublisherEmitsOnDemand() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Integer> ids = new ArrayList<>();
+					final RecordingSubscriber subscriber = new RecordingSubscriber( ids );
+
+					session.createQuery( "select o.id from SimpleEntity o order by o.id", Integer.class )
+							.getResultPublisher()
+							.subscribe( subscriber );
+					assertThat( ids.size(), is( 0 ) );
+
+					subscriber.subscription.request( 2 );
+					assertThat( ids.size(), is( 2 ) );
+					assertThat( subscriber.completed, is( false ) );
+
+					subscriber.subscription.request( 5 );
+					assertThat( ids.size(), is( 3 ) );
+					assertThat( subscriber.completed, is( true ) );
+					assertThat( subscriber.error, nullValue() );
+				}
+		);
+	}
+
+	@Test
+	public void testPublisherCancellation() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<Integer> ids = new ArrayList<>();
+					final RecordingSubscriber subscriber = new RecordingSubscriber( ids );
+
+					session.createQuery( "select o.id from SimpleEntity o order by o.id", Integer.class )
+							.getResultPublisher()
+							.subscribe( subscriber );
+
+					subscriber.subscription.request( 1 );
+					subscriber.subscription.cancel();
+					subscriber.subscription.request( 1 );
+
+					assertThat( ids.size(), is( 1 ) );
+					assertThat( subscriber.completed, is( false ) );
+				}
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.save(
+								new SimpleEntity(
+										i,
+										Calendar.getInstance().getTime(),
+										null,
+										Integer.MAX_VALUE,
+										Long.MAX_VALUE,
+										null
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+
+	private static class RecordingSubscriber implements ResultsPublisher.Subscriber<Integer> {
+		private final List<Integer> received;
+
+		private ResultsPublisher.Subscription subscription;
+		private boolean completed;
+		private Throwable error;
+
+		private RecordingSubscriber(List<Integer> received) {
+			this.received = received;
+		}
+
+		@Override
+		public void onSubscribe(ResultsPublisher.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			received.add( item );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer;
+import org.hibernate.query.sqm.produce.internal.hql.HqlLiteralNormalizer.NormalizedHql;
+import org.hibernate.stat.QueryPlanKind;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LiteralParameterizationTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+		builder.applySetting( AvailableSettings.QUERY_PARAMETERIZE_LITERALS, "true" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@Test
+	public void testNormalization() {
+		final NormalizedHql normalized = HqlLiteralNormalizer.normalize(
+				"select e.someString, 'constant' from SimpleEntity e " +
+						"where e.someString = 'first' and e.someInteger > 10 and e.someLong < 20L " +
+						"and substring( e.someString, 1, 3 ) = 'fir' " +
+						"and e.id = case when e.someInteger = 5 then 1 else 2 end " +
+						"group by e.someString having count( e ) > 0 " +
+						"order by e.someString"
+		);
+
+		assertThat(
+				normalized.getQueryString(),
+				is(
+						"select e . someString , 'constant' from SimpleEntity e " +
+								"where e . someString = :_hibernate_literal_0 and e . someInteger > :_hibernate_literal_1 and e . someLong < :_hibernate_literal_2 " +
+								"and substring ( e . someString , 1 , 3 ) = :_hibernate_literal_3 " +
+								"and e . id = case when e . someInteger = 5 then 1 else 2 end " +
+								"group by e . someString having count ( e ) > :_hibernate_literal_4 " +
+								"order by e . someString"
+				)
+		);
+		assertThat( normalized.getLiteralValues().get( "_hibernate_literal_0" ), is( "first" ) );
+		assertThat( normalized.getLiteralValues().get( "_hibernate_literal_1" ), is( 10 ) );
+		assertThat( normalized.getLiteralValues().get( "_hibernate_literal_2" ), is( 20L ) );
+		assertThat( normalized.getLiteralValues().get( "_hibernate_literal_3" ), is( "fir" ) );
+		assertThat( normalized.getLiteralValues().get( "_hibernate_literal_4" ), is( 0 ) );
+
+		assertThat( HqlLiteralNormalizer.normalize( "select e from SimpleEntity e where e.id = ?1" ), nullValue() );
+		assertThat( HqlLiteralNormalizer.normalize( "select e from SimpleEntity e order by e.id" ), nullValue() );
+	}
+
+	@Test
+	public void testLiteralsComparedWithConstantsAreKept() {
+		final NormalizedHql normalized = HqlLiteralNormalizer.normalize(
+				"select e from SimpleEntity e " +
+						"where 1 = 1 and e.someString <> :name and :name <> 'x' and 'a' in ('a', 'b') " +
+						"and e.id in (1, 2) and e.someInteger = 3"
+		);
+
+		assertThat(
+				normalized.getQueryString(),
+				is(
+						"select e from SimpleEntity e " +
+								"where 1 = 1 and e . someString <> :name and :name <> 'x' and 'a' in ( 'a' , 'b' ) " +
+								"and e . id in ( :_hibernate_literal_0 , :_hibernate_literal_1 ) and e . someInteger = :_hibernate_literal_2"
+				)
+		);
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final org.hibernate.query.Query<Integer> query = session.createQuery(
+							"select e.id from SimpleEntity e where 1 = 1 and :name <> 'x' and e.someString = 'first'",
+							Integer.class
+					);
+					assertThat( query.getParameterMetadata().getParameterCount(), is( 1 ) );
+
+					final List<Integer> ids = query.setParameter( "name", "y" ).list();
+					assertThat( ids.size(), is( 1 ) );
+					assertThat( ids.get( 0 ), is( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPlanIsSharedAcrossLiteralValues() {
+		sessionFactory().getStatistics().clear();
+
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<SimpleEntity> first = session.createQuery(
+							"select e from SimpleEntity e where e.someString = 'first'",
+							SimpleEntity.class
+					).list();
+					assertThat( first.size(), is( 1 ) );
+					assertThat( first.get( 0 ).getId(), is( 1 ) );
+
+					final org.hibernate.query.Query<SimpleEntity> query = session.createQuery(
+							"select e from SimpleEntity e where e.someString = 'second'",
+							SimpleEntity.class
+					);
+					assertThat( query.getParameters().isEmpty(), is( true ) );
+					assertThat( query.getParameterMetadata().getParameterCount(), is( 0 ) );
+
+					final List<SimpleEntity> second = query.list();
+					assertThat( second.size(), is( 1 ) );
+					assertThat( second.get( 0 ).getId(), is( 2 ) );
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertThat( statistics.getQueryPlanCacheMissCount( QueryPlanKind.SELECT ), is( 1L ) );
+		assertThat( statistics.getQueryPlanCacheHitCount( QueryPlanKind.SELECT ), is( 1L ) );
+
+		assertThat(
+				sessionFactory().getQueryEngine().getQueryPlanCache().getSqmStatement(
+						"select e from SimpleEntity e where e.someString = 'first'"
+				),
+				nullValue()
+		);
+		assertThat(
+				sessionFactory().getQueryEngine().getQueryPlanCache().getSqmStatement(
+						HqlLiteralNormalizer.normalize( "select e from SimpleEntity e where e.someString = 'first'" )
+								.getQueryString()
+				),
+				notNullValue()
+		);
+	}
+
+	@Test
+	public void testNumericLiterals() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					assertThat(
+							session.createQuery( "select e.id from SimpleEntity e where e.someInteger > 15 and e.someLong < 100L" )
+									.list()
+									.size(),
+							is( 1 )
+					);
+					assertThat(
+							session.createQuery( "select e.id from SimpleEntity e where e.someInteger > 5 and e.someLong < 100L" )
+									.list()
+									.size(),
+							is( 2 )
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testLiteralsOutsidePredicatesAreKept() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					final List<String> strings = session.createQuery(
+							"select substring( e.someString, 1, 3 ) from SimpleEntity e where e.id = 1",
+							String.class
+					).list();
+					assertThat( strings.size(), is( 1 ) );
+					assertThat( strings.get( 0 ), is( "fir" ) );
+				}
+		);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.save(
+							new SimpleEntity(
+									1,
+									Calendar.getInstance().getTime(),
+									null,
+									10,
+									10L,
+									"first"
+							)
+					);
+					session.save(
+							new SimpleEntity(
+									2,
+									Calendar.getInstance().getTime(),
+									null,
+									20,
+									20L,
+									"second"
+							)
+					);
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "from SimpleEntity e" )
+						.list()
+						.forEach( simpleEntity -> session.delete( simpleEntity ) )
+		);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.plan;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.SessionFactoryBasedFunctionalTest;
+import org.hibernate.orm.test.support.domains.gambit.SimpleEntity;
+import org.hibernate.stat.QueryPlanKind;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+
+public class QueryPlanCacheTest extends SessionFactoryBasedFunctionalTest {
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( SimpleEntity.class );
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+		builder.applySetting( AvailableSettings.QUERY_PLAN_CACHE_MAX_WEIGHT, "4" );
+	}
+
+	@Override
+	protected boolean exportSchema() {
+		return true;
+	}
+
+	@BeforeEach
+	public void clearStatistics() {
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testSelectPlanIsReused() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "select e from SimpleEntity e" ).list();
+					session.createQuery( "select e from SimpleEntity e" ).list();
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertThat( statistics.getQueryPlanCacheMissCount( QueryPlanKind.SELECT ), is( 1L ) );
+		assertThat( statistics.getQueryPlanCacheHitCount( QueryPlanKind.SELECT ), is( 1L ) );
+	}
+
+	@Test
+	public void testNonSelectPlanIsReused() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					session.createQuery( "delete from SimpleEntity" ).executeUpdate();
+					session.createQuery( "delete from SimpleEntity" ).executeUpdate();
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertThat( statistics.getQueryPlanCacheMissCount( QueryPlanKind.NON_SELECT ), is( 1L ) );
+		assertThat( statistics.getQueryPlanCacheHitCount( QueryPlanKind.NON_SELECT ), is( 1L ) );
+	}
+
+	@Test
+	public void testNonSelectPlanIsReusedAcrossSessions() {
+		sessionFactoryScope().inTransaction(
+				session -> session.createQuery( "delete from SimpleEntity" ).executeUpdate()
+		);
+		sessionFactoryScope().inTransaction(
+				session -> session.save( new SimpleEntity( 1, null, null, 1, 1L, "entity" ) )
+		);
+		sessionFactoryScope().inTransaction(
+				session -> {
+					assertThat( session.createQuery( "delete from SimpleEntity" ).executeUpdate(), is( 1 ) );
+					assertThat( session.createQuery( "select e from SimpleEntity e" ).list().isEmpty(), is( true ) );
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertThat( statistics.getQueryPlanCacheHitCount( QueryPlanKind.NON_SELECT ), is( 1L ) );
+	}
+
+	@Test
+	public void testPlansAreEvictedByWeight() {
+		sessionFactoryScope().inTransaction(
+				session -> {
+					for ( int i = 0; i < 10; i++ ) {
+						session.createQuery( "select e from SimpleEntity e where e.id = " + i ).list();
+					}
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertThat( statistics.getQueryPlanCacheEvictionCount( QueryPlanKind.SELECT ), greaterThan( 0L ) );
+		assertThat( statistics.getQueryPlanCacheEvictionCount( QueryPlanKind.SQM_STATEMENT ), greaterThan( 0L ) );
+	}
+}
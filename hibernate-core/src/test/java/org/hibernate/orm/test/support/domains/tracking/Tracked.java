@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.support.domains.tracking;
+
+import java.util.Set;
+
+/**
+ * The view tests have of {@link TrackedEntity}.  The enhanced entity class is
+ * defined by an {@link org.hibernate.orm.test.support.util.EnhancingClassLoader},
+ * so tests cannot refer to it directly.
+ */
+public interface Tracked {
+	Integer getId();
+
+	String getName();
+
+	void setName(String name);
+
+	String getDescription();
+
+	void setDescription(String description);
+
+	Set<String> getTags();
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.support.domains.tracking;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.orm.test.support.util.EnhancingClassLoader;
+
+/**
+ * An entity meant to be enhanced for inline dirty tracking
+ */
+@Entity(name = "TrackedEntity")
+public class TrackedEntity implements Tracked {
+	@Id
+	private Integer id;
+	private String name;
+	private String description;
+	@ElementCollection
+	private Set<String> tags = new HashSet<>();
+
+	public TrackedEntity() {
+	}
+
+	public TrackedEntity(Integer id, String name, String description) {
+		this.id = id;
+		this.name = name;
+		this.description = description;
+	}
+
+	/**
+	 * Instantiates the enhanced version of this class
+	 */
+	public static Tracked create(EnhancingClassLoader classLoader, Integer id, String name, String description) {
+		try {
+			return (Tracked) classLoader.enhance( TrackedEntity.class )
+					.getConstructor( Integer.class, String.class, String.class )
+					.newInstance( id, name, description );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException( "Unable to instantiate the enhanced TrackedEntity", e );
+		}
+	}
+
+	@Override
+	public Integer getId() {
+		return id;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getDescription() {
+		return description;
+	}
+
+	@Override
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	@Override
+	public Set<String> getTags() {
+		return tags;
+	}
+}
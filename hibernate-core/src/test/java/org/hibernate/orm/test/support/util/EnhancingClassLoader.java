@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.support.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.UnloadedClass;
+import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.internal.util.io.StreamCopier;
+
+/**
+ * A ClassLoader defining bytecode-enhanced versions of the given entity
+ * classes, for JUnit 5 tests (which cannot use the BytecodeEnhancerRunner).
+ * <p/>
+ * The entities are enhanced for inline dirty tracking only.  Every other
+ * class, including any interface through which the test uses the enhanced
+ * entities, is loaded by the parent ClassLoader.  Tests should apply this
+ * ClassLoader to the BootstrapServiceRegistry so that Hibernate resolves the
+ * enhanced classes, and should refer to the entities by name.
+ */
+public class EnhancingClassLoader extends ClassLoader {
+	private final Set<String> classNames = new HashSet<>();
+	private final Enhancer enhancer;
+
+	public EnhancingClassLoader(BytecodeProvider bytecodeProvider, Class<?>... entityClasses) {
+		super( entityClasses[0].getClassLoader() );
+		Arrays.stream( entityClasses ).map( Class::getName ).forEach( classNames::add );
+		this.enhancer = bytecodeProvider.getEnhancer( new DirtyTrackingEnhancementContext( getParent(), bytecodeProvider ) );
+	}
+
+	/**
+	 * The enhanced version of the given entity class
+	 */
+	public Class<?> enhance(Class<?> entityClass) {
+		try {
+			return loadClass( entityClass.getName() );
+		}
+		catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException( "Unable to enhance " + entityClass.getName(), e );
+		}
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if ( !classNames.contains( name ) ) {
+			return super.loadClass( name, resolve );
+		}
+
+		synchronized ( getClassLoadingLock( name ) ) {
+			Class<?> loaded = findLoadedClass( name );
+			if ( loaded == null ) {
+				final byte[] enhanced = enhancer.enhance( name, readClass( name ) );
+				if ( enhanced == null ) {
+					throw new IllegalStateException( name + " was not enhanced" );
+				}
+				loaded = defineClass( name, enhanced, 0, enhanced.length );
+			}
+			if ( resolve ) {
+				resolveClass( loaded );
+			}
+			return loaded;
+		}
+	}
+
+	private byte[] readClass(String name) throws ClassNotFoundException {
+		try ( InputStream stream = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) ) {
+			if ( stream == null ) {
+				throw new ClassNotFoundException( name );
+			}
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			StreamCopier.copy( stream, bytes );
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			throw new ClassNotFoundException( name, e );
+		}
+	}
+
+	private static class DirtyTrackingEnhancementContext extends DefaultEnhancementContext {
+		private final ClassLoader loadingClassLoader;
+		private final BytecodeProvider bytecodeProvider;
+
+		private DirtyTrackingEnhancementContext(ClassLoader loadingClassLoader, BytecodeProvider bytecodeProvider) {
+			this.loadingClassLoader = loadingClassLoader;
+			this.bytecodeProvider = bytecodeProvider;
+		}
+
+		@Override
+		public ClassLoader getLoadingClassLoader() {
+			return loadingClassLoader;
+		}
+
+		@Override
+		public BytecodeProvider getBytecodeProvider() {
+			return bytecodeProvider;
+		}
+
+		@Override
+		public boolean doBiDirectionalAssociationManagement(UnloadedField field) {
+			return false;
+		}
+
+		@Override
+		public boolean hasLazyLoadableAttributes(UnloadedClass classDescriptor) {
+			return false;
+		}
+
+		@Override
+		public boolean isLazyLoadable(UnloadedField field) {
+			return false;
+		}
+	}
+}
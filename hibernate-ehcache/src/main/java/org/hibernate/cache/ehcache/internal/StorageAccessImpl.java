@@ -6,6 +6,13 @@
  */
 package org.hibernate.cache.ehcache.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
@@ -64,6 +71,54 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 		}
 	}
 
+	@Override
+	public Map<Object,Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		try {
+			final Map<Object,Element> elements = getCache().getAll( keys );
+			final Map<Object,Object> items = new HashMap<>( elements.size() );
+			for ( Map.Entry<Object,Element> entry : elements.entrySet() ) {
+				// keys not found are mapped to null
+				if ( entry.getValue() != null ) {
+					items.put( entry.getKey(), entry.getValue().getObjectValue() );
+				}
+			}
+			return items;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return Collections.emptyMap();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
+	@Override
+	public void putAllFromLoad(Map<?,?> items, SharedSessionContractImplementor session) {
+		try {
+			final List<Element> elements = new ArrayList<>( items.size() );
+			for ( Map.Entry<?,?> item : items.entrySet() ) {
+				elements.add( new Element( item.getKey(), item.getValue() ) );
+			}
+			getCache().putAll( elements );
+		}
+		catch (IllegalArgumentException | IllegalStateException e) {
+			throw new CacheException( e );
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		try {